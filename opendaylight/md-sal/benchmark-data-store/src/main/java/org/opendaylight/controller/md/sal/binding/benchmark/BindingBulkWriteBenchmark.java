@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.benchmark;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.binding.api.BulkWriteTransaction;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.binding.test.DataBrokerTestCustomizer;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.test.model.util.ListsBindingUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TwoLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedListKey;
+import org.opendaylight.yangtools.sal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing a large number of list entries with the same parent in a single binding transaction,
+ * with missing parents created, either one entry at a time or through the bulk write API. This mimics
+ * bulk programming of flows into a single table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class BindingBulkWriteBenchmark {
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    @Param({"10000", "100000"})
+    public int entries;
+
+    @Param({"false", "true"})
+    public boolean bulk;
+
+    private final Map<InstanceIdentifier<NestedList>, NestedList> data = new LinkedHashMap<>();
+    private DataBroker dataBroker;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final ModuleInfoBackedContext moduleContext = ModuleInfoBackedContext.create();
+        moduleContext.addModuleInfos(ImmutableSet.of(BindingReflections.getModuleInfo(TwoLevelList.class)));
+
+        final DataBrokerTestCustomizer customizer = new DataBrokerTestCustomizer();
+        dataBroker = customizer.createDataBroker();
+        customizer.updateSchema(moduleContext.tryToCreateSchemaContext().get());
+
+        for (int i = 0; i < entries; ++i) {
+            final NestedListKey key = new NestedListKey("nested-" + i);
+            data.put(ListsBindingUtils.path(ListsBindingUtils.TOP_FOO_KEY, key),
+                new NestedListBuilder().setKey(key).setType("type-" + i).build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        data.clear();
+        dataBroker = null;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeEntriesBenchmark() throws Exception {
+        final WriteTransaction tx = dataBroker.newWriteOnlyTransaction();
+        if (bulk) {
+            ((BulkWriteTransaction) tx).putAll(LogicalDatastoreType.OPERATIONAL, data, true);
+        } else {
+            for (Map.Entry<InstanceIdentifier<NestedList>, NestedList> e : data.entrySet()) {
+                tx.put(LogicalDatastoreType.OPERATIONAL, e.getKey(), e.getValue(), true);
+            }
+        }
+        tx.submit().checkedGet();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.benchmark;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeChangeListener;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeIdentifier;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.binding.impl.BindingDOMDataBrokerAdapter;
+import org.opendaylight.controller.md.sal.binding.test.DataBrokerTestCustomizer;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.test.model.util.ListsBindingUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.Top;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TwoLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.sal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures delivery of data tree changes to a binding listener registered on all entries of a list. Each
+ * commit writes a single list entry, so each change has to have its root path translated to binding.
+ * Entries are written round-robin, so with a large number of entries the translation cache has to evict.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class BindingDataTreeChangeListenerBenchmark {
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    private static final InstanceIdentifier<TopLevelList> TOP_LEVEL_LIST_PATH =
+            InstanceIdentifier.create(Top.class).child(TopLevelList.class);
+
+    @Param({"100", "100000"})
+    public int entries;
+
+    private final DataTreeChangeListener<TopLevelList> listener = new DataTreeChangeListener<TopLevelList>() {
+        @Override
+        public void onDataTreeChanged(final Collection<DataTreeModification<TopLevelList>> changes) {
+            for (DataTreeModification<TopLevelList> change : changes) {
+                if (change.getRootPath().getRootIdentifier() != null) {
+                    delivered++;
+                }
+            }
+        }
+    };
+
+    private BindingDOMDataBrokerAdapter dataBroker;
+    private ListenerRegistration<?> registration;
+    private InstanceIdentifier<TopLevelList>[] paths;
+    private TopLevelList[] data;
+    // Sink for the translated root paths
+    private long delivered;
+    private int next;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        final ModuleInfoBackedContext moduleContext = ModuleInfoBackedContext.create();
+        moduleContext.addModuleInfos(ImmutableSet.of(BindingReflections.getModuleInfo(TwoLevelList.class)));
+
+        final DataBrokerTestCustomizer customizer = new DataBrokerTestCustomizer();
+        dataBroker = (BindingDOMDataBrokerAdapter) customizer.createDataBroker();
+        customizer.updateSchema(moduleContext.tryToCreateSchemaContext().get());
+
+        paths = new InstanceIdentifier[entries];
+        data = new TopLevelList[entries];
+        for (int i = 0; i < entries; ++i) {
+            final TopLevelListKey key = new TopLevelListKey("entry-" + i);
+            paths[i] = ListsBindingUtils.path(key);
+            data[i] = ListsBindingUtils.topLevelList(key);
+        }
+
+        final WriteTransaction tx = dataBroker.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, InstanceIdentifier.create(Top.class), ListsBindingUtils.top());
+        tx.submit().checkedGet();
+
+        registration = dataBroker.registerDataTreeChangeListener(
+            new DataTreeIdentifier<>(LogicalDatastoreType.OPERATIONAL, TOP_LEVEL_LIST_PATH), listener);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        registration.close();
+        dataBroker.close();
+        paths = null;
+        data = null;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeOneEntryPerCommitBenchmark() throws Exception {
+        final int i = next++ % entries;
+        final WriteTransaction tx = dataBroker.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, paths[i], data[i]);
+        tx.submit().checkedGet();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.benchmark;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.binding.test.DataBrokerTestCustomizer;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.test.model.util.ListsBindingUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TwoLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedListKey;
+import org.opendaylight.yangtools.sal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures binding reads of a list entry with a large nested list, where the caller either accesses only
+ * the entry's key, or walks all of the nested entries. Binding reads return lazy proxies, so the former
+ * should not pay for deserializing the nested list. Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class BindingReadBenchmark {
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    private static final InstanceIdentifier<TopLevelList> FOO_PATH = ListsBindingUtils.path(ListsBindingUtils.TOP_FOO_KEY);
+
+    @Param({"10", "1000"})
+    public int nestedEntries;
+
+    @Param({"key", "children"})
+    public String access;
+
+    private DataBroker dataBroker;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final ModuleInfoBackedContext moduleContext = ModuleInfoBackedContext.create();
+        moduleContext.addModuleInfos(ImmutableSet.of(BindingReflections.getModuleInfo(TwoLevelList.class)));
+
+        final DataBrokerTestCustomizer customizer = new DataBrokerTestCustomizer();
+        dataBroker = customizer.createDataBroker();
+        customizer.updateSchema(moduleContext.tryToCreateSchemaContext().get());
+
+        final List<NestedList> nested = new ArrayList<>(nestedEntries);
+        for (int i = 0; i < nestedEntries; ++i) {
+            nested.add(new NestedListBuilder().setKey(new NestedListKey("nested-" + i)).setType("type-" + i).build());
+        }
+
+        final WriteTransaction tx = dataBroker.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.OPERATIONAL, FOO_PATH, new TopLevelListBuilder()
+            .setKey(ListsBindingUtils.TOP_FOO_KEY).setNestedList(nested).build(), true);
+        tx.submit().checkedGet();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataBroker = null;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public int readListEntryBenchmark() throws Exception {
+        final ReadOnlyTransaction tx = dataBroker.newReadOnlyTransaction();
+        final TopLevelList entry = tx.read(LogicalDatastoreType.OPERATIONAL, FOO_PATH).checkedGet().get();
+        tx.close();
+
+        if ("key".equals(access)) {
+            return entry.getKey().getName().length();
+        }
+
+        int ret = 0;
+        for (NestedList n : entry.getNestedList()) {
+            ret += n.getType().length();
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.benchmark;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.binding.api.NotificationService;
+import org.opendaylight.controller.md.sal.binding.test.DataBrokerTestCustomizer;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationRouter;
+import org.opendaylight.controller.md.sal.test.model.util.ListsBindingUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.OpendaylightMdsalListTestListener;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TwoLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TwoLevelListChanged;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TwoLevelListChangedBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.sal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures delivery of a notification published by a DOM producer to a number of binding listeners. Each
+ * published notification is a new DOM notification, so it has to be deserialized to binding, which should
+ * happen once regardless of the number of listeners.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class NotificationFanOutBenchmark {
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+    private static final int LIST_ENTRIES = 100;
+    private static final SchemaPath NOTIFICATION_TYPE = SchemaPath.create(true, TwoLevelListChanged.QNAME);
+
+    @Param({"1", "10", "50"})
+    public int listeners;
+
+    private final OpendaylightMdsalListTestListener listener = new OpendaylightMdsalListTestListener() {
+        @Override
+        public void onTwoLevelListChanged(final TwoLevelListChanged notification) {
+            if (notification.getTopLevelList() != null) {
+                delivered++;
+            }
+        }
+    };
+
+    private final List<ListenerRegistration<?>> registrations = new ArrayList<>();
+    private DOMNotificationRouter router;
+    private ContainerNode body;
+    // Touching the notification content keeps its deserialization from being optimized away
+    private long delivered;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final ModuleInfoBackedContext moduleContext = ModuleInfoBackedContext.create();
+        moduleContext.addModuleInfos(ImmutableSet.of(BindingReflections.getModuleInfo(TwoLevelList.class)));
+
+        final DataBrokerTestCustomizer customizer = new DataBrokerTestCustomizer();
+        router = customizer.getDomNotificationRouter();
+        final NotificationService notificationService = customizer.createNotificationService();
+        customizer.updateSchema(moduleContext.tryToCreateSchemaContext().get());
+
+        final List<TopLevelList> entries = new ArrayList<>(LIST_ENTRIES);
+        for (int i = 0; i < LIST_ENTRIES; ++i) {
+            entries.add(ListsBindingUtils.topLevelList(new TopLevelListKey("entry-" + i)));
+        }
+        body = customizer.getBindingToNormalized().getCodecRegistry().toNormalizedNodeNotification(
+            new TwoLevelListChangedBuilder().setTopLevelList(entries).build());
+
+        for (int i = 0; i < listeners; ++i) {
+            registrations.add(notificationService.registerNotificationListener(listener));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (ListenerRegistration<?> r : registrations) {
+            r.close();
+        }
+        registrations.clear();
+        router.close();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void publishDomNotificationBenchmark() throws Exception {
+        router.putNotification(new DOMNotification() {
+            @Override
+            public SchemaPath getType() {
+                return NOTIFICATION_TYPE;
+            }
+
+            @Override
+            public ContainerNode getBody() {
+                return body;
+            }
+        }).get();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.benchmark;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.binding.impl.BindingDOMRpcProviderServiceAdapter;
+import org.opendaylight.controller.md.sal.binding.impl.BindingDOMRpcServiceAdapter;
+import org.opendaylight.controller.md.sal.binding.impl.BindingToNormalizedNodeCodec;
+import org.opendaylight.controller.md.sal.binding.test.DataBrokerTestCustomizer;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMRpcRouter;
+import org.opendaylight.controller.md.sal.test.model.util.ListsBindingUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TwoLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.rpc.routing.rev140701.OpendaylightTestRoutedRpcService;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.rpc.routing.rev140701.RoutedSimpleRouteInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.rpc.routing.rev140701.RoutedSimpleRouteInputBuilder;
+import org.opendaylight.yangtools.concepts.ObjectRegistration;
+import org.opendaylight.yangtools.sal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a binding invocation of a routed RPC, implemented by a binding provider. Each invocation has to
+ * extract the routing context from the input, route it and hand the input to the implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class RoutedRpcBenchmark {
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    private static final InstanceIdentifier<?> ROUTE = ListsBindingUtils.path(ListsBindingUtils.TOP_FOO_KEY);
+    private static final RoutedSimpleRouteInput INPUT = new RoutedSimpleRouteInputBuilder().setRoute(ROUTE).build();
+
+    private final OpendaylightTestRoutedRpcService implementation = new OpendaylightTestRoutedRpcService() {
+        @Override
+        public Future<RpcResult<Void>> routedSimpleRoute(final RoutedSimpleRouteInput input) {
+            return RpcResultBuilder.<Void>success().buildFuture();
+        }
+    };
+
+    private DOMRpcRouter router;
+    private ObjectRegistration<?> registration;
+    private OpendaylightTestRoutedRpcService consumer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final ModuleInfoBackedContext moduleContext = ModuleInfoBackedContext.create();
+        moduleContext.addModuleInfos(ImmutableSet.of(BindingReflections.getModuleInfo(TwoLevelList.class),
+            BindingReflections.getModuleInfo(OpendaylightTestRoutedRpcService.class)));
+
+        final DataBrokerTestCustomizer customizer = new DataBrokerTestCustomizer();
+        router = new DOMRpcRouter();
+        customizer.getSchemaService().registerSchemaContextListener(router);
+        customizer.updateSchema(moduleContext.tryToCreateSchemaContext().get());
+
+        final BindingToNormalizedNodeCodec codec = customizer.getBindingToNormalized();
+        registration = new BindingDOMRpcProviderServiceAdapter(router, codec).registerRpcImplementation(
+            OpendaylightTestRoutedRpcService.class, implementation, ImmutableSet.<InstanceIdentifier<?>>of(ROUTE));
+        consumer = new BindingDOMRpcServiceAdapter(router, codec).getRpcService(OpendaylightTestRoutedRpcService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        registration.close();
+        router.close();
+        consumer = null;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public RpcResult<Void> invokeRoutedRpcBenchmark() throws Exception {
+        return consumer.routedSimpleRoute(INPUT).get();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.broker.impl.SerializedDOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStore;
+import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStoreConfigProperties;
+import org.opendaylight.controller.sal.core.spi.data.DOMStore;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures independent transactions submitted by a number of writer threads, each writing its own
+ * outer list entries. Without concurrent commit the broker commits on a single thread, with concurrent
+ * commit it uses one commit thread per writer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ConcurrentCommitWriteTransactionBenchmark extends AbstractInMemoryWriteTransactionBenchmark {
+
+    @Param({"1", "4", "8", "16"})
+    public int writers;
+
+    @Param({"false", "true"})
+    public boolean concurrentCommit;
+
+    private ExecutorService writerExecutor;
+    private ListeningExecutorService commitExecutor;
+    private SerializedDOMDataBroker domBroker;
+
+    @Setup(Level.Trial)
+    @Override
+    public void setUp() throws Exception {
+        writerExecutor = Executors.newFixedThreadPool(writers);
+        commitExecutor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(concurrentCommit ? writers : 1));
+
+        final ExecutorService dsExec = MoreExecutors.sameThreadExecutor();
+        final InMemoryDOMDataStore operStore = new InMemoryDOMDataStore("OPER", dsExec,
+            InMemoryDOMDataStoreConfigProperties.DEFAULT_MAX_DATA_CHANGE_LISTENER_QUEUE_SIZE, false, concurrentCommit);
+        final InMemoryDOMDataStore configStore = new InMemoryDOMDataStore("CFG", dsExec,
+            InMemoryDOMDataStoreConfigProperties.DEFAULT_MAX_DATA_CHANGE_LISTENER_QUEUE_SIZE, false, concurrentCommit);
+        final Map<LogicalDatastoreType, DOMStore> datastores = ImmutableMap.of(
+            LogicalDatastoreType.OPERATIONAL, (DOMStore)operStore,
+            LogicalDatastoreType.CONFIGURATION, configStore);
+
+        domBroker = new SerializedDOMDataBroker(datastores, commitExecutor);
+        schemaContext = BenchmarkModel.createTestContext();
+        configStore.onGlobalContextUpdated(schemaContext);
+        operStore.onGlobalContextUpdated(schemaContext);
+
+        final DOMDataWriteTransaction writeTx = domBroker.newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, YangInstanceIdentifier.builder(BenchmarkModel.TEST_PATH).build(),
+            provideOuterListNode());
+        writeTx.submit().get();
+    }
+
+    @TearDown(Level.Trial)
+    @Override
+    public void tearDown() {
+        domBroker.close();
+        writerExecutor.shutdown();
+        commitExecutor.shutdown();
+    }
+
+    private Callable<Void> writer(final int first) {
+        return new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                final List<CheckedFuture<Void, TransactionCommitFailedException>> futures = new ArrayList<>();
+                for (int outerListKey = first; outerListKey < OUTER_LIST_10K; outerListKey += writers) {
+                    final DOMDataWriteTransaction writeTx = domBroker.newWriteOnlyTransaction();
+                    writeTx.put(LogicalDatastoreType.OPERATIONAL, OUTER_LIST_10K_PATHS[outerListKey],
+                        OUTER_LIST_ONE_ITEM_INNER_LIST[outerListKey]);
+                    futures.add(writeTx.submit());
+                }
+
+                for (CheckedFuture<Void, TransactionCommitFailedException> future : futures) {
+                    future.checkedGet();
+                }
+                return null;
+            }
+        };
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void write10KSingleNodeWithOneInnerItemFromWriterThreadsBenchmark() throws Exception {
+        final List<Future<Void>> results = new ArrayList<>(writers);
+        for (int i = 0; i < writers; ++i) {
+            results.add(writerExecutor.submit(writer(i)));
+        }
+
+        for (Future<Void> result : results) {
+            result.get();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeListener;
+import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStore;
+import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStoreConfigProperties;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreThreePhaseCommitCohort;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreWriteTransaction;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures commits into a data store with a large number of registered data change listeners, only
+ * a few of which are affected by each commit. Listeners are either registered on individual outer list
+ * entries, or on inner list entries of all outer list entries via a wildcard. Data change listeners
+ * are invoked on the committing thread, so the measured time includes resolution of the events.
+ * Listeners optionally access the created data, which is what most listeners do. Run with
+ * {@code -prof gc} to measure allocation per commit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class DataChangeListenerDispatchBenchmark extends AbstractInMemoryWriteTransactionBenchmark {
+    @Param({"1000", "10000"})
+    public int listeners;
+
+    @Param({"keyed", "wildcarded"})
+    public String registration;
+
+    @Param({"false", "true"})
+    public boolean readCreatedData;
+
+    private final AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>> listener =
+            new AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>>() {
+                @Override
+                public void onDataChanged(final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) {
+                    if (readCreatedData) {
+                        createdPaths += change.getCreatedData().keySet().size();
+                    }
+                }
+            };
+
+    private final List<ListenerRegistration<?>> registrations = new ArrayList<>();
+    private InMemoryDOMDataStore domStore;
+    private int next;
+    // Sink for the created data accessed by the listeners
+    private long createdPaths;
+
+    @Setup(Level.Trial)
+    @Override
+    public void setUp() throws Exception {
+        final ExecutorService executor = MoreExecutors.sameThreadExecutor();
+        domStore = new InMemoryDOMDataStore("DCL_DISPATCH_BENCHMARK", executor,
+            InMemoryDOMDataStoreConfigProperties.DEFAULT_MAX_DATA_CHANGE_LISTENER_QUEUE_SIZE, false);
+        schemaContext = BenchmarkModel.createTestContext();
+        domStore.onGlobalContextUpdated(schemaContext);
+
+        final DOMStoreWriteTransaction writeTx = domStore.newWriteOnlyTransaction();
+        writeTx.write(BenchmarkModel.TEST_PATH, provideOuterListNode());
+        for (int outerListKey = 0; outerListKey < listeners; ++outerListKey) {
+            writeTx.write(OUTER_LIST_100K_PATHS[outerListKey], OUTER_LIST_ONE_ITEM_INNER_LIST[outerListKey]);
+        }
+        commit(writeTx.ready());
+
+        for (int i = 0; i < listeners; ++i) {
+            if ("keyed".equals(registration)) {
+                registrations.add(domStore.registerChangeListener(OUTER_LIST_100K_PATHS[i], listener,
+                    DataChangeScope.SUBTREE));
+            } else {
+                // Matches the inner list entry with name i in all outer list entries
+                final YangInstanceIdentifier path = YangInstanceIdentifier.builder(BenchmarkModel.OUTER_LIST_PATH)
+                        .node(BenchmarkModel.OUTER_LIST_QNAME).node(BenchmarkModel.INNER_LIST_QNAME)
+                        .nodeWithKey(BenchmarkModel.INNER_LIST_QNAME, BenchmarkModel.NAME_QNAME, i).build();
+                registrations.add(domStore.registerChangeListener(path, listener, DataChangeScope.BASE));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    @Override
+    public void tearDown() {
+        for (ListenerRegistration<?> reg : registrations) {
+            reg.close();
+        }
+        registrations.clear();
+        schemaContext = null;
+        domStore = null;
+    }
+
+    private static void commit(final DOMStoreThreePhaseCommitCohort cohort) throws Exception {
+        cohort.canCommit().get();
+        cohort.preCommit().get();
+        cohort.commit().get();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeOneEntryPerCommitBenchmark() throws Exception {
+        /*
+         * Alternate between one and two inner list items, so that every commit creates or removes
+         * the inner list entry with name 2.
+         */
+        final int outerListKey = next % listeners;
+        final NormalizedNode<?, ?> data = (next / listeners) % 2 == 0
+                ? OUTER_LIST_TWO_ITEM_INNER_LIST[outerListKey] : OUTER_LIST_ONE_ITEM_INNER_LIST[outerListKey];
+        next++;
+
+        final DOMStoreWriteTransaction writeTx = domStore.newWriteOnlyTransaction();
+        writeTx.write(OUTER_LIST_100K_PATHS[outerListKey], data);
+        commit(writeTx.ready());
+    }
+}
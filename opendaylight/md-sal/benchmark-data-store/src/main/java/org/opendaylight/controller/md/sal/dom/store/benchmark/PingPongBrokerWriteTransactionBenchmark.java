@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChain;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMTransactionChain;
+import org.opendaylight.controller.md.sal.dom.broker.impl.PingPongBatchPolicy;
+import org.opendaylight.controller.md.sal.dom.broker.impl.PingPongDataBroker;
+import org.opendaylight.controller.md.sal.dom.broker.impl.SerializedDOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStore;
+import org.opendaylight.controller.sal.core.spi.data.DOMStore;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures small transactions submitted through the transaction chains of a {@link PingPongDataBroker},
+ * with the batching policy as parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class PingPongBrokerWriteTransactionBenchmark extends AbstractInMemoryWriteTransactionBenchmark {
+    private static final TransactionChainListener CHAIN_LISTENER = new TransactionChainListener() {
+        @Override
+        public void onTransactionChainFailed(final TransactionChain<?, ?> chain, final AsyncTransaction<?, ?> transaction,
+                final Throwable cause) {
+            throw new IllegalStateException("Transaction chain failed", cause);
+        }
+
+        @Override
+        public void onTransactionChainSuccessful(final TransactionChain<?, ?> chain) {
+            // Nothing to do
+        }
+    };
+
+    @Param({"0", "1000"})
+    public int maxBatchModifications;
+
+    @Param({"0", "50"})
+    public long lingerMicros;
+
+    private ListeningExecutorService executor;
+    private SerializedDOMDataBroker backendBroker;
+    private PingPongDataBroker domBroker;
+    private DOMTransactionChain sharedChain;
+
+    @Setup(Level.Trial)
+    @Override
+    public void setUp() throws Exception {
+        ListeningExecutorService dsExec = MoreExecutors.sameThreadExecutor();
+        executor = MoreExecutors.listeningDecorator(
+            MoreExecutors.getExitingExecutorService((ThreadPoolExecutor)Executors.newFixedThreadPool(1), 1L, TimeUnit.SECONDS));
+
+        InMemoryDOMDataStore operStore = new InMemoryDOMDataStore("OPER", dsExec);
+        InMemoryDOMDataStore configStore = new InMemoryDOMDataStore("CFG", dsExec);
+        Map<LogicalDatastoreType, DOMStore> datastores = ImmutableMap.of(
+            LogicalDatastoreType.OPERATIONAL, (DOMStore)operStore,
+            LogicalDatastoreType.CONFIGURATION, configStore);
+
+        backendBroker = new SerializedDOMDataBroker(datastores, executor);
+        domBroker = new PingPongDataBroker(backendBroker, 0,
+            new PingPongBatchPolicy(maxBatchModifications, lingerMicros, TimeUnit.MICROSECONDS));
+        schemaContext = BenchmarkModel.createTestContext();
+        configStore.onGlobalContextUpdated(schemaContext);
+        operStore.onGlobalContextUpdated(schemaContext);
+
+        DOMDataWriteTransaction writeTx = domBroker.newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, YangInstanceIdentifier.builder(BenchmarkModel.TEST_PATH).build(),
+            provideOuterListNode());
+        writeTx.submit().get();
+
+        sharedChain = domBroker.createSharedTransactionChain(CHAIN_LISTENER);
+    }
+
+    @TearDown(Level.Trial)
+    @Override
+    public void tearDown() {
+        sharedChain.close();
+        domBroker.close();
+        backendBroker.close();
+        executor.shutdown();
+    }
+
+    private static void writeInChain(final DOMTransactionChain chain, final int count,
+            final YangInstanceIdentifier[] paths, final NormalizedNode<?, ?>[] items) throws Exception {
+        CheckedFuture<Void, TransactionCommitFailedException> last = null;
+        for (int outerListKey = 0; outerListKey < count; ++outerListKey) {
+            DOMDataWriteTransaction writeTx = chain.newWriteOnlyTransaction();
+            writeTx.put(LogicalDatastoreType.OPERATIONAL, paths[outerListKey], items[outerListKey]);
+            last = writeTx.submit();
+        }
+
+        last.checkedGet();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void write100KSingleNodeWithOneInnerItemInChainCommitPerWriteBenchmark() throws Exception {
+        final DOMTransactionChain chain = domBroker.createTransactionChain(CHAIN_LISTENER);
+        writeInChain(chain, OUTER_LIST_100K, OUTER_LIST_100K_PATHS, OUTER_LIST_ONE_ITEM_INNER_LIST);
+        chain.close();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void write10KSingleNodeWithTenInnerItemsInChainCommitPerWriteBenchmark() throws Exception {
+        final DOMTransactionChain chain = domBroker.createTransactionChain(CHAIN_LISTENER);
+        writeInChain(chain, OUTER_LIST_10K, OUTER_LIST_10K_PATHS, OUTER_LIST_TEN_ITEM_INNER_LIST);
+        chain.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void write10KSingleNodeWithOneInnerItemInSharedChainFromFourThreadsBenchmark() throws Exception {
+        writeInChain(sharedChain, OUTER_LIST_10K, OUTER_LIST_10K_PATHS, OUTER_LIST_ONE_ITEM_INNER_LIST);
+    }
+}
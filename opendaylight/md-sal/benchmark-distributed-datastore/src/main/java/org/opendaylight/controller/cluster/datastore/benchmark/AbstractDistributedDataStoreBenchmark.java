@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.benchmark;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.datastore.DistributedDataStore;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.controller.md.cluster.datastore.model.PeopleModel;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreThreePhaseCommitCohort;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreWriteTransaction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+
+/**
+ * Base for the benchmarks running against a {@link DistributedDataStore} in a {@link BenchmarkCluster}.
+ * The cars and people shards are initialized with empty lists, the entries written by the benchmarks
+ * are prepared up front so that building them is not measured.
+ */
+public abstract class AbstractDistributedDataStoreBenchmark {
+    protected static final int WARMUP_ITERATIONS = 10;
+    protected static final int MEASUREMENT_ITERATIONS = 10;
+    protected static final int TIMEOUT_SECONDS = 30;
+
+    protected static final int ENTRIES = 1000;
+    protected static final YangInstanceIdentifier[] CAR_PATHS = new YangInstanceIdentifier[ENTRIES];
+    protected static final MapEntryNode[] CAR_ENTRIES = new MapEntryNode[ENTRIES];
+    protected static final YangInstanceIdentifier[] PERSON_PATHS = new YangInstanceIdentifier[ENTRIES];
+    protected static final MapEntryNode[] PERSON_ENTRIES = new MapEntryNode[ENTRIES];
+
+    static {
+        for (int i = 0; i < ENTRIES; ++i) {
+            final String name = "name" + i;
+            CAR_PATHS[i] = CarsModel.newCarPath(name);
+            CAR_ENTRIES[i] = CarsModel.newCarEntry(name, BigInteger.valueOf(i));
+            PERSON_PATHS[i] = PeopleModel.newPersonPath(name);
+            PERSON_ENTRIES[i] = PeopleModel.newPersonEntry(name);
+        }
+    }
+
+    protected BenchmarkCluster cluster;
+    protected DistributedDataStore dataStore;
+
+    protected void setUpCluster(final int members, final String dataStoreType) throws Exception {
+        setUpCluster(members, BenchmarkCluster.DEFAULT_DISPATCHERS, dataStoreType);
+    }
+
+    protected void setUpCluster(final int members, final String dispatchers, final String dataStoreType)
+            throws Exception {
+        cluster = BenchmarkCluster.start(members, dispatchers);
+        dataStore = cluster.newDataStore(dataStoreType);
+
+        final DOMStoreWriteTransaction tx = dataStore.newWriteOnlyTransaction();
+        tx.write(CarsModel.BASE_PATH, CarsModel.emptyContainer());
+        tx.write(CarsModel.CAR_LIST_PATH, CarsModel.newCarMapNode());
+        tx.write(PeopleModel.BASE_PATH, PeopleModel.emptyContainer());
+        tx.write(PeopleModel.PERSON_LIST_PATH, PeopleModel.newPersonMapNode());
+        commit(tx.ready());
+    }
+
+    protected void tearDownCluster() {
+        if (cluster != null) {
+            cluster.close();
+            cluster = null;
+        }
+        dataStore = null;
+    }
+
+    protected static void commit(final DOMStoreThreePhaseCommitCohort cohort) throws Exception {
+        cohort.canCommit().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        cohort.preCommit().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        cohort.commit().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
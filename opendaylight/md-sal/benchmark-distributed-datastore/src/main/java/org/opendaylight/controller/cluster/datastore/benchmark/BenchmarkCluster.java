@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.benchmark;
+
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.AddressFromURIString;
+import akka.cluster.Cluster;
+import com.google.common.base.Preconditions;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.datastore.ClusterWrapperImpl;
+import org.opendaylight.controller.cluster.datastore.Configuration;
+import org.opendaylight.controller.cluster.datastore.ConfigurationImpl;
+import org.opendaylight.controller.cluster.datastore.DatastoreContext;
+import org.opendaylight.controller.cluster.datastore.DistributedDataStore;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
+import org.opendaylight.controller.cluster.raft.utils.InMemoryJournal;
+import org.opendaylight.controller.cluster.raft.utils.InMemorySnapshotStore;
+import org.opendaylight.controller.md.cluster.datastore.model.SchemaContextHelper;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import scala.concurrent.duration.Duration;
+
+/**
+ * A cluster of 1 or 3 members running in this JVM. Each member has its own actor system, the journal and
+ * snapshots are kept in memory. The shards are configured by benchmark-module-shards-&lt;members&gt;.conf
+ * and member-1 is made the leader of all shards by giving the other members a longer election timeout.
+ * The dispatchers of the data store actors are taken from one of the named dispatcher configurations
+ * in benchmark-datastore.conf.
+ */
+final class BenchmarkCluster implements AutoCloseable {
+    private static final String CONFIG_RESOURCE = "benchmark-datastore";
+    private static final String MODULES_CONFIG = "benchmark-modules.conf";
+    private static final String SYSTEM_NAME = "benchmark-cluster";
+    static final String DEFAULT_DISPATCHERS = "default";
+    private static final Address SEED_ADDRESS = AddressFromURIString.parse("akka.tcp://" + SYSTEM_NAME
+            + "@127.0.0.1:2650");
+
+    private static final SchemaContext SCHEMA_CONTEXT = SchemaContextHelper.full();
+
+    private final List<ActorSystem> systems;
+    private final Configuration configuration;
+    private final Map<String, List<DistributedDataStore>> dataStores = new HashMap<>();
+
+    private BenchmarkCluster(final List<ActorSystem> systems) {
+        this.systems = systems;
+        configuration = new ConfigurationImpl("benchmark-module-shards-" + systems.size() + ".conf",
+                MODULES_CONFIG);
+        ShardStrategyFactory.setConfiguration(configuration);
+    }
+
+    static BenchmarkCluster start(final int members) {
+        return start(members, DEFAULT_DISPATCHERS);
+    }
+
+    static BenchmarkCluster start(final int members, final String dispatchers) {
+        Preconditions.checkArgument(members == 1 || members == 3, "Unsupported number of members %s", members);
+
+        final Config config = ConfigFactory.load(CONFIG_RESOURCE);
+        final Config dispatcherConfig = config.getConfig("dispatchers." + dispatchers);
+        final List<ActorSystem> systems = new ArrayList<>(members);
+        for (int i = 1; i <= members; ++i) {
+            final ActorSystem system = ActorSystem.create(SYSTEM_NAME,
+                    dispatcherConfig.withFallback(config.getConfig("member-" + i)));
+            Cluster.get(system).join(SEED_ADDRESS);
+            systems.add(system);
+        }
+
+        return new BenchmarkCluster(systems);
+    }
+
+    static SchemaContext schemaContext() {
+        return SCHEMA_CONTEXT;
+    }
+
+    int getMembers() {
+        return systems.size();
+    }
+
+    /**
+     * Creates a data store of the specified type on each member and waits until all its shards have
+     * a leader.
+     *
+     * @return the data store instance of member-1, which leads all shards
+     */
+    DistributedDataStore newDataStore(final String type) {
+        Preconditions.checkState(!dataStores.containsKey(type), "Data store %s already exists", type);
+
+        final List<DistributedDataStore> instances = new ArrayList<>(systems.size());
+        for (int i = 0; i < systems.size(); ++i) {
+            final ActorSystem system = systems.get(i);
+            final DatastoreContext context = DatastoreContext.newBuilder().dataStoreType(type)
+                    .shardHeartbeatIntervalInMillis(100).shardElectionTimeoutFactor(i == 0 ? 1 : 5).build();
+
+            final DistributedDataStore dataStore = new DistributedDataStore(system, new ClusterWrapperImpl(system),
+                    configuration, context);
+            dataStore.onGlobalContextUpdated(SCHEMA_CONTEXT);
+            instances.add(dataStore);
+        }
+
+        dataStores.put(type, instances);
+        for (DistributedDataStore dataStore : instances) {
+            dataStore.waitTillReady();
+        }
+
+        return instances.get(0);
+    }
+
+    void closeDataStore(final String type) {
+        final List<DistributedDataStore> instances = dataStores.remove(type);
+        if (instances != null) {
+            for (DistributedDataStore dataStore : instances) {
+                dataStore.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (String type : new ArrayList<>(dataStores.keySet())) {
+            closeDataStore(type);
+        }
+
+        for (ActorSystem system : systems) {
+            system.shutdown();
+        }
+        for (ActorSystem system : systems) {
+            system.awaitTermination(Duration.create(10, TimeUnit.SECONDS));
+        }
+
+        InMemoryJournal.clear();
+        InMemorySnapshotStore.clear();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreWriteTransaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the dispatcher configurations defined in benchmark-datastore.conf. Three threads keep the cars shard
+ * busy while a fourth thread writes to the people shard, so the results show both the throughput of the hot
+ * shard and how much it delays the other one, depending on whether the shards share a dispatcher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class DispatcherConfigurationBenchmark extends AbstractDistributedDataStoreBenchmark {
+
+    @Param({"1", "3"})
+    public int members;
+
+    @Param({"default", "shared", "per-shard"})
+    public String dispatchers;
+
+    private final AtomicInteger nextCar = new AtomicInteger();
+    private final AtomicInteger nextPerson = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        setUpCluster(members, dispatchers, "dispatcher-benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tearDownCluster();
+    }
+
+    private static int nextEntry(final AtomicInteger counter) {
+        return (counter.getAndIncrement() & Integer.MAX_VALUE) % ENTRIES;
+    }
+
+    @Benchmark
+    @Group("hotShard")
+    @GroupThreads(3)
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeHotShard() throws Exception {
+        final int i = nextEntry(nextCar);
+        final DOMStoreWriteTransaction tx = dataStore.newWriteOnlyTransaction();
+        tx.write(CAR_PATHS[i], CAR_ENTRIES[i]);
+        commit(tx.ready());
+    }
+
+    @Benchmark
+    @Group("hotShard")
+    @GroupThreads(1)
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeOtherShard() throws Exception {
+        final int i = nextEntry(nextPerson);
+        final DOMStoreWriteTransaction tx = dataStore.newWriteOnlyTransaction();
+        tx.write(PERSON_PATHS[i], PERSON_ENTRIES[i]);
+        commit(tx.ready());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.benchmark;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.datastore.ConcurrentDOMDataBroker;
+import org.opendaylight.controller.cluster.datastore.DistributedDataTreeShard;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeProducer;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.broker.impl.ShardedDOMDataTree;
+import org.opendaylight.controller.sal.core.spi.data.DOMStore;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadTransaction;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreThreePhaseCommitCohort;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreTransactionChain;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreWriteTransaction;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput and latency of transactions on a 1 and 3 member cluster. With 3 members every
+ * commit is replicated to the followers before it completes. The cars and people shards are separate,
+ * so a transaction writing to both is committed through the three phase commit protocol, while single
+ * shard transactions are committed directly by the shard leader. Writes through a sharded data tree producer
+ * are compared against the same writes through a data broker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class DistributedDataStoreTransactionBenchmark extends AbstractDistributedDataStoreBenchmark {
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"1", "3"})
+    public int members;
+
+    private ConcurrentDOMDataBroker broker;
+    private DOMDataTreeProducer producer;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        setUpCluster(members, "transaction-benchmark");
+
+        final DOMStoreWriteTransaction tx = dataStore.newWriteOnlyTransaction();
+        for (int i = 0; i < ENTRIES; ++i) {
+            tx.write(CAR_PATHS[i], CAR_ENTRIES[i]);
+        }
+        commit(tx.ready());
+
+        broker = new ConcurrentDOMDataBroker(ImmutableMap.<LogicalDatastoreType, DOMStore>of(
+                LogicalDatastoreType.CONFIGURATION, dataStore), MoreExecutors.sameThreadExecutor());
+
+        final DOMDataTreeIdentifier carsPrefix = new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION,
+                CarsModel.BASE_PATH);
+        final ShardedDOMDataTree dataTree = new ShardedDOMDataTree();
+        dataTree.registerDataTreeShard(carsPrefix, DistributedDataTreeShard.create(dataStore, carsPrefix));
+        producer = dataTree.createProducer(Collections.singleton(carsPrefix));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (producer != null) {
+            producer.close();
+            producer = null;
+        }
+        if (broker != null) {
+            broker.close();
+            broker = null;
+        }
+        tearDownCluster();
+    }
+
+    private int nextEntry() {
+        next = (next + 1) % ENTRIES;
+        return next;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeOneEntryPerTransaction() throws Exception {
+        final int i = nextEntry();
+        final DOMStoreWriteTransaction tx = dataStore.newWriteOnlyTransaction();
+        tx.write(CAR_PATHS[i], CAR_ENTRIES[i]);
+        commit(tx.ready());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void write100EntriesInOneTransaction() throws Exception {
+        final DOMStoreWriteTransaction tx = dataStore.newWriteOnlyTransaction();
+        for (int j = 0; j < BATCH_SIZE; ++j) {
+            final int i = nextEntry();
+            tx.write(CAR_PATHS[i], CAR_ENTRIES[i]);
+        }
+        commit(tx.ready());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<NormalizedNode<?, ?>> readOneEntry() throws Exception {
+        final DOMStoreReadTransaction tx = dataStore.newReadOnlyTransaction();
+        try {
+            return tx.read(CAR_PATHS[nextEntry()]).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } finally {
+            tx.close();
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void write100EntriesInChainedTransactions() throws Exception {
+        final DOMStoreTransactionChain chain = dataStore.createTransactionChain();
+        final List<DOMStoreThreePhaseCommitCohort> cohorts = new ArrayList<>(BATCH_SIZE);
+        for (int j = 0; j < BATCH_SIZE; ++j) {
+            final int i = nextEntry();
+            final DOMStoreWriteTransaction tx = chain.newWriteOnlyTransaction();
+            tx.write(CAR_PATHS[i], CAR_ENTRIES[i]);
+            cohorts.add(tx.ready());
+        }
+
+        for (DOMStoreThreePhaseCommitCohort cohort : cohorts) {
+            commit(cohort);
+        }
+        chain.close();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeTwoShardsInOneTransaction() throws Exception {
+        final int i = nextEntry();
+        final DOMStoreWriteTransaction tx = dataStore.newWriteOnlyTransaction();
+        tx.write(CAR_PATHS[i], CAR_ENTRIES[i]);
+        tx.write(PERSON_PATHS[i], PERSON_ENTRIES[i]);
+        commit(tx.ready());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeOneEntryThroughShardedProducer() throws Exception {
+        final int i = nextEntry();
+        final DOMDataWriteTransaction tx = producer.createTransaction(false);
+        tx.put(LogicalDatastoreType.CONFIGURATION, CAR_PATHS[i], CAR_ENTRIES[i]);
+        tx.submit().checkedGet(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeOneEntryThroughDataBroker() throws Exception {
+        final int i = nextEntry();
+        final DOMDataWriteTransaction tx = broker.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.CONFIGURATION, CAR_PATHS[i], CAR_ENTRIES[i]);
+        tx.submit().checkedGet(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.benchmark;
+
+import com.google.common.base.Optional;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.datastore.utils.SerializationUtils;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableContainerNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.tree.InMemoryDataTreeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures capturing a shard snapshot, which reads the root of the shard data tree and serializes it
+ * the same way the snapshot worker of a shard does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ShardSnapshotCaptureBenchmark {
+    static final int WARMUP_ITERATIONS = 5;
+    static final int MEASUREMENT_ITERATIONS = 10;
+
+    @Param({"1000", "100000"})
+    public int entries;
+
+    private DataTree dataTree;
+
+    /**
+     * Creates a data tree containing the specified number of cars.
+     */
+    static DataTree createCarsDataTree(final int entries) throws DataValidationFailedException {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> cars = ImmutableNodes.mapNodeBuilder(CarsModel.CAR_QNAME);
+        for (int i = 0; i < entries; ++i) {
+            cars.withChild(CarsModel.newCarEntry("name" + i, BigInteger.valueOf(i)));
+        }
+
+        final DataTree dataTree = InMemoryDataTreeFactory.getInstance().create();
+        dataTree.setSchemaContext(BenchmarkCluster.schemaContext());
+
+        final DataTreeModification mod = dataTree.takeSnapshot().newModification();
+        mod.write(CarsModel.BASE_PATH, ImmutableContainerNodeBuilder.create()
+                .withNodeIdentifier(new NodeIdentifier(CarsModel.BASE_QNAME)).withChild(cars.build()).build());
+        mod.ready();
+        dataTree.validate(mod);
+        dataTree.commit(dataTree.prepare(mod));
+        return dataTree;
+    }
+
+    static byte[] captureSnapshot(final DataTree dataTree) {
+        final Optional<NormalizedNode<?, ?>> root = dataTree.takeSnapshot().readNode(YangInstanceIdentifier.EMPTY);
+        return SerializationUtils.serializeNormalizedNode(root.get());
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataTree = createCarsDataTree(entries);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataTree = null;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] captureSnapshot() {
+        return captureSnapshot(dataTree);
+    }
+}
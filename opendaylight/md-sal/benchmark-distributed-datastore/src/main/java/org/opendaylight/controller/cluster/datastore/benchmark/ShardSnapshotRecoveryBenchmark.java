@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.benchmark;
+
+import com.google.common.base.Optional;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.datastore.DistributedDataStore;
+import org.opendaylight.controller.cluster.raft.ReplicatedLogEntry;
+import org.opendaylight.controller.cluster.raft.Snapshot;
+import org.opendaylight.controller.cluster.raft.utils.InMemoryJournal;
+import org.opendaylight.controller.cluster.raft.utils.InMemorySnapshotStore;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadTransaction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures recovering the cars shard of a single member data store from a snapshot in the snapshot store.
+ * Each invocation creates a new data store, waits until its shards have a leader and reads the last
+ * recovered entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ShardSnapshotRecoveryBenchmark {
+    private static final String CARS_SHARD = "cars-1";
+
+    @Param({"1000", "100000"})
+    public int entries;
+
+    private BenchmarkCluster cluster;
+    private byte[] snapshot;
+    private YangInstanceIdentifier lastEntryPath;
+    private int recoveries;
+    private String dataStoreType;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        snapshot = ShardSnapshotCaptureBenchmark.captureSnapshot(
+                ShardSnapshotCaptureBenchmark.createCarsDataTree(entries));
+        lastEntryPath = CarsModel.newCarPath("name" + (entries - 1));
+        cluster = BenchmarkCluster.start(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (cluster != null) {
+            cluster.close();
+            cluster = null;
+        }
+        snapshot = null;
+    }
+
+    @Setup(Level.Invocation)
+    public void addSnapshot() {
+        dataStoreType = "recovery" + ++recoveries;
+        InMemorySnapshotStore.addSnapshot(String.format("member-1-shard-%s-%s", CARS_SHARD, dataStoreType),
+                Snapshot.create(snapshot, Collections.<ReplicatedLogEntry>emptyList(), 0, 1, -1, -1));
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeDataStore() {
+        cluster.closeDataStore(dataStoreType);
+        InMemoryJournal.clear();
+        InMemorySnapshotStore.clear();
+    }
+
+    @Benchmark
+    @Warmup(iterations = ShardSnapshotCaptureBenchmark.WARMUP_ITERATIONS, batchSize = 1)
+    @Measurement(iterations = ShardSnapshotCaptureBenchmark.MEASUREMENT_ITERATIONS, batchSize = 1)
+    public NormalizedNode<?, ?> recoverFromSnapshot() throws Exception {
+        final DistributedDataStore dataStore = cluster.newDataStore(dataStoreType);
+        final DOMStoreReadTransaction tx = dataStore.newReadOnlyTransaction();
+        try {
+            final Optional<NormalizedNode<?, ?>> entry = tx.read(lastEntryPath).get(30, TimeUnit.SECONDS);
+            if (!entry.isPresent()) {
+                throw new IllegalStateException("Entry " + lastEntryPath + " was not recovered");
+            }
+            return entry.get();
+        } finally {
+            tx.close();
+        }
+    }
+}
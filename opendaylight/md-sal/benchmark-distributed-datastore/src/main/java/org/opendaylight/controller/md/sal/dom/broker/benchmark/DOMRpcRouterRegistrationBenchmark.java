@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.benchmark;
+
+import com.google.common.util.concurrent.CheckedFuture;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcAvailabilityListener;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcIdentifier;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcImplementation;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcImplementationRegistration;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMRpcRouter;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures registering and unregistering routed rpc implementations, one context per registration, in
+ * a {@link DOMRpcRouter} with an availability listener. The registrations are made from one or several
+ * threads, each thread registering its share of the contexts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class DOMRpcRouterRegistrationBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private static final SchemaPath RPC_TYPE = SchemaPath.create(true,
+            QName.create(CarsModel.BASE_QNAME, "buy-car"));
+
+    private static final DOMRpcImplementation IMPLEMENTATION = new DOMRpcImplementation() {
+        @Override
+        public CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final DOMRpcIdentifier rpc,
+                final NormalizedNode<?, ?> input) {
+            throw new UnsupportedOperationException("Not invoked by the benchmark");
+        }
+    };
+
+    private static final DOMRpcAvailabilityListener LISTENER = new DOMRpcAvailabilityListener() {
+        @Override
+        public void onRpcAvailable(final Collection<DOMRpcIdentifier> rpcs) {
+            // Nothing to do
+        }
+
+        @Override
+        public void onRpcUnavailable(final Collection<DOMRpcIdentifier> rpcs) {
+            // Nothing to do
+        }
+    };
+
+    @Param({"10000", "50000", "100000"})
+    public int registrations;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private DOMRpcIdentifier[] rpcs;
+    private ExecutorService executor;
+    private DOMRpcRouter router;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rpcs = new DOMRpcIdentifier[registrations];
+        for (int i = 0; i < registrations; ++i) {
+            rpcs[i] = DOMRpcIdentifier.create(RPC_TYPE, CarsModel.newCarPath("car" + i));
+        }
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpRouter() {
+        router = new DOMRpcRouter();
+        router.registerRpcListener(LISTENER);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownRouter() {
+        router.close();
+    }
+
+    /**
+     * Registers the contexts from the configured number of threads and optionally unregisters them.
+     */
+    private void registerAll(final boolean unregister) throws Exception {
+        final List<Future<Void>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; ++t) {
+            final int first = t;
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    final List<DOMRpcImplementationRegistration<DOMRpcImplementation>> regs =
+                            new ArrayList<>(registrations / threads + 1);
+                    for (int i = first; i < registrations; i += threads) {
+                        regs.add(router.registerRpcImplementation(IMPLEMENTATION, rpcs[i]));
+                    }
+                    if (unregister) {
+                        for (DOMRpcImplementationRegistration<DOMRpcImplementation> reg : regs) {
+                            reg.close();
+                        }
+                    }
+                    return null;
+                }
+            }));
+        }
+
+        for (Future<Void> f : futures) {
+            f.get();
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void register() throws Exception {
+        registerAll(false);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public void registerAndUnregister() throws Exception {
+        registerAll(true);
+    }
+}
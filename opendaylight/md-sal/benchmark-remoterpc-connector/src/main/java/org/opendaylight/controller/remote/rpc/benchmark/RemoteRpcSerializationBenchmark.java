@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.datastore.node.utils.serialization.NormalizedNodeSerializer;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcIdentifier;
+import org.opendaylight.controller.protobuff.messages.common.NormalizedNodeMessages;
+import org.opendaylight.controller.remote.rpc.messages.ExecuteRpc;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the serialization of a remote rpc request the way the Akka Java serializer does it, comparing
+ * the input streamed by {@link ExecuteRpc} with the protobuf tree the previous serialized form carried.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class RemoteRpcSerializationBenchmark {
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int INPUT_ENTRIES = 100;
+
+    private static final QName CARS_QNAME = QName.create(
+            "urn:opendaylight:params:xml:ns:yang:controller:md:sal:dom:store:test:cars", "2014-03-13", "cars");
+    private static final QName CAR_QNAME = QName.create(CARS_QNAME, "car");
+    private static final QName CAR_NAME_QNAME = QName.create(CAR_QNAME, "name");
+    private static final QName CAR_PRICE_QNAME = QName.create(CAR_QNAME, "price");
+
+    private static final DOMRpcIdentifier RPC = DOMRpcIdentifier.create(SchemaPath.create(true,
+            QName.create(CARS_QNAME, "add-cars")));
+
+    private NormalizedNode<?, ?> input;
+    private byte[] serializedRequest;
+    private byte[] serializedProtobufInput;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> cars = Builders.mapBuilder()
+                .withNodeIdentifier(new NodeIdentifier(CAR_QNAME));
+        for (int i = 0; i < INPUT_ENTRIES; ++i) {
+            final String name = "name" + i;
+            cars.withChild(ImmutableNodes.mapEntryBuilder(CAR_QNAME, CAR_NAME_QNAME, name)
+                    .withChild(ImmutableNodes.leafNode(CAR_NAME_QNAME, name))
+                    .withChild(ImmutableNodes.leafNode(CAR_PRICE_QNAME, BigInteger.valueOf(i))).build());
+        }
+
+        input = Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(CARS_QNAME))
+                .withChild(cars.build()).build();
+        serializedRequest = serializeRequest();
+        serializedProtobufInput = serializeProtobufInput();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] serializeRequest() throws IOException {
+        return serialize(ExecuteRpc.from(RPC, input));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public NormalizedNode<?, ?> deserializeRequest() throws IOException, ClassNotFoundException {
+        return ((ExecuteRpc) deserialize(serializedRequest)).getInputNormalizedNode();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] serializeProtobufInput() throws IOException {
+        return serialize(NormalizedNodeSerializer.serialize(input));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public NormalizedNode<?, ?> deserializeProtobufInput() throws IOException, ClassNotFoundException {
+        return NormalizedNodeSerializer.deSerialize((NormalizedNodeMessages.Node) deserialize(serializedProtobufInput));
+    }
+
+    private static byte[] serialize(final Object message) throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(message);
+        }
+        return bos.toByteArray();
+    }
+
+    private static Object deserialize(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.benchmark;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.AddressFromURIString;
+import akka.actor.Props;
+import akka.actor.UntypedActor;
+import akka.cluster.Cluster;
+import akka.japi.Pair;
+import akka.pattern.Patterns;
+import akka.util.Timeout;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.common.actor.AkkaConfigurationReader;
+import org.opendaylight.controller.remote.rpc.RemoteRpcProviderConfig;
+import org.opendaylight.controller.remote.rpc.RouteIdentifierImpl;
+import org.opendaylight.controller.remote.rpc.registry.RouteIndex;
+import org.opendaylight.controller.remote.rpc.registry.RpcRegistry;
+import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.AddOrUpdateRoutes;
+import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.FindRouters;
+import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.FindRoutersReply;
+import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.SetLocalRouter;
+import org.opendaylight.controller.sal.connector.api.RpcRouter;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import scala.concurrent.Await;
+import scala.concurrent.duration.Duration;
+
+/**
+ * Measures the latency of looking up the routers of an rpc on member-1 of a 1 or 3 member cluster, each member
+ * running its own actor system in this JVM. Every member registers the same number of routes, including the one
+ * which is looked up, and the gossiped routing tables are awaited before measuring. The lookup through the
+ * {@link RouteIndex} on the calling thread is compared against asking the registry actor with
+ * {@link FindRouters}, with one and four concurrent callers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class RouteLookupBenchmark {
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int TIMEOUT_SECONDS = 30;
+
+    private static final String CONFIG_RESOURCE = "benchmark-remoterpc";
+    private static final String SYSTEM_NAME = "benchmark-rpc";
+    private static final String REGISTRY_NAME = "registry";
+    private static final Address SEED_ADDRESS = AddressFromURIString.parse("akka.tcp://" + SYSTEM_NAME
+            + "@127.0.0.1:2660");
+    private static final QName BASE_QNAME = QName.create("urn:opendaylight:params:xml:ns:yang:controller:benchmark",
+            "2015-01-01", "rpc");
+    private static final Timeout ASK_TIMEOUT = new Timeout(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    /**
+     * Stands in for the local rpc broker, the lookups never send anything to it.
+     */
+    public static final class NoopRouter extends UntypedActor {
+        @Override
+        public void onReceive(final Object message) {
+            unhandled(message);
+        }
+    }
+
+    @Param({"1", "3"})
+    public int members;
+
+    @Param({"100", "10000"})
+    public int routesPerMember;
+
+    private final List<ActorSystem> systems = new ArrayList<>();
+    private RpcRouter.RouteIdentifier<?, ?, ?> routeId;
+    private RouteIndex routeIndex;
+    private ActorRef registry;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Config config = ConfigFactory.load(CONFIG_RESOURCE);
+        routeId = routeId("shared");
+
+        for (int i = 1; i <= members; ++i) {
+            final String memberName = "member-" + i;
+            final RemoteRpcProviderConfig rpcConfig = new RemoteRpcProviderConfig.Builder(memberName)
+                    .withConfigReader(new AkkaConfigurationReader() {
+                        @Override
+                        public Config read() {
+                            return config;
+                        }
+                    }).build();
+
+            final ActorSystem system = ActorSystem.create(SYSTEM_NAME, rpcConfig.get());
+            Cluster.get(system).join(SEED_ADDRESS);
+            systems.add(system);
+
+            final RouteIndex index = new RouteIndex();
+            final ActorRef memberRegistry = system.actorOf(RpcRegistry.props(index), REGISTRY_NAME);
+            memberRegistry.tell(new SetLocalRouter(system.actorOf(Props.create(NoopRouter.class))),
+                    ActorRef.noSender());
+
+            final List<RpcRouter.RouteIdentifier<?, ?, ?>> routes = new ArrayList<>(routesPerMember);
+            routes.add(routeId);
+            for (int j = 1; j < routesPerMember; ++j) {
+                routes.add(routeId(memberName + "-" + j));
+            }
+            memberRegistry.tell(new AddOrUpdateRoutes(routes), ActorRef.noSender());
+
+            if (i == 1) {
+                routeIndex = index;
+                registry = memberRegistry;
+            }
+        }
+
+        // Wait for the routing tables of all members to be gossiped to member-1
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (routeIndex.findRouters(routeId).size() < members) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Routing tables of " + members + " members were not received");
+            }
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (ActorSystem system : systems) {
+            system.shutdown();
+        }
+        for (ActorSystem system : systems) {
+            system.awaitTermination(Duration.create(10, TimeUnit.SECONDS));
+        }
+        systems.clear();
+    }
+
+    private static RpcRouter.RouteIdentifier<?, ?, ?> routeId(final String name) {
+        return new RouteIdentifierImpl(null, QName.create(BASE_QNAME, name), null);
+    }
+
+    private List<Pair<ActorRef, Long>> askRegistry() throws Exception {
+        final Object reply = Await.result(Patterns.ask(registry, new FindRouters(routeId), ASK_TIMEOUT),
+                ASK_TIMEOUT.duration());
+        return ((FindRoutersReply) reply).getRouterWithUpdateTime();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Pair<ActorRef, Long>> findRoutersInIndex() {
+        return routeIndex.findRouters(routeId);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Pair<ActorRef, Long>> findRoutersByAsk() throws Exception {
+        return askRegistry();
+    }
+
+    @Benchmark
+    @Threads(4)
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Pair<ActorRef, Long>> findRoutersInIndexFromFourThreads() {
+        return routeIndex.findRouters(routeId);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @Warmup(iterations = WARMUP_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Pair<ActorRef, Long>> findRoutersByAskFromFourThreads() throws Exception {
+        return askRegistry();
+    }
+}
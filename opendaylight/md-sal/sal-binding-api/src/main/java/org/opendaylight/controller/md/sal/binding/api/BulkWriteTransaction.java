@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.api;
+
+import java.util.Map;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Optional extension of a {@link WriteTransaction}, which allows a number of sibling data objects
+ * to be written at once. Users should check whether a transaction implements this interface and
+ * fall back to individual {@link WriteTransaction#put(LogicalDatastoreType, InstanceIdentifier, DataObject)}
+ * calls if it does not.
+ */
+public interface BulkWriteTransaction {
+    /**
+     * Stores a number of data objects, which are all children of the same parent, such as entries
+     * of a single list. This is equivalent to invoking
+     * {@link WriteTransaction#put(LogicalDatastoreType, InstanceIdentifier, DataObject, boolean)} for each
+     * of them, except that the shared parent nodes are created only once.
+     *
+     * @param store
+     *            the logical data store which should be modified
+     * @param data
+     *            the data objects to be written, keyed by their paths
+     * @param createMissingParents
+     *            if true, any missing parent nodes will be automatically
+     *            created using a merge operation.
+     * @throws IllegalArgumentException
+     *             if the paths do not share the same parent
+     * @throws IllegalStateException
+     *             if the transaction has already been submitted
+     */
+    <T extends DataObject> void putAll(LogicalDatastoreType store, Map<InstanceIdentifier<T>, T> data,
+            boolean createMissingParents);
+
+    /**
+     * Merges a number of data objects, which are all children of the same parent, such as entries
+     * of a single list. This is equivalent to invoking
+     * {@link WriteTransaction#merge(LogicalDatastoreType, InstanceIdentifier, DataObject, boolean)} for each
+     * of them, except that the shared parent nodes are created only once.
+     *
+     * @param store
+     *            the logical data store which should be modified
+     * @param data
+     *            the data objects to be merged, keyed by their paths
+     * @param createMissingParents
+     *            if true, any missing parent nodes will be automatically
+     *            created using a merge operation.
+     * @throws IllegalArgumentException
+     *             if the paths do not share the same parent
+     * @throws IllegalStateException
+     *             if the transaction has already been submitted
+     */
+    <T extends DataObject> void mergeAll(LogicalDatastoreType store, Map<InstanceIdentifier<T>, T> data,
+            boolean createMissingParents);
+}
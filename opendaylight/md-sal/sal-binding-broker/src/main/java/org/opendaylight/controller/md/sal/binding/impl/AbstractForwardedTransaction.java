@@ -55,13 +55,19 @@ abstract class AbstractForwardedTransaction<T extends AsyncTransaction<YangInsta
         return codec;
     }
 
+    /**
+     * Reads data from the delegate transaction. The returned data object is a lazy proxy over the
+     * {@link NormalizedNode} which was read, so its children are deserialized only when their getters
+     * are invoked, and are cached by the proxy afterwards. Callers which access only a part of a large
+     * subtree therefore do not pay for deserializing all of it.
+     */
     protected final <D extends DataObject> CheckedFuture<Optional<D>,ReadFailedException> doRead(
             final DOMDataReadTransaction readTx, final LogicalDatastoreType store,
             final InstanceIdentifier<D> path) {
         Preconditions.checkArgument(!path.isWildcarded(), "Invalid read of wildcarded path %s", path);
 
         return MappingCheckedFuture.create(
-                    Futures.transform(readTx.read(store, codec.toYangInstanceIdentifierBlocking(path)),
+                    Futures.transform(readTx.read(store, codec.toYangInstanceIdentifierCached(path)),
                                       codec.deserializeFunction(path)),
                     ReadFailedException.MAPPER);
     }
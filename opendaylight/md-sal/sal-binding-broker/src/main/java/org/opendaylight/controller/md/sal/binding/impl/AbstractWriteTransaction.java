@@ -10,7 +10,11 @@ package org.opendaylight.controller.md.sal.binding.impl;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.CheckedFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import org.opendaylight.controller.md.sal.binding.api.BulkWriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
@@ -26,7 +30,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
  * {@link DOMDataWriteTransaction}
  */
 public abstract class AbstractWriteTransaction<T extends DOMDataWriteTransaction> extends
-        AbstractForwardedTransaction<T> {
+        AbstractForwardedTransaction<T> implements BulkWriteTransaction {
 
     protected AbstractWriteTransaction(final T delegate, final BindingToNormalizedNodeCodec codec) {
         super(delegate, codec);
@@ -60,6 +64,61 @@ public abstract class AbstractWriteTransaction<T extends DOMDataWriteTransaction
         getDelegate().merge(store, normalized.getKey(), normalized.getValue());
     }
 
+    @Override
+    public final <U extends DataObject> void putAll(final LogicalDatastoreType store,
+            final Map<InstanceIdentifier<U>, U> data, final boolean createParents) {
+        final List<Entry<YangInstanceIdentifier, NormalizedNode<?, ?>>> normalized = normalizeSiblings(store, data,
+            createParents);
+        for (Entry<YangInstanceIdentifier, NormalizedNode<?, ?>> entry : normalized) {
+            getDelegate().put(store, entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public final <U extends DataObject> void mergeAll(final LogicalDatastoreType store,
+            final Map<InstanceIdentifier<U>, U> data, final boolean createParents) {
+        final List<Entry<YangInstanceIdentifier, NormalizedNode<?, ?>>> normalized = normalizeSiblings(store, data,
+            createParents);
+        for (Entry<YangInstanceIdentifier, NormalizedNode<?, ?>> entry : normalized) {
+            getDelegate().merge(store, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Translates a number of data objects sharing the same parent and ensures the parent exists. Parents
+     * are created as if the first object was written on its own, which takes care of the others, too.
+     */
+    private <U extends DataObject> List<Entry<YangInstanceIdentifier, NormalizedNode<?, ?>>> normalizeSiblings(
+            final LogicalDatastoreType store, final Map<InstanceIdentifier<U>, U> data, final boolean createParents) {
+        final List<Entry<YangInstanceIdentifier, NormalizedNode<?, ?>>> ret = new ArrayList<>(data.size());
+        InstanceIdentifier<U> firstPath = null;
+        YangInstanceIdentifier parent = null;
+        for (Entry<InstanceIdentifier<U>, U> entry : data.entrySet()) {
+            final InstanceIdentifier<U> path = entry.getKey();
+            Preconditions.checkArgument(!path.isWildcarded(), "Cannot write data into wildcarded path %s", path);
+
+            final Entry<YangInstanceIdentifier, NormalizedNode<?, ?>> normalized =
+                    getCodec().toNormalizedNode(path, entry.getValue());
+            if (firstPath == null) {
+                firstPath = path;
+                parent = normalized.getKey().getParent();
+            } else {
+                Preconditions.checkArgument(parent.equals(normalized.getKey().getParent()),
+                    "Path %s does not share parent with %s", path, firstPath);
+            }
+            ret.add(normalized);
+        }
+
+        if (firstPath != null) {
+            if (createParents) {
+                ensureParentsByMerge(store, ret.get(0).getKey(), firstPath);
+            } else {
+                ensureListParentIfNeeded(store, firstPath, ret.get(0));
+            }
+        }
+        return ret;
+    }
+
     /**
      *
      * Ensures list parent if item is list, otherwise noop.
@@ -7,12 +7,19 @@
  */
 package org.opendaylight.controller.md.sal.binding.impl;
 
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.reflect.TypeToken;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
@@ -21,71 +28,124 @@ import org.opendaylight.yangtools.binding.data.codec.api.BindingNormalizedNodeSe
 import org.opendaylight.yangtools.yang.binding.Notification;
 import org.opendaylight.yangtools.yang.binding.NotificationListener;
 import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
-import org.opendaylight.yangtools.yang.binding.util.NotificationListenerInvoker;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
+/**
+ * Adapts a binding {@link NotificationListener} to a {@link DOMNotificationListener}.
+ *
+ * A single DOM notification is delivered to all of its subscribers, hence the binding form of a notification
+ * which did not originate in binding is shared through a cache provided by the notification service, so it is
+ * deserialized once regardless of the number of listeners. Notification callbacks are resolved to method handles
+ * bound to the listener when it is registered.
+ */
 class BindingDOMNotificationListenerAdapter implements DOMNotificationListener {
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(void.class, Object.class, Notification.class);
+    /*
+     * The method handles strongly reference the listener class. A ClassValue is kept by the class itself, so
+     * the entry does not keep the class reachable and goes away together with it.
+     */
+    private static final ClassValue<Map<SchemaPath, MethodHandle>> CALLBACKS =
+            new ClassValue<Map<SchemaPath, MethodHandle>>() {
+                @Override
+                protected Map<SchemaPath, MethodHandle> computeValue(final Class<?> type) {
+                    return createCallbackMapFor(type);
+                }
+            };
 
     private final BindingNormalizedNodeSerializer codec;
+    private final Cache<DOMNotification, Notification> deserialized;
     private final NotificationListener delegate;
-    private final Map<SchemaPath,NotificationListenerInvoker> invokers;
+    private final Map<SchemaPath, MethodHandle> invokers;
+
+    public BindingDOMNotificationListenerAdapter(final BindingNormalizedNodeSerializer codec,
+            final Cache<DOMNotification, Notification> deserialized, final NotificationListener delegate) {
+        this.codec = Preconditions.checkNotNull(codec);
+        this.deserialized = Preconditions.checkNotNull(deserialized);
+        this.delegate = Preconditions.checkNotNull(delegate);
+        this.invokers = bindInvokers(delegate);
+    }
 
-    public BindingDOMNotificationListenerAdapter(final BindingNormalizedNodeSerializer codec, final NotificationListener delegate) {
-        this.codec = codec;
-        this.delegate = delegate;
-        this.invokers = createInvokerMapFor(delegate.getClass());
+    /**
+     * Create a cache suitable for sharing deserialized notifications between listener adapters using the same
+     * codec. Notifications are compared by identity and are retained only as long as they are referenced elsewhere.
+     *
+     * @return A new cache
+     */
+    static Cache<DOMNotification, Notification> createNotificationCache() {
+        return CacheBuilder.newBuilder().weakKeys().build();
     }
 
     @Override
     public void onNotification(@Nonnull final DOMNotification notification) {
+        final MethodHandle invoker = invokers.get(notification.getType());
+        Preconditions.checkArgument(invoker != null, "Listener %s does not support notification %s", delegate,
+            notification.getType());
+
         final Notification baNotification = deserialize(notification);
-        final QName notificationQName = notification.getType().getLastComponent();
-        getInvoker(notification.getType()).invokeNotification(delegate, notificationQName, baNotification);
+        try {
+            invoker.invokeExact(baNotification);
+        } catch (Throwable e) {
+            throw Throwables.propagate(e);
+        }
     }
 
     private Notification deserialize(final DOMNotification notification) {
-        if(notification instanceof LazySerializedDOMNotification) {
+        if (notification instanceof LazySerializedDOMNotification) {
             return ((LazySerializedDOMNotification) notification).getBindingData();
         }
-        return codec.fromNormalizedNodeNotification(notification.getType(), notification.getBody());
-    }
 
-    private NotificationListenerInvoker getInvoker(final SchemaPath type) {
-        return invokers.get(type);
+        final Notification cached = deserialized.getIfPresent(notification);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Concurrent listeners may race to deserialize, make sure they all observe the same object
+        final Notification baNotification = codec.fromNormalizedNodeNotification(notification.getType(),
+            notification.getBody());
+        final Notification prev = deserialized.asMap().putIfAbsent(notification, baNotification);
+        return prev != null ? prev : baNotification;
     }
 
     protected Set<SchemaPath> getSupportedNotifications() {
         return invokers.keySet();
     }
 
-    public static Map<SchemaPath, NotificationListenerInvoker> createInvokerMapFor(final Class<? extends NotificationListener> implClz) {
-        final Map<SchemaPath, NotificationListenerInvoker> builder = new HashMap<>();
-        for(final TypeToken<?> ifaceToken : TypeToken.of(implClz).getTypes().interfaces()) {
-            Class<?> iface = ifaceToken.getRawType();
-            if(NotificationListener.class.isAssignableFrom(iface) && BindingReflections.isBindingClass(iface)) {
-                @SuppressWarnings("unchecked")
-                final Class<? extends NotificationListener> listenerType = (Class<? extends NotificationListener>) iface;
-                final NotificationListenerInvoker invoker = NotificationListenerInvoker.from(listenerType);
-                for(final SchemaPath path : getNotificationTypes(listenerType)) {
-                    builder.put(path, invoker);
+    private static Map<SchemaPath, MethodHandle> bindInvokers(final NotificationListener delegate) {
+        final Map<SchemaPath, MethodHandle> callbacks = CALLBACKS.get(delegate.getClass());
+        final Map<SchemaPath, MethodHandle> builder = new HashMap<>(callbacks.size());
+        for (Entry<SchemaPath, MethodHandle> e : callbacks.entrySet()) {
+            builder.put(e.getKey(), e.getValue().bindTo(delegate));
+        }
+        return ImmutableMap.copyOf(builder);
+    }
+
+    private static Map<SchemaPath, MethodHandle> createCallbackMapFor(final Class<?> implClz) {
+        final Map<SchemaPath, MethodHandle> builder = new HashMap<>();
+        for (final TypeToken<?> ifaceToken : TypeToken.of(implClz).getTypes().interfaces()) {
+            final Class<?> iface = ifaceToken.getRawType();
+            if (NotificationListener.class.isAssignableFrom(iface) && BindingReflections.isBindingClass(iface)) {
+                for (final Method method : iface.getMethods()) {
+                    if (BindingReflections.isNotificationCallback(method)) {
+                        final Class<?> notification = method.getParameterTypes()[0];
+                        final QName name = BindingReflections.findQName(notification);
+                        builder.put(SchemaPath.create(true, name), createCallback(method));
+                    }
                 }
             }
         }
         return ImmutableMap.copyOf(builder);
     }
 
-    private static Set<SchemaPath> getNotificationTypes(final Class<? extends NotificationListener> type) {
-        // TODO: Investigate possibility and performance impact if we cache this or expose
-        // it from NotificationListenerInvoker
-        final Set<SchemaPath> ret = new HashSet<>();
-        for(final Method method : type.getMethods()) {
-            if(BindingReflections.isNotificationCallback(method)) {
-                final Class<?> notification = method.getParameterTypes()[0];
-                final QName name = BindingReflections.findQName(notification);
-                ret.add(SchemaPath.create(true, name));
-            }
+    private static MethodHandle createCallback(final Method method) {
+        final MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Notification callback " + method + " is not accessible", e);
         }
-        return ret;
+
+        // (Listener, SpecificNotification)void -> (Object, Notification)void, so it can be bound to the listener
+        return handle.asType(CALLBACK_TYPE);
     }
-}
\ No newline at end of file
+}
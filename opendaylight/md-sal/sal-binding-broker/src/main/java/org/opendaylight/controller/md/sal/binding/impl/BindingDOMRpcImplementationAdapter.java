@@ -10,6 +10,7 @@ package org.opendaylight.controller.md.sal.binding.impl;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.JdkFutureAdapters;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -42,6 +43,7 @@ public class BindingDOMRpcImplementationAdapter implements DOMRpcImplementation
     private final RpcServiceInvoker invoker;
     private final RpcService delegate;
     private final QName inputQname;
+    private final Map<SchemaPath, SchemaPath> inputPaths;
 
     public <T extends RpcService> BindingDOMRpcImplementationAdapter(final BindingNormalizedNodeCodecRegistry codec, final Class<T> type, final Map<SchemaPath, Method> localNameToMethod, final T delegate) {
         try {
@@ -63,6 +65,12 @@ public class BindingDOMRpcImplementationAdapter implements DOMRpcImplementation
         this.codec = Preconditions.checkNotNull(codec);
         this.delegate = Preconditions.checkNotNull(delegate);
         inputQname = QName.cachedReference(QName.create(BindingReflections.getQNameModule(type), "input"));
+
+        final ImmutableMap.Builder<SchemaPath, SchemaPath> inputPathsBuilder = ImmutableMap.builder();
+        for (SchemaPath rpc : localNameToMethod.keySet()) {
+            inputPathsBuilder.put(rpc, rpc.createChild(inputQname));
+        }
+        inputPaths = inputPathsBuilder.build();
     }
 
     @Override
@@ -77,7 +85,10 @@ public class BindingDOMRpcImplementationAdapter implements DOMRpcImplementation
         if (input instanceof LazySerializedContainerNode) {
             return ((LazySerializedContainerNode) input).bindingData();
         }
-        final SchemaPath inputSchemaPath = rpcPath.createChild(inputQname);
+        SchemaPath inputSchemaPath = inputPaths.get(rpcPath);
+        if (inputSchemaPath == null) {
+            inputSchemaPath = rpcPath.createChild(inputQname);
+        }
         return codec.fromNormalizedNodeRpcData(inputSchemaPath, (ContainerNode) input);
     }
 
@@ -10,10 +10,15 @@ package org.opendaylight.controller.md.sal.binding.impl;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
 import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.AbstractMap.SimpleEntry;
@@ -62,18 +67,62 @@ import org.slf4j.LoggerFactory;
 public final class BindingToNormalizedNodeCodec implements BindingCodecTreeFactory, BindingNormalizedNodeSerializer, SchemaContextListener, AutoCloseable {
 
     private static final long WAIT_DURATION_SEC = 5;
+
+    /**
+     * Maximum number of path arguments held by each direction of the instance identifier cache. Entries are
+     * weighted by their length, so deep identifiers do not get a free ride.
+     */
+    private static final long MAX_CACHED_PATH_ARGUMENTS = 256 * 1024;
     private static final Logger LOG = LoggerFactory.getLogger(BindingToNormalizedNodeCodec.class);
 
     private final BindingNormalizedNodeCodecRegistry codecRegistry;
 
     private final GeneratedClassLoadingStrategy classLoadingStrategy;
     private final FutureSchema futureSchema;
+
+    /*
+     * Both directions of the instance identifier translation are cached. A translation computed in one
+     * direction is also seeded into the other one, so that both caches hand out the same instances and
+     * a listener path translated on registration is not translated back again on each change.
+     */
     private final LoadingCache<InstanceIdentifier<?>, YangInstanceIdentifier> iiCache = CacheBuilder.newBuilder()
-            .softValues().build(new CacheLoader<InstanceIdentifier<?>, YangInstanceIdentifier>() {
+            .maximumWeight(MAX_CACHED_PATH_ARGUMENTS)
+            .weigher(new Weigher<InstanceIdentifier<?>, YangInstanceIdentifier>() {
+                @Override
+                public int weigh(final InstanceIdentifier<?> key, final YangInstanceIdentifier value) {
+                    return Iterables.size(value.getPathArguments()) + 1;
+                }
+            })
+            .recordStats().build(new CacheLoader<InstanceIdentifier<?>, YangInstanceIdentifier>() {
 
                 @Override
                 public YangInstanceIdentifier load(final InstanceIdentifier<?> key) throws Exception {
-                    return toYangInstanceIdentifierBlocking(key);
+                    final YangInstanceIdentifier dom = toYangInstanceIdentifierBlocking(key);
+                    reverseIiCache.asMap().putIfAbsent(dom, Optional.<InstanceIdentifier<?>>of(key));
+                    return dom;
+                }
+
+            });
+
+    private final LoadingCache<YangInstanceIdentifier, Optional<InstanceIdentifier<?>>> reverseIiCache = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHED_PATH_ARGUMENTS)
+            .weigher(new Weigher<YangInstanceIdentifier, Optional<InstanceIdentifier<?>>>() {
+                @Override
+                public int weigh(final YangInstanceIdentifier key, final Optional<InstanceIdentifier<?>> value) {
+                    return Iterables.size(key.getPathArguments()) + 1;
+                }
+            })
+            .recordStats().build(new CacheLoader<YangInstanceIdentifier, Optional<InstanceIdentifier<?>>>() {
+
+                @Override
+                public Optional<InstanceIdentifier<?>> load(final YangInstanceIdentifier key) {
+                    final InstanceIdentifier<?> binding = codecRegistry.fromYangInstanceIdentifier(key);
+                    if (binding == null) {
+                        return Optional.absent();
+                    }
+
+                    iiCache.asMap().putIfAbsent(binding, key);
+                    return Optional.<InstanceIdentifier<?>>of(binding);
                 }
 
             });
@@ -124,7 +173,37 @@ public final class BindingToNormalizedNodeCodec implements BindingCodecTreeFacto
 
 
     YangInstanceIdentifier toYangInstanceIdentifierCached(final InstanceIdentifier<?> binding) {
-        return iiCache .getUnchecked(binding);
+        try {
+            return iiCache.getUnchecked(binding);
+        } catch (final UncheckedExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        }
+    }
+
+    InstanceIdentifier<?> fromYangInstanceIdentifierCached(final YangInstanceIdentifier dom) {
+        try {
+            return reverseIiCache.getUnchecked(dom).orNull();
+        } catch (final UncheckedExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        }
+    }
+
+    /**
+     * Returns statistics of the cache of Binding to DOM instance identifier translations.
+     *
+     * @return Cache statistics
+     */
+    public CacheStats getToNormalizedCacheStats() {
+        return iiCache.stats();
+    }
+
+    /**
+     * Returns statistics of the cache of DOM to Binding instance identifier translations.
+     *
+     * @return Cache statistics
+     */
+    public CacheStats getFromNormalizedCacheStats() {
+        return reverseIiCache.stats();
     }
 
     @Override
@@ -166,7 +245,7 @@ public final class BindingToNormalizedNodeCodec implements BindingCodecTreeFacto
 
     @Override
     public InstanceIdentifier<?> fromYangInstanceIdentifier(final YangInstanceIdentifier dom) {
-        return codecRegistry.fromYangInstanceIdentifier(dom);
+        return fromYangInstanceIdentifierCached(dom);
     }
 
     @Override
@@ -191,7 +270,7 @@ public final class BindingToNormalizedNodeCodec implements BindingCodecTreeFacto
     public Optional<InstanceIdentifier<? extends DataObject>> toBinding(final YangInstanceIdentifier normalized)
                     throws DeserializationException {
         try {
-            return Optional.<InstanceIdentifier<? extends DataObject>>fromNullable(codecRegistry.fromYangInstanceIdentifier(normalized));
+            return Optional.<InstanceIdentifier<? extends DataObject>>fromNullable(fromYangInstanceIdentifierCached(normalized));
         } catch (final IllegalArgumentException e) {
             return Optional.absent();
         }
@@ -231,6 +310,9 @@ public final class BindingToNormalizedNodeCodec implements BindingCodecTreeFacto
         legacyToNormalized = new DataNormalizer (arg0);
         runtimeContext = BindingRuntimeContext.create(classLoadingStrategy, arg0);
         codecRegistry.onBindingRuntimeContextUpdated(runtimeContext);
+        // Translations may refer to classes which are no longer part of the context
+        iiCache.invalidateAll();
+        reverseIiCache.invalidateAll();
         if(futureSchema != null) {
             futureSchema.onRuntimeContextUpdated(runtimeContext);
         }
@@ -348,7 +430,7 @@ public final class BindingToNormalizedNodeCodec implements BindingCodecTreeFacto
             final YangInstanceIdentifier domIdentifier) {
 
         final BindingCodecTree currentCodecTree = codecRegistry.getCodecContext();
-        final InstanceIdentifier<?> bindingPath = codecRegistry.fromYangInstanceIdentifier(domIdentifier);
+        final InstanceIdentifier<?> bindingPath = fromYangInstanceIdentifierCached(domIdentifier);
         Preconditions.checkArgument(bindingPath != null);
         /**
          * If we are able to deserialize YANG instance identifier, getSubtreeCodec must
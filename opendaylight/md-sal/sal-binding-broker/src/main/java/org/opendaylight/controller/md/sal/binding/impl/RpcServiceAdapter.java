@@ -60,13 +60,14 @@ class RpcServiceAdapter implements InvocationHandler {
         proxy = (RpcService) Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, this);
     }
 
-    private final ListenableFuture<RpcResult<?>> invoke0(final SchemaPath schemaPath, final NormalizedNode<?, ?> input) {
+    private final ListenableFuture<RpcResult<?>> invoke0(final SchemaPath schemaPath, final SchemaPath outputPath,
+            final NormalizedNode<?, ?> input) {
         final CheckedFuture<DOMRpcResult, DOMRpcException> result = delegate.invokeRpc(schemaPath, input);
         if(result instanceof LazyDOMRpcResultFuture) {
             return ((LazyDOMRpcResultFuture) result).getBindingFuture();
         }
 
-        return transformFuture(schemaPath, result, codec.getCodecFactory());
+        return transformFuture(outputPath, result, codec.getCodecFactory());
     }
 
     private RpcInvocationStrategy createStrategy(final Method method, final RpcDefinition schema) {
@@ -74,7 +75,7 @@ class RpcServiceAdapter implements InvocationHandler {
         if (strategy.isContextBasedRouted()) {
             return new RoutedStrategy(schema.getPath(), method, strategy.getLeaf());
         }
-        return new NonRoutedStrategy(schema.getPath());
+        return new NonRoutedStrategy(schema.getPath(), method);
     }
 
     RpcService getProxy() {
@@ -86,7 +87,7 @@ class RpcServiceAdapter implements InvocationHandler {
 
         final RpcInvocationStrategy rpc = rpcNames.get(method);
         if (rpc != null) {
-            if (method.getParameterTypes().length == 0) {
+            if (!rpc.hasInput()) {
                 return rpc.invokeEmpty();
             }
             if (args.length != 1) {
@@ -126,7 +127,7 @@ class RpcServiceAdapter implements InvocationHandler {
         return null;
     }
 
-    private static ListenableFuture<RpcResult<?>> transformFuture(final SchemaPath rpc,
+    private static ListenableFuture<RpcResult<?>> transformFuture(final SchemaPath rpcOutput,
             final ListenableFuture<DOMRpcResult> domFuture, final BindingNormalizedNodeCodecRegistry codec) {
         return Futures.transform(domFuture, new Function<DOMRpcResult, RpcResult<?>>() {
             @Override
@@ -134,7 +135,6 @@ class RpcServiceAdapter implements InvocationHandler {
                 final NormalizedNode<?, ?> domData = input.getResult();
                 final DataObject bindingResult;
                 if (domData != null) {
-                    final SchemaPath rpcOutput = rpc.createChild(QName.create(rpc.getLastComponent(), "output"));
                     bindingResult = codec.fromNormalizedNodeRpcData(rpcOutput, (ContainerNode) domData);
                 } else {
                     bindingResult = null;
@@ -144,22 +144,34 @@ class RpcServiceAdapter implements InvocationHandler {
         });
     }
 
+    /**
+     * Invocation of a single RPC method. Everything which does not depend on the input is resolved
+     * when the strategy is created, so that an invocation only serializes the input.
+     */
     private abstract class RpcInvocationStrategy {
 
         private final SchemaPath rpcName;
+        private final SchemaPath outputPath;
+        private final boolean hasInput;
 
-        protected RpcInvocationStrategy(final SchemaPath path) {
+        protected RpcInvocationStrategy(final SchemaPath path, final Method rpcMethod) {
             rpcName = path;
+            outputPath = path.createChild(QName.cachedReference(QName.create(path.getLastComponent(), "output")));
+            hasInput = rpcMethod.getParameterTypes().length != 0;
         }
 
         final ListenableFuture<RpcResult<?>> invoke(final DataObject input) {
-            return invoke0(rpcName, serialize(input));
+            return invoke0(rpcName, outputPath, serialize(input));
         }
 
         abstract NormalizedNode<?, ?> serialize(DataObject input);
 
         final ListenableFuture<RpcResult<?>> invokeEmpty() {
-            return invoke0(rpcName, null);
+            return invoke0(rpcName, outputPath, null);
+        }
+
+        final boolean hasInput() {
+            return hasInput;
         }
 
         final SchemaPath getRpcName() {
@@ -170,8 +182,8 @@ class RpcServiceAdapter implements InvocationHandler {
 
     private final class NonRoutedStrategy extends RpcInvocationStrategy {
 
-        protected NonRoutedStrategy(final SchemaPath path) {
-            super(path);
+        protected NonRoutedStrategy(final SchemaPath path, final Method rpcMethod) {
+            super(path, rpcMethod);
         }
 
         @Override
@@ -187,7 +199,7 @@ class RpcServiceAdapter implements InvocationHandler {
         private final NodeIdentifier contextName;
 
         protected RoutedStrategy(final SchemaPath path, final Method rpcMethod, final QName leafName) {
-            super(path);
+            super(path, rpcMethod);
             final Class<? extends DataContainer> inputType = BindingReflections.resolveRpcInputClass(rpcMethod).get();
             refExtractor = ContextReferenceExtractor.from(inputType);
             this.contextName = new NodeIdentifier(leafName);
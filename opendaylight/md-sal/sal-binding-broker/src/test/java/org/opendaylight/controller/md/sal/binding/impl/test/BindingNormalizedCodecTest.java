@@ -1,5 +1,7 @@
 package org.opendaylight.controller.md.sal.binding.impl.test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import javassist.ClassPool;
@@ -18,6 +20,7 @@ import org.opendaylight.yangtools.sal.binding.generator.impl.GeneratedClassLoadi
 import org.opendaylight.yangtools.sal.binding.generator.util.JavassistUtils;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
@@ -58,4 +61,15 @@ public class BindingNormalizedCodecTest extends AbstractSchemaAwareTest {
         assertTrue(((AugmentationIdentifier) leafOnlyLastArg).getPossibleChildNames().contains(SIMPLE_VALUE_QNAME));
     }
 
+    @Test
+    public void testCachedInstanceIdentifierTranslation() {
+        final YangInstanceIdentifier dom = codec.toYangInstanceIdentifier(BA_TOP_LEVEL_LIST);
+
+        final InstanceIdentifier<?> binding = codec.fromYangInstanceIdentifier(dom);
+        assertEquals(BA_TOP_LEVEL_LIST, binding);
+        assertSame(binding, codec.fromYangInstanceIdentifier(dom));
+        assertEquals(1, codec.getFromNormalizedCacheStats().missCount());
+        assertEquals(1, codec.getFromNormalizedCacheStats().hitCount());
+    }
+
 }
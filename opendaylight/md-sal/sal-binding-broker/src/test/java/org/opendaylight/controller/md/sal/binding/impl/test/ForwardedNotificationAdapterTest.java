@@ -9,6 +9,7 @@ package org.opendaylight.controller.md.sal.binding.impl.test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableList;
@@ -23,6 +24,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.opendaylight.controller.md.sal.binding.api.NotificationPublishService;
 import org.opendaylight.controller.md.sal.binding.test.AbstractNotificationBrokerTest;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.OpendaylightMdsalListTestListener;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TwoLevelListChanged;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.TwoLevelListChangedBuilder;
@@ -31,6 +33,8 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controll
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -107,6 +111,40 @@ public class ForwardedNotificationAdapterTest extends AbstractNotificationBroker
         listenerRegistration.close();
     }
 
+    @Test
+    public void testDomNotificationDeserializedOnce() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final TwoLevelListChanged testData = createTestData();
+        final ContainerNode body = getBindingToNormalizedNodeCodec().getCodecRegistry().toNormalizedNodeNotification(testData);
+        final DOMNotification domNotification = new DOMNotification() {
+            @Override
+            public SchemaPath getType() {
+                return SchemaPath.create(true, TwoLevelListChanged.QNAME);
+            }
+
+            @Override
+            public ContainerNode getBody() {
+                return body;
+            }
+        };
+
+        final TestNotifListener first = new TestNotifListener(latch);
+        final TestNotifListener second = new TestNotifListener(latch);
+        final ListenerRegistration<TestNotifListener> firstRegistration = getNotificationService()
+                .registerNotificationListener(first);
+        final ListenerRegistration<TestNotifListener> secondRegistration = getNotificationService()
+                .registerNotificationListener(second);
+        getDomNotificationRouter().putNotification(domNotification);
+
+        latch.await();
+        assertEquals(1, first.getReceivedNotifications().size());
+        assertEquals(testData, first.getReceivedNotifications().get(0));
+        assertSame(first.getReceivedNotifications().get(0), second.getReceivedNotifications().get(0));
+
+        firstRegistration.close();
+        secondRegistration.close();
+    }
+
     private static class TestNotifListener implements OpendaylightMdsalListTestListener {
         private List<TwoLevelListChanged> receivedNotifications = new ArrayList<>();
         private CountDownLatch latch;
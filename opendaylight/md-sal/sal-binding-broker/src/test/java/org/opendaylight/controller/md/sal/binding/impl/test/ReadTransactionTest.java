@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.binding.impl.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.opendaylight.controller.md.sal.test.model.util.ListsBindingUtils.TOP_FOO_KEY;
+import static org.opendaylight.controller.md.sal.test.model.util.ListsBindingUtils.path;
+
+import com.google.common.base.Optional;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.binding.test.AbstractDataBrokerTest;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedListKey;
+
+public class ReadTransactionTest extends AbstractDataBrokerTest {
+
+    private static final TopLevelList FOO_DATA = new TopLevelListBuilder().setKey(TOP_FOO_KEY)
+            .setNestedList(Arrays.asList(
+                new NestedListBuilder().setKey(new NestedListKey("one")).setType("type-one").build(),
+                new NestedListBuilder().setKey(new NestedListKey("two")).setType("type-two").build()))
+            .build();
+
+    @Test
+    public void testReadReturnsLazyProxy() throws Exception {
+        final WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.OPERATIONAL, path(TOP_FOO_KEY), FOO_DATA, true);
+        writeTx.submit().checkedGet();
+
+        final ReadOnlyTransaction readTx = getDataBroker().newReadOnlyTransaction();
+        final Optional<TopLevelList> read = readTx.read(LogicalDatastoreType.OPERATIONAL, path(TOP_FOO_KEY)).checkedGet();
+        assertTrue(read.isPresent());
+
+        final TopLevelList foo = read.get();
+        assertTrue("Read data should be backed by the normalized node", Proxy.isProxyClass(foo.getClass()));
+        assertEquals(TOP_FOO_KEY, foo.getKey());
+
+        // Children are deserialized once, on first access
+        final List<NestedList> nested = foo.getNestedList();
+        assertSame(nested, foo.getNestedList());
+        assertEquals(FOO_DATA.getNestedList(), nested);
+    }
+}
@@ -7,11 +7,15 @@
  */
 package org.opendaylight.controller.md.sal.binding.impl.test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
 import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.BulkWriteTransaction;
 import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
 import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
 import org.opendaylight.controller.md.sal.binding.test.AbstractDataBrokerTest;
@@ -22,6 +26,9 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controll
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelList;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.TopLevelListKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedList;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedListBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.controller.md.sal.test.list.rev140701.two.level.list.top.level.list.NestedListKey;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 import com.google.common.base.Optional;
@@ -33,6 +40,9 @@ public class WriteTransactionTest extends AbstractDataBrokerTest {
     private static final TopLevelListKey TOP_LIST_KEY = new TopLevelListKey("foo");
     private static final InstanceIdentifier<TopLevelList> NODE_PATH = TOP_PATH.child(TopLevelList.class, TOP_LIST_KEY);
     private static final TopLevelList NODE = new TopLevelListBuilder().setKey(TOP_LIST_KEY).build();
+    private static final TopLevelListKey OTHER_LIST_KEY = new TopLevelListKey("bar");
+    private static final InstanceIdentifier<TopLevelList> OTHER_NODE_PATH = TOP_PATH.child(TopLevelList.class, OTHER_LIST_KEY);
+    private static final TopLevelList OTHER_NODE = new TopLevelListBuilder().setKey(OTHER_LIST_KEY).build();
     @Test
     public void test() throws InterruptedException, ExecutionException {
         WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
@@ -69,4 +79,32 @@ public class WriteTransactionTest extends AbstractDataBrokerTest {
         assertTrue("List node must exists after commit",listNode.isPresent());
     }
 
+    @Test
+    public void testPutAllCreateParentsSuccess() throws TransactionCommitFailedException, InterruptedException, ExecutionException {
+        final Map<InstanceIdentifier<TopLevelList>, TopLevelList> nodes = new LinkedHashMap<>();
+        nodes.put(NODE_PATH, NODE);
+        nodes.put(OTHER_NODE_PATH, OTHER_NODE);
+
+        WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        ((BulkWriteTransaction) writeTx).putAll(LogicalDatastoreType.OPERATIONAL, nodes, true);
+        writeTx.submit().checkedGet();
+
+        ReadOnlyTransaction readTx = getDataBroker().newReadOnlyTransaction();
+        Optional<Top> topNode = readTx.read(LogicalDatastoreType.OPERATIONAL, TOP_PATH).get();
+        assertTrue("Top node must exists after commit",topNode.isPresent());
+        assertEquals(2, topNode.get().getTopLevelList().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutAllDifferentParents() {
+        final NestedListKey nestedKey = new NestedListKey("nested");
+        final NestedList nested = new NestedListBuilder().setKey(nestedKey).setType("type").build();
+        final Map<InstanceIdentifier<NestedList>, NestedList> nodes = new LinkedHashMap<>();
+        nodes.put(NODE_PATH.child(NestedList.class, nestedKey), nested);
+        nodes.put(OTHER_NODE_PATH.child(NestedList.class, nestedKey), nested);
+
+        WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        ((BulkWriteTransaction) writeTx).putAll(LogicalDatastoreType.OPERATIONAL, nodes, true);
+    }
+
 }
@@ -24,15 +24,18 @@ public class CommonConfig extends AbstractConfig {
     protected static final String TAG_MAILBOX_CAPACITY = "mailbox-capacity";
     protected static final String TAG_MAILBOX = "bounded-mailbox";
     protected static final String TAG_MAILBOX_PUSH_TIMEOUT = "mailbox-push-timeout-time";
+    protected static final String TAG_MAILBOX_QUEUE_TIME_SAMPLING = "queue-time-sampling-interval";
 
     //TODO: Ideally these defaults should go to reference.conf
     // https://bugs.opendaylight.org/show_bug.cgi?id=1709
     private static final int DEFAULT_MAILBOX_CAPACITY = 1000;
     private static final int DEFAULT_MAILBOX_PUSH_TIMEOUT = 100;
+    private static final int DEFAULT_MAILBOX_QUEUE_TIME_SAMPLING = 0;
 
     //locally cached values
     private FiniteDuration cachedMailBoxPushTimeout;
     private Integer cachedMailBoxCapacity;
+    private Integer cachedMailBoxQueueTimeSampling;
     private Boolean cachedMetricCaptureEnableFlag;
 
     public CommonConfig(Config config) {
@@ -89,6 +92,25 @@ public class CommonConfig extends AbstractConfig {
         return cachedMailBoxPushTimeout;
     }
 
+    /**
+     * Returns the interval at which the metered mailbox samples messages to record the time they spent
+     * in the queue. A value of 1 samples every message, N samples every N-th message and 0 disables
+     * the measurement.
+     */
+    public Integer getMailBoxQueueTimeSamplingInterval() {
+
+        if (cachedMailBoxQueueTimeSampling != null) {
+            return cachedMailBoxQueueTimeSampling;
+        }
+
+        final String PATH = new StringBuilder(TAG_MAILBOX).append(".").append(TAG_MAILBOX_QUEUE_TIME_SAMPLING).toString();
+        cachedMailBoxQueueTimeSampling = get().hasPath(PATH)
+                ? get().getInt(PATH)
+                : DEFAULT_MAILBOX_QUEUE_TIME_SAMPLING;
+
+        return cachedMailBoxQueueTimeSampling;
+    }
+
     public static class Builder<T extends Builder<T>> extends AbstractConfig.Builder<T>{
 
         public Builder(String actorSystemName) {
@@ -123,6 +145,14 @@ public class CommonConfig extends AbstractConfig {
             return (T)this;
         }
 
+        public T mailboxQueueTimeSamplingInterval(int interval) {
+            Preconditions.checkArgument(interval >= 0, "queue time sampling interval must be >=0");
+
+            Map<String, Object> boundedMailbox = (Map<String, Object>) configHolder.get(TAG_MAILBOX);
+            boundedMailbox.put(TAG_MAILBOX_QUEUE_TIME_SAMPLING, interval);
+            return (T)this;
+        }
+
         public CommonConfig build() {
             return new CommonConfig(merge());
         }
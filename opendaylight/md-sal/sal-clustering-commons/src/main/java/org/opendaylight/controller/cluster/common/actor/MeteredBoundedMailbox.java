@@ -11,16 +11,30 @@ package org.opendaylight.controller.cluster.common.actor;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.dispatch.BoundedDequeBasedMailbox;
+import akka.dispatch.Envelope;
 import akka.dispatch.MailboxType;
 import akka.dispatch.ProducesMessageQueue;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.typesafe.config.Config;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scala.concurrent.duration.FiniteDuration;
 
+/**
+ * Bounded mailbox which reports its queue size and, when metric capture is enabled, the time messages spend
+ * waiting in the queue before they are dequeued by the actor. Time-in-queue is recorded in a timer per actor
+ * and a timer per message type, sampling every N-th message as configured by
+ * {@link CommonConfig#getMailBoxQueueTimeSamplingInterval()}.
+ */
 public class MeteredBoundedMailbox implements MailboxType, ProducesMessageQueue<MeteredBoundedMailbox.MeteredMessageQueue> {
 
     private final Logger LOG = LoggerFactory.getLogger(MeteredBoundedMailbox.class);
@@ -29,14 +43,18 @@ public class MeteredBoundedMailbox implements MailboxType, ProducesMessageQueue<
     private final Integer capacity;
     private final FiniteDuration pushTimeOut;
     private final MetricRegistry registry;
+    private final int queueTimeSamplingInterval;
 
     private final String QUEUE_SIZE = "q-size";
+    private static final String QUEUE_TIME = "q-time";
 
     public MeteredBoundedMailbox(ActorSystem.Settings settings, Config config) {
 
         CommonConfig commonConfig = new CommonConfig(settings.config());
         this.capacity = commonConfig.getMailBoxCapacity();
         this.pushTimeOut = commonConfig.getMailBoxPushTimeout();
+        this.queueTimeSamplingInterval = commonConfig.isMetricCaptureEnabled()
+                ? commonConfig.getMailBoxQueueTimeSamplingInterval() : 0;
 
         MetricsReporter reporter = MetricsReporter.getInstance(MeteringBehavior.DOMAIN);
         registry = reporter.getMetricsRegistry();
@@ -45,7 +63,14 @@ public class MeteredBoundedMailbox implements MailboxType, ProducesMessageQueue<
 
     @Override
     public MeteredMessageQueue create(final scala.Option<ActorRef> owner, scala.Option<ActorSystem> system) {
-        this.queue = new MeteredMessageQueue(this.capacity, this.pushTimeOut);
+        if (queueTimeSamplingInterval > 0 && owner.isDefined()) {
+            String actorName = owner.get().path().toStringWithoutAddress();
+            this.queue = new MeteredMessageQueue(this.capacity, this.pushTimeOut, queueTimeSamplingInterval,
+                    registry, MetricRegistry.name(actorName, QUEUE_TIME));
+        } else {
+            this.queue = new MeteredMessageQueue(this.capacity, this.pushTimeOut);
+        }
+
         monitorQueueSize(owner, this.queue);
         return this.queue;
     }
@@ -70,8 +95,80 @@ public class MeteredBoundedMailbox implements MailboxType, ProducesMessageQueue<
     public static class MeteredMessageQueue extends BoundedDequeBasedMailbox.MessageQueue {
         private static final long serialVersionUID = 1L;
 
+        private final int samplingInterval;
+        private final transient MetricRegistry registry;
+        private final String queueTimeMetricName;
+        private final transient Timer queueTimer;
+        private final transient ConcurrentMap<Class<?>, Timer> queueTimersByMsgType;
+        private final transient AtomicLong enqueueCount;
+
+        // Enqueue timestamps of the sampled envelopes. Weak keys give us identity comparison and make sure
+        // envelopes which never get dequeued (dead letters, mailbox cleanup) do not leak.
+        private final transient Cache<Envelope, Long> sampledEnqueueTimes;
+
         public MeteredMessageQueue(int capacity, FiniteDuration pushTimeOut) {
             super(capacity, pushTimeOut);
+            this.samplingInterval = 0;
+            this.registry = null;
+            this.queueTimeMetricName = null;
+            this.queueTimer = null;
+            this.queueTimersByMsgType = null;
+            this.enqueueCount = null;
+            this.sampledEnqueueTimes = null;
+        }
+
+        public MeteredMessageQueue(int capacity, FiniteDuration pushTimeOut, int samplingInterval,
+                MetricRegistry registry, String queueTimeMetricName) {
+            super(capacity, pushTimeOut);
+            this.samplingInterval = samplingInterval;
+            this.registry = registry;
+            this.queueTimeMetricName = queueTimeMetricName;
+            this.queueTimer = registry.timer(queueTimeMetricName);
+            this.queueTimersByMsgType = new ConcurrentHashMap<>();
+            this.enqueueCount = new AtomicLong();
+            this.sampledEnqueueTimes = CacheBuilder.newBuilder().weakKeys().build();
+        }
+
+        @Override
+        public void enqueue(ActorRef receiver, Envelope handle) {
+            if (samplingInterval > 0 && enqueueCount.getAndIncrement() % samplingInterval == 0) {
+                sampledEnqueueTimes.put(handle, System.nanoTime());
+            }
+
+            super.enqueue(receiver, handle);
+        }
+
+        @Override
+        public Envelope dequeue() {
+            final Envelope envelope = super.dequeue();
+            if (envelope != null && samplingInterval > 0) {
+                recordQueueTime(envelope);
+            }
+
+            return envelope;
+        }
+
+        private void recordQueueTime(Envelope envelope) {
+            final Long enqueueTime = sampledEnqueueTimes.getIfPresent(envelope);
+            if (enqueueTime == null) {
+                return;
+            }
+
+            sampledEnqueueTimes.invalidate(envelope);
+
+            final long elapsed = System.nanoTime() - enqueueTime;
+            queueTimer.update(elapsed, TimeUnit.NANOSECONDS);
+            queueTimerFor(envelope.message().getClass()).update(elapsed, TimeUnit.NANOSECONDS);
+        }
+
+        private Timer queueTimerFor(Class<?> messageClass) {
+            Timer timer = queueTimersByMsgType.get(messageClass);
+            if (timer == null) {
+                timer = registry.timer(MetricRegistry.name(queueTimeMetricName, messageClass.getSimpleName()));
+                queueTimersByMsgType.putIfAbsent(messageClass, timer);
+            }
+
+            return timer;
         }
     }
 
@@ -12,6 +12,8 @@ import akka.japi.Procedure;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
+import java.util.HashMap;
+import java.util.Map;
 import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 
 /**
@@ -24,6 +26,9 @@ import org.opendaylight.controller.cluster.reporting.MetricsReporter;
  * </ul>
  *
  * The information is reported to {@link org.opendaylight.controller.cluster.reporting.MetricsReporter}
+ * <p/>
+ * The time messages spend in the actor's mailbox before being processed is captured separately by
+ * {@link MeteredBoundedMailbox}.
  */
 public class MeteringBehavior implements Procedure<Object> {
     public static final String DOMAIN = "org.opendaylight.controller.actor.metric";
@@ -36,6 +41,9 @@ public class MeteringBehavior implements Procedure<Object> {
     private String actorQualifiedName;
     private Timer msgProcessingTimer;
 
+    // Only accessed from the actor's receive, hence no need for concurrent access
+    private final Map<Class<?>, Timer> msgProcessingTimersByMsgType = new HashMap<>();
+
     /**
      *
      * @param actor whose behaviour needs to be metered
@@ -83,12 +91,7 @@ public class MeteringBehavior implements Procedure<Object> {
      */
     @Override
     public void apply(Object message) throws Exception {
-        final String messageType = message.getClass().getSimpleName();
-
-        final String msgProcessingTimeByMsgType =
-                MetricRegistry.name(actorQualifiedName, MSG_PROCESSING_RATE, messageType);
-
-        final Timer msgProcessingTimerByMsgType = METRICREGISTRY.timer(msgProcessingTimeByMsgType);
+        final Timer msgProcessingTimerByMsgType = msgProcessingTimerFor(message.getClass());
 
         //start timers
         final Timer.Context context = msgProcessingTimer.time();
@@ -100,4 +103,16 @@ public class MeteringBehavior implements Procedure<Object> {
         contextByMsgType.stop();
         context.stop();
     }
+
+    private Timer msgProcessingTimerFor(Class<?> messageClass) {
+        Timer timer = msgProcessingTimersByMsgType.get(messageClass);
+        if (timer == null) {
+            final String msgProcessingTimeByMsgType =
+                    MetricRegistry.name(actorQualifiedName, MSG_PROCESSING_RATE, messageClass.getSimpleName());
+            timer = METRICREGISTRY.timer(msgProcessingTimeByMsgType);
+            msgProcessingTimersByMsgType.put(messageClass, timer);
+        }
+
+        return timer;
+    }
 }
@@ -21,6 +21,7 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,7 +47,10 @@ import org.slf4j.LoggerFactory;
  * NormalizedNodeInputStreamReader reads the byte stream and constructs the normalized node including its children nodes.
  * This process goes in recursive manner, where each NodeTypes object signifies the start of the object, except END_NODE.
  * If a node can have children, then that node's end is calculated based on appearance of END_NODE.
- *
+ * <p/>
+ * As the nodes read are typically retained in a shard's data tree, the reader avoids duplicating immutable
+ * objects: NodeIdentifiers are shared per QName and leaf nodes with the same QName and a simple value
+ * (eg a boolean, number, identity or short string) are shared across the stream.
  */
 
 public class NormalizedNodeInputStreamReader implements NormalizedNodeStreamReader {
@@ -55,10 +59,27 @@ public class NormalizedNodeInputStreamReader implements NormalizedNodeStreamRead
 
     private static final String REVISION_ARG = "?revision=";
 
+    private static final int MAX_CACHED_LEAF_NODES = 4096;
+
+    private static final int MAX_CACHED_STRING_VALUE_LENGTH = 64;
+
     private final DataInput input;
 
     private final Map<Integer, String> codedStringMap = new HashMap<>();
 
+    private final Map<QName, NodeIdentifier> nodeIdentifierCache = new HashMap<>();
+
+    // Least recently used leaves are evicted, so that frequent values stay shared throughout long streams
+    private final Map<NodeWithValue, LeafNode<Object>> leafNodeCache =
+            new LinkedHashMap<NodeWithValue, LeafNode<Object>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<NodeWithValue, LeafNode<Object>> eldest) {
+                    return size() > MAX_CACHED_LEAF_NODES;
+                }
+            };
+
     private QName lastLeafSetQName;
 
     private NormalizedNodeAttrBuilder<YangInstanceIdentifier.NodeIdentifier,
@@ -137,7 +158,7 @@ public class NormalizedNodeInputStreamReader implements NormalizedNodeStreamRead
                         withNodeIdentifier(entryIdentifier)).build();
 
             default :
-                return readNodeIdentifierDependentNode(nodeType, new NodeIdentifier(readQName()));
+                return readNodeIdentifierDependentNode(nodeType, readNodeIdentifier());
         }
     }
 
@@ -166,7 +187,7 @@ public class NormalizedNodeInputStreamReader implements NormalizedNodeStreamRead
             case NodeTypes.LEAF_NODE :
                 LOG.debug("Read leaf node {}", identifier);
                 // Read the object value
-                return leafBuilder().withNodeIdentifier(identifier).withValue(readObject()).build();
+                return readLeafNode(identifier, readObject());
 
             case NodeTypes.ANY_XML_NODE :
                 LOG.debug("Read xml node");
@@ -212,6 +233,41 @@ public class NormalizedNodeInputStreamReader implements NormalizedNodeStreamRead
         }
     }
 
+    private NodeIdentifier readNodeIdentifier() throws IOException {
+        QName qName = readQName();
+        NodeIdentifier identifier = nodeIdentifierCache.get(qName);
+        if(identifier == null) {
+            identifier = new NodeIdentifier(qName);
+            nodeIdentifierCache.put(qName, identifier);
+        }
+
+        return identifier;
+    }
+
+    private LeafNode<Object> readLeafNode(NodeIdentifier identifier, Object value) {
+        if(!isCacheableValue(value)) {
+            return leafBuilder().withNodeIdentifier(identifier).withValue(value).build();
+        }
+
+        NodeWithValue key = new NodeWithValue(identifier.getNodeType(), value);
+        LeafNode<Object> leaf = leafNodeCache.get(key);
+        if(leaf == null) {
+            leaf = leafBuilder().withNodeIdentifier(identifier).withValue(value).build();
+            leafNodeCache.put(key, leaf);
+        }
+
+        return leaf;
+    }
+
+    private static boolean isCacheableValue(Object value) {
+        if(value instanceof String) {
+            return ((String) value).length() <= MAX_CACHED_STRING_VALUE_LENGTH;
+        }
+
+        return value instanceof Boolean || value instanceof Integer || value instanceof Long ||
+                value instanceof Short || value instanceof Byte || value instanceof QName;
+    }
+
     private QName readQName() throws IOException {
         // Read in the same sequence of writing
         String localName = readCodedString();
@@ -347,7 +403,7 @@ public class NormalizedNodeInputStreamReader implements NormalizedNodeStreamRead
                 return new YangInstanceIdentifier.AugmentationIdentifier(readQNameSet());
 
             case PathArgumentTypes.NODE_IDENTIFIER :
-                return new NodeIdentifier(readQName());
+                return readNodeIdentifier();
 
             case PathArgumentTypes.NODE_IDENTIFIER_WITH_PREDICATES :
                 return new NodeIdentifierWithPredicates(readQName(), readKeyValueMap());
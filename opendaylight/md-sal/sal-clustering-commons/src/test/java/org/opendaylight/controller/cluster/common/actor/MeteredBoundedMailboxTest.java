@@ -13,14 +13,20 @@ import akka.actor.DeadLetter;
 import akka.actor.Props;
 import akka.actor.UntypedActor;
 import akka.testkit.JavaTestKit;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.opendaylight.controller.cluster.reporting.MetricsReporter;
 import scala.concurrent.duration.FiniteDuration;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
 public class MeteredBoundedMailboxTest {
 
     private static ActorSystem actorSystem;
@@ -67,6 +73,39 @@ public class MeteredBoundedMailboxTest {
         Object[] eleven = mockReceiver.receiveN(11, TWENTY_SEC);
     }
 
+    @Test
+    public void shouldRecordQueueTimeWhenSamplingIsEnabled() {
+        actorSystem.shutdown();
+        config = new CommonConfig.Builder<>("testsystem")
+                .metricCaptureEnabled(true)
+                .mailboxQueueTimeSamplingInterval(1)
+                .build();
+        actorSystem = ActorSystem.create("testsystem", config.get());
+
+        final JavaTestKit mockReceiver = new JavaTestKit(actorSystem);
+        final FiniteDuration TWENTY_SEC = new FiniteDuration(20, TimeUnit.SECONDS);
+
+        ActorRef pingPongActor = actorSystem.actorOf(PingPongActor.props(lock).withMailbox(config.getMailBoxName()),
+                                                     "queuetimeactor");
+
+        for (int i=0;i<5;i++){
+            pingPongActor.tell("ping", mockReceiver.getRef());
+        }
+
+        mockReceiver.receiveN(5, TWENTY_SEC);
+
+        MetricRegistry registry = MetricsReporter.getInstance(MeteringBehavior.DOMAIN).getMetricsRegistry();
+        String metricName = MetricRegistry.name(pingPongActor.path().toStringWithoutAddress(), "q-time");
+
+        Timer queueTimer = registry.getTimers().get(metricName);
+        assertNotNull(queueTimer);
+        assertEquals(5, queueTimer.getCount());
+
+        Timer queueTimerByMsgType = registry.getTimers().get(MetricRegistry.name(metricName, "String"));
+        assertNotNull(queueTimerByMsgType);
+        assertEquals(5, queueTimerByMsgType.getCount());
+    }
+
     /**
      * For testing
      */
@@ -12,6 +12,8 @@ package org.opendaylight.controller.cluster.datastore.node.utils.stream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
 import org.apache.commons.lang.SerializationUtils;
 import org.junit.Assert;
 import org.junit.Test;
@@ -22,11 +24,15 @@ import org.opendaylight.controller.protobuff.messages.transaction.ShardTransacti
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableLeafSetEntryNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.impl.ImmutableLeafSetNodeBuilder;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
@@ -164,6 +170,116 @@ public class NormalizedNodeStreamReaderWriterTest {
         reader.readYangInstanceIdentifier();
     }
 
+    @Test
+    public void testLeafNodesSharedAcrossMapEntries() throws IOException {
+        MapNode outerList = ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).
+                withChild(ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1).
+                        withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "same")).build()).
+                withChild(ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2).
+                        withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "same")).build()).
+                build();
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        NormalizedNodeOutputStreamWriter writer = new NormalizedNodeOutputStreamWriter(byteArrayOutputStream);
+        writer.writeNormalizedNode(outerList);
+
+        NormalizedNodeInputStreamReader reader = new NormalizedNodeInputStreamReader(
+                new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+
+        MapNode node = (MapNode) reader.readNormalizedNode();
+        Assert.assertEquals(outerList, node);
+
+        NodeIdentifier name = new NodeIdentifier(TestModel.NAME_QNAME);
+        MapEntryNode entry1 = node.getChild(new NodeIdentifierWithPredicates(
+                TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1)).get();
+        MapEntryNode entry2 = node.getChild(new NodeIdentifierWithPredicates(
+                TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2)).get();
+        Assert.assertSame(entry1.getChild(name).get(), entry2.getChild(name).get());
+
+        writer.close();
+    }
+
+    @Test
+    public void testLeafNodesSharedAfterManyDistinctLeaves() throws IOException {
+        // More distinct leaves than the cache holds, followed by two entries with the same leaf
+        CollectionNodeBuilder<MapEntryNode, MapNode> builder = ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME);
+        for(int i = 0; i < 5000; i++) {
+            builder.withChild(ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, i).
+                    withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "name-" + i)).build());
+        }
+        builder.withChild(ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 5000).
+                withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "late")).build());
+        builder.withChild(ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 5001).
+                withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "late")).build());
+
+        MapNode node = (MapNode) writeAndRead(builder.build());
+
+        NodeIdentifier name = new NodeIdentifier(TestModel.NAME_QNAME);
+        MapEntryNode entry1 = node.getChild(new NodeIdentifierWithPredicates(
+                TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 5000)).get();
+        MapEntryNode entry2 = node.getChild(new NodeIdentifierWithPredicates(
+                TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 5001)).get();
+        Assert.assertSame(entry1.getChild(name).get(), entry2.getChild(name).get());
+    }
+
+    /**
+     * Compares the heap retained by a large list, as built by an application and as deserialized by the reader.
+     * The heap is measured after a full collection, with nothing but the list reachable from the test.
+     */
+    @Test
+    public void testRetainedHeap() throws IOException {
+        final int entries = 100000;
+        final String[] descriptions = {"up", "down", "testing", "unknown"};
+
+        long base = usedHeap();
+        CollectionNodeBuilder<MapEntryNode, MapNode> builder = ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME);
+        for(int i = 0; i < entries; i++) {
+            builder.withChild(ImmutableNodes.mapEntryBuilder(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, i).
+                    withChild(ImmutableNodes.leafNode(TestModel.NAME_QNAME, "same")).
+                    withChild(ImmutableNodes.leafNode(TestModel.DESC_QNAME, descriptions[i % descriptions.length])).
+                    build());
+        }
+        MapNode original = builder.build();
+        builder = null;
+        final long originalHeap = usedHeap() - base;
+
+        final byte[] serialized = write(original);
+        Assert.assertEquals(entries, original.getValue().size());
+        original = null;
+
+        base = usedHeap();
+        final MapNode read = (MapNode) new NormalizedNodeInputStreamReader(
+                new ByteArrayInputStream(serialized)).readNormalizedNode();
+        final long readHeap = usedHeap() - base;
+        Assert.assertEquals(entries, read.getValue().size());
+
+        // Each entry shares its name and description leaves and their identifiers
+        Assert.assertTrue(String.format("Deserialized list retains %s bytes, original %s bytes", readHeap,
+                originalHeap), readHeap < originalHeap);
+    }
+
+    private static long usedHeap() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for(int i = 0; i < 3; i++) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static byte[] write(NormalizedNode<?, ?> input) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        NormalizedNodeOutputStreamWriter writer = new NormalizedNodeOutputStreamWriter(byteArrayOutputStream);
+        writer.writeNormalizedNode(input);
+        writer.close();
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static NormalizedNode<?, ?> writeAndRead(NormalizedNode<?, ?> input) throws IOException {
+        NormalizedNodeInputStreamReader reader = new NormalizedNodeInputStreamReader(
+                new ByteArrayInputStream(write(input)));
+        return reader.readNormalizedNode();
+    }
+
     @Test
     public void testWithSerializable() {
         NormalizedNode<?, ?> input = TestModel.createTestContainer();
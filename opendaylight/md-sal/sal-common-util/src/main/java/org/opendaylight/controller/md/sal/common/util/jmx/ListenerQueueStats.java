@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.md.sal.common.util.jmx;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * A bean class that holds statistic metrics of a listener which has its own notification queue,
+ * including how far behind the listener lags. This class is suitable for mapping to the MXBean
+ * CompositeDataSupport type.
+ *
+ * @see QueuedNotificationManagerMXBean#getListenerQueueStats()
+ */
+public class ListenerQueueStats {
+
+    private final String listenerClassName;
+    private final String backpressurePolicy;
+    private final int currentQueueSize;
+    private final int maxQueueSize;
+    private final long oldestNotificationAgeMillis;
+    private final long deliveredNotificationCount;
+    private final long droppedNotificationCount;
+    private final long coalescedNotificationCount;
+
+    @ConstructorProperties({"listenerClassName","backpressurePolicy","currentQueueSize","maxQueueSize",
+        "oldestNotificationAgeMillis","deliveredNotificationCount","droppedNotificationCount",
+        "coalescedNotificationCount"})
+    public ListenerQueueStats(String listenerClassName, String backpressurePolicy, int currentQueueSize,
+            int maxQueueSize, long oldestNotificationAgeMillis, long deliveredNotificationCount,
+            long droppedNotificationCount, long coalescedNotificationCount) {
+        this.listenerClassName = listenerClassName;
+        this.backpressurePolicy = backpressurePolicy;
+        this.currentQueueSize = currentQueueSize;
+        this.maxQueueSize = maxQueueSize;
+        this.oldestNotificationAgeMillis = oldestNotificationAgeMillis;
+        this.deliveredNotificationCount = deliveredNotificationCount;
+        this.droppedNotificationCount = droppedNotificationCount;
+        this.coalescedNotificationCount = coalescedNotificationCount;
+    }
+
+    public String getListenerClassName() {
+        return listenerClassName;
+    }
+
+    public String getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+    public int getCurrentQueueSize() {
+        return currentQueueSize;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Returns the time the oldest queued notification has been waiting for delivery, or zero
+     * if the queue is empty.
+     */
+    public long getOldestNotificationAgeMillis() {
+        return oldestNotificationAgeMillis;
+    }
+
+    public long getDeliveredNotificationCount() {
+        return deliveredNotificationCount;
+    }
+
+    public long getDroppedNotificationCount() {
+        return droppedNotificationCount;
+    }
+
+    public long getCoalescedNotificationCount() {
+        return coalescedNotificationCount;
+    }
+}
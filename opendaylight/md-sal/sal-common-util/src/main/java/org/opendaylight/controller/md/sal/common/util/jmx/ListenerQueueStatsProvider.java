@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.md.sal.common.util.jmx;
+
+import java.util.List;
+
+/**
+ * Source of {@link ListenerQueueStats} for listeners which are not served by a
+ * {@link org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager}, but have their
+ * own notification queues.
+ */
+public interface ListenerQueueStatsProvider {
+
+    /**
+     * Returns a list of stat instances for each current listener queue.
+     */
+    List<ListenerQueueStats> getListenerQueueStats();
+}
@@ -28,4 +28,10 @@ public interface QueuedNotificationManagerMXBean {
      * Returns the configured maximum listener queue size.
      */
     int getMaxListenerQueueSize();
+
+    /**
+     * Returns a list of stat instances for each listener which has its own notification queue,
+     * including how far behind the listener lags.
+     */
+    List<ListenerQueueStats> getListenerQueueStats();
 }
@@ -8,6 +8,7 @@
 
 package org.opendaylight.controller.md.sal.common.util.jmx;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.opendaylight.yangtools.util.concurrent.ListenerNotificationQueueStats;
@@ -30,11 +31,19 @@ public class QueuedNotificationManagerMXBeanImpl extends AbstractMXBean
                                                  implements QueuedNotificationManagerMXBean {
 
     private final QueuedNotificationManager<?,?> manager;
+    private final ListenerQueueStatsProvider listenerQueueStatsProvider;
 
     public QueuedNotificationManagerMXBeanImpl( QueuedNotificationManager<?,?> manager,
             String mBeanName, String mBeanType, String mBeanCategory ) {
+        this(manager, null, mBeanName, mBeanType, mBeanCategory);
+    }
+
+    public QueuedNotificationManagerMXBeanImpl( QueuedNotificationManager<?,?> manager,
+            ListenerQueueStatsProvider listenerQueueStatsProvider, String mBeanName, String mBeanType,
+            String mBeanCategory ) {
         super(mBeanName, mBeanType, mBeanCategory);
         this.manager = Preconditions.checkNotNull( manager );
+        this.listenerQueueStatsProvider = listenerQueueStatsProvider;
     }
 
     @Override
@@ -47,6 +56,14 @@ public class QueuedNotificationManagerMXBeanImpl extends AbstractMXBean
         return manager.getMaxQueueCapacity();
     }
 
+    @Override
+    public List<ListenerQueueStats> getListenerQueueStats() {
+        if (listenerQueueStatsProvider == null) {
+            return Collections.emptyList();
+        }
+        return listenerQueueStatsProvider.getListenerQueueStats();
+    }
+
     public QueuedNotificationManagerStats toQueuedNotificationManagerStats() {
         return new QueuedNotificationManagerStats( getMaxListenerQueueSize(),
                 getCurrentListenerQueueStats() );
@@ -7,8 +7,16 @@
  */
 package org.opendaylight.controller.cluster.datastore;
 
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.IOException;
 import javax.annotation.Nonnull;
 import org.opendaylight.controller.cluster.datastore.identifiers.TransactionIdentifier;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,4 +60,27 @@ abstract class AbstractTransactionContext implements TransactionContext {
     public boolean usesOperationLimiting() {
         return false;
     }
+
+    /**
+     * Complete a {@link #streamData(YangInstanceIdentifier, NormalizedNodeStreamWriter, SettableFuture)}
+     * request by emitting data which is already available in its entirety.
+     */
+    protected static void emitData(final YangInstanceIdentifier path, final Optional<NormalizedNode<?, ?>> data,
+            final NormalizedNodeStreamWriter writer, final SettableFuture<Boolean> proxyFuture) {
+        if (!data.isPresent()) {
+            proxyFuture.set(Boolean.FALSE);
+            return;
+        }
+
+        try {
+            final NormalizedNodeWriter nodeWriter = NormalizedNodeWriter.forStreamWriter(writer);
+            nodeWriter.write(data.get());
+            nodeWriter.flush();
+        } catch (IOException | RuntimeException e) {
+            proxyFuture.setException(new ReadFailedException("Error writing data for path " + path, e));
+            return;
+        }
+
+        proxyFuture.set(Boolean.TRUE);
+    }
 }
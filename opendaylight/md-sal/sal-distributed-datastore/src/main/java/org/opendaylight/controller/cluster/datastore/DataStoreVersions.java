@@ -17,5 +17,7 @@ public interface DataStoreVersions {
     short HELIUM_1_VERSION = 1;
     short HELIUM_2_VERSION = 2;
     short LITHIUM_VERSION = 3;
-    short CURRENT_VERSION = LITHIUM_VERSION;
+    // Adds chunked streaming reads
+    short BERYLLIUM_VERSION = 4;
+    short CURRENT_VERSION = BERYLLIUM_VERSION;
 }
@@ -46,7 +46,11 @@ public class DatastoreContext {
     public static final int DEFAULT_TX_CREATION_INITIAL_RATE_LIMIT = 100;
     public static final String UNKNOWN_DATA_STORE_TYPE = "unknown";
     public static final int DEFAULT_SHARD_BATCHED_MODIFICATION_COUNT = 1000;
+    public static final int DEFAULT_STREAM_DATA_CHUNK_SIZE = 1000;
     public static final long DEFAULT_SHARD_COMMIT_QUEUE_EXPIRY_TIMEOUT_IN_MS = TimeUnit.MILLISECONDS.convert(2, TimeUnit.MINUTES);
+    public static final long DEFAULT_SLOW_TRANSACTION_TRACE_THRESHOLD_IN_MILLIS = 0;
+    public static final int DEFAULT_SLOW_TRANSACTION_TRACE_SAMPLING_INTERVAL = 1;
+    public static final int DEFAULT_SLOW_TRANSACTION_TRACE_BUFFER_SIZE = 50;
 
     private static Set<String> globalDatastoreTypes = Sets.newConcurrentHashSet();
 
@@ -64,9 +68,13 @@ public class DatastoreContext {
     private final DefaultConfigParamsImpl raftConfig = new DefaultConfigParamsImpl();
     private String dataStoreType = UNKNOWN_DATA_STORE_TYPE;
     private int shardBatchedModificationCount = DEFAULT_SHARD_BATCHED_MODIFICATION_COUNT;
+    private int streamDataChunkSize = DEFAULT_STREAM_DATA_CHUNK_SIZE;
     private boolean writeOnlyTransactionOptimizationsEnabled = true;
     private long shardCommitQueueExpiryTimeoutInMillis = DEFAULT_SHARD_COMMIT_QUEUE_EXPIRY_TIMEOUT_IN_MS;
     private boolean transactionDebugContextEnabled = false;
+    private long slowTransactionTraceThresholdInMillis = DEFAULT_SLOW_TRANSACTION_TRACE_THRESHOLD_IN_MILLIS;
+    private int slowTransactionTraceSamplingInterval = DEFAULT_SLOW_TRANSACTION_TRACE_SAMPLING_INTERVAL;
+    private int slowTransactionTraceBufferSize = DEFAULT_SLOW_TRANSACTION_TRACE_BUFFER_SIZE;
 
     public static Set<String> getGlobalDatastoreTypes() {
         return globalDatastoreTypes;
@@ -95,9 +103,13 @@ public class DatastoreContext {
         this.transactionCreationInitialRateLimit = other.transactionCreationInitialRateLimit;
         this.dataStoreType = other.dataStoreType;
         this.shardBatchedModificationCount = other.shardBatchedModificationCount;
+        this.streamDataChunkSize = other.streamDataChunkSize;
         this.writeOnlyTransactionOptimizationsEnabled = other.writeOnlyTransactionOptimizationsEnabled;
         this.shardCommitQueueExpiryTimeoutInMillis = other.shardCommitQueueExpiryTimeoutInMillis;
         this.transactionDebugContextEnabled = other.transactionDebugContextEnabled;
+        this.slowTransactionTraceThresholdInMillis = other.slowTransactionTraceThresholdInMillis;
+        this.slowTransactionTraceSamplingInterval = other.slowTransactionTraceSamplingInterval;
+        this.slowTransactionTraceBufferSize = other.slowTransactionTraceBufferSize;
 
         setShardJournalRecoveryLogBatchSize(other.raftConfig.getJournalRecoveryLogBatchSize());
         setSnapshotBatchCount(other.raftConfig.getSnapshotBatchCount());
@@ -202,6 +214,10 @@ public class DatastoreContext {
         return shardBatchedModificationCount;
     }
 
+    public int getStreamDataChunkSize() {
+        return streamDataChunkSize;
+    }
+
     public boolean isWriteOnlyTransactionOptimizationsEnabled() {
         return writeOnlyTransactionOptimizationsEnabled;
     }
@@ -214,6 +230,18 @@ public class DatastoreContext {
         return transactionDebugContextEnabled;
     }
 
+    public long getSlowTransactionTraceThresholdInMillis() {
+        return slowTransactionTraceThresholdInMillis;
+    }
+
+    public int getSlowTransactionTraceSamplingInterval() {
+        return slowTransactionTraceSamplingInterval;
+    }
+
+    public int getSlowTransactionTraceBufferSize() {
+        return slowTransactionTraceBufferSize;
+    }
+
     public static class Builder {
         private final DatastoreContext datastoreContext;
         private int maxShardDataChangeExecutorPoolSize =
@@ -354,6 +382,11 @@ public class DatastoreContext {
             return this;
         }
 
+        public Builder streamDataChunkSize(int streamDataChunkSize) {
+            datastoreContext.streamDataChunkSize = streamDataChunkSize;
+            return this;
+        }
+
         public Builder writeOnlyTransactionOptimizationsEnabled(boolean value) {
             datastoreContext.writeOnlyTransactionOptimizationsEnabled = value;
             return this;
@@ -375,6 +408,21 @@ public class DatastoreContext {
             return this;
         }
 
+        public Builder slowTransactionTraceThresholdInMillis(long value) {
+            datastoreContext.slowTransactionTraceThresholdInMillis = value;
+            return this;
+        }
+
+        public Builder slowTransactionTraceSamplingInterval(int value) {
+            datastoreContext.slowTransactionTraceSamplingInterval = value;
+            return this;
+        }
+
+        public Builder slowTransactionTraceBufferSize(int value) {
+            datastoreContext.slowTransactionTraceBufferSize = value;
+            return this;
+        }
+
         public Builder maxShardDataChangeExecutorPoolSize(int maxShardDataChangeExecutorPoolSize) {
             this.maxShardDataChangeExecutorPoolSize = maxShardDataChangeExecutorPoolSize;
             return this;
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.CheckedFuture;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeListener;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeChangeListener;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeShard;
+import org.opendaylight.controller.sal.core.spi.data.DOMStore;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadTransaction;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadWriteTransaction;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreThreePhaseCommitCohort;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreTransactionChain;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreTreeChangePublisher;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreWriteTransaction;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DOMDataTreeShard} exposing the subtree of a {@link DistributedDataStore} which is stored
+ * in a single shard, so it can be registered with a sharded data tree and used by its producers.
+ *
+ * Since every modification made through it falls into the same shard, the datastore commits its
+ * transactions directly on the shard leader, without front-end three-phase commit coordination.
+ * Transaction chains keep the transactions of a producer ordered while they are in flight.
+ *
+ * Transactions and listeners are restricted to the subtree, accessing a path outside of it fails with
+ * an {@link IllegalArgumentException}.
+ */
+public final class DistributedDataTreeShard implements DOMDataTreeShard, DOMStore, DOMStoreTreeChangePublisher {
+    private static final Logger LOG = LoggerFactory.getLogger(DistributedDataTreeShard.class);
+
+    private final DistributedDataStore dataStore;
+    private final DOMDataTreeIdentifier prefix;
+    private final String shardName;
+
+    private DistributedDataTreeShard(final DistributedDataStore dataStore, final DOMDataTreeIdentifier prefix,
+            final String shardName) {
+        this.dataStore = dataStore;
+        this.prefix = prefix;
+        this.shardName = shardName;
+    }
+
+    /**
+     * Create a shard for a subtree of a data store.
+     *
+     * @param dataStore the data store holding the subtree
+     * @param prefix the root of the subtree, which may not be the root of the data tree
+     * @return a new shard
+     */
+    public static DistributedDataTreeShard create(@Nonnull final DistributedDataStore dataStore,
+            @Nonnull final DOMDataTreeIdentifier prefix) {
+        Preconditions.checkNotNull(dataStore, "dataStore should not be null");
+        final YangInstanceIdentifier path = prefix.getRootIdentifier();
+        Preconditions.checkArgument(!YangInstanceIdentifier.EMPTY.equals(path), "Prefix %s spans all shards", prefix);
+
+        final String shardName = ShardStrategyFactory.getStrategy(path).findShard(path);
+        LOG.debug("Subtree {} maps to shard {}", prefix, shardName);
+        return new DistributedDataTreeShard(dataStore, prefix, shardName);
+    }
+
+    public DOMDataTreeIdentifier getPrefix() {
+        return prefix;
+    }
+
+    public String getShardName() {
+        return shardName;
+    }
+
+    @Override
+    public void onChildAttached(final DOMDataTreeIdentifier childPrefix, final DOMDataTreeShard child) {
+        // Producers of the child's subtree are routed to the child, we have no state to adjust
+        LOG.debug("Shard {} of {} has child {} attached at {}", shardName, prefix, child, childPrefix);
+    }
+
+    @Override
+    public void onChildDetached(final DOMDataTreeIdentifier childPrefix, final DOMDataTreeShard child) {
+        LOG.debug("Shard {} of {} has child {} detached from {}", shardName, prefix, child, childPrefix);
+    }
+
+    private void checkPath(final YangInstanceIdentifier path) {
+        Preconditions.checkArgument(prefix.getRootIdentifier().contains(path), "Path %s is outside of %s", path, this);
+        Preconditions.checkArgument(shardName.equals(ShardStrategyFactory.getStrategy(path).findShard(path)),
+            "Path %s does not map to shard %s", path, shardName);
+    }
+
+    @Override
+    public <L extends AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>>> ListenerRegistration<L>
+            registerChangeListener(final YangInstanceIdentifier path, final L listener,
+                    final AsyncDataBroker.DataChangeScope scope) {
+        checkPath(path);
+        return dataStore.registerChangeListener(path, listener, scope);
+    }
+
+    @Override
+    public <L extends DOMDataTreeChangeListener> ListenerRegistration<L> registerTreeChangeListener(
+            final YangInstanceIdentifier treeId, final L listener) {
+        checkPath(treeId);
+        return dataStore.registerTreeChangeListener(treeId, listener);
+    }
+
+    @Override
+    public DOMStoreTransactionChain createTransactionChain() {
+        return new ShardTransactionChain(dataStore.createTransactionChain());
+    }
+
+    @Override
+    public DOMStoreReadTransaction newReadOnlyTransaction() {
+        return new ShardReadTransaction<>(dataStore.newReadOnlyTransaction());
+    }
+
+    @Override
+    public DOMStoreWriteTransaction newWriteOnlyTransaction() {
+        return new ShardWriteTransaction(dataStore.newWriteOnlyTransaction());
+    }
+
+    @Override
+    public DOMStoreReadWriteTransaction newReadWriteTransaction() {
+        return new ShardReadWriteTransaction(dataStore.newReadWriteTransaction());
+    }
+
+    @Override
+    public String toString() {
+        return "DistributedDataTreeShard{" +
+                "prefix=" + prefix +
+                ", shardName=" + shardName +
+                '}';
+    }
+
+    private final class ShardTransactionChain implements DOMStoreTransactionChain {
+        private final DOMStoreTransactionChain delegate;
+
+        ShardTransactionChain(final DOMStoreTransactionChain delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public DOMStoreReadTransaction newReadOnlyTransaction() {
+            return new ShardReadTransaction<>(delegate.newReadOnlyTransaction());
+        }
+
+        @Override
+        public DOMStoreReadWriteTransaction newReadWriteTransaction() {
+            return new ShardReadWriteTransaction(delegate.newReadWriteTransaction());
+        }
+
+        @Override
+        public DOMStoreWriteTransaction newWriteOnlyTransaction() {
+            return new ShardWriteTransaction(delegate.newWriteOnlyTransaction());
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+
+    private class ShardReadTransaction<T extends DOMStoreReadTransaction> implements DOMStoreReadTransaction {
+        final T delegate;
+
+        ShardReadTransaction(final T delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object getIdentifier() {
+            return delegate.getIdentifier();
+        }
+
+        @Override
+        public CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException> read(
+                final YangInstanceIdentifier path) {
+            checkPath(path);
+            return delegate.read(path);
+        }
+
+        @Override
+        public CheckedFuture<Boolean, ReadFailedException> exists(final YangInstanceIdentifier path) {
+            checkPath(path);
+            return delegate.exists(path);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+
+    private final class ShardReadWriteTransaction extends ShardReadTransaction<DOMStoreReadWriteTransaction>
+            implements DOMStoreReadWriteTransaction {
+        ShardReadWriteTransaction(final DOMStoreReadWriteTransaction delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void write(final YangInstanceIdentifier path, final NormalizedNode<?, ?> data) {
+            checkPath(path);
+            delegate.write(path, data);
+        }
+
+        @Override
+        public void merge(final YangInstanceIdentifier path, final NormalizedNode<?, ?> data) {
+            checkPath(path);
+            delegate.merge(path, data);
+        }
+
+        @Override
+        public void delete(final YangInstanceIdentifier path) {
+            checkPath(path);
+            delegate.delete(path);
+        }
+
+        @Override
+        public DOMStoreThreePhaseCommitCohort ready() {
+            return delegate.ready();
+        }
+    }
+
+    private final class ShardWriteTransaction implements DOMStoreWriteTransaction {
+        private final DOMStoreWriteTransaction delegate;
+
+        ShardWriteTransaction(final DOMStoreWriteTransaction delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object getIdentifier() {
+            return delegate.getIdentifier();
+        }
+
+        @Override
+        public void write(final YangInstanceIdentifier path, final NormalizedNode<?, ?> data) {
+            checkPath(path);
+            delegate.write(path, data);
+        }
+
+        @Override
+        public void merge(final YangInstanceIdentifier path, final NormalizedNode<?, ?> data) {
+            checkPath(path);
+            delegate.merge(path, data);
+        }
+
+        @Override
+        public void delete(final YangInstanceIdentifier path) {
+            checkPath(path);
+            delegate.delete(path);
+        }
+
+        @Override
+        public DOMStoreThreePhaseCommitCohort ready() {
+            return delegate.ready();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
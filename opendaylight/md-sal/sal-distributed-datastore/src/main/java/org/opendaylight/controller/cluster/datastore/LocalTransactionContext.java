@@ -19,6 +19,7 @@ import org.opendaylight.controller.sal.core.spi.data.DOMStoreTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreWriteTransaction;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import scala.concurrent.Future;
 
 /**
@@ -87,6 +88,23 @@ abstract class LocalTransactionContext extends AbstractTransactionContext {
         });
     }
 
+    @Override
+    public void streamData(final YangInstanceIdentifier path, final NormalizedNodeStreamWriter writer,
+            final SettableFuture<Boolean> proxyFuture) {
+        // The local read returns the node from the data tree, not a copy, so it can be emitted directly
+        Futures.addCallback(getReadDelegate().read(path), new FutureCallback<Optional<NormalizedNode<?, ?>>>() {
+            @Override
+            public void onSuccess(final Optional<NormalizedNode<?, ?>> result) {
+                emitData(path, result, writer, proxyFuture);
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                proxyFuture.setException(t);
+            }
+        });
+    }
+
     private LocalThreePhaseCommitCohort ready() {
         logModificationCount();
         return (LocalThreePhaseCommitCohort) getWriteDelegate().ready();
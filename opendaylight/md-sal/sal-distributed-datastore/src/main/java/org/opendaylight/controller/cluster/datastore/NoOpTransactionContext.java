@@ -16,6 +16,7 @@ import org.opendaylight.controller.md.sal.common.api.data.DataStoreUnavailableEx
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scala.concurrent.Future;
@@ -85,4 +86,11 @@ final class NoOpTransactionContext extends AbstractTransactionContext {
         LOG.debug("Tx {} dataExists called path = {}", getIdentifier(), path);
         proxyFuture.setException(new ReadFailedException("Error checking exists for path " + path, failure));
     }
+
+    @Override
+    public void streamData(YangInstanceIdentifier path, NormalizedNodeStreamWriter writer,
+            SettableFuture<Boolean> proxyFuture) {
+        LOG.debug("Tx {} streamData called path = {}", getIdentifier(), path);
+        proxyFuture.setException(new ReadFailedException("Error streaming data for path " + path, failure));
+    }
 }
@@ -12,15 +12,22 @@ import akka.actor.ActorSelection;
 import akka.dispatch.OnComplete;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.SettableFuture;
+import java.io.IOException;
 import org.opendaylight.controller.cluster.datastore.identifiers.TransactionIdentifier;
 import org.opendaylight.controller.cluster.datastore.messages.BatchedModifications;
 import org.opendaylight.controller.cluster.datastore.messages.CloseTransaction;
 import org.opendaylight.controller.cluster.datastore.messages.DataExists;
 import org.opendaylight.controller.cluster.datastore.messages.DataExistsReply;
+import org.opendaylight.controller.cluster.datastore.messages.NextStreamDataChunk;
 import org.opendaylight.controller.cluster.datastore.messages.ReadData;
 import org.opendaylight.controller.cluster.datastore.messages.ReadDataReply;
 import org.opendaylight.controller.cluster.datastore.messages.SerializableMessage;
+import org.opendaylight.controller.cluster.datastore.messages.StreamData;
+import org.opendaylight.controller.cluster.datastore.messages.StreamDataChunk;
+import org.opendaylight.controller.cluster.datastore.messages.StreamedNodeType;
 import org.opendaylight.controller.cluster.datastore.modification.DeleteModification;
 import org.opendaylight.controller.cluster.datastore.modification.MergeModification;
 import org.opendaylight.controller.cluster.datastore.modification.Modification;
@@ -29,6 +36,8 @@ import org.opendaylight.controller.cluster.datastore.utils.ActorContext;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scala.concurrent.Future;
@@ -282,6 +291,118 @@ public class RemoteTransactionContext extends AbstractTransactionContext {
         future.onComplete(onComplete, actorContext.getClientDispatcher());
     }
 
+    @Override
+    public void streamData(final YangInstanceIdentifier path, final NormalizedNodeStreamWriter writer,
+            final SettableFuture<Boolean> returnFuture) {
+
+        LOG.debug("Tx {} streamData called path = {}", getIdentifier(), path);
+
+        if (remoteTransactionVersion < DataStoreVersions.BERYLLIUM_VERSION) {
+            // The remote shard does not understand StreamData, read the data as a whole instead
+            final SettableFuture<Optional<NormalizedNode<?, ?>>> readFuture = SettableFuture.create();
+            readData(path, readFuture);
+            Futures.addCallback(readFuture, new FutureCallback<Optional<NormalizedNode<?, ?>>>() {
+                @Override
+                public void onSuccess(final Optional<NormalizedNode<?, ?>> result) {
+                    emitData(path, result, writer, returnFuture);
+                }
+
+                @Override
+                public void onFailure(final Throwable t) {
+                    returnFuture.setException(t);
+                }
+            });
+            return;
+        }
+
+        // Send any batched modifications. This is necessary to honor the read uncommitted semantics of the
+        // public API contract.
+
+        acquireOperation();
+        sendBatchedModifications();
+
+        Future<Object> future = executeOperationAsync(new StreamData(path,
+                actorContext.getDatastoreContext().getStreamDataChunkSize(), remoteTransactionVersion));
+
+        future.onComplete(new StreamDataChunkReceiver(path, writer, returnFuture), actorContext.getClientDispatcher());
+    }
+
+    /**
+     * Emits each received {@link StreamDataChunk} into the writer and requests the next one. Only a single
+     * chunk is outstanding at any time, so the amount of data in flight is bounded by the chunk size.
+     */
+    private final class StreamDataChunkReceiver extends OnComplete<Object> {
+        private final YangInstanceIdentifier path;
+        private final NormalizedNodeStreamWriter writer;
+        private final NormalizedNodeWriter nodeWriter;
+        private final SettableFuture<Boolean> returnFuture;
+        private StreamedNodeType rootType;
+
+        StreamDataChunkReceiver(final YangInstanceIdentifier path, final NormalizedNodeStreamWriter writer,
+                final SettableFuture<Boolean> returnFuture) {
+            this.path = path;
+            this.writer = writer;
+            this.nodeWriter = NormalizedNodeWriter.forStreamWriter(writer);
+            this.returnFuture = returnFuture;
+        }
+
+        @Override
+        public void onComplete(final Throwable failure, final Object response) {
+            if (failure != null) {
+                LOG.debug("Tx {} streamData operation failed: {}", getIdentifier(), failure);
+                returnFuture.setException(new ReadFailedException(
+                        "Error streaming data for path " + path, failure));
+                return;
+            }
+
+            if (!(response instanceof StreamDataChunk)) {
+                returnFuture.setException(new ReadFailedException(
+                        "Invalid response streaming data for path " + path));
+                return;
+            }
+
+            try {
+                processChunk((StreamDataChunk) response);
+            } catch (IOException | RuntimeException e) {
+                LOG.debug("Tx {} failed to emit streamed data", getIdentifier(), e);
+                returnFuture.setException(new ReadFailedException(
+                        "Error writing streamed data for path " + path, e));
+            }
+        }
+
+        private void processChunk(final StreamDataChunk chunk) throws IOException {
+            if (rootType == null) {
+                rootType = Preconditions.checkNotNull(chunk.getRootType(), "First chunk does not have a type");
+                if (rootType == StreamedNodeType.ABSENT) {
+                    returnFuture.set(Boolean.FALSE);
+                    return;
+                }
+                if (rootType.isChunked()) {
+                    rootType.startNode(writer, chunk.getRootIdentifier());
+                }
+            }
+
+            for (NormalizedNode<?, ?> node : chunk.getNodes()) {
+                nodeWriter.write(node);
+            }
+
+            if (chunk.isLast()) {
+                if (rootType.isChunked()) {
+                    writer.endNode();
+                }
+                nodeWriter.flush();
+
+                LOG.debug("Tx {} streamData operation succeeded", getIdentifier());
+                returnFuture.set(Boolean.TRUE);
+                return;
+            }
+
+            // Follow-up requests are part of the same operation, hence they bypass the limiter
+            actorContext.executeOperationAsync(getActor(), NextStreamDataChunk.INSTANCE).onComplete(this,
+                actorContext.getClientDispatcher());
+        }
+    }
+
     /**
      * Acquire operation from the limiter if the hand-off has completed. If
      * the hand-off is still ongoing, this method does nothing.
@@ -56,6 +56,7 @@ import org.opendaylight.controller.cluster.datastore.modification.ModificationPa
 import org.opendaylight.controller.cluster.datastore.modification.MutableCompositeModification;
 import org.opendaylight.controller.cluster.datastore.utils.Dispatchers;
 import org.opendaylight.controller.cluster.datastore.utils.MessageTracker;
+import org.opendaylight.controller.cluster.datastore.utils.SlowTransactionTraces;
 import org.opendaylight.controller.cluster.notifications.LeaderStateChanged;
 import org.opendaylight.controller.cluster.notifications.RegisterRoleChangeListener;
 import org.opendaylight.controller.cluster.notifications.RoleChangeNotifier;
@@ -102,6 +103,8 @@ public class Shard extends RaftActor {
 
     private final ShardCommitCoordinator commitCoordinator;
 
+    private SlowTransactionTraces slowTransactionTraces;
+
     private long transactionCommitTimeout;
 
     private Cancellable txCommitTimeoutCheckSchedule;
@@ -131,9 +134,12 @@ public class Shard extends RaftActor {
 
         store = new ShardDataTree(schemaContext);
 
+        slowTransactionTraces = newSlowTransactionTraces(datastoreContext);
+
         shardMBean = ShardMBeanFactory.getShardStatsMBean(name.toString(),
                 datastoreContext.getDataStoreMXBeanType());
         shardMBean.setShardActor(getSelf());
+        shardMBean.setSlowTransactionTraces(slowTransactionTraces);
 
         if (isMetricsCaptureEnabled()) {
             getContext().become(new MeteringBehavior(this));
@@ -141,7 +147,8 @@ public class Shard extends RaftActor {
 
         commitCoordinator = new ShardCommitCoordinator(store,
                 datastoreContext.getShardCommitQueueExpiryTimeoutInMillis(),
-                datastoreContext.getShardTransactionCommitQueueCapacity(), self(), LOG, this.name);
+                datastoreContext.getShardTransactionCommitQueueCapacity(), self(), LOG, this.name,
+                slowTransactionTraces);
 
         setTransactionCommitTimeout();
 
@@ -153,13 +160,18 @@ public class Shard extends RaftActor {
 
         transactionActorFactory = new ShardTransactionActorFactory(store, datastoreContext,
                 new Dispatchers(context().system().dispatchers()).getDispatcherPath(
-                        Dispatchers.DispatcherType.Transaction), self(), getContext(), shardMBean);
+                        Dispatchers.DispatcherType.Transaction, name.getShardName()), self(), getContext(), shardMBean);
 
         snapshotCohort = new ShardSnapshotCohort(transactionActorFactory, store, LOG, this.name);
 
 
     }
 
+    private SlowTransactionTraces newSlowTransactionTraces(DatastoreContext context) {
+        return new SlowTransactionTraces(name, context.getSlowTransactionTraceThresholdInMillis(),
+                context.getSlowTransactionTraceBufferSize(), context.getSlowTransactionTraceSamplingInterval());
+    }
+
     private void setTransactionCommitTimeout() {
         transactionCommitTimeout = TimeUnit.MILLISECONDS.convert(
                 datastoreContext.getShardTransactionCommitTimeoutInSeconds(), TimeUnit.SECONDS) / 2;
@@ -291,6 +303,10 @@ public class Shard extends RaftActor {
 
         commitCoordinator.setQueueCapacity(datastoreContext.getShardTransactionCommitQueueCapacity());
 
+        slowTransactionTraces = newSlowTransactionTraces(datastoreContext);
+        commitCoordinator.setSlowTransactionTraces(slowTransactionTraces);
+        shardMBean.setSlowTransactionTraces(slowTransactionTraces);
+
         setTransactionCommitTimeout();
 
         if(datastoreContext.isPersistent() && !persistence().isRecoveryApplicable()) {
@@ -323,6 +339,8 @@ public class Shard extends RaftActor {
     void continueCommit(final CohortEntry cohortEntry) throws Exception {
         final DataTreeCandidate candidate = cohortEntry.getCohort().getCandidate();
 
+        cohortEntry.traceStage("replicate");
+
         // If we do not have any followers and we are not using persistence
         // or if cohortEntry has no modifications
         // we can apply modification to the state immediately
@@ -343,6 +361,9 @@ public class Shard extends RaftActor {
     private void finishCommit(@Nonnull final ActorRef sender, @Nonnull final String transactionID, @Nonnull final CohortEntry cohortEntry) {
         LOG.debug("{}: Finishing commit for transaction {}", persistenceId(), cohortEntry.getTransactionID());
 
+        cohortEntry.traceStage("applied");
+
+        boolean success = false;
         try {
             // We block on the future here so we don't have to worry about possibly accessing our
             // state on a different thread outside of our dispatcher. Also, the data store
@@ -354,6 +375,7 @@ public class Shard extends RaftActor {
             shardMBean.incrementCommittedTransactionCount();
             shardMBean.setLastCommittedTransactionTime(System.currentTimeMillis());
 
+            success = true;
         } catch (Exception e) {
             sender.tell(new akka.actor.Status.Failure(e), getSelf());
 
@@ -361,6 +383,7 @@ public class Shard extends RaftActor {
                     transactionID, e);
             shardMBean.incrementFailedTransactionsCount();
         } finally {
+            commitCoordinator.transactionTraceComplete(cohortEntry, success ? "committed" : "commit failed");
             commitCoordinator.currentTransactionComplete(transactionID, true);
         }
     }
@@ -29,6 +29,8 @@ import org.opendaylight.controller.cluster.datastore.messages.ReadyLocalTransact
 import org.opendaylight.controller.cluster.datastore.messages.ReadyTransactionReply;
 import org.opendaylight.controller.cluster.datastore.modification.Modification;
 import org.opendaylight.controller.cluster.datastore.modification.MutableCompositeModification;
+import org.opendaylight.controller.cluster.datastore.utils.SlowTransactionTraces;
+import org.opendaylight.controller.cluster.datastore.utils.TransactionTrace;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
 import org.slf4j.Logger;
 
@@ -67,10 +69,14 @@ class ShardCommitCoordinator {
 
     private ReadyTransactionReply readyTransactionReply;
 
+    private SlowTransactionTraces slowTransactionTraces;
+
     ShardCommitCoordinator(ShardDataTree dataTree,
-            long cacheExpiryTimeoutInMillis, int queueCapacity, ActorRef shardActor, Logger log, String name) {
+            long cacheExpiryTimeoutInMillis, int queueCapacity, ActorRef shardActor, Logger log, String name,
+            SlowTransactionTraces slowTransactionTraces) {
 
         this.queueCapacity = queueCapacity;
+        this.slowTransactionTraces = Preconditions.checkNotNull(slowTransactionTraces);
         this.log = log;
         this.name = name;
         this.dataTree = Preconditions.checkNotNull(dataTree);
@@ -81,6 +87,25 @@ class ShardCommitCoordinator {
         this.queueCapacity = queueCapacity;
     }
 
+    void setSlowTransactionTraces(SlowTransactionTraces slowTransactionTraces) {
+        this.slowTransactionTraces = Preconditions.checkNotNull(slowTransactionTraces);
+    }
+
+    private TransactionTrace newTransactionTrace(String transactionID) {
+        return slowTransactionTraces.newTrace(transactionID);
+    }
+
+    /**
+     * Called when the commit of the given cohort entry finished, successfully or not, to record its trace.
+     */
+    void transactionTraceComplete(CohortEntry cohortEntry, String stage) {
+        TransactionTrace trace = cohortEntry.getTrace();
+        if(trace != null) {
+            trace.stage(stage);
+            slowTransactionTraces.record(trace);
+        }
+    }
+
     private ReadyTransactionReply readyTransactionReply(Shard shard) {
         if(readyTransactionReply == null) {
             readyTransactionReply = new ReadyTransactionReply(Serialization.serializedActorPath(shard.self()));
@@ -120,6 +145,8 @@ class ShardCommitCoordinator {
 
         CohortEntry cohortEntry = new CohortEntry(ready.getTransactionID(), ready.getCohort(),
                 (MutableCompositeModification) ready.getModification());
+        cohortEntry.setTrace(newTransactionTrace(ready.getTransactionID()));
+        cohortEntry.traceStage("ready");
         cohortCache.put(ready.getTransactionID(), cohortEntry);
 
         if(!queueCohortEntry(cohortEntry, sender, shard)) {
@@ -173,6 +200,7 @@ class ShardCommitCoordinator {
             cohortEntry = new CohortEntry(batched.getTransactionID(),
                     dataTree.newReadWriteTransaction(batched.getTransactionID(),
                         batched.getTransactionChainID()));
+            cohortEntry.setTrace(newTransactionTrace(batched.getTransactionID()));
             cohortCache.put(batched.getTransactionID(), cohortEntry);
         }
 
@@ -200,6 +228,7 @@ class ShardCommitCoordinator {
             }
 
             cohortEntry.ready(cohortDecorator, batched.isDoCommitOnReady());
+            cohortEntry.traceStage("ready");
 
             if(batched.isDoCommitOnReady()) {
                 cohortEntry.setReplySender(sender);
@@ -225,6 +254,8 @@ class ShardCommitCoordinator {
         final ShardDataTreeCohort cohort = new SimpleShardDataTreeCohort(dataTree, message.getModification(),
                 message.getTransactionID());
         final CohortEntry cohortEntry = new CohortEntry(message.getTransactionID(), cohort);
+        cohortEntry.setTrace(newTransactionTrace(message.getTransactionID()));
+        cohortEntry.traceStage("ready");
         cohortCache.put(message.getTransactionID(), cohortEntry);
         cohortEntry.setDoImmediateCommit(message.isDoCommitOnReady());
 
@@ -302,6 +333,9 @@ class ShardCommitCoordinator {
     }
 
     private void doCanCommit(final CohortEntry cohortEntry) {
+        // The time between ready and this stage is the time the transaction spent in the commit queue
+        cohortEntry.traceStage("canCommit");
+
         boolean canCommit = false;
         try {
             // We block on the future here so we don't have to worry about possibly accessing our
@@ -334,6 +368,8 @@ class ShardCommitCoordinator {
             cohortEntry.getReplySender().tell(new Status.Failure(failure), cohortEntry.getShard().self());
         } finally {
             if(!canCommit) {
+                transactionTraceComplete(cohortEntry, "canCommit failed");
+
                 // Remove the entry from the cache now.
                 currentTransactionComplete(cohortEntry.getTransactionID(), true);
             }
@@ -355,6 +391,7 @@ class ShardCommitCoordinator {
             // state on a different thread outside of our dispatcher. Also, the data store
             // currently uses a same thread executor anyway.
             cohortEntry.getCohort().preCommit().get();
+            cohortEntry.traceStage("preCommit");
 
             cohortEntry.getShard().continueCommit(cohortEntry);
 
@@ -366,6 +403,7 @@ class ShardCommitCoordinator {
                     name, cohortEntry.getTransactionID(), e);
             cohortEntry.getReplySender().tell(new akka.actor.Status.Failure(e), cohortEntry.getShard().self());
 
+            transactionTraceComplete(cohortEntry, "preCommit failed");
             currentTransactionComplete(cohortEntry.getTransactionID(), true);
         }
 
@@ -500,6 +538,7 @@ class ShardCommitCoordinator {
         private boolean doImmediateCommit;
         private final Stopwatch lastAccessTimer = Stopwatch.createStarted();
         private int totalBatchedModificationsReceived;
+        private TransactionTrace trace;
 
         CohortEntry(String transactionID, ReadWriteShardDataTreeTransaction transaction) {
             this.transaction = Preconditions.checkNotNull(transaction);
@@ -532,6 +571,20 @@ class ShardCommitCoordinator {
             return cohort;
         }
 
+        TransactionTrace getTrace() {
+            return trace;
+        }
+
+        void setTrace(TransactionTrace trace) {
+            this.trace = trace;
+        }
+
+        void traceStage(String stage) {
+            if(trace != null) {
+                trace.stage(stage);
+            }
+        }
+
         int getTotalBatchedModificationsReceived() {
             return totalBatchedModificationsReceived;
         }
@@ -99,7 +99,7 @@ public class ShardManager extends AbstractUntypedPersistentActorWithMetering {
 
     private final Configuration configuration;
 
-    private final String shardDispatcherPath;
+    private final Dispatchers dispatchers;
 
     private ShardManagerInfo mBean;
 
@@ -120,8 +120,7 @@ public class ShardManager extends AbstractUntypedPersistentActorWithMetering {
         this.datastoreContext = datastoreContext;
         this.type = datastoreContext.getDataStoreType();
         this.shardManagerIdentifierString = ShardManagerIdentifier.builder().type(type).build().toString();
-        this.shardDispatcherPath =
-                new Dispatchers(context().system().dispatchers()).getDispatcherPath(Dispatchers.DispatcherType.Shard);
+        this.dispatchers = new Dispatchers(context().system().dispatchers());
         this.waitTillReadyCountdownLatch = waitTillReadyCountdownLatch;
         this.primaryShardInfoCache = primaryShardInfoCache;
 
@@ -499,7 +498,8 @@ public class ShardManager extends AbstractUntypedPersistentActorWithMetering {
     protected ActorRef newShardActor(final SchemaContext schemaContext, ShardInformation info) {
         return getContext().actorOf(Shard.props(info.getShardId(),
                 info.getPeerAddresses(), datastoreContext, schemaContext)
-                        .withDispatcher(shardDispatcherPath), info.getShardId().toString());
+                        .withDispatcher(dispatchers.getDispatcherPath(Dispatchers.DispatcherType.Shard,
+                                info.getShardName())), info.getShardId().toString());
     }
 
     private void findPrimary(FindPrimary message) {
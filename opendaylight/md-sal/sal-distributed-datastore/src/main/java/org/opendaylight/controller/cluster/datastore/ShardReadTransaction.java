@@ -16,7 +16,9 @@ import com.google.common.base.Optional;
 import org.opendaylight.controller.cluster.datastore.jmx.mbeans.shard.ShardStats;
 import org.opendaylight.controller.cluster.datastore.messages.CreateSnapshot;
 import org.opendaylight.controller.cluster.datastore.messages.DataExists;
+import org.opendaylight.controller.cluster.datastore.messages.NextStreamDataChunk;
 import org.opendaylight.controller.cluster.datastore.messages.ReadData;
+import org.opendaylight.controller.cluster.datastore.messages.StreamData;
 import org.opendaylight.controller.cluster.datastore.utils.SerializationUtils;
 import org.opendaylight.controller.cluster.raft.base.messages.CaptureSnapshotReply;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -44,6 +46,10 @@ public class ShardReadTransaction extends ShardTransaction {
 
         } else if (message instanceof DataExists) {
             dataExists(transaction, (DataExists) message, !SERIALIZED_REPLY);
+        } else if (message instanceof StreamData) {
+            streamData(transaction, (StreamData) message);
+        } else if (message instanceof NextStreamDataChunk) {
+            nextStreamDataChunk(transaction);
         } else if (message instanceof CreateSnapshot) {
             createSnapshot();
         } else if(ReadData.SERIALIZABLE_CLASS.equals(message.getClass())) {
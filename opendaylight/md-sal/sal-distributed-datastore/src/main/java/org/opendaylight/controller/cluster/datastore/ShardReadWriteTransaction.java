@@ -13,7 +13,9 @@ package org.opendaylight.controller.cluster.datastore;
 import akka.actor.ActorRef;
 import org.opendaylight.controller.cluster.datastore.jmx.mbeans.shard.ShardStats;
 import org.opendaylight.controller.cluster.datastore.messages.DataExists;
+import org.opendaylight.controller.cluster.datastore.messages.NextStreamDataChunk;
 import org.opendaylight.controller.cluster.datastore.messages.ReadData;
+import org.opendaylight.controller.cluster.datastore.messages.StreamData;
 
 /**
  * @author: syedbahm
@@ -33,6 +35,12 @@ public class ShardReadWriteTransaction extends ShardWriteTransaction {
         } else if (message instanceof DataExists) {
             dataExists((DataExists) message, !SERIALIZED_REPLY);
 
+        } else if (message instanceof StreamData) {
+            streamData((StreamData) message);
+
+        } else if (message instanceof NextStreamDataChunk) {
+            nextStreamDataChunk();
+
         } else if(ReadData.SERIALIZABLE_CLASS.equals(message.getClass())) {
             readData(ReadData.fromSerializable(message), SERIALIZED_REPLY);
 
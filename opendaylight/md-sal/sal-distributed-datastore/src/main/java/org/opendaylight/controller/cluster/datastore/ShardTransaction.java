@@ -24,6 +24,8 @@ import org.opendaylight.controller.cluster.datastore.messages.DataExists;
 import org.opendaylight.controller.cluster.datastore.messages.DataExistsReply;
 import org.opendaylight.controller.cluster.datastore.messages.ReadData;
 import org.opendaylight.controller.cluster.datastore.messages.ReadDataReply;
+import org.opendaylight.controller.cluster.datastore.messages.StreamData;
+import org.opendaylight.controller.cluster.datastore.messages.StreamDataChunk;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -37,6 +39,8 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
  * Handles Messages <br/>
  * ---------------- <br/>
  * <li> {@link org.opendaylight.controller.cluster.datastore.messages.ReadData}
+ * <li> {@link org.opendaylight.controller.cluster.datastore.messages.StreamData}
+ * <li> {@link org.opendaylight.controller.cluster.datastore.messages.NextStreamDataChunk}
  * <li> {@link org.opendaylight.controller.cluster.datastore.messages.WriteData}
  * <li> {@link org.opendaylight.controller.cluster.datastore.messages.MergeData}
  * <li> {@link org.opendaylight.controller.cluster.datastore.messages.DeleteData}
@@ -53,6 +57,8 @@ public abstract class ShardTransaction extends AbstractUntypedActorWithMetering
     private final String transactionID;
     private final short clientTxVersion;
 
+    private StreamDataCursor streamCursor;
+
     protected ShardTransaction(ActorRef shardActor, ShardStats shardStats, String transactionID,
             short clientTxVersion) {
         super("shard-tx"); //actor name override used for metering. This does not change the "real" actor name
@@ -132,6 +138,39 @@ public abstract class ShardTransaction extends AbstractUntypedActorWithMetering
         sender().tell((returnSerialized ? readDataReply.toSerializable(): readDataReply), self());
     }
 
+    protected void streamData(AbstractShardDataTreeTransaction<?> transaction, StreamData message) {
+        // A new stream replaces any stream which has not been read to the end
+        streamCursor = null;
+
+        if (checkClosed(transaction)) {
+            return;
+        }
+
+        final Optional<NormalizedNode<?, ?>> optional = transaction.getSnapshot().readNode(message.getPath());
+        streamCursor = new StreamDataCursor(optional.orNull(), message.getChunkSize(), clientTxVersion);
+        nextStreamDataChunk(transaction);
+    }
+
+    protected void nextStreamDataChunk(AbstractShardDataTreeTransaction<?> transaction) {
+        if (checkClosed(transaction)) {
+            streamCursor = null;
+            return;
+        }
+
+        if (streamCursor == null) {
+            shardStats.incrementFailedReadTransactionsCount();
+            getSender().tell(new akka.actor.Status.Failure(new ReadFailedException("No streamed read is in progress")),
+                getSelf());
+            return;
+        }
+
+        final StreamDataChunk chunk = streamCursor.nextChunk();
+        if (chunk.isLast()) {
+            streamCursor = null;
+        }
+        getSender().tell(chunk, getSelf());
+    }
+
     protected void dataExists(AbstractShardDataTreeTransaction<?> transaction, DataExists message,
         final boolean returnSerialized) {
 
@@ -23,6 +23,7 @@ import org.opendaylight.controller.cluster.datastore.messages.MergeData;
 import org.opendaylight.controller.cluster.datastore.messages.MergeDataReply;
 import org.opendaylight.controller.cluster.datastore.messages.ReadData;
 import org.opendaylight.controller.cluster.datastore.messages.ReadyTransaction;
+import org.opendaylight.controller.cluster.datastore.messages.StreamData;
 import org.opendaylight.controller.cluster.datastore.messages.WriteData;
 import org.opendaylight.controller.cluster.datastore.messages.WriteDataReply;
 import org.opendaylight.controller.cluster.datastore.modification.CompositeModification;
@@ -128,6 +129,14 @@ public class ShardWriteTransaction extends ShardTransaction {
         super.readData(transaction, message, returnSerialized);
     }
 
+    protected final void streamData(StreamData message) {
+        super.streamData(transaction, message);
+    }
+
+    protected final void nextStreamDataChunk() {
+        super.nextStreamDataChunk(transaction);
+    }
+
     private boolean checkClosed() {
         if (transaction.isClosed()) {
             getSender().tell(new akka.actor.Status.Failure(new IllegalStateException("Transaction is closed, no modifications allowed")), getSelf());
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.opendaylight.controller.cluster.datastore.messages.StreamDataChunk;
+import org.opendaylight.controller.cluster.datastore.messages.StreamedNodeType;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Position of a streamed read in a ShardTransaction. The node being streamed comes from the transaction's
+ * snapshot, which is immutable, so its children can be iterated across messages.
+ * <p>
+ * Only the direct children of the streamed node are split into chunks, each child is sent as a whole. Reading
+ * a container with a single large list therefore yields a single chunk, such a list should be read by its own path.
+ */
+final class StreamDataCursor {
+    private final StreamedNodeType rootType;
+    private final Iterator<? extends NormalizedNode<?, ?>> children;
+    private final int chunkSize;
+    private final short version;
+    private NormalizedNode<?, ?> root;
+    private boolean started;
+
+    StreamDataCursor(@Nullable final NormalizedNode<?, ?> node, final int chunkSize, final short version) {
+        Preconditions.checkArgument(chunkSize > 0);
+        this.rootType = StreamedNodeType.forNode(node);
+        this.root = node;
+        this.chunkSize = chunkSize;
+        this.version = version;
+        this.children = rootType.isChunked() ? childrenOf(node).iterator()
+                : Collections.<NormalizedNode<?, ?>>emptyIterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Iterable<? extends NormalizedNode<?, ?>> childrenOf(final NormalizedNode<?, ?> node) {
+        // All chunked node types have their children as their value
+        return (Iterable<? extends NormalizedNode<?, ?>>) node.getValue();
+    }
+
+    /**
+     * Return the next chunk of the stream. Once a chunk with {@link StreamDataChunk#isLast()} set has been
+     * returned, the cursor should be discarded.
+     *
+     * @return Next chunk
+     */
+    StreamDataChunk nextChunk() {
+        if (started) {
+            return StreamDataChunk.next(nextChildren(), !children.hasNext(), version);
+        }
+
+        started = true;
+        final NormalizedNode<?, ?> node = root;
+        // The children iterator holds on to what is needed from now on
+        root = null;
+
+        switch (rootType) {
+        case ABSENT:
+            return StreamDataChunk.first(rootType, null, Collections.<NormalizedNode<?, ?>>emptyList(), true, version);
+        case SIMPLE:
+            return StreamDataChunk.first(rootType, null, Collections.<NormalizedNode<?, ?>>singletonList(node), true,
+                version);
+        default:
+            final List<NormalizedNode<?, ?>> nodes = nextChildren();
+            return StreamDataChunk.first(rootType, node.getIdentifier(), nodes, !children.hasNext(), version);
+        }
+    }
+
+    private List<NormalizedNode<?, ?>> nextChildren() {
+        final List<NormalizedNode<?, ?>> ret = new ArrayList<>(chunkSize);
+        while (ret.size() < chunkSize && children.hasNext()) {
+            ret.add(children.next());
+        }
+        return ret;
+    }
+}
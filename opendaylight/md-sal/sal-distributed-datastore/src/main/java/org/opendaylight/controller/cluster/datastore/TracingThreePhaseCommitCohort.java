@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 Brocade Communications Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import org.opendaylight.controller.cluster.datastore.utils.SlowTransactionTraces;
+import org.opendaylight.controller.cluster.datastore.utils.TransactionTrace;
+import scala.concurrent.Future;
+
+/**
+ * An AbstractThreePhaseCommitCohort implementation which records the completion of each commit phase in a
+ * {@link TransactionTrace}. The trace is handed off to {@link SlowTransactionTraces} once the commit
+ * completes, successfully or not.
+ */
+class TracingThreePhaseCommitCohort extends AbstractThreePhaseCommitCohort<Object> {
+    private final AbstractThreePhaseCommitCohort<?> delegate;
+    private final TransactionTrace trace;
+    private final SlowTransactionTraces slowTransactionTraces;
+
+    TracingThreePhaseCommitCohort(AbstractThreePhaseCommitCohort<?> delegate, TransactionTrace trace,
+            SlowTransactionTraces slowTransactionTraces) {
+        this.delegate = Preconditions.checkNotNull(delegate);
+        this.trace = Preconditions.checkNotNull(trace);
+        this.slowTransactionTraces = Preconditions.checkNotNull(slowTransactionTraces);
+    }
+
+    private <V> ListenableFuture<V> trace(ListenableFuture<V> future, final String stage, final boolean last) {
+        Futures.addCallback(future, new FutureCallback<V>() {
+            @Override
+            public void onSuccess(V result) {
+                trace.stage(stage);
+                if(last) {
+                    slowTransactionTraces.record(trace);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                trace.stage(stage + " failed");
+                slowTransactionTraces.record(trace);
+            }
+        });
+
+        return future;
+    }
+
+    @Override
+    public ListenableFuture<Boolean> canCommit() {
+        return trace(delegate.canCommit(), "canCommit", false);
+    }
+
+    @Override
+    public ListenableFuture<Void> preCommit() {
+        return trace(delegate.preCommit(), "preCommit", false);
+    }
+
+    @Override
+    public ListenableFuture<Void> commit() {
+        return trace(delegate.commit(), "commit", true);
+    }
+
+    @Override
+    public ListenableFuture<Void> abort() {
+        return delegate.abort();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    List<Future<Object>> getCohortFutures() {
+        return ((AbstractThreePhaseCommitCohort)delegate).getCohortFutures();
+    }
+}
@@ -12,6 +12,7 @@ import com.google.common.base.Optional;
 import com.google.common.util.concurrent.SettableFuture;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import scala.concurrent.Future;
 
 /*
@@ -33,6 +34,12 @@ interface TransactionContext {
 
     void dataExists(YangInstanceIdentifier path, SettableFuture<Boolean> proxyFuture);
 
+    /**
+     * Emit the data at specified path into a writer. The future completes with true once all of the data
+     * has been written, or with false if there is no data.
+     */
+    void streamData(YangInstanceIdentifier path, NormalizedNodeStreamWriter writer, SettableFuture<Boolean> proxyFuture);
+
     boolean supportsDirectCommit();
 
     Future<Object> directCommit();
@@ -28,12 +28,14 @@ import org.opendaylight.controller.cluster.datastore.identifiers.TransactionIden
 import org.opendaylight.controller.cluster.datastore.shardstrategy.ShardStrategyFactory;
 import org.opendaylight.controller.cluster.datastore.utils.ActorContext;
 import org.opendaylight.controller.cluster.datastore.utils.NormalizedNodeAggregator;
+import org.opendaylight.controller.cluster.datastore.utils.TransactionTrace;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.controller.sal.core.spi.data.AbstractDOMStoreTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadWriteTransaction;
 import org.opendaylight.yangtools.util.concurrent.MappingCheckedFuture;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataValidationFailedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +56,7 @@ public class TransactionProxy extends AbstractDOMStoreTransaction<TransactionIde
     private final Map<String, TransactionContextWrapper> txContextWrappers = new HashMap<>();
     private final AbstractTransactionContextFactory<?> txContextFactory;
     private final TransactionType type;
+    private final TransactionTrace trace;
     private TransactionState state = TransactionState.OPEN;
 
     @VisibleForTesting
@@ -62,6 +65,8 @@ public class TransactionProxy extends AbstractDOMStoreTransaction<TransactionIde
                 .isTransactionDebugContextEnabled());
         this.txContextFactory = txContextFactory;
         this.type = Preconditions.checkNotNull(type);
+        this.trace = type == TransactionType.READ_ONLY ? null :
+            txContextFactory.getActorContext().newTransactionTrace(getIdentifier().toString());
 
         LOG.debug("New {} Tx - {}", type, getIdentifier());
     }
@@ -97,6 +102,41 @@ public class TransactionProxy extends AbstractDOMStoreTransaction<TransactionIde
         }
     }
 
+    /**
+     * Read the data at a path and emit it into a writer. Unlike {@link #read(YangInstanceIdentifier)}, the data
+     * is not materialized in its entirety: a remote shard sends the children of the node in bounded chunks,
+     * one chunk at a time, and each chunk is emitted as soon as it arrives. The writer is invoked sequentially,
+     * but not necessarily from the same thread.
+     *
+     * Since data at the root of the datastore is spread across shards, streaming it is not supported. Stream
+     * the individual top-level nodes instead.
+     *
+     * @param path Path to the data
+     * @param writer Writer to emit the data into
+     * @return Future which completes with true once all of the data has been emitted, or with false if there
+     *         is no data at the path
+     */
+    public CheckedFuture<Boolean, ReadFailedException> streamData(final YangInstanceIdentifier path,
+            final NormalizedNodeStreamWriter writer) {
+        Preconditions.checkState(type != TransactionType.WRITE_ONLY, "Reads from write-only transactions are not allowed");
+        Preconditions.checkArgument(!YangInstanceIdentifier.EMPTY.equals(path),
+            "Streaming the datastore root is not supported, stream its children instead");
+        Preconditions.checkNotNull(writer);
+
+        LOG.debug("Tx {} streamData {}", getIdentifier(), path);
+
+        final SettableFuture<Boolean> proxyFuture = SettableFuture.create();
+        TransactionContextWrapper contextWrapper = getContextWrapper(path);
+        contextWrapper.maybeExecuteTransactionOperation(new TransactionOperation() {
+            @Override
+            public void invoke(TransactionContext transactionContext) {
+                transactionContext.streamData(path, writer, proxyFuture);
+            }
+        });
+
+        return MappingCheckedFuture.create(proxyFuture, ReadFailedException.MAPPER);
+    }
+
     private CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException> singleShardRead(
             final String shardName, final YangInstanceIdentifier path) {
         final SettableFuture<Optional<NormalizedNode<?, ?>>> proxyFuture = SettableFuture.create();
@@ -228,7 +268,7 @@ public class TransactionProxy extends AbstractDOMStoreTransaction<TransactionIde
 
         LOG.debug("Tx {} Readying {} components for commit", getIdentifier(), txContextWrappers.size());
 
-        final AbstractThreePhaseCommitCohort<?> ret;
+        AbstractThreePhaseCommitCohort<?> ret;
         switch (txContextWrappers.size()) {
         case 0:
             ret = NoOpDOMStoreThreePhaseCommitCohort.INSTANCE;
@@ -243,6 +283,12 @@ public class TransactionProxy extends AbstractDOMStoreTransaction<TransactionIde
 
         txContextFactory.onTransactionReady(getIdentifier(), ret.getCohortFutures());
 
+        if (trace != null) {
+            trace.stage("ready");
+            ret = new TracingThreePhaseCommitCohort(ret, trace,
+                    txContextFactory.getActorContext().getSlowTransactionTraces());
+        }
+
         final Throwable debugContext = getDebugContext();
         return debugContext == null ? ret : new DebugThreePhaseCommitCohort(getIdentifier(), ret, debugContext);
     }
@@ -46,6 +46,10 @@ public interface DatastoreConfigurationMXBean {
 
     boolean getTransactionContextDebugEnabled();
 
+    long getSlowTransactionTraceThresholdInMillis();
+
+    int getSlowTransactionTraceSamplingInterval();
+
     int getMaxShardDataChangeExecutorPoolSize();
 
     int getMaxShardDataChangeExecutorQueueSize();
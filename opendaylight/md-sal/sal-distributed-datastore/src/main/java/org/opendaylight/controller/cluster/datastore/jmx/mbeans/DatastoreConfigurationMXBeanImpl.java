@@ -109,6 +109,16 @@ public class DatastoreConfigurationMXBeanImpl extends AbstractMXBean implements
         return context.isTransactionDebugContextEnabled();
     }
 
+    @Override
+    public long getSlowTransactionTraceThresholdInMillis() {
+        return context.getSlowTransactionTraceThresholdInMillis();
+    }
+
+    @Override
+    public int getSlowTransactionTraceSamplingInterval() {
+        return context.getSlowTransactionTraceSamplingInterval();
+    }
+
     @Override
     public int getMaxShardDataChangeExecutorPoolSize() {
         return context.getDataStoreProperties().getMaxDataChangeExecutorPoolSize();
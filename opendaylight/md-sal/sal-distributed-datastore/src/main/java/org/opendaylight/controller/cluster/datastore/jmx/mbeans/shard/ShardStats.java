@@ -15,11 +15,13 @@ import com.google.common.base.Stopwatch;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import java.text.SimpleDateFormat;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.controller.cluster.datastore.utils.SlowTransactionTraces;
 import org.opendaylight.controller.cluster.raft.client.messages.FollowerInfo;
 import org.opendaylight.controller.cluster.raft.client.messages.GetOnDemandRaftState;
 import org.opendaylight.controller.cluster.raft.client.messages.OnDemandRaftState;
@@ -79,6 +81,8 @@ public class ShardStats extends AbstractMXBean implements ShardStatsMXBean {
 
     private long lastLeadershipChangeTime;
 
+    private volatile SlowTransactionTraces slowTransactionTraces;
+
     public ShardStats(final String shardName, final String mxBeanType) {
         super(shardName, mxBeanType, JMX_CATEGORY_SHARD);
     }
@@ -94,6 +98,10 @@ public class ShardStats extends AbstractMXBean implements ShardStatsMXBean {
         this.shardActor = shardActor;
     }
 
+    public void setSlowTransactionTraces(SlowTransactionTraces slowTransactionTraces) {
+        this.slowTransactionTraces = slowTransactionTraces;
+    }
+
     private OnDemandRaftState getOnDemandRaftState() {
         String name = getShardName();
         OnDemandRaftState state = onDemandRaftStateCache.getIfPresent(name);
@@ -362,4 +370,18 @@ public class ShardStats extends AbstractMXBean implements ShardStatsMXBean {
     public String getLastLeadershipChangeTime() {
         return DATE_FORMAT.format(new Date(lastLeadershipChangeTime));
     }
+
+    @Override
+    public List<String> getSlowTransactionTraces() {
+        SlowTransactionTraces traces = slowTransactionTraces;
+        return traces != null ? traces.getTraces() : Collections.<String>emptyList();
+    }
+
+    @Override
+    public void clearSlowTransactionTraces() {
+        SlowTransactionTraces traces = slowTransactionTraces;
+        if(traces != null) {
+            traces.clear();
+        }
+    }
 }
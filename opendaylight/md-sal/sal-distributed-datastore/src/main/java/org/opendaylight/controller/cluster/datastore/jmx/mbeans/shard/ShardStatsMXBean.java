@@ -73,4 +73,8 @@ public interface ShardStatsMXBean {
    long getLeadershipChangeCount();
 
    String getLastLeadershipChangeTime();
+
+   List<String> getSlowTransactionTraces();
+
+   void clearSlowTransactionTraces();
 }
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.messages;
+
+/**
+ * Message sent to a ShardTransaction to request the next {@link StreamDataChunk} of the streamed read
+ * started by {@link StreamData}.
+ */
+public final class NextStreamDataChunk extends EmptyExternalizable implements SerializableMessage {
+    public static final NextStreamDataChunk INSTANCE = new NextStreamDataChunk();
+
+    public NextStreamDataChunk() {
+        // Public constructor needed for Externalizable
+    }
+
+    @Override
+    public Object toSerializable() {
+        return this;
+    }
+}
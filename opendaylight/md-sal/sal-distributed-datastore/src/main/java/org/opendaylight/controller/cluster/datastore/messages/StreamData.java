@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.messages;
+
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import org.opendaylight.controller.cluster.datastore.utils.SerializationUtils;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+
+/**
+ * Message sent to a ShardTransaction to start a streamed read of the data at a path. Unlike {@link ReadData},
+ * the data is not sent in a single reply. The transaction replies with the first {@link StreamDataChunk}
+ * and sends each subsequent chunk only when asked to with {@link NextStreamDataChunk}. Neither side has to
+ * hold more than a chunk of serialized data at a time, and the reader controls the pace.
+ *
+ * A transaction supports a single streamed read at a time. Starting a new one abandons the previous one.
+ */
+public class StreamData extends VersionedExternalizableMessage {
+    private static final long serialVersionUID = 1L;
+
+    private YangInstanceIdentifier path;
+    private int chunkSize;
+
+    public StreamData() {
+    }
+
+    public StreamData(final YangInstanceIdentifier path, final int chunkSize, final short version) {
+        super(version);
+        this.path = Preconditions.checkNotNull(path);
+        Preconditions.checkArgument(chunkSize > 0, "Chunk size has to be positive, not %s", chunkSize);
+        this.chunkSize = chunkSize;
+    }
+
+    public YangInstanceIdentifier getPath() {
+        return path;
+    }
+
+    /**
+     * Return the maximum number of child nodes sent in a single chunk.
+     *
+     * @return Maximum number of child nodes per chunk
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        super.readExternal(in);
+        chunkSize = in.readInt();
+        path = SerializationUtils.deserializePath(in);
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        super.writeExternal(out);
+        out.writeInt(chunkSize);
+        SerializationUtils.serializePath(path, out);
+    }
+
+    @Override
+    public Object toSerializable() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamData [path=" + path + ", chunkSize=" + chunkSize + ", version=" + getVersion() + "]";
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.messages;
+
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeInputStreamReader;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeOutputStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * Reply to {@link StreamData} and {@link NextStreamDataChunk}, carrying a part of the streamed data.
+ *
+ * The first chunk of a stream carries the type of the requested node and, if its children are streamed,
+ * the node's identifier. The following chunks carry only the node's children, in order. The last chunk
+ * has {@link #isLast()} set.
+ */
+public class StreamDataChunk extends VersionedExternalizableMessage {
+    private static final long serialVersionUID = 1L;
+
+    private StreamedNodeType rootType;
+    private PathArgument rootIdentifier;
+    private List<NormalizedNode<?, ?>> nodes;
+    private boolean last;
+
+    public StreamDataChunk() {
+    }
+
+    private StreamDataChunk(final StreamedNodeType rootType, final PathArgument rootIdentifier,
+            final List<NormalizedNode<?, ?>> nodes, final boolean last, final short version) {
+        super(version);
+        this.rootType = rootType;
+        this.rootIdentifier = rootIdentifier;
+        this.nodes = Preconditions.checkNotNull(nodes);
+        this.last = last;
+    }
+
+    /**
+     * Create the first chunk of a stream.
+     *
+     * @param rootType Type of the requested node
+     * @param rootIdentifier Identifier of the requested node, required if its type is chunked
+     * @param nodes Children of the requested node if its type is chunked, otherwise the node itself
+     * @param last True if this is the only chunk of the stream
+     * @param version Version of the recipient
+     * @return A new chunk
+     */
+    public static StreamDataChunk first(final StreamedNodeType rootType, final PathArgument rootIdentifier,
+            final List<NormalizedNode<?, ?>> nodes, final boolean last, final short version) {
+        Preconditions.checkNotNull(rootType);
+        Preconditions.checkArgument(!rootType.isChunked() || rootIdentifier != null,
+            "Identifier is required for node type %s", rootType);
+        return new StreamDataChunk(rootType, rootIdentifier, nodes, last, version);
+    }
+
+    /**
+     * Create a subsequent chunk of a stream.
+     *
+     * @param nodes Children of the requested node
+     * @param last True if this is the last chunk of the stream
+     * @param version Version of the recipient
+     * @return A new chunk
+     */
+    public static StreamDataChunk next(final List<NormalizedNode<?, ?>> nodes, final boolean last,
+            final short version) {
+        return new StreamDataChunk(null, null, nodes, last, version);
+    }
+
+    /**
+     * Return the type of the requested node.
+     *
+     * @return Type of the requested node, null if this is not the first chunk
+     */
+    @Nullable
+    public StreamedNodeType getRootType() {
+        return rootType;
+    }
+
+    @Nullable
+    public PathArgument getRootIdentifier() {
+        return rootIdentifier;
+    }
+
+    public List<NormalizedNode<?, ?>> getNodes() {
+        return nodes;
+    }
+
+    public boolean isLast() {
+        return last;
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        super.readExternal(in);
+        last = in.readBoolean();
+
+        final byte type = in.readByte();
+        rootType = type < 0 ? null : StreamedNodeType.fromOrdinal(type);
+        final boolean hasIdentifier = in.readBoolean();
+        final int size = in.readInt();
+
+        if (!hasIdentifier && size == 0) {
+            nodes = Collections.emptyList();
+            return;
+        }
+
+        final NormalizedNodeInputStreamReader reader = new NormalizedNodeInputStreamReader(in);
+        if (hasIdentifier) {
+            rootIdentifier = reader.readYangInstanceIdentifier().getLastPathArgument();
+        }
+
+        nodes = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            nodes.add(reader.readNormalizedNode());
+        }
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        super.writeExternal(out);
+        out.writeBoolean(last);
+        out.writeByte(rootType == null ? -1 : rootType.ordinal());
+        out.writeBoolean(rootIdentifier != null);
+        out.writeInt(nodes.size());
+
+        if (rootIdentifier == null && nodes.isEmpty()) {
+            return;
+        }
+
+        // A single writer for the whole chunk, so QNames and namespaces are shared among the nodes
+        final NormalizedNodeOutputStreamWriter writer = new NormalizedNodeOutputStreamWriter(out);
+        if (rootIdentifier != null) {
+            writer.writeYangInstanceIdentifier(YangInstanceIdentifier.create(rootIdentifier));
+        }
+        for (NormalizedNode<?, ?> node : nodes) {
+            writer.writeNormalizedNode(node);
+        }
+    }
+
+    @Override
+    public Object toSerializable() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamDataChunk [rootType=" + rootType + ", rootIdentifier=" + rootIdentifier + ", nodes="
+                + nodes.size() + ", last=" + last + "]";
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.messages;
+
+import java.io.IOException;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.AugmentationNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.OrderedMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+
+/**
+ * Type of the root node of a streamed read, as carried in the first {@link StreamDataChunk}. Nodes which
+ * have children are streamed as the start of the node, followed by the children in chunks, followed by the
+ * end of the node. Other nodes are sent whole.
+ *
+ * The ordinal is used in the serialized form, so constants must not be reordered.
+ *
+ * @see StreamData
+ */
+public enum StreamedNodeType {
+    /**
+     * The requested node does not exist.
+     */
+    ABSENT,
+    /**
+     * The requested node has no children and is sent whole in the first chunk.
+     */
+    SIMPLE,
+    CONTAINER {
+        @Override
+        public void startNode(final NormalizedNodeStreamWriter writer, final PathArgument identifier) throws IOException {
+            writer.startContainerNode((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+    },
+    MAP {
+        @Override
+        public void startNode(final NormalizedNodeStreamWriter writer, final PathArgument identifier) throws IOException {
+            writer.startMapNode((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+    },
+    ORDERED_MAP {
+        @Override
+        public void startNode(final NormalizedNodeStreamWriter writer, final PathArgument identifier) throws IOException {
+            writer.startOrderedMapNode((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+    },
+    MAP_ENTRY {
+        @Override
+        public void startNode(final NormalizedNodeStreamWriter writer, final PathArgument identifier) throws IOException {
+            writer.startMapEntryNode((NodeIdentifierWithPredicates) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+    },
+    UNKEYED_LIST {
+        @Override
+        public void startNode(final NormalizedNodeStreamWriter writer, final PathArgument identifier) throws IOException {
+            writer.startUnkeyedList((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+    },
+    UNKEYED_LIST_ENTRY {
+        @Override
+        public void startNode(final NormalizedNodeStreamWriter writer, final PathArgument identifier) throws IOException {
+            writer.startUnkeyedListItem((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+    },
+    LEAF_SET {
+        @Override
+        public void startNode(final NormalizedNodeStreamWriter writer, final PathArgument identifier) throws IOException {
+            writer.startLeafSet((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+    },
+    CHOICE {
+        @Override
+        public void startNode(final NormalizedNodeStreamWriter writer, final PathArgument identifier) throws IOException {
+            writer.startChoiceNode((NodeIdentifier) identifier, NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        }
+    },
+    AUGMENTATION {
+        @Override
+        public void startNode(final NormalizedNodeStreamWriter writer, final PathArgument identifier) throws IOException {
+            writer.startAugmentationNode((AugmentationIdentifier) identifier);
+        }
+    };
+
+    private static final StreamedNodeType[] VALUES = values();
+
+    /**
+     * Emit the start of a node of this type. Only valid for types which are streamed in chunks.
+     *
+     * @param writer Writer to emit the event to
+     * @param identifier Identifier of the node
+     * @throws IOException if the writer fails
+     */
+    public void startNode(final NormalizedNodeStreamWriter writer, final PathArgument identifier) throws IOException {
+        throw new UnsupportedOperationException("Node type " + this + " is not streamed in chunks");
+    }
+
+    /**
+     * Check whether nodes of this type are streamed as a start event, children and an end event.
+     *
+     * @return True if nodes of this type are streamed in chunks
+     */
+    public boolean isChunked() {
+        return this != ABSENT && this != SIMPLE;
+    }
+
+    public static StreamedNodeType forNode(final NormalizedNode<?, ?> node) {
+        if (node == null) {
+            return ABSENT;
+        }
+        if (node instanceof ContainerNode) {
+            return CONTAINER;
+        }
+        if (node instanceof OrderedMapNode) {
+            return ORDERED_MAP;
+        }
+        if (node instanceof MapNode) {
+            return MAP;
+        }
+        if (node instanceof MapEntryNode) {
+            return MAP_ENTRY;
+        }
+        if (node instanceof UnkeyedListNode) {
+            return UNKEYED_LIST;
+        }
+        if (node instanceof UnkeyedListEntryNode) {
+            return UNKEYED_LIST_ENTRY;
+        }
+        if (node instanceof LeafSetNode) {
+            return LEAF_SET;
+        }
+        if (node instanceof ChoiceNode) {
+            return CHOICE;
+        }
+        if (node instanceof AugmentationNode) {
+            return AUGMENTATION;
+        }
+        return SIMPLE;
+    }
+
+    static StreamedNodeType fromOrdinal(final byte ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -91,6 +91,7 @@ public class ActorContext {
     private Timeout operationTimeout;
     private final String selfAddressHostPort;
     private TransactionRateLimiter txRateLimiter;
+    private SlowTransactionTraces slowTransactionTraces;
     private Timeout transactionCommitOperationTimeout;
     private Timeout shardInitializationTimeout;
     private final Dispatchers dispatchers;
@@ -132,6 +133,11 @@ public class ActorContext {
     private void setCachedProperties() {
         txRateLimiter = new TransactionRateLimiter(this);
 
+        slowTransactionTraces = new SlowTransactionTraces(datastoreContext.getDataStoreType(),
+                datastoreContext.getSlowTransactionTraceThresholdInMillis(),
+                datastoreContext.getSlowTransactionTraceBufferSize(),
+                datastoreContext.getSlowTransactionTraceSamplingInterval());
+
         operationDuration = Duration.create(datastoreContext.getOperationTimeoutInSeconds(), TimeUnit.SECONDS);
         operationTimeout = new Timeout(operationDuration);
 
@@ -503,6 +509,24 @@ public class ActorContext {
         txRateLimiter.acquire();
     }
 
+    /**
+     * Returns the buffer of the last slow front-end transactions.
+     */
+    public SlowTransactionTraces getSlowTransactionTraces() {
+        return slowTransactionTraces;
+    }
+
+    /**
+     * Creates a trace for a new transaction if slow transaction tracing is enabled and the transaction
+     * falls on the configured sampling interval.
+     *
+     * @param transactionID the ID of the transaction
+     * @return a new TransactionTrace or null if the transaction should not be traced
+     */
+    public TransactionTrace newTransactionTrace(String transactionID) {
+        return slowTransactionTraces.newTrace(transactionID);
+    }
+
     /**
      * Return the operation timeout to be used when committing transactions
      * @return
@@ -11,6 +11,15 @@ package org.opendaylight.controller.cluster.datastore.utils;
 import com.google.common.base.Preconditions;
 import scala.concurrent.ExecutionContext;
 
+/**
+ * Maps the logical dispatcher types used by the data store to the akka dispatchers defined in the actor system
+ * configuration, falling back to the default dispatcher if a dispatcher isn't configured.
+ * <p/>
+ * A dispatcher type may further be specialized per qualifier, eg per shard name, by configuring a dispatcher
+ * named "&lt;dispatcher-path&gt;-&lt;qualifier&gt;". For example "shard-dispatcher-inventory" would be used
+ * for the inventory shard actors only, allowing a hot shard to be isolated on its own (eg pinned) dispatcher
+ * with its own throughput settings.
+ */
 public class Dispatchers {
     public static final String DEFAULT_DISPATCHER_PATH = "akka.actor.default-dispatcher";
     public static final String CLIENT_DISPATCHER_PATH = "client-dispatcher";
@@ -37,6 +46,18 @@ public class Dispatchers {
             return DEFAULT_DISPATCHER_PATH;
         }
 
+        private String path(akka.dispatch.Dispatchers dispatchers, String qualifier){
+            String qualifiedPath = qualifiedPath(qualifier);
+            if(dispatchers.hasDispatcher(qualifiedPath)){
+                return qualifiedPath;
+            }
+            return path(dispatchers);
+        }
+
+        private String qualifiedPath(String qualifier){
+            return path + "-" + qualifier;
+        }
+
         private ExecutionContext dispatcher(akka.dispatch.Dispatchers dispatchers){
             if(dispatchers.hasDispatcher(path)){
                 return dispatchers.lookup(path);
@@ -57,4 +78,16 @@ public class Dispatchers {
     public String getDispatcherPath(DispatcherType dispatcherType){
         return dispatcherType.path(this.dispatchers);
     }
+
+    /**
+     * Returns the path of the dispatcher configured for the given type and qualifier, eg a shard name. If no
+     * such dispatcher is configured, the path of the dispatcher for the type is returned.
+     *
+     * @param dispatcherType the logical dispatcher type
+     * @param qualifier the qualifier, eg the shard name
+     * @return the dispatcher path
+     */
+    public String getDispatcherPath(DispatcherType dispatcherType, String qualifier){
+        return dispatcherType.path(this.dispatchers, qualifier);
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2015 Brocade Communications Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.utils;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the last N {@link TransactionTrace}s whose duration exceeded a threshold in a ring buffer and logs
+ * them as they are recorded. A threshold of 0 disables recording.
+ * <p/>
+ * Transactions are sampled by their ID, so the front-end and the shards trace the same transactions.
+ */
+public class SlowTransactionTraces {
+    private static final Logger LOG = LoggerFactory.getLogger(SlowTransactionTraces.class);
+
+    private final String name;
+    private final long thresholdInNanos;
+    private final int capacity;
+    private final int samplingInterval;
+    private final Deque<String> traces;
+
+    public SlowTransactionTraces(String name, long thresholdInMillis, int capacity) {
+        this(name, thresholdInMillis, capacity, 1);
+    }
+
+    public SlowTransactionTraces(String name, long thresholdInMillis, int capacity, int samplingInterval) {
+        Preconditions.checkArgument(capacity > 0, "capacity must be > 0");
+
+        this.name = name;
+        this.thresholdInNanos = TimeUnit.MILLISECONDS.toNanos(thresholdInMillis);
+        this.capacity = capacity;
+        this.samplingInterval = Math.max(1, samplingInterval);
+        this.traces = new ArrayDeque<>(capacity);
+    }
+
+    public boolean isEnabled() {
+        return thresholdInNanos > 0;
+    }
+
+    /**
+     * Creates a trace for a transaction if tracing is enabled and the transaction falls on the sampling
+     * interval. The decision is based on the transaction ID only, so it is the same on every member.
+     *
+     * @param transactionID the ID of the transaction
+     * @return a new TransactionTrace or null if the transaction should not be traced
+     */
+    public TransactionTrace newTrace(String transactionID) {
+        if(!isEnabled()) {
+            return null;
+        }
+
+        if(samplingInterval > 1 && (transactionID.hashCode() & Integer.MAX_VALUE) % samplingInterval != 0) {
+            return null;
+        }
+
+        return new TransactionTrace(transactionID);
+    }
+
+    /**
+     * Records the given trace if tracing is enabled and the trace's duration reached the threshold.
+     *
+     * @param trace the completed trace
+     * @return true if the trace was recorded, false otherwise
+     */
+    public boolean record(TransactionTrace trace) {
+        if(!isEnabled() || trace.elapsed(TimeUnit.NANOSECONDS) < thresholdInNanos) {
+            return false;
+        }
+
+        String formatted = trace.toString();
+        LOG.warn("{}: Slow transaction - {}", name, formatted);
+
+        synchronized(traces) {
+            if(traces.size() == capacity) {
+                traces.removeFirst();
+            }
+
+            traces.addLast(formatted);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the recorded traces, oldest first.
+     */
+    public List<String> getTraces() {
+        synchronized(traces) {
+            return new ArrayList<>(traces);
+        }
+    }
+
+    public void clear() {
+        synchronized(traces) {
+            traces.clear();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2015 Brocade Communications Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.utils;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the points in time at which a transaction passes through the stages of its lifecycle, eg ready,
+ * canCommit, replication and commit. The transaction ID, which is carried by all the transaction messages,
+ * serves as the trace context to correlate the front-end trace with the corresponding shard trace.
+ * <p/>
+ * Recording a stage only costs a {@link System#nanoTime()} call so a trace may be kept for every transaction.
+ * Instances are thread-safe as the front-end stages complete on different threads.
+ */
+public class TransactionTrace {
+    private static final int INITIAL_STAGE_CAPACITY = 8;
+
+    private final String transactionID;
+    private final long startTime;
+    private String[] stageNames = new String[INITIAL_STAGE_CAPACITY];
+    private long[] stageTimes = new long[INITIAL_STAGE_CAPACITY];
+    private int stageCount;
+
+    public TransactionTrace(String transactionID) {
+        this.transactionID = Preconditions.checkNotNull(transactionID);
+        this.startTime = System.nanoTime();
+    }
+
+    public String getTransactionID() {
+        return transactionID;
+    }
+
+    /**
+     * Records that the transaction reached the given stage now.
+     *
+     * @param stageName the name of the stage
+     */
+    public synchronized void stage(String stageName) {
+        if(stageCount == stageNames.length) {
+            stageNames = Arrays.copyOf(stageNames, stageCount * 2);
+            stageTimes = Arrays.copyOf(stageTimes, stageCount * 2);
+        }
+
+        stageNames[stageCount] = stageName;
+        stageTimes[stageCount] = System.nanoTime();
+        stageCount++;
+    }
+
+    /**
+     * Returns the time elapsed between the creation of this trace and the last recorded stage.
+     */
+    public synchronized long elapsed(TimeUnit unit) {
+        long endTime = stageCount == 0 ? startTime : stageTimes[stageCount - 1];
+        return unit.convert(endTime - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Tx ").append(transactionID).append(" took ")
+                .append(TimeUnit.NANOSECONDS.toMicros(elapsed(TimeUnit.NANOSECONDS))).append(" us:");
+
+        long previous = startTime;
+        for(int i = 0; i < stageCount; i++) {
+            builder.append(' ').append(stageNames[i]).append(" +")
+                    .append(TimeUnit.NANOSECONDS.toMicros(stageTimes[i] - previous)).append(" us");
+            if(i < stageCount - 1) {
+                builder.append(',');
+            }
+
+            previous = stageTimes[i];
+        }
+
+        return builder.toString();
+    }
+}
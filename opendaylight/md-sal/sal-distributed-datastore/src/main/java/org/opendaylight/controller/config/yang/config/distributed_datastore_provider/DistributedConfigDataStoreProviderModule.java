@@ -64,9 +64,13 @@ public class DistributedConfigDataStoreProviderModule extends
                 .shardElectionTimeoutFactor(props.getShardElectionTimeoutFactor().getValue())
                 .transactionCreationInitialRateLimit(props.getTransactionCreationInitialRateLimit().getValue())
                 .shardBatchedModificationCount(props.getShardBatchedModificationCount().getValue().intValue())
+                .streamDataChunkSize(props.getStreamDataChunkSize().getValue().intValue())
                 .shardCommitQueueExpiryTimeoutInSeconds(
                         props.getShardCommitQueueExpiryTimeoutInSeconds().getValue().intValue())
                 .transactionDebugContextEnabled(props.getTransactionDebugContextEnabled())
+                .slowTransactionTraceThresholdInMillis(props.getSlowTransactionTraceThresholdInMillis())
+                .slowTransactionTraceSamplingInterval(
+                        props.getSlowTransactionTraceSamplingInterval().getValue().intValue())
                 .build();
 
         return DistributedDataStoreFactory.createInstance(getConfigSchemaServiceDependency(),
@@ -65,9 +65,13 @@ public class DistributedOperationalDataStoreProviderModule extends
                 .shardElectionTimeoutFactor(props.getShardElectionTimeoutFactor().getValue())
                 .transactionCreationInitialRateLimit(props.getTransactionCreationInitialRateLimit().getValue())
                 .shardBatchedModificationCount(props.getShardBatchedModificationCount().getValue().intValue())
+                .streamDataChunkSize(props.getStreamDataChunkSize().getValue().intValue())
                 .shardCommitQueueExpiryTimeoutInSeconds(
                         props.getShardCommitQueueExpiryTimeoutInSeconds().getValue().intValue())
                 .transactionDebugContextEnabled(props.getTransactionDebugContextEnabled())
+                .slowTransactionTraceThresholdInMillis(props.getSlowTransactionTraceThresholdInMillis())
+                .slowTransactionTraceSamplingInterval(
+                        props.getSlowTransactionTraceSamplingInterval().getValue().intValue())
                 .build();
 
         return DistributedDataStoreFactory.createInstance(getOperationalSchemaServiceDependency(),
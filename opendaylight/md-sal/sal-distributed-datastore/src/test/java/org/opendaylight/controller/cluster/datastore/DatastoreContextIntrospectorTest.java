@@ -45,6 +45,7 @@ public class DatastoreContextIntrospectorTest {
         properties.put("shard-snapshot-data-threshold-percentage", "100");
         properties.put("shard-election-timeout-factor", "21");
         properties.put("shard-batched-modification-count", "901");
+        properties.put("stream-data-chunk-size", "902");
         properties.put("transactionCreationInitialRateLimit", "200");
         properties.put("MaxShardDataChangeExecutorPoolSize", "41");
         properties.put("Max-Shard-Data-Change Executor-Queue Size", "1111");
@@ -69,6 +70,7 @@ public class DatastoreContextIntrospectorTest {
         assertEquals(100, context.getShardRaftConfig().getSnapshotDataThresholdPercentage());
         assertEquals(21, context.getShardRaftConfig().getElectionTimeoutFactor());
         assertEquals(901, context.getShardBatchedModificationCount());
+        assertEquals(902, context.getStreamDataChunkSize());
         assertEquals(200, context.getTransactionCreationInitialRateLimit());
         assertEquals(41, context.getDataStoreProperties().getMaxDataChangeExecutorPoolSize());
         assertEquals(1111, context.getDataStoreProperties().getMaxDataChangeExecutorQueueSize());
@@ -46,6 +46,7 @@ public class DatastoreContextTest {
         assertEquals(DEFAULT_SHARD_ELECTION_TIMEOUT_FACTOR, context.getShardRaftConfig().getElectionTimeoutFactor());
         assertEquals(DEFAULT_TX_CREATION_INITIAL_RATE_LIMIT, context.getTransactionCreationInitialRateLimit());
         assertEquals(DatastoreContext.DEFAULT_SHARD_BATCHED_MODIFICATION_COUNT, context.getShardBatchedModificationCount());
+        assertEquals(DatastoreContext.DEFAULT_STREAM_DATA_CHUNK_SIZE, context.getStreamDataChunkSize());
         assertEquals(InMemoryDOMDataStoreConfigProperties.DEFAULT_MAX_DATA_CHANGE_EXECUTOR_POOL_SIZE,
                 context.getDataStoreProperties().getMaxDataChangeExecutorPoolSize());
         assertEquals(InMemoryDOMDataStoreConfigProperties.DEFAULT_MAX_DATA_CHANGE_EXECUTOR_QUEUE_SIZE,
@@ -54,6 +55,12 @@ public class DatastoreContextTest {
                 context.getDataStoreProperties().getMaxDataChangeListenerQueueSize());
         assertEquals(InMemoryDOMDataStoreConfigProperties.DEFAULT_MAX_DATA_STORE_EXECUTOR_QUEUE_SIZE,
                 context.getDataStoreProperties().getMaxDataStoreExecutorQueueSize());
+        assertEquals(DatastoreContext.DEFAULT_SLOW_TRANSACTION_TRACE_THRESHOLD_IN_MILLIS,
+                context.getSlowTransactionTraceThresholdInMillis());
+        assertEquals(DatastoreContext.DEFAULT_SLOW_TRANSACTION_TRACE_SAMPLING_INTERVAL,
+                context.getSlowTransactionTraceSamplingInterval());
+        assertEquals(DatastoreContext.DEFAULT_SLOW_TRANSACTION_TRACE_BUFFER_SIZE,
+                context.getSlowTransactionTraceBufferSize());
     }
 
     @Test
@@ -80,6 +87,7 @@ public class DatastoreContextTest {
         builder.shardElectionTimeoutFactor(DEFAULT_SHARD_ELECTION_TIMEOUT_FACTOR + 1);
         builder.transactionCreationInitialRateLimit(DEFAULT_TX_CREATION_INITIAL_RATE_LIMIT + 1);
         builder.shardBatchedModificationCount(DEFAULT_SHARD_BATCHED_MODIFICATION_COUNT + 1);
+        builder.streamDataChunkSize(DatastoreContext.DEFAULT_STREAM_DATA_CHUNK_SIZE + 1);
         builder.maxShardDataChangeExecutorPoolSize(
                 InMemoryDOMDataStoreConfigProperties.DEFAULT_MAX_DATA_CHANGE_EXECUTOR_POOL_SIZE + 1);
         builder.maxShardDataChangeExecutorQueueSize(
@@ -128,6 +136,7 @@ public class DatastoreContextTest {
         assertEquals(DEFAULT_TX_CREATION_INITIAL_RATE_LIMIT + 1, context.getTransactionCreationInitialRateLimit());
         assertEquals(DatastoreContext.DEFAULT_SHARD_BATCHED_MODIFICATION_COUNT + 1,
                 context.getShardBatchedModificationCount());
+        assertEquals(DatastoreContext.DEFAULT_STREAM_DATA_CHUNK_SIZE + 1, context.getStreamDataChunkSize());
         assertEquals(InMemoryDOMDataStoreConfigProperties.DEFAULT_MAX_DATA_CHANGE_EXECUTOR_POOL_SIZE + 1,
                 context.getDataStoreProperties().getMaxDataChangeExecutorPoolSize());
         assertEquals(InMemoryDOMDataStoreConfigProperties.DEFAULT_MAX_DATA_CHANGE_EXECUTOR_QUEUE_SIZE + 1,
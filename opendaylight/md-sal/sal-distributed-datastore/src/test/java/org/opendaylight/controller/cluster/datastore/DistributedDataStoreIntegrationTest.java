@@ -2,6 +2,7 @@ package org.opendaylight.controller.cluster.datastore;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
 import akka.actor.ActorSystem;
 import akka.actor.Address;
 import akka.actor.AddressFromURIString;
@@ -18,6 +19,7 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -41,8 +43,11 @@ import org.opendaylight.controller.md.sal.common.api.data.TransactionChainClosed
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataReadWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeProducer;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
 import org.opendaylight.controller.md.sal.dom.api.DOMTransactionChain;
+import org.opendaylight.controller.md.sal.dom.broker.impl.ShardedDOMDataTree;
 import org.opendaylight.controller.sal.core.spi.data.DOMStore;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadWriteTransaction;
@@ -1011,4 +1016,71 @@ public class DistributedDataStoreIntegrationTest {
             cleanup(dataStore);
         }};
     }
+
+    @Test
+    public void testShardedDataTreeProducer() throws Exception{
+        new IntegrationTestKit(getSystem(), datastoreContextBuilder) {{
+            DistributedDataStore dataStore =
+                    setupDistributedDataStore("testShardedDataTreeProducer", "cars-1", "people-1");
+
+            DOMDataTreeIdentifier carsPrefix = new DOMDataTreeIdentifier(LogicalDatastoreType.CONFIGURATION,
+                    CarsModel.BASE_PATH);
+            DistributedDataTreeShard carsShard = DistributedDataTreeShard.create(dataStore, carsPrefix);
+            assertEquals("Shard name", "cars-1", carsShard.getShardName());
+
+            ShardedDOMDataTree dataTree = new ShardedDOMDataTree();
+            dataTree.registerDataTreeShard(carsPrefix, carsShard);
+
+            DOMDataTreeProducer producer = dataTree.createProducer(Collections.singleton(carsPrefix));
+
+            DOMDataWriteTransaction writeTx = producer.createTransaction(false);
+            writeTx.put(LogicalDatastoreType.CONFIGURATION, CarsModel.BASE_PATH, CarsModel.emptyContainer());
+            writeTx.put(LogicalDatastoreType.CONFIGURATION, CarsModel.CAR_LIST_PATH, CarsModel.newCarMapNode());
+            writeTx.submit().checkedGet(5, TimeUnit.SECONDS);
+
+            // Transactions are chained, so the next one can be submitted before the previous one completes
+            MapEntryNode optima = CarsModel.newCarEntry("optima", BigInteger.valueOf(20000));
+            writeTx = producer.createTransaction(false);
+            writeTx.put(LogicalDatastoreType.CONFIGURATION, CarsModel.newCarPath("optima"), optima);
+            CheckedFuture<Void, TransactionCommitFailedException> first = writeTx.submit();
+
+            MapEntryNode sportage = CarsModel.newCarEntry("sportage", BigInteger.valueOf(25000));
+            writeTx = producer.createTransaction(false);
+            writeTx.put(LogicalDatastoreType.CONFIGURATION, CarsModel.newCarPath("sportage"), sportage);
+            writeTx.submit().checkedGet(5, TimeUnit.SECONDS);
+            first.checkedGet(5, TimeUnit.SECONDS);
+
+            DOMStoreReadTransaction readTx = dataStore.newReadOnlyTransaction();
+            Optional<NormalizedNode<?, ?>> optional = readTx.read(CarsModel.newCarPath("optima")).get(5, TimeUnit.SECONDS);
+            assertEquals("isPresent", true, optional.isPresent());
+            assertEquals("Data node", optima, optional.get());
+
+            optional = readTx.read(CarsModel.newCarPath("sportage")).get(5, TimeUnit.SECONDS);
+            assertEquals("isPresent", true, optional.isPresent());
+            assertEquals("Data node", sportage, optional.get());
+
+            // Paths outside of the producer's subtree are rejected
+            writeTx = producer.createTransaction(false);
+            try {
+                writeTx.put(LogicalDatastoreType.CONFIGURATION, PeopleModel.BASE_PATH, PeopleModel.emptyContainer());
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+            writeTx.cancel();
+
+            // The shard's own transactions are restricted to its subtree as well
+            DOMStoreWriteTransaction shardTx = carsShard.newWriteOnlyTransaction();
+            try {
+                shardTx.write(PeopleModel.BASE_PATH, PeopleModel.emptyContainer());
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+            shardTx.close();
+
+            producer.close();
+            cleanup(dataStore);
+        }};
+    }
 }
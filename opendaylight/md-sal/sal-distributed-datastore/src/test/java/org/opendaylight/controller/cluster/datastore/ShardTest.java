@@ -32,6 +32,7 @@ import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
@@ -1609,6 +1610,43 @@ public class ShardTest extends AbstractShardTest {
         }};
     }
 
+    @Test
+    public void testCanCommitPhaseFailureIsTraced() throws Throwable {
+        dataStoreContextBuilder.slowTransactionTraceThresholdInMillis(1);
+
+        new ShardTestKit(getSystem()) {{
+            final TestActorRef<Shard> shard = TestActorRef.create(getSystem(),
+                    newShardProps().withDispatcher(Dispatchers.DefaultDispatcherId()),
+                    "testCanCommitPhaseFailureIsTraced");
+
+            waitUntilLeader(shard);
+
+            final FiniteDuration duration = duration("5 seconds");
+
+            final String transactionID = "tx1";
+            final MutableCompositeModification modification = new MutableCompositeModification();
+            final ShardDataTreeCohort cohort = mock(ShardDataTreeCohort.class, "cohort1");
+            doReturn(Futures.immediateFailedFuture(new IllegalStateException("mock"))).when(cohort).canCommit();
+
+            shard.tell(new ForwardedReadyTransaction(transactionID, CURRENT_VERSION,
+                    cohort, modification, true, false), getRef());
+            expectMsgClass(duration, ReadyTransactionReply.class);
+
+            // Make sure the transaction is slower than the threshold
+            Uninterruptibles.sleepUninterruptibly(5, TimeUnit.MILLISECONDS);
+
+            shard.tell(new CanCommitTransaction(transactionID).toSerializable(), getRef());
+            expectMsgClass(duration, akka.actor.Status.Failure.class);
+
+            final List<String> traces = shard.underlyingActor().getShardMBean().getSlowTransactionTraces();
+            assertEquals("getSlowTransactionTraces size", 1, traces.size());
+            assertTrue("Unexpected trace " + traces.get(0), traces.get(0).startsWith("Tx " + transactionID));
+            assertTrue("Unexpected trace " + traces.get(0), traces.get(0).contains("canCommit failed +"));
+
+            shard.tell(PoisonPill.getInstance(), ActorRef.noSender());
+        }};
+    }
+
     @Test
     public void testCanCommitPhaseFalseResponse() throws Throwable {
         new ShardTestKit(getSystem()) {{
@@ -32,10 +32,14 @@ import org.opendaylight.controller.cluster.datastore.messages.DeleteData;
 import org.opendaylight.controller.cluster.datastore.messages.DeleteDataReply;
 import org.opendaylight.controller.cluster.datastore.messages.MergeData;
 import org.opendaylight.controller.cluster.datastore.messages.MergeDataReply;
+import org.opendaylight.controller.cluster.datastore.messages.NextStreamDataChunk;
 import org.opendaylight.controller.cluster.datastore.messages.ReadData;
 import org.opendaylight.controller.cluster.datastore.messages.ReadDataReply;
 import org.opendaylight.controller.cluster.datastore.messages.ReadyTransaction;
 import org.opendaylight.controller.cluster.datastore.messages.ReadyTransactionReply;
+import org.opendaylight.controller.cluster.datastore.messages.StreamData;
+import org.opendaylight.controller.cluster.datastore.messages.StreamDataChunk;
+import org.opendaylight.controller.cluster.datastore.messages.StreamedNodeType;
 import org.opendaylight.controller.cluster.datastore.messages.WriteData;
 import org.opendaylight.controller.cluster.datastore.messages.WriteDataReply;
 import org.opendaylight.controller.cluster.datastore.modification.CompositeModification;
@@ -242,6 +246,51 @@ public class ShardTransactionTest extends AbstractActorTest {
         }};
     }
 
+    @Test
+    public void testOnReceiveStreamData() throws Exception {
+        new JavaTestKit(getSystem()) {{
+            final ActorRef shard = createShard();
+
+            final ReadWriteShardDataTreeTransaction tx = readWriteTransaction();
+            tx.getSnapshot().write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+            tx.getSnapshot().write(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME)
+                    .withChild(ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1))
+                    .withChild(ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2))
+                    .withChild(ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 3)).build());
+
+            final ActorRef transaction = newTransactionActor(RW, tx, shard, "testStreamData");
+
+            transaction.tell(new StreamData(TestModel.OUTER_LIST_PATH, 2, DataStoreVersions.CURRENT_VERSION),
+                getRef());
+
+            StreamDataChunk chunk = expectMsgClass(duration("5 seconds"), StreamDataChunk.class);
+            assertEquals("getRootType", StreamedNodeType.MAP, chunk.getRootType());
+            assertEquals("getRootIdentifier", TestModel.OUTER_LIST_PATH.getLastPathArgument(),
+                chunk.getRootIdentifier());
+            assertEquals("getNodes size", 2, chunk.getNodes().size());
+            assertFalse("isLast", chunk.isLast());
+
+            transaction.tell(NextStreamDataChunk.INSTANCE, getRef());
+
+            chunk = expectMsgClass(duration("5 seconds"), StreamDataChunk.class);
+            assertEquals("getRootType", null, chunk.getRootType());
+            assertEquals("getNodes size", 1, chunk.getNodes().size());
+            assertTrue("isLast", chunk.isLast());
+
+            // The stream is complete, so there is nothing more to send
+            transaction.tell(NextStreamDataChunk.INSTANCE, getRef());
+            expectMsgClass(duration("5 seconds"), Failure.class);
+
+            transaction.tell(new StreamData(TestModel.TEST2_PATH, 2, DataStoreVersions.CURRENT_VERSION),
+                getRef());
+
+            chunk = expectMsgClass(duration("5 seconds"), StreamDataChunk.class);
+            assertEquals("getRootType", StreamedNodeType.ABSENT, chunk.getRootType());
+            assertEquals("getNodes size", 0, chunk.getNodes().size());
+            assertTrue("isLast", chunk.isLast());
+        }};
+    }
+
     private void assertModification(final ActorRef subject,
         final Class<? extends Modification> modificationType) {
         new JavaTestKit(getSystem()) {{
@@ -49,6 +49,8 @@ import org.opendaylight.controller.cluster.datastore.modification.WriteModificat
 import org.opendaylight.controller.cluster.datastore.shardstrategy.DefaultShardStrategy;
 import org.opendaylight.controller.cluster.datastore.utils.DoNothingActor;
 import org.opendaylight.controller.cluster.datastore.utils.NormalizedNodeAggregatorTest;
+import org.opendaylight.controller.cluster.datastore.utils.SlowTransactionTraces;
+import org.opendaylight.controller.cluster.datastore.utils.TransactionTrace;
 import org.opendaylight.controller.md.cluster.datastore.model.CarsModel;
 import org.opendaylight.controller.md.cluster.datastore.model.SchemaContextHelper;
 import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
@@ -563,6 +565,50 @@ public class TransactionProxyTest extends AbstractTransactionProxyTest {
                 isA(ReadyTransaction.SERIALIZABLE_CLASS));
     }
 
+    @Test
+    public void testReadyWithSlowTransactionTrace() throws Exception {
+        dataStoreContextBuilder.writeOnlyTransactionOptimizationsEnabled(true);
+
+        ActorRef actorRef = setupActorContextWithInitialCreateTransaction(getSystem(), WRITE_ONLY);
+
+        SlowTransactionTraces slowTransactionTraces = new SlowTransactionTraces("test", 1, 5);
+        doReturn(slowTransactionTraces).when(mockActorContext).getSlowTransactionTraces();
+        doReturn(new TransactionTrace("tx")).when(mockActorContext).newTransactionTrace(anyString());
+
+        expectBatchedModificationsReady(actorRef, true);
+
+        TransactionProxy transactionProxy = new TransactionProxy(mockComponentFactory, WRITE_ONLY);
+
+        transactionProxy.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+
+        // Make sure the transaction is slower than the threshold
+        Uninterruptibles.sleepUninterruptibly(5, TimeUnit.MILLISECONDS);
+
+        DOMStoreThreePhaseCommitCohort ready = transactionProxy.ready();
+
+        assertTrue(ready instanceof TracingThreePhaseCommitCohort);
+
+        assertEquals("canCommit", Boolean.TRUE, ready.canCommit().get(5, TimeUnit.SECONDS));
+        ready.preCommit().get(5, TimeUnit.SECONDS);
+        ready.commit().get(5, TimeUnit.SECONDS);
+
+        List<String> traces = slowTransactionTraces.getTraces();
+        assertEquals("getTraces size", 1, traces.size());
+        assertTrue("Unexpected trace " + traces.get(0), traces.get(0).contains("ready +"));
+        assertTrue("Unexpected trace " + traces.get(0), traces.get(0).contains("commit +"));
+    }
+
+    @Test
+    public void testReadOnlyTransactionIsNotTraced() throws Exception {
+        setupActorContextWithInitialCreateTransaction(getSystem(), READ_ONLY);
+
+        doReturn(new TransactionTrace("tx")).when(mockActorContext).newTransactionTrace(anyString());
+
+        new TransactionProxy(mockComponentFactory, READ_ONLY);
+
+        verify(mockActorContext, never()).newTransactionTrace(anyString());
+    }
+
     @Test
     public void testReadyWithWriteOnlyAndLastBatchEmpty() throws Exception {
         dataStoreContextBuilder.shardBatchedModificationCount(1).writeOnlyTransactionOptimizationsEnabled(true);
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.messages;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import org.apache.commons.lang.SerializationUtils;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.DataStoreVersions;
+import org.opendaylight.controller.md.cluster.datastore.model.TestModel;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+/**
+ * Unit tests for StreamDataChunk.
+ */
+public class StreamDataChunkTest {
+
+    @Test
+    public void testFirstChunkSerialization() {
+        StreamDataChunk expected = StreamDataChunk.first(StreamedNodeType.MAP,
+                TestModel.OUTER_LIST_PATH.getLastPathArgument(), Arrays.<NormalizedNode<?, ?>>asList(
+                        ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1),
+                        ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2)),
+                false, DataStoreVersions.CURRENT_VERSION);
+
+        Object serialized = expected.toSerializable();
+        assertEquals("Serialized type", StreamDataChunk.class, serialized.getClass());
+
+        StreamDataChunk actual = (StreamDataChunk) SerializationUtils.clone((Serializable) serialized);
+        assertEquals("getVersion", DataStoreVersions.CURRENT_VERSION, actual.getVersion());
+        assertEquals("getRootType", expected.getRootType(), actual.getRootType());
+        assertEquals("getRootIdentifier", expected.getRootIdentifier(), actual.getRootIdentifier());
+        assertEquals("getNodes", expected.getNodes(), actual.getNodes());
+        assertEquals("isLast", expected.isLast(), actual.isLast());
+    }
+
+    @Test
+    public void testNextChunkSerialization() {
+        StreamDataChunk expected = StreamDataChunk.next(Collections.<NormalizedNode<?, ?>>singletonList(
+                ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 3)), true,
+                DataStoreVersions.CURRENT_VERSION);
+
+        StreamDataChunk actual = (StreamDataChunk) SerializationUtils.clone((Serializable) expected.toSerializable());
+        assertNull("getRootType", actual.getRootType());
+        assertNull("getRootIdentifier", actual.getRootIdentifier());
+        assertEquals("getNodes", expected.getNodes(), actual.getNodes());
+        assertEquals("isLast", true, actual.isLast());
+    }
+
+    @Test
+    public void testAbsentChunkSerialization() {
+        StreamDataChunk expected = StreamDataChunk.first(StreamedNodeType.ABSENT, null,
+                Collections.<NormalizedNode<?, ?>>emptyList(), true, DataStoreVersions.CURRENT_VERSION);
+
+        StreamDataChunk actual = (StreamDataChunk) SerializationUtils.clone((Serializable) expected.toSerializable());
+        assertEquals("getRootType", StreamedNodeType.ABSENT, actual.getRootType());
+        assertNull("getRootIdentifier", actual.getRootIdentifier());
+        assertEquals("getNodes size", 0, actual.getNodes().size());
+        assertEquals("isLast", true, actual.isLast());
+    }
+}
@@ -78,4 +78,22 @@ public class DispatchersTest {
                 dispatchers.getDispatcherPath(Dispatchers.DispatcherType.Notification));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetQualifiedDispatcherPath(){
+        akka.dispatch.Dispatchers mockDispatchers = mock(akka.dispatch.Dispatchers.class);
+        doReturn(false).when(mockDispatchers).hasDispatcher(anyString());
+        doReturn(true).when(mockDispatchers).hasDispatcher(Dispatchers.SHARD_DISPATCHER_PATH);
+        doReturn(true).when(mockDispatchers).hasDispatcher(Dispatchers.SHARD_DISPATCHER_PATH + "-inventory");
+        Dispatchers dispatchers = new Dispatchers(mockDispatchers);
+
+        assertEquals(Dispatchers.SHARD_DISPATCHER_PATH + "-inventory",
+                dispatchers.getDispatcherPath(Dispatchers.DispatcherType.Shard, "inventory"));
+
+        assertEquals(Dispatchers.SHARD_DISPATCHER_PATH,
+                dispatchers.getDispatcherPath(Dispatchers.DispatcherType.Shard, "topology"));
+
+        assertEquals(Dispatchers.DEFAULT_DISPATCHER_PATH,
+                dispatchers.getDispatcherPath(Dispatchers.DispatcherType.Transaction, "inventory"));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2015 Brocade Communications Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.cluster.datastore.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * Unit tests for SlowTransactionTraces.
+ */
+public class SlowTransactionTracesTest {
+
+    @Test
+    public void testDisabled() {
+        SlowTransactionTraces traces = new SlowTransactionTraces("test", 0, 5);
+        assertFalse("isEnabled", traces.isEnabled());
+
+        TransactionTrace trace = new TransactionTrace("tx");
+        trace.stage("ready");
+
+        assertFalse("record", traces.record(trace));
+        assertEquals("getTraces size", 0, traces.getTraces().size());
+    }
+
+    @Test
+    public void testRecordSlowTraces() {
+        SlowTransactionTraces traces = new SlowTransactionTraces("test", 1, 2);
+        assertTrue("isEnabled", traces.isEnabled());
+
+        TransactionTrace fast = new TransactionTrace("fast");
+        fast.stage("ready");
+        assertFalse("record", traces.record(fast));
+
+        for(int i = 1; i <= 3; i++) {
+            TransactionTrace slow = new TransactionTrace("slow-" + i);
+            slow.stage("ready");
+            Uninterruptibles.sleepUninterruptibly(2, TimeUnit.MILLISECONDS);
+            slow.stage("commit");
+
+            assertTrue("record", traces.record(slow));
+        }
+
+        List<String> recorded = traces.getTraces();
+        assertEquals("getTraces size", 2, recorded.size());
+        assertTrue("Unexpected trace " + recorded.get(0), recorded.get(0).startsWith("Tx slow-2 took"));
+        assertTrue("Unexpected trace " + recorded.get(1), recorded.get(1).contains("ready +"));
+        assertTrue("Unexpected trace " + recorded.get(1), recorded.get(1).contains("commit +"));
+
+        traces.clear();
+        assertEquals("getTraces size", 0, traces.getTraces().size());
+    }
+
+    @Test
+    public void testSampling() {
+        SlowTransactionTraces traces = new SlowTransactionTraces("test", 1, 5, 4);
+
+        int sampled = 0;
+        for(int i = 0; i < 100; i++) {
+            String transactionID = "member-1-txn-" + i;
+            TransactionTrace trace = traces.newTrace(transactionID);
+            if(trace != null) {
+                sampled++;
+            }
+
+            // The decision only depends on the ID
+            assertEquals("newTrace", trace != null, traces.newTrace(transactionID) != null);
+        }
+
+        assertTrue("Sampled traces " + sampled, sampled > 10 && sampled < 40);
+
+        assertNull("newTrace", new SlowTransactionTraces("test", 0, 5, 1).newTrace("tx"));
+        assertNotNull("newTrace", new SlowTransactionTraces("test", 1, 5, 1).newTrace("tx"));
+    }
+}
@@ -19,6 +19,7 @@ import org.opendaylight.controller.md.sal.dom.api.DOMRpcProviderService;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
 import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationRouter;
 import org.opendaylight.controller.md.sal.dom.broker.impl.DOMRpcRouter;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.NotificationRouterMXBeanImpl;
 import org.opendaylight.controller.md.sal.dom.broker.impl.mount.DOMMountPointServiceImpl;
 import org.opendaylight.controller.sal.core.api.BrokerService;
 import org.opendaylight.controller.sal.core.api.model.SchemaService;
@@ -27,6 +28,7 @@ import org.opendaylight.controller.sal.dom.broker.GlobalBundleScanningSchemaServ
 
 public final class DomBrokerImplModule extends org.opendaylight.controller.config.yang.md.sal.dom.impl.AbstractDomBrokerImplModule
 {
+    private static final String JMX_BEAN_TYPE = "DOMNotificationBroker";
 
     public DomBrokerImplModule(final org.opendaylight.controller.config.api.ModuleIdentifier identifier, final org.opendaylight.controller.config.api.DependencyResolver dependencyResolver) {
         super(identifier, dependencyResolver);
@@ -50,7 +52,11 @@ public final class DomBrokerImplModule extends org.opendaylight.controller.confi
         final ClassToInstanceMap<BrokerService> services = MutableClassToInstanceMap.create();
 
         final DOMNotificationRouter domNotificationRouter = DOMNotificationRouter.create(getNotificationQueueDepth().getValue().intValue(),
-            getNotificationQueueSpin().longValue(), getNotificationQueuePark().longValue(), TimeUnit.MILLISECONDS);
+            getNotificationQueueSpin().longValue(), getNotificationQueuePark().longValue(), TimeUnit.MILLISECONDS,
+            getNotificationDeliveryPartitions(), getNotificationPartitionQueueDepth(), getNotificationPartitionByListener());
+        final NotificationRouterMXBeanImpl notificationRouterMXBean = new NotificationRouterMXBeanImpl(
+            domNotificationRouter, JMX_BEAN_TYPE);
+        notificationRouterMXBean.registerMBean();
         services.putInstance(DOMNotificationService.class, domNotificationRouter);
         services.putInstance(DOMNotificationPublishService.class, domNotificationRouter);
 
@@ -67,7 +73,16 @@ public final class DomBrokerImplModule extends org.opendaylight.controller.confi
         final DOMMountPointService mountService = new DOMMountPointServiceImpl();
         services.putInstance(DOMMountPointService.class, mountService);
 
-        return new BrokerImpl(rpcRouter, services);
+        final BrokerImpl broker = new BrokerImpl(rpcRouter, services);
+        broker.setDeactivator(new AutoCloseable() {
+            @Override
+            public void close() {
+                notificationRouterMXBean.unregisterMBean();
+                domNotificationRouter.close();
+            }
+        });
+
+        return broker;
     }
 
     private SchemaService getSchemaServiceImpl() {
@@ -7,11 +7,17 @@
  */
 package org.opendaylight.controller.config.yang.md.sal.dom.pingpong;
 
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.config.api.DependencyResolver;
+import org.opendaylight.controller.config.api.JmxAttributeValidationException;
 import org.opendaylight.controller.config.api.ModuleIdentifier;
+import org.opendaylight.controller.md.sal.dom.broker.impl.PingPongBatchPolicy;
 import org.opendaylight.controller.md.sal.dom.broker.impl.PingPongDataBroker;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.PingPongBrokerMXBeanImpl;
 
 public class PingpongDataBrokerModule extends AbstractPingpongDataBrokerModule {
+    private static final String JMX_BEAN_TYPE = "PingPongDataBroker";
+
     public PingpongDataBrokerModule(final ModuleIdentifier identifier, final DependencyResolver dependencyResolver) {
         super(identifier, dependencyResolver);
     }
@@ -20,8 +26,29 @@ public class PingpongDataBrokerModule extends AbstractPingpongDataBrokerModule {
         super(identifier, dependencyResolver, oldModule, oldInstance);
     }
 
+    @Override
+    public void customValidation() {
+        JmxAttributeValidationException.checkCondition(getMaxBatchModifications() <= Integer.MAX_VALUE,
+            "cannot exceed " + Integer.MAX_VALUE, maxBatchModificationsJmxAttribute);
+    }
+
     @Override
     public java.lang.AutoCloseable createInstance() {
-        return new PingPongDataBroker(getDataBrokerDependency());
+        final PingPongBatchPolicy policy = new PingPongBatchPolicy(getMaxBatchModifications().intValue(),
+            getBatchLingerMicros(), TimeUnit.MICROSECONDS);
+        final PingPongDataBroker broker = new PingPongDataBroker(getDataBrokerDependency(),
+            getMaxCoalescedTransactions(), policy);
+
+        final PingPongBrokerMXBeanImpl batchStatsMXBean = new PingPongBrokerMXBeanImpl(
+            broker.getBatchStatistics(), JMX_BEAN_TYPE);
+        batchStatsMXBean.registerMBean();
+        broker.setCloseable(new AutoCloseable() {
+            @Override
+            public void close() {
+                batchStatsMXBean.unregisterMBean();
+            }
+        });
+
+        return broker;
     }
 }
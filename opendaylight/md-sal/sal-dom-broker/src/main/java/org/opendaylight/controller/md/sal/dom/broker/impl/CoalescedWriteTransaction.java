@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.controller.md.sal.common.api.TransactionStatus;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.md.sal.common.impl.service.AbstractDataTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A front-end write-only transaction which records its modifications instead of allocating a backend
+ * transaction. Once submitted, the modifications are handed to a {@link Submitter}, such as
+ * a {@link CoalescingWriteBatcher}, which replays them together with other submitted transactions in a single
+ * backend transaction. The transaction implements {@link FutureCallback} so the submitter has a simple way
+ * of propagating the result.
+ */
+@NotThreadSafe
+final class CoalescedWriteTransaction implements DOMDataWriteTransaction, FutureCallback<Void> {
+    /**
+     * Receiver of the submitted transactions, responsible for completing them.
+     */
+    interface Submitter {
+        void submit(CoalescedWriteTransaction tx);
+    }
+
+    private enum OperationType {
+        PUT,
+        MERGE,
+        DELETE,
+    }
+
+    private static final class Operation {
+        private final OperationType type;
+        private final LogicalDatastoreType store;
+        private final YangInstanceIdentifier path;
+        private final NormalizedNode<?, ?> data;
+
+        Operation(final OperationType type, final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                final NormalizedNode<?, ?> data) {
+            this.type = type;
+            this.store = Preconditions.checkNotNull(store);
+            this.path = Preconditions.checkNotNull(path);
+            this.data = data;
+        }
+
+        void applyTo(final DOMDataWriteTransaction tx) {
+            switch (type) {
+            case PUT:
+                tx.put(store, path, data);
+                break;
+            case MERGE:
+                tx.merge(store, path, data);
+                break;
+            case DELETE:
+                tx.delete(store, path);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled operation type " + type);
+            }
+        }
+    }
+
+    private final List<Operation> operations = new ArrayList<>();
+    private final SettableFuture<Void> future = SettableFuture.create();
+    private final Submitter submitter;
+    private final Object identifier;
+    private boolean sealed;
+
+    CoalescedWriteTransaction(final Object identifier, final Submitter submitter) {
+        this.identifier = Preconditions.checkNotNull(identifier);
+        this.submitter = Preconditions.checkNotNull(submitter);
+    }
+
+    @Override
+    public Object getIdentifier() {
+        return identifier;
+    }
+
+    private void checkOpen() {
+        Preconditions.checkState(!sealed, "Transaction %s is already sealed", identifier);
+    }
+
+    @Override
+    public void put(final LogicalDatastoreType store, final YangInstanceIdentifier path, final NormalizedNode<?, ?> data) {
+        checkOpen();
+        operations.add(new Operation(OperationType.PUT, store, path, Preconditions.checkNotNull(data)));
+    }
+
+    @Override
+    public void merge(final LogicalDatastoreType store, final YangInstanceIdentifier path, final NormalizedNode<?, ?> data) {
+        checkOpen();
+        operations.add(new Operation(OperationType.MERGE, store, path, Preconditions.checkNotNull(data)));
+    }
+
+    @Override
+    public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        checkOpen();
+        operations.add(new Operation(OperationType.DELETE, store, path, null));
+    }
+
+    @Override
+    public boolean cancel() {
+        if (sealed) {
+            return false;
+        }
+
+        sealed = true;
+        operations.clear();
+        return true;
+    }
+
+    @Override
+    public CheckedFuture<Void, TransactionCommitFailedException> submit() {
+        checkOpen();
+        sealed = true;
+
+        if (operations.isEmpty()) {
+            future.set(null);
+        } else {
+            submitter.submit(this);
+        }
+
+        return new PingPongFuture(future);
+    }
+
+    @Override
+    @Deprecated
+    public ListenableFuture<RpcResult<TransactionStatus>> commit() {
+        return AbstractDataTransaction.convertToLegacyCommitFuture(submit());
+    }
+
+    /**
+     * Replays the recorded modifications onto a backend transaction.
+     */
+    void applyTo(final DOMDataWriteTransaction tx) {
+        for (Operation op : operations) {
+            op.applyTo(tx);
+        }
+    }
+
+    /**
+     * Checks whether any modification of this transaction touches the same subtree as a modification
+     * recorded in the index.
+     */
+    boolean conflictsWith(final ModifiedPathIndex index) {
+        for (Operation op : operations) {
+            if (index.overlaps(op.store, op.path)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Records the modifications of this transaction in the index.
+     */
+    void addTo(final ModifiedPathIndex index) {
+        for (Operation op : operations) {
+            index.add(op.store, op.path);
+        }
+    }
+
+    @Override
+    public void onSuccess(final Void result) {
+        future.set(result);
+    }
+
+    @Override
+    public void onFailure(final Throwable t) {
+        future.setException(t);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("identifier", identifier)
+                .add("operations", operations.size()).toString();
+    }
+}
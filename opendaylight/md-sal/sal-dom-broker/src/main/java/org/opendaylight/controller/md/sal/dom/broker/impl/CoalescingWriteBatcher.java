@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges independent {@link CoalescedWriteTransaction}s into shared backend write-only transactions.
+ *
+ * There is at most one backend transaction in flight at any given time. Transactions submitted while it is
+ * being committed are accumulated into the next batch, so the batching window adapts to the commit latency of
+ * the backend. A transaction which touches a subtree modified by a transaction already in the batch starts
+ * a new batch, as does reaching the maximum batch size. Conflicts are detected through a {@link ModifiedPathIndex}
+ * of the paths modified by the batch, so their cost does not grow with the size of the batch. Batches are committed
+ * in submission order.
+ *
+ * If a batch of several transactions fails, its transactions are retried one by one, so that each of them
+ * reports its own success or failure. This includes failures thrown synchronously while the backend transaction
+ * is being built, for example when a modification does not pass schema validation.
+ */
+final class CoalescingWriteBatcher implements CoalescedWriteTransaction.Submitter {
+    private static final Logger LOG = LoggerFactory.getLogger(CoalescingWriteBatcher.class);
+
+    /**
+     * Upper bound on the batch size. Larger batches do not improve throughput, but delay the completion
+     * of all their transactions and make retrying a failed batch expensive.
+     */
+    static final int MAX_BATCH_SIZE = 1024;
+
+    /**
+     * Transactions committed together, with an index of the paths they modify.
+     */
+    private static final class Batch {
+        final List<CoalescedWriteTransaction> transactions = new ArrayList<>();
+        final ModifiedPathIndex index = new ModifiedPathIndex();
+
+        Batch(final CoalescedWriteTransaction tx) {
+            add(tx);
+        }
+
+        void add(final CoalescedWriteTransaction tx) {
+            transactions.add(tx);
+            tx.addTo(index);
+        }
+
+        int size() {
+            return transactions.size();
+        }
+    }
+
+    private final AtomicLong txCounter = new AtomicLong();
+    private final DOMDataBroker delegate;
+    private final int maxBatchSize;
+
+    @GuardedBy("this")
+    private final Deque<Batch> pendingBatches = new ArrayDeque<>();
+    @GuardedBy("this")
+    private boolean inflight;
+    @GuardedBy("this")
+    private boolean submitting;
+    @GuardedBy("this")
+    private boolean completed;
+
+    CoalescingWriteBatcher(final DOMDataBroker delegate, final int maxBatchSize) {
+        Preconditions.checkArgument(maxBatchSize > 0, "Maximum batch size must be positive, not %s", maxBatchSize);
+        this.delegate = Preconditions.checkNotNull(delegate);
+        if (maxBatchSize > MAX_BATCH_SIZE) {
+            LOG.warn("Maximum batch size {} is too large, using {}", maxBatchSize, MAX_BATCH_SIZE);
+            this.maxBatchSize = MAX_BATCH_SIZE;
+        } else {
+            this.maxBatchSize = maxBatchSize;
+        }
+    }
+
+    CoalescedWriteTransaction newWriteOnlyTransaction() {
+        return new CoalescedWriteTransaction("CWT-" + txCounter.getAndIncrement(), this);
+    }
+
+    @Override
+    public void submit(final CoalescedWriteTransaction tx) {
+        final Batch toCommit;
+        synchronized (this) {
+            final Batch last = pendingBatches.peekLast();
+            if (last == null || last.size() >= maxBatchSize || conflicts(last, tx)) {
+                pendingBatches.addLast(new Batch(tx));
+            } else {
+                last.add(tx);
+            }
+
+            if (inflight) {
+                return;
+            }
+
+            inflight = true;
+            toCommit = pendingBatches.pollFirst();
+        }
+
+        commit(toCommit);
+    }
+
+    private static boolean conflicts(final Batch batch, final CoalescedWriteTransaction tx) {
+        if (tx.conflictsWith(batch.index)) {
+            LOG.debug("Transaction {} conflicts with a batch of {} transactions, starting a new batch", tx,
+                batch.size());
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Commits the given batch and, if it cannot even be submitted, the batches queued after it. On return either
+     * a batch is in flight and its completion continues with the next one, or the queue is empty and
+     * {@link #inflight} has been cleared.
+     *
+     * A backend transaction may complete before its submission returns, in which case its completion is only
+     * recorded and this method continues with the next batch. This keeps the stack depth constant no matter how
+     * many batches complete synchronously.
+     */
+    private void commit(final Batch first) {
+        Batch batch = first;
+        boolean done = false;
+        try {
+            while (batch != null) {
+                synchronized (this) {
+                    submitting = true;
+                    completed = false;
+                }
+
+                final boolean submitted = submitBatch(batch);
+                synchronized (this) {
+                    submitting = false;
+                    if (submitted && !completed) {
+                        // The completion callback will continue with the next batch
+                        done = true;
+                        return;
+                    }
+                }
+
+                batch = nextBatch();
+            }
+            done = true;
+        } finally {
+            if (!done) {
+                // Something went badly wrong, do not leave the batcher blocked
+                synchronized (this) {
+                    submitting = false;
+                    inflight = false;
+                }
+            }
+        }
+    }
+
+    private void batchCompleted() {
+        synchronized (this) {
+            if (submitting) {
+                // Completed while being submitted, commit() will pick up the next batch
+                completed = true;
+                return;
+            }
+        }
+
+        commit(nextBatch());
+    }
+
+    /**
+     * Submits a batch in a backend transaction.
+     *
+     * @return true if the backend transaction was submitted, false if it failed synchronously
+     */
+    private boolean submitBatch(final Batch batch) {
+        LOG.debug("Committing batch of {} transactions", batch.size());
+
+        DOMDataWriteTransaction backendTx = null;
+        final CheckedFuture<Void, TransactionCommitFailedException> future;
+        try {
+            backendTx = delegate.newWriteOnlyTransaction();
+            for (CoalescedWriteTransaction tx : batch.transactions) {
+                tx.applyTo(backendTx);
+            }
+            future = backendTx.submit();
+        } catch (RuntimeException e) {
+            LOG.debug("Batch of {} transactions failed to submit", batch.size(), e);
+            if (backendTx != null) {
+                cancelQuietly(backendTx);
+            }
+
+            batchFailed(batch, e);
+            return false;
+        }
+
+        Futures.addCallback(future, new FutureCallback<Void>() {
+            @Override
+            public void onSuccess(final Void result) {
+                for (CoalescedWriteTransaction tx : batch.transactions) {
+                    tx.onSuccess(result);
+                }
+
+                batchCompleted();
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                batchFailed(batch, t);
+                batchCompleted();
+            }
+        });
+        return true;
+    }
+
+    private static void cancelQuietly(final DOMDataWriteTransaction tx) {
+        try {
+            tx.cancel();
+        } catch (RuntimeException e) {
+            LOG.debug("Failed to cancel backend transaction {}", tx.getIdentifier(), e);
+        }
+    }
+
+    private void batchFailed(final Batch batch, final Throwable cause) {
+        if (batch.size() == 1) {
+            batch.transactions.get(0).onFailure(cause);
+        } else {
+            LOG.debug("Batch of {} transactions failed, retrying them individually", batch.size(), cause);
+            splitBatch(batch);
+        }
+    }
+
+    private synchronized void splitBatch(final Batch batch) {
+        for (int i = batch.size() - 1; i >= 0; --i) {
+            pendingBatches.addFirst(new Batch(batch.transactions.get(i)));
+        }
+    }
+
+    /**
+     * Takes the next batch to commit. If there is none, the batcher becomes idle.
+     */
+    private synchronized Batch nextBatch() {
+        final Batch next = pendingBatches.pollFirst();
+        if (next == null) {
+            inflight = false;
+        }
+        return next;
+    }
+}
@@ -12,6 +12,7 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableMultimap.Builder;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.util.concurrent.Futures;
@@ -22,20 +23,26 @@ import com.lmax.disruptor.PhasedBackoffWaitStrategy;
 import com.lmax.disruptor.WaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationPublishService;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationService;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.NotificationListenerStats;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.NotificationPartitionStats;
+import org.opendaylight.controller.md.sal.dom.spi.DOMForwardingNotificationListener;
 import org.opendaylight.controller.md.sal.dom.spi.DOMNotificationSubscriptionListener;
 import org.opendaylight.controller.md.sal.dom.spi.DOMNotificationSubscriptionListenerRegistry;
-import org.opendaylight.yangtools.concepts.AbstractListenerRegistration;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.util.ListenerRegistry;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
@@ -55,6 +62,10 @@ import org.slf4j.LoggerFactory;
  * The fully-blocking {@link #publish(long, DOMNotification, Collection)} and non-blocking {@link #offerNotification(DOMNotification)}
  * are realized using the Disruptor's native operations. The bounded-blocking {@link #offerNotification(DOMNotification, long, TimeUnit)}
  * is realized by arming a background wakeup interrupt.
+ *
+ * Delivery can optionally be split into {@link NotificationDeliveryPartition}s, selected by notification type or by
+ * listener. The first handler then only hands notifications off to the partitions' bounded queues and the partitions
+ * complete the returned futures, so a slow listener only holds up the notifications sharing its partition.
  */
 public final class DOMNotificationRouter implements AutoCloseable, DOMNotificationPublishService,
         DOMNotificationService, DOMNotificationSubscriptionListenerRegistry {
@@ -78,43 +89,77 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
 
     private final Disruptor<DOMNotificationRouterEvent> disruptor;
     private final ExecutorService executor;
-    private volatile Multimap<SchemaPath, ListenerRegistration<? extends DOMNotificationListener>> listeners = ImmutableMultimap.of();
+    private final NotificationDeliveryPartition[] partitions;
+    private volatile Multimap<SchemaPath, NotificationListenerRegistration<?>> listeners = ImmutableMultimap.of();
     private final ListenerRegistry<DOMNotificationSubscriptionListener> subscriptionListeners = ListenerRegistry.create();
+    @GuardedBy("this")
+    private int nextPartitionHint;
 
     @SuppressWarnings("unchecked")
-    private DOMNotificationRouter(final ExecutorService executor, final int queueDepth, final WaitStrategy strategy) {
+    private DOMNotificationRouter(final ExecutorService executor, final int queueDepth, final WaitStrategy strategy,
+            final int partitionCount, final int partitionQueueDepth, final boolean partitionByListener) {
         this.executor = Preconditions.checkNotNull(executor);
+        Preconditions.checkArgument(partitionCount >= 0, "Invalid partition count %s", partitionCount);
 
         disruptor = new Disruptor<>(DOMNotificationRouterEvent.FACTORY, queueDepth, executor, ProducerType.MULTI, strategy);
-        disruptor.handleEventsWith(DISPATCH_NOTIFICATIONS);
-        disruptor.after(DISPATCH_NOTIFICATIONS).handleEventsWith(NOTIFY_FUTURE);
+        partitions = new NotificationDeliveryPartition[partitionCount];
+        if (partitionCount == 0) {
+            disruptor.handleEventsWith(DISPATCH_NOTIFICATIONS);
+            disruptor.after(DISPATCH_NOTIFICATIONS).handleEventsWith(NOTIFY_FUTURE);
+        } else {
+            for (int i = 0; i < partitionCount; ++i) {
+                partitions[i] = new NotificationDeliveryPartition(i, partitionQueueDepth);
+                executor.execute(partitions[i]);
+            }
+
+            disruptor.handleEventsWith(new EventHandler<DOMNotificationRouterEvent>() {
+                @Override
+                public void onEvent(final DOMNotificationRouterEvent event, final long sequence, final boolean endOfBatch) throws Exception {
+                    event.dispatchNotification(partitions, partitionByListener);
+                }
+            });
+        }
         disruptor.start();
     }
 
     public static DOMNotificationRouter create(final int queueDepth) {
         final ExecutorService executor = Executors.newCachedThreadPool();
 
-        return new DOMNotificationRouter(executor, queueDepth, DEFAULT_STRATEGY);
+        return new DOMNotificationRouter(executor, queueDepth, DEFAULT_STRATEGY, 0, 0, false);
     }
 
     public static DOMNotificationRouter create(final int queueDepth, final long spinTime, final long parkTime, final TimeUnit unit) {
+        return create(queueDepth, spinTime, parkTime, unit, 0, 0, false);
+    }
+
+    /**
+     * Creates a router with partitioned delivery.
+     *
+     * @param partitionCount number of delivery partitions, each served by its own thread, 0 to deliver directly
+     *                       from the Disruptor handler
+     * @param partitionQueueDepth maximum number of notifications queued in a partition
+     * @param partitionByListener true to select the partition by listener, so every listener is delivered to
+     *                            independently, false to select the partition by notification type
+     */
+    public static DOMNotificationRouter create(final int queueDepth, final long spinTime, final long parkTime, final TimeUnit unit,
+            final int partitionCount, final int partitionQueueDepth, final boolean partitionByListener) {
         final ExecutorService executor = Executors.newCachedThreadPool();
         final WaitStrategy strategy = PhasedBackoffWaitStrategy.withLock(spinTime, parkTime, unit);
 
-        return new DOMNotificationRouter(executor, queueDepth, strategy);
+        return new DOMNotificationRouter(executor, queueDepth, strategy, partitionCount, partitionQueueDepth, partitionByListener);
     }
 
     @Override
     public synchronized <T extends DOMNotificationListener> ListenerRegistration<T> registerNotificationListener(final T listener, final Collection<SchemaPath> types) {
-        final ListenerRegistration<T> reg = new AbstractListenerRegistration<T>(listener) {
+        final NotificationListenerRegistration<T> reg = new NotificationListenerRegistration<T>(listener, nextPartitionHint++) {
             @Override
             protected void removeRegistration() {
                 final ListenerRegistration<T> me = this;
 
                 synchronized (DOMNotificationRouter.this) {
-                    replaceListeners(ImmutableMultimap.copyOf(Multimaps.filterValues(listeners, new Predicate<ListenerRegistration<? extends DOMNotificationListener>>() {
+                    replaceListeners(ImmutableMultimap.copyOf(Multimaps.filterValues(listeners, new Predicate<NotificationListenerRegistration<?>>() {
                         @Override
-                        public boolean apply(final ListenerRegistration<? extends DOMNotificationListener> input) {
+                        public boolean apply(final NotificationListenerRegistration<?> input) {
                             return input != me;
                         }
                     })));
@@ -123,7 +168,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
         };
 
         if (!types.isEmpty()) {
-            final Builder<SchemaPath, ListenerRegistration<? extends DOMNotificationListener>> b = ImmutableMultimap.builder();
+            final Builder<SchemaPath, NotificationListenerRegistration<?>> b = ImmutableMultimap.builder();
             b.putAll(listeners);
 
             for (final SchemaPath t : types) {
@@ -147,9 +192,25 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
      * @param newListeners
      */
     private void replaceListeners(
-            final Multimap<SchemaPath, ListenerRegistration<? extends DOMNotificationListener>> newListeners) {
+            final Multimap<SchemaPath, NotificationListenerRegistration<?>> newListeners) {
         listeners = newListeners;
-        notifyListenerTypesChanged(newListeners.keySet());
+        notifyListenerTypesChanged(subscribedTypes(newListeners));
+    }
+
+    /**
+     * Returns the types which have at least one listener other than a {@link DOMForwardingNotificationListener}.
+     */
+    private static Set<SchemaPath> subscribedTypes(final Multimap<SchemaPath, NotificationListenerRegistration<?>> listeners) {
+        final ImmutableSet.Builder<SchemaPath> b = ImmutableSet.builder();
+        for (final Entry<SchemaPath, Collection<NotificationListenerRegistration<?>>> e : listeners.asMap().entrySet()) {
+            for (final NotificationListenerRegistration<?> reg : e.getValue()) {
+                if (!(reg.getInstance() instanceof DOMForwardingNotificationListener)) {
+                    b.add(e.getKey());
+                    break;
+                }
+            }
+        }
+        return b.build();
     }
 
     private void notifyListenerTypesChanged(final Set<SchemaPath> typesAfter) {
@@ -172,7 +233,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
     @Override
     public <L extends DOMNotificationSubscriptionListener> ListenerRegistration<L> registerSubscriptionListener(
             final L listener) {
-        final Set<SchemaPath> initialTypes = listeners.keySet();
+        final Set<SchemaPath> initialTypes = subscribedTypes(listeners);
         executor.submit(new Runnable() {
 
             @Override
@@ -183,7 +244,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
         return subscriptionListeners.registerWithType(listener);
     }
 
-    private ListenableFuture<Void> publish(final long seq, final DOMNotification notification, final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers) {
+    private ListenableFuture<Void> publish(final long seq, final DOMNotification notification, final Collection<NotificationListenerRegistration<?>> subscribers) {
         final DOMNotificationRouterEvent event = disruptor.get(seq);
         final ListenableFuture<Void> future = event.initialize(notification, subscribers);
         disruptor.getRingBuffer().publish(seq);
@@ -192,7 +253,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
 
     @Override
     public ListenableFuture<? extends Object> putNotification(final DOMNotification notification) throws InterruptedException {
-        final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers = listeners.get(notification.getType());
+        final Collection<NotificationListenerRegistration<?>> subscribers = listeners.get(notification.getType());
         if (subscribers.isEmpty()) {
             return NO_LISTENERS;
         }
@@ -201,7 +262,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
         return publish(seq, notification, subscribers);
     }
 
-    private ListenableFuture<? extends Object> tryPublish(final DOMNotification notification, final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers) {
+    private ListenableFuture<? extends Object> tryPublish(final DOMNotification notification, final Collection<NotificationListenerRegistration<?>> subscribers) {
         final long seq;
         try {
              seq = disruptor.getRingBuffer().tryNext();
@@ -214,7 +275,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
 
     @Override
     public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification) {
-        final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers = listeners.get(notification.getType());
+        final Collection<NotificationListenerRegistration<?>> subscribers = listeners.get(notification.getType());
         if (subscribers.isEmpty()) {
             return NO_LISTENERS;
         }
@@ -225,7 +286,7 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
     @Override
     public ListenableFuture<? extends Object> offerNotification(final DOMNotification notification, final long timeout,
             final TimeUnit unit) throws InterruptedException {
-        final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers = listeners.get(notification.getType());
+        final Collection<NotificationListenerRegistration<?>> subscribers = listeners.get(notification.getType());
         if (subscribers.isEmpty()) {
             return NO_LISTENERS;
         }
@@ -243,9 +304,38 @@ public final class DOMNotificationRouter implements AutoCloseable, DOMNotificati
         throw new UnsupportedOperationException("Not implemented yet");
     }
 
+    /**
+     * @return the delivery statistics of each registered listener
+     */
+    public List<NotificationListenerStats> getListenerStats() {
+        final Set<NotificationListenerRegistration<?>> regs = new LinkedHashSet<>(listeners.values());
+        final List<NotificationListenerStats> ret = new ArrayList<>(regs.size());
+        for (NotificationListenerRegistration<?> reg : regs) {
+            ret.add(reg.getStats());
+        }
+        return ret;
+    }
+
+    /**
+     * @return the statistics of each delivery partition
+     */
+    public List<NotificationPartitionStats> getPartitionStats() {
+        final List<NotificationPartitionStats> ret = new ArrayList<>(partitions.length);
+        for (NotificationDeliveryPartition p : partitions) {
+            ret.add(p.getStats());
+        }
+        return ret;
+    }
+
     @Override
     public void close() {
+        // Waits for all published notifications to be delivered or handed off to the partitions
         disruptor.shutdown();
+
+        // Partitions deliver what they have queued before their threads exit, completing the publishers' futures
+        for (NotificationDeliveryPartition p : partitions) {
+            p.shutdown();
+        }
         executor.shutdown();
     }
 }
@@ -12,9 +12,8 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import com.lmax.disruptor.EventFactory;
 import java.util.Collection;
+import java.util.Collections;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
-import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
-import org.opendaylight.yangtools.concepts.ListenerRegistration;
 
 /**
  * A single notification event in the disruptor ringbuffer. These objects are reused,
@@ -28,30 +27,60 @@ final class DOMNotificationRouterEvent {
         }
     };
 
-    private Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers;
+    private Collection<NotificationListenerRegistration<?>> subscribers;
     private DOMNotification notification;
     private SettableFuture<Void> future;
+    private long publishTime;
 
     private DOMNotificationRouterEvent() {
         // Hidden on purpose, initialized in initialize()
     }
 
-    ListenableFuture<Void> initialize(final DOMNotification notification, final Collection<ListenerRegistration<? extends DOMNotificationListener>> subscribers) {
+    ListenableFuture<Void> initialize(final DOMNotification notification, final Collection<NotificationListenerRegistration<?>> subscribers) {
         this.notification = Preconditions.checkNotNull(notification);
         this.subscribers = Preconditions.checkNotNull(subscribers);
         this.future = SettableFuture.create();
+        this.publishTime = System.nanoTime();
         return this.future;
     }
 
     void deliverNotification() {
-        for (ListenerRegistration<? extends DOMNotificationListener> r : subscribers) {
-            final DOMNotificationListener l = r.getInstance();
-            if (l != null) {
-                l.onNotification(notification);
+        for (NotificationListenerRegistration<?> r : subscribers) {
+            r.notificationQueued();
+            r.deliver(notification, publishTime);
+        }
+    }
+
+    /**
+     * Hands the notification off to the delivery partitions. The future is completed by the partitions once they
+     * have delivered the notification, hence {@link #setFuture()} must not be invoked.
+     *
+     * @param partitions the delivery partitions
+     * @param partitionByListener true if the partition is selected by listener, false if by notification type
+     * @throws InterruptedException if interrupted while waiting for space in a partition's queue
+     */
+    void dispatchNotification(final NotificationDeliveryPartition[] partitions, final boolean partitionByListener)
+            throws InterruptedException {
+        for (NotificationListenerRegistration<?> r : subscribers) {
+            r.notificationQueued();
+        }
+
+        if (partitionByListener) {
+            final PendingNotification pending = new PendingNotification(notification, future, publishTime, subscribers.size());
+            for (NotificationListenerRegistration<?> r : subscribers) {
+                final Collection<NotificationListenerRegistration<?>> single = Collections.<NotificationListenerRegistration<?>>singletonList(r);
+                partitions[partitionIndex(r.getPartitionHint(), partitions.length)].enqueue(pending, single);
             }
+        } else {
+            final PendingNotification pending = new PendingNotification(notification, future, publishTime, 1);
+            partitions[partitionIndex(notification.getType().hashCode(), partitions.length)].enqueue(pending, subscribers);
         }
     }
 
+    private static int partitionIndex(final int hash, final int partitionCount) {
+        return (hash & Integer.MAX_VALUE) % partitionCount;
+    }
+
     void setFuture() {
         future.set(null);
     }
@@ -7,7 +7,7 @@
  */
 package org.opendaylight.controller.md.sal.dom.broker.impl;
 
-import com.google.common.base.Function;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
@@ -17,12 +17,16 @@ import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcAvailabilityListener;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
@@ -35,81 +39,78 @@ import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
 import org.opendaylight.controller.md.sal.dom.spi.AbstractDOMRpcImplementationRegistration;
 import org.opendaylight.yangtools.concepts.AbstractListenerRegistration;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaContextListener;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Routes rpc invocations to the registered implementations. The routing table is an immutable snapshot, which
+ * registrations replace with a compare-and-set, so neither invocations nor registrations take a lock.
+ * <p/>
+ * Availability listeners are notified from a single thread. It tracks the rpcs it has announced and, after
+ * every routing table update, compares them with the current routing table. Changes which happen before it
+ * gets to run are thus reported together, and listeners always observe a consistent sequence of changes,
+ * whatever the order in which concurrent registrations completed.
+ */
 public final class DOMRpcRouter implements AutoCloseable, DOMRpcService, DOMRpcProviderService, SchemaContextListener {
+    private static final Logger LOG = LoggerFactory.getLogger(DOMRpcRouter.class);
     private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder().setNameFormat("DOMRpcRouter-listener-%s").setDaemon(true).build();
+    private static final AtomicReferenceFieldUpdater<DOMRpcRouter, DOMRpcRoutingTable> ROUTING_TABLE_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(DOMRpcRouter.class, DOMRpcRoutingTable.class, "routingTable");
     private final ExecutorService listenerNotifier = Executors.newSingleThreadExecutor(THREAD_FACTORY);
     @GuardedBy("this")
-    private Collection<ListenerRegistration<? extends DOMRpcAvailabilityListener>> listeners = Collections.emptyList();
+    private Collection<ListenerRegistrationImpl<?>> listeners = Collections.emptyList();
     private volatile DOMRpcRoutingTable routingTable = DOMRpcRoutingTable.EMPTY;
+    private final Queue<Set<DOMRpcIdentifier>> pendingChanges = new ConcurrentLinkedQueue<>();
+    // Accessed only from the listenerNotifier thread
+    private final Set<DOMRpcIdentifier> announcedRpcs = new HashSet<>();
+
+    private final class ListenerRegistrationImpl<T extends DOMRpcAvailabilityListener> extends AbstractListenerRegistration<T> {
+        // Accessed only from the listenerNotifier thread
+        private boolean initialized;
+
+        ListenerRegistrationImpl(final T listener) {
+            super(listener);
+        }
+
+        @Override
+        protected void removeRegistration() {
+            removeListener(this);
+        }
+    }
+
+    private final Runnable notifyListenersTask = new Runnable() {
+        @Override
+        public void run() {
+            notifyListeners();
+        }
+    };
 
     @Override
     public <T extends DOMRpcImplementation> DOMRpcImplementationRegistration<T> registerRpcImplementation(final T implementation, final DOMRpcIdentifier... rpcs) {
         return registerRpcImplementation(implementation, ImmutableSet.copyOf(rpcs));
     }
 
-    private static Collection<DOMRpcIdentifier> notPresentRpcs(final DOMRpcRoutingTable table, final Collection<DOMRpcIdentifier> candidates) {
-        return ImmutableSet.copyOf(Collections2.filter(candidates, new Predicate<DOMRpcIdentifier>() {
-            @Override
-            public boolean apply(final DOMRpcIdentifier input) {
-                return !table.contains(input);
-            }
-        }));
-    }
+    private void removeRpcImplementation(final DOMRpcImplementation implementation, final Set<DOMRpcIdentifier> rpcs) {
+        DOMRpcRoutingTable oldTable;
+        do {
+            oldTable = routingTable;
+        } while (!ROUTING_TABLE_UPDATER.compareAndSet(this, oldTable, oldTable.remove(implementation, rpcs)));
 
-    private synchronized void removeRpcImplementation(final DOMRpcImplementation implementation, final Set<DOMRpcIdentifier> rpcs) {
-        final DOMRpcRoutingTable oldTable = routingTable;
-        final DOMRpcRoutingTable newTable = oldTable.remove(implementation, rpcs);
-
-        final Collection<DOMRpcIdentifier> removedRpcs = notPresentRpcs(newTable, rpcs);
-        routingTable = newTable;
-        if(!removedRpcs.isEmpty()) {
-            final Collection<ListenerRegistration<? extends DOMRpcAvailabilityListener>> capturedListeners = listeners;
-            listenerNotifier.execute(new Runnable() {
-                @Override
-                public void run() {
-                    for (final ListenerRegistration<? extends DOMRpcAvailabilityListener> l : capturedListeners) {
-                        // Need to ensure removed listeners do not get notified
-                        synchronized (DOMRpcRouter.this) {
-                            if (listeners.contains(l)) {
-                                l.getInstance().onRpcUnavailable(removedRpcs);
-                            }
-                        }
-                    }
-                }
-            });
-        }
+        rpcsChanged(rpcs);
     }
 
     @Override
-    public synchronized <T extends DOMRpcImplementation> DOMRpcImplementationRegistration<T> registerRpcImplementation(final T implementation, final Set<DOMRpcIdentifier> rpcs) {
-        final DOMRpcRoutingTable oldTable = routingTable;
-        final DOMRpcRoutingTable newTable = oldTable.add(implementation, rpcs);
-
-        final Collection<DOMRpcIdentifier> addedRpcs = notPresentRpcs(oldTable, rpcs);
-        routingTable = newTable;
-
-        if(!addedRpcs.isEmpty()) {
-            final Collection<ListenerRegistration<? extends DOMRpcAvailabilityListener>> capturedListeners = listeners;
-            listenerNotifier.execute(new Runnable() {
-                @Override
-                public void run() {
-                    for (final ListenerRegistration<? extends DOMRpcAvailabilityListener> l : capturedListeners) {
-                        // Need to ensure removed listeners do not get notified
-                        synchronized (DOMRpcRouter.this) {
-                            if (listeners.contains(l)) {
-                                l.getInstance().onRpcAvailable(addedRpcs);
-                            }
-                        }
-                    }
-                }
-            });
-        }
+    public <T extends DOMRpcImplementation> DOMRpcImplementationRegistration<T> registerRpcImplementation(final T implementation, final Set<DOMRpcIdentifier> rpcs) {
+        DOMRpcRoutingTable oldTable;
+        do {
+            oldTable = routingTable;
+        } while (!ROUTING_TABLE_UPDATER.compareAndSet(this, oldTable, oldTable.add(implementation, rpcs)));
+
+        rpcsChanged(rpcs);
 
         return new AbstractDOMRpcImplementationRegistration<T>(implementation) {
             @Override
@@ -119,12 +120,82 @@ public final class DOMRpcRouter implements AutoCloseable, DOMRpcService, DOMRpcP
         };
     }
 
+    private void rpcsChanged(final Set<DOMRpcIdentifier> rpcs) {
+        if (!rpcs.isEmpty()) {
+            pendingChanges.add(rpcs);
+            try {
+                listenerNotifier.execute(notifyListenersTask);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Router is closed, not notifying listeners about {}", rpcs, e);
+            }
+        }
+    }
+
+    /**
+     * Announces the changes in availability of the rpcs updated since the last run. Runs on the listenerNotifier
+     * thread. If there are several pending runs, the first one picks up all the changes and the others do
+     * nothing.
+     */
+    private void notifyListeners() {
+        final Set<DOMRpcIdentifier> changed = new LinkedHashSet<>();
+        for (Set<DOMRpcIdentifier> rpcs = pendingChanges.poll(); rpcs != null; rpcs = pendingChanges.poll()) {
+            changed.addAll(rpcs);
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        // Changes are queued after they have been applied, hence the table read now reflects all of them
+        final DOMRpcRoutingTable table = routingTable;
+        final ImmutableSet.Builder<DOMRpcIdentifier> addedBuilder = ImmutableSet.builder();
+        final ImmutableSet.Builder<DOMRpcIdentifier> removedBuilder = ImmutableSet.builder();
+        for (final DOMRpcIdentifier rpc : changed) {
+            if (table.contains(rpc)) {
+                if (announcedRpcs.add(rpc)) {
+                    addedBuilder.add(rpc);
+                }
+            } else if (announcedRpcs.remove(rpc)) {
+                removedBuilder.add(rpc);
+            }
+        }
+
+        final Collection<DOMRpcIdentifier> addedRpcs = addedBuilder.build();
+        final Collection<DOMRpcIdentifier> removedRpcs = removedBuilder.build();
+        if (addedRpcs.isEmpty() && removedRpcs.isEmpty()) {
+            return;
+        }
+
+        final Collection<ListenerRegistrationImpl<?>> capturedListeners;
+        synchronized (this) {
+            capturedListeners = listeners;
+        }
+
+        for (final ListenerRegistrationImpl<?> l : capturedListeners) {
+            // Need to ensure removed listeners do not get notified
+            synchronized (this) {
+                if (l.initialized && listeners.contains(l)) {
+                    if (!removedRpcs.isEmpty()) {
+                        l.getInstance().onRpcUnavailable(removedRpcs);
+                    }
+                    if (!addedRpcs.isEmpty()) {
+                        l.getInstance().onRpcAvailable(addedRpcs);
+                    }
+                }
+            }
+        }
+    }
+
+    @VisibleForTesting
+    DOMRpcRoutingTable routingTable() {
+        return routingTable;
+    }
+
     @Override
     public CheckedFuture<DOMRpcResult, DOMRpcException> invokeRpc(final SchemaPath type, final NormalizedNode<?, ?> input) {
         return routingTable.invokeRpc(type, input);
     }
 
-    private synchronized void removeListener(final ListenerRegistration<? extends DOMRpcAvailabilityListener> reg) {
+    private synchronized void removeListener(final ListenerRegistrationImpl<?> reg) {
         listeners = ImmutableList.copyOf(Collections2.filter(listeners, new Predicate<Object>() {
             @Override
             public boolean apply(final Object input) {
@@ -135,30 +206,23 @@ public final class DOMRpcRouter implements AutoCloseable, DOMRpcService, DOMRpcP
 
     @Override
     public synchronized <T extends DOMRpcAvailabilityListener> ListenerRegistration<T> registerRpcListener(final T listener) {
-        final ListenerRegistration<T> ret = new AbstractListenerRegistration<T>(listener) {
-            @Override
-            protected void removeRegistration() {
-                removeListener(this);
-            }
-        };
+        final ListenerRegistrationImpl<T> ret = new ListenerRegistrationImpl<>(listener);
 
-        final Builder<ListenerRegistration<? extends DOMRpcAvailabilityListener>> b = ImmutableList.builder();
+        final Builder<ListenerRegistrationImpl<?>> b = ImmutableList.builder();
         b.addAll(listeners);
         b.add(ret);
         listeners = b.build();
-        final Map<SchemaPath, Set<YangInstanceIdentifier>> capturedRpcs = routingTable.getRpcs();
 
         listenerNotifier.execute(new Runnable() {
             @Override
             public void run() {
-                for (final Entry<SchemaPath, Set<YangInstanceIdentifier>> e : capturedRpcs.entrySet()) {
-                    listener.onRpcAvailable(Collections2.transform(e.getValue(), new Function<YangInstanceIdentifier, DOMRpcIdentifier>() {
-                        @Override
-                        public DOMRpcIdentifier apply(final YangInstanceIdentifier input) {
-                            return DOMRpcIdentifier.create(e.getKey(), input);
-                        }
-                    }));
+                // Announce what the other listeners have been told so far, further changes follow
+                synchronized (DOMRpcRouter.this) {
+                    if (!announcedRpcs.isEmpty() && listeners.contains(ret)) {
+                        listener.onRpcAvailable(ImmutableSet.copyOf(announcedRpcs));
+                    }
                 }
+                ret.initialized = true;
             }
         });
 
@@ -166,10 +230,11 @@ public final class DOMRpcRouter implements AutoCloseable, DOMRpcService, DOMRpcP
     }
 
     @Override
-    public synchronized void onGlobalContextUpdated(final SchemaContext context) {
-        final DOMRpcRoutingTable oldTable = routingTable;
-        final DOMRpcRoutingTable newTable = oldTable.setSchemaContext(context);
-        routingTable = newTable;
+    public void onGlobalContextUpdated(final SchemaContext context) {
+        DOMRpcRoutingTable oldTable;
+        do {
+            oldTable = routingTable;
+        } while (!ROUTING_TABLE_UPDATER.compareAndSet(this, oldTable, oldTable.setSchemaContext(context)));
     }
 
     @Override
@@ -16,9 +16,9 @@ import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -79,30 +79,24 @@ final class DOMRpcRoutingTable {
         // First decompose the identifiers to a multimap
         final ListMultimap<SchemaPath, YangInstanceIdentifier> toAdd = decomposeIdentifiers(rpcs);
 
-        // Now iterate over existing entries, modifying them as appropriate...
-        final Builder<SchemaPath, AbstractDOMRpcRoutingTableEntry> mb = ImmutableMap.builder();
-        for (Entry<SchemaPath, AbstractDOMRpcRoutingTableEntry> re : this.rpcs.entrySet()) {
-            List<YangInstanceIdentifier> newRpcs = new ArrayList<>(toAdd.removeAll(re.getKey()));
-            if (!newRpcs.isEmpty()) {
-                final AbstractDOMRpcRoutingTableEntry ne = re.getValue().add(implementation, newRpcs);
-                mb.put(re.getKey(), ne);
+        // Now update the affected entries, leaving the others as they are
+        final Map<SchemaPath, AbstractDOMRpcRoutingTableEntry> mb = new HashMap<>(this.rpcs);
+        for (Entry<SchemaPath, Collection<YangInstanceIdentifier>> e : toAdd.asMap().entrySet()) {
+            final AbstractDOMRpcRoutingTableEntry existing = mb.get(e.getKey());
+            if (existing != null) {
+                mb.put(e.getKey(), existing.add(implementation, e.getValue()));
             } else {
-                mb.put(re);
-            }
-        }
+                final Builder<YangInstanceIdentifier, List<DOMRpcImplementation>> vb = ImmutableMap.builder();
+                final List<DOMRpcImplementation> v = Collections.singletonList(implementation);
+                for (YangInstanceIdentifier i : e.getValue()) {
+                    vb.put(i, v);
+                }
 
-        // Finally add whatever is left in the decomposed multimap
-        for (Entry<SchemaPath, Collection<YangInstanceIdentifier>> e : toAdd.asMap().entrySet()) {
-            final Builder<YangInstanceIdentifier, List<DOMRpcImplementation>> vb = ImmutableMap.builder();
-            final List<DOMRpcImplementation> v = Collections.singletonList(implementation);
-            for (YangInstanceIdentifier i : e.getValue()) {
-                vb.put(i, v);
+                mb.put(e.getKey(), createRpcEntry(schemaContext, e.getKey(), vb.build()));
             }
-
-            mb.put(e.getKey(), createRpcEntry(schemaContext, e.getKey(), vb.build()));
         }
 
-        return new DOMRpcRoutingTable(mb.build(), schemaContext);
+        return new DOMRpcRoutingTable(ImmutableMap.copyOf(mb), schemaContext);
     }
 
     DOMRpcRoutingTable remove(final DOMRpcImplementation implementation, final Set<DOMRpcIdentifier> rpcs) {
@@ -113,22 +107,21 @@ final class DOMRpcRoutingTable {
         // First decompose the identifiers to a multimap
         final ListMultimap<SchemaPath, YangInstanceIdentifier> toRemove = decomposeIdentifiers(rpcs);
 
-        // Now iterate over existing entries, modifying them as appropriate...
-        final Builder<SchemaPath, AbstractDOMRpcRoutingTableEntry> b = ImmutableMap.builder();
-        for (Entry<SchemaPath, AbstractDOMRpcRoutingTableEntry> e : this.rpcs.entrySet()) {
-            final List<YangInstanceIdentifier> removed = new ArrayList<>(toRemove.removeAll(e.getKey()));
-            if (!removed.isEmpty()) {
-                final AbstractDOMRpcRoutingTableEntry ne = e.getValue().remove(implementation, removed);
+        // Now update the affected entries, whatever is not present was not there in the first place
+        final Map<SchemaPath, AbstractDOMRpcRoutingTableEntry> b = new HashMap<>(this.rpcs);
+        for (Entry<SchemaPath, Collection<YangInstanceIdentifier>> e : toRemove.asMap().entrySet()) {
+            final AbstractDOMRpcRoutingTableEntry existing = b.get(e.getKey());
+            if (existing != null) {
+                final AbstractDOMRpcRoutingTableEntry ne = existing.remove(implementation, e.getValue());
                 if (ne != null) {
                     b.put(e.getKey(), ne);
+                } else {
+                    b.remove(e.getKey());
                 }
-            } else {
-                b.put(e);
             }
         }
 
-        // All done, whatever is in toRemove, was not there in the first place
-        return new DOMRpcRoutingTable(b.build(), schemaContext);
+        return new DOMRpcRoutingTable(ImmutableMap.copyOf(b), schemaContext);
     }
 
     boolean contains(final DOMRpcIdentifier input) {
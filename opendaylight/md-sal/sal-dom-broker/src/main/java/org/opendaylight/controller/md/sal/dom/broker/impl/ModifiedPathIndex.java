@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+
+/**
+ * Hashed index of the paths modified by a set of transactions. It answers whether a path overlaps, that is
+ * is equal to, an ancestor of or a descendant of, any of the indexed paths in time proportional to the depth
+ * of the path, independent of the number of indexed paths.
+ */
+@NotThreadSafe
+final class ModifiedPathIndex {
+    private static final class StoreIndex {
+        // Paths which have been modified
+        final Set<YangInstanceIdentifier> modified = new HashSet<>();
+        // Strict ancestors of modified paths
+        final Set<YangInstanceIdentifier> ancestors = new HashSet<>();
+    }
+
+    private final Map<LogicalDatastoreType, StoreIndex> stores = new EnumMap<>(LogicalDatastoreType.class);
+
+    boolean overlaps(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        final StoreIndex index = stores.get(store);
+        if (index == null) {
+            return false;
+        }
+
+        // A modified descendant of the path
+        if (index.ancestors.contains(path)) {
+            return true;
+        }
+
+        // The path itself or one of its ancestors has been modified
+        final List<PathArgument> args = path.getPathArguments();
+        for (int i = args.size(); i >= 0; --i) {
+            if (index.modified.contains(i == args.size() ? path : YangInstanceIdentifier.create(args.subList(0, i)))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    void add(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+        StoreIndex index = stores.get(store);
+        if (index == null) {
+            index = new StoreIndex();
+            stores.put(store, index);
+        }
+
+        if (index.modified.add(path)) {
+            final List<PathArgument> args = path.getPathArguments();
+            for (int i = args.size() - 1; i >= 0; --i) {
+                if (!index.ancestors.add(YangInstanceIdentifier.create(args.subList(0, i)))) {
+                    // Shorter prefixes have been recorded by a previous path
+                    break;
+                }
+            }
+        }
+    }
+}
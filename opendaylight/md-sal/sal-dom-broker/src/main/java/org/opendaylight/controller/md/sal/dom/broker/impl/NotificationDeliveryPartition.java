@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.NotificationPartitionStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single delivery partition of {@link DOMNotificationRouter}. Each partition has a bounded queue served by its own
+ * thread, so that a slow listener only delays the notifications sharing its partition. When the queue is full, the
+ * router's dispatcher blocks until space is available, which in turn applies backpressure to publishers through
+ * the Disruptor ringbuffer.
+ *
+ * The thread takes all queued deliveries at once, up to {@link #MAX_BATCH_SIZE}. Notifications for listeners
+ * implementing {@link org.opendaylight.controller.md.sal.dom.spi.DOMNotificationBatchListener} are then delivered
+ * in a single invocation.
+ */
+final class NotificationDeliveryPartition implements Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationDeliveryPartition.class);
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private static final class Delivery {
+        private final PendingNotification notification;
+        private final Collection<NotificationListenerRegistration<?>> subscribers;
+
+        Delivery(final PendingNotification notification, final Collection<NotificationListenerRegistration<?>> subscribers) {
+            this.notification = Preconditions.checkNotNull(notification);
+            this.subscribers = Preconditions.checkNotNull(subscribers);
+        }
+
+        private Delivery() {
+            this.notification = null;
+            this.subscribers = null;
+        }
+    }
+
+    /**
+     * Queued last by {@link #shutdown()}, the thread exits once it has delivered everything queued before it.
+     */
+    private static final Delivery SHUTDOWN = new Delivery();
+
+    private final AtomicLong blockedEnqueues = new AtomicLong();
+    private final BlockingQueue<Delivery> queue;
+    private final int index;
+
+    NotificationDeliveryPartition(final int index, final int queueDepth) {
+        this.index = index;
+        this.queue = new ArrayBlockingQueue<>(queueDepth);
+    }
+
+    /**
+     * Queues a notification for delivery to the specified subscribers, waiting for space in the queue if needed.
+     */
+    void enqueue(final PendingNotification notification, final Collection<NotificationListenerRegistration<?>> subscribers)
+            throws InterruptedException {
+        final Delivery delivery = new Delivery(notification, subscribers);
+        if (!queue.offer(delivery)) {
+            blockedEnqueues.incrementAndGet();
+            LOG.debug("Notification delivery partition {} is full, waiting", index);
+            queue.put(delivery);
+        }
+    }
+
+    /**
+     * Stops the partition's thread once it has delivered all queued notifications. Must be invoked only after
+     * the last {@link #enqueue(PendingNotification, Collection)}. Waits for space in the queue if needed.
+     */
+    void shutdown() {
+        Uninterruptibles.putUninterruptibly(queue, SHUTDOWN);
+    }
+
+    @Override
+    public void run() {
+        final List<Delivery> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+                // Nothing is queued after the shutdown marker
+                final boolean shutdown = batch.get(batch.size() - 1) == SHUTDOWN;
+                if (shutdown) {
+                    batch.remove(batch.size() - 1);
+                }
+
+                deliver(batch);
+                batch.clear();
+
+                if (shutdown) {
+                    LOG.debug("Notification delivery partition {} shut down", index);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            final List<Delivery> left = new ArrayList<>(queue.size());
+            queue.drainTo(left);
+            LOG.debug("Notification delivery partition {} interrupted, failing {} deliveries", index, left.size());
+
+            final Exception cause = new IllegalStateException("Notification delivery partition " + index
+                    + " was interrupted");
+            for (Delivery d : left) {
+                if (d != SHUTDOWN) {
+                    d.notification.deliveryFailed(cause);
+                }
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void deliver(final List<Delivery> batch) {
+        Map<NotificationListenerRegistration<?>, List<PendingNotification>> batchListeners = null;
+        for (Delivery d : batch) {
+            for (NotificationListenerRegistration<?> reg : d.subscribers) {
+                if (reg.isBatchListener()) {
+                    if (batchListeners == null) {
+                        batchListeners = new LinkedHashMap<>();
+                    }
+
+                    List<PendingNotification> notifications = batchListeners.get(reg);
+                    if (notifications == null) {
+                        notifications = new ArrayList<>(batch.size());
+                        batchListeners.put(reg, notifications);
+                    }
+                    notifications.add(d.notification);
+                } else {
+                    reg.deliver(d.notification.getNotification(), d.notification.getPublishTime());
+                }
+            }
+        }
+
+        if (batchListeners != null) {
+            for (Entry<NotificationListenerRegistration<?>, List<PendingNotification>> e : batchListeners.entrySet()) {
+                e.getKey().deliver(e.getValue());
+            }
+        }
+
+        for (Delivery d : batch) {
+            d.notification.deliveryDone();
+        }
+    }
+
+    NotificationPartitionStats getStats() {
+        return new NotificationPartitionStats(index, queue.size(), queue.remainingCapacity(), blockedEnqueues.get());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.NotificationListenerStats;
+import org.opendaylight.controller.md.sal.dom.spi.DOMNotificationBatchListener;
+import org.opendaylight.yangtools.concepts.AbstractListenerRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A listener registration within {@link DOMNotificationRouter}, which performs the actual delivery and keeps track
+ * of the notifications queued for the listener.
+ */
+abstract class NotificationListenerRegistration<T extends DOMNotificationListener> extends AbstractListenerRegistration<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationListenerRegistration.class);
+
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private volatile long lastDeliveryLagNanos;
+    private final int partitionHint;
+
+    /**
+     * @param partitionHint the value from which the delivery partition is derived when partitioning by listener
+     */
+    NotificationListenerRegistration(final T listener, final int partitionHint) {
+        super(listener);
+        this.partitionHint = partitionHint;
+    }
+
+    final int getPartitionHint() {
+        return partitionHint;
+    }
+
+    final boolean isBatchListener() {
+        return getInstance() instanceof DOMNotificationBatchListener;
+    }
+
+    final void notificationQueued() {
+        queued.incrementAndGet();
+    }
+
+    /**
+     * Delivers a single notification.
+     *
+     * @param notification the notification
+     * @param publishTime the {@link System#nanoTime()} at which the notification was published
+     */
+    final void deliver(final DOMNotification notification, final long publishTime) {
+        final DOMNotificationListener l = getInstance();
+        if (l != null) {
+            try {
+                l.onNotification(notification);
+            } catch (Exception e) {
+                LOG.warn("Listener {} failed to process notification {}", l, notification, e);
+            }
+        }
+
+        delivered(1, publishTime);
+    }
+
+    /**
+     * Delivers multiple notifications at once, must only be invoked if {@link #isBatchListener()} is true.
+     *
+     * @param notifications notifications in the order they were published
+     */
+    final void deliver(final List<PendingNotification> notifications) {
+        final DOMNotificationListener l = getInstance();
+        if (l != null) {
+            final List<DOMNotification> batch = new ArrayList<>(notifications.size());
+            for (PendingNotification n : notifications) {
+                batch.add(n.getNotification());
+            }
+
+            try {
+                ((DOMNotificationBatchListener) l).onNotifications(batch);
+            } catch (Exception e) {
+                LOG.warn("Listener {} failed to process {} notifications", l, batch.size(), e);
+            }
+        }
+
+        // The oldest notification is the most delayed one
+        delivered(notifications.size(), notifications.get(0).getPublishTime());
+    }
+
+    private void delivered(final int count, final long oldestPublishTime) {
+        lastDeliveryLagNanos = System.nanoTime() - oldestPublishTime;
+        delivered.addAndGet(count);
+    }
+
+    final NotificationListenerStats getStats() {
+        final long deliveredCount = delivered.get();
+        return new NotificationListenerStats(String.valueOf(getInstance()), deliveredCount,
+            Math.max(queued.get() - deliveredCount, 0), TimeUnit.NANOSECONDS.toMillis(lastDeliveryLagNanos));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+
+/**
+ * A notification handed off from the Disruptor ringbuffer to one or more {@link NotificationDeliveryPartition}s.
+ * The publisher's future completes once every partition has delivered the notification.
+ */
+final class PendingNotification {
+    private final AtomicInteger remainingDeliveries;
+    private final DOMNotification notification;
+    private final SettableFuture<Void> future;
+    private final long publishTime;
+
+    PendingNotification(final DOMNotification notification, final SettableFuture<Void> future, final long publishTime,
+            final int deliveries) {
+        Preconditions.checkArgument(deliveries > 0);
+        this.notification = Preconditions.checkNotNull(notification);
+        this.future = Preconditions.checkNotNull(future);
+        this.publishTime = publishTime;
+        this.remainingDeliveries = new AtomicInteger(deliveries);
+    }
+
+    DOMNotification getNotification() {
+        return notification;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the notification was published
+     */
+    long getPublishTime() {
+        return publishTime;
+    }
+
+    void deliveryDone() {
+        if (remainingDeliveries.decrementAndGet() == 0) {
+            future.set(null);
+        }
+    }
+
+    /**
+     * Fails the publisher's future, the notification will not be delivered by a partition.
+     */
+    void deliveryFailed(final Throwable cause) {
+        future.setException(cause);
+    }
+}
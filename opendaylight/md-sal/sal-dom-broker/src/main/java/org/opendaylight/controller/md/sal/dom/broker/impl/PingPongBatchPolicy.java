@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds on how front-end transactions are batched into backend transactions by a {@link PingPongTransactionChain}.
+ *
+ * A backend transaction which has accumulated the maximum number of modifications is submitted as soon as its
+ * last front-end transaction is ready, even if the previous backend transaction is still in flight. When no
+ * backend transaction is in flight, a ready transaction below the limit is held back for up to the linger time,
+ * so that transactions submitted shortly after each other share a backend transaction.
+ */
+public final class PingPongBatchPolicy {
+    /**
+     * The default policy, which batches only what accumulates while a backend transaction is in flight.
+     */
+    public static final PingPongBatchPolicy DEFAULT = new PingPongBatchPolicy(0, 0, TimeUnit.NANOSECONDS);
+
+    private final int maxModifications;
+    private final long lingerNanos;
+
+    /**
+     * Create a new policy.
+     *
+     * @param maxModifications Maximum number of put, merge and delete operations in a backend transaction,
+     *        0 means unlimited.
+     * @param linger Time to hold back a ready transaction, 0 disables lingering.
+     * @param unit Time unit of linger.
+     */
+    public PingPongBatchPolicy(final int maxModifications, final long linger, final TimeUnit unit) {
+        Preconditions.checkArgument(maxModifications >= 0, "Invalid maximum modifications %s", maxModifications);
+        Preconditions.checkArgument(linger >= 0, "Invalid linger time %s", linger);
+        this.maxModifications = maxModifications;
+        this.lingerNanos = unit.toNanos(linger);
+    }
+
+    public int getMaxModifications() {
+        return maxModifications;
+    }
+
+    public long getLingerNanos() {
+        return lingerNanos;
+    }
+
+    boolean isFull(final int modifications) {
+        return maxModifications != 0 && modifications >= maxModifications;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("maxModifications", maxModifications)
+                .add("lingerNanos", lingerNanos).toString();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batching statistics shared by the transaction chains of a {@link PingPongDataBroker}: how many front-end
+ * transactions and modifications each backend transaction carried and how long the backend took to commit it.
+ */
+public final class PingPongBatchStatistics {
+    private final PowerOfTwoHistogram batchTransactions = new PowerOfTwoHistogram();
+    private final PowerOfTwoHistogram batchModifications = new PowerOfTwoHistogram();
+    private final PowerOfTwoHistogram commitMicros = new PowerOfTwoHistogram();
+
+    void recordBatch(final int transactions, final int modifications) {
+        batchTransactions.record(transactions);
+        batchModifications.record(modifications);
+    }
+
+    void recordCommit(final long elapsedNanos) {
+        commitMicros.record(TimeUnit.NANOSECONDS.toMicros(Math.max(elapsedNanos, 0)));
+    }
+
+    public long getTotalBatches() {
+        return batchTransactions.getCount();
+    }
+
+    /**
+     * Returns the histogram of front-end transactions per backend transaction.
+     */
+    public Map<String, Long> getBatchTransactions() {
+        return batchTransactions.snapshot();
+    }
+
+    /**
+     * Returns the histogram of modifications per backend transaction.
+     */
+    public Map<String, Long> getBatchModifications() {
+        return batchModifications.snapshot();
+    }
+
+    /**
+     * Returns the histogram of backend commit latencies, in microseconds.
+     */
+    public Map<String, Long> getCommitLatencyMicros() {
+        return commitMicros.snapshot();
+    }
+
+    public void reset() {
+        batchTransactions.reset();
+        batchModifications.reset();
+        commitMicros.reset();
+    }
+}
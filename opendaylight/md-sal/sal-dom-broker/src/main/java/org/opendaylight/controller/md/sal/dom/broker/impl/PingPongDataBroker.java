@@ -8,14 +8,21 @@
 package org.opendaylight.controller.md.sal.dom.broker.impl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nonnull;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeChangeService;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeIdentifier;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMTransactionChain;
 import org.opendaylight.controller.md.sal.dom.spi.ForwardingDOMDataBroker;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * An implementation of a {@link DOMDataBroker}, which forwards most requests to a delegate.
@@ -25,7 +32,14 @@ import org.opendaylight.yangtools.concepts.ListenerRegistration;
  * and its transaction chains.
  */
 public final class PingPongDataBroker extends ForwardingDOMDataBroker implements AutoCloseable, DOMDataTreeChangeService {
+    private static final Logger LOG = LoggerFactory.getLogger(PingPongDataBroker.class);
+
+    private final PingPongBatchStatistics statistics = new PingPongBatchStatistics();
     private final DOMDataBroker delegate;
+    private final CoalescingWriteBatcher batcher;
+    private final PingPongBatchPolicy policy;
+    private final ScheduledExecutorService scheduler;
+    private volatile AutoCloseable closeable;
 
     /**
      * Instantiate a new broker, backed by the the specified delegate
@@ -34,7 +48,54 @@ public final class PingPongDataBroker extends ForwardingDOMDataBroker implements
      * @param delegate Backend broker, may not be null.
      */
     public PingPongDataBroker(final @Nonnull DOMDataBroker delegate) {
+        this(delegate, 0);
+    }
+
+    /**
+     * Instantiate a new broker, backed by the the specified delegate
+     * {@link DOMDataBroker}, which coalesces independent write-only
+     * transactions into shared backend transactions.
+     *
+     * @param delegate Backend broker, may not be null.
+     * @param maxCoalescedTransactions Maximum number of write-only transactions
+     *        committed in a single backend transaction, 0 disables coalescing. Values above
+     *        1024 are capped.
+     */
+    public PingPongDataBroker(final @Nonnull DOMDataBroker delegate, final int maxCoalescedTransactions) {
+        this(delegate, maxCoalescedTransactions, PingPongBatchPolicy.DEFAULT);
+    }
+
+    /**
+     * Instantiate a new broker, backed by the the specified delegate
+     * {@link DOMDataBroker}, whose transaction chains batch according
+     * to the specified policy.
+     *
+     * @param delegate Backend broker, may not be null.
+     * @param maxCoalescedTransactions Maximum number of write-only transactions
+     *        committed in a single backend transaction, 0 disables coalescing. Values above
+     *        1024 are capped.
+     * @param policy Batching policy of transaction chains, may not be null.
+     */
+    public PingPongDataBroker(final @Nonnull DOMDataBroker delegate, final int maxCoalescedTransactions,
+            final @Nonnull PingPongBatchPolicy policy) {
+        Preconditions.checkArgument(maxCoalescedTransactions >= 0, "Invalid maximum coalesced transactions %s",
+            maxCoalescedTransactions);
         this.delegate = Preconditions.checkNotNull(delegate);
+        this.batcher = maxCoalescedTransactions == 0 ? null : new CoalescingWriteBatcher(delegate, maxCoalescedTransactions);
+        this.policy = Preconditions.checkNotNull(policy);
+        this.scheduler = policy.getLingerNanos() == 0 ? null : Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("pingpong-linger-%d").build());
+    }
+
+    /**
+     * Returns the batching statistics of this broker's transaction chains.
+     */
+    public PingPongBatchStatistics getBatchStatistics() {
+        return statistics;
+    }
+
+    public void setCloseable(final AutoCloseable closeable) {
+        this.closeable = closeable;
     }
 
     @Override
@@ -42,14 +103,44 @@ public final class PingPongDataBroker extends ForwardingDOMDataBroker implements
         return delegate;
     }
 
+    @Override
+    public DOMDataWriteTransaction newWriteOnlyTransaction() {
+        if (batcher == null) {
+            return delegate.newWriteOnlyTransaction();
+        }
+
+        return batcher.newWriteOnlyTransaction();
+    }
+
     @Override
     public PingPongTransactionChain createTransactionChain(final TransactionChainListener listener) {
-        return new PingPongTransactionChain(delegate, listener);
+        return new PingPongTransactionChain(delegate, listener, policy, scheduler, statistics);
+    }
+
+    /**
+     * Create a transaction chain which can be used by several threads concurrently. See
+     * {@link SharedPingPongTransactionChain} for details.
+     *
+     * @param listener Transaction chain event listener
+     * @return A new shared transaction chain.
+     */
+    public DOMTransactionChain createSharedTransactionChain(final TransactionChainListener listener) {
+        return new SharedPingPongTransactionChain(delegate, listener, policy, scheduler, statistics);
     }
 
     @Override
     public void close() {
-        // TODO Auto-generated method stub
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                LOG.debug("Error closing instance", e);
+            }
+        }
     }
 
     @Override
@@ -31,6 +31,10 @@ final class PingPongTransaction implements FutureCallback<Void> {
     private final DOMDataReadWriteTransaction delegate;
     private final SettableFuture<Void> future;
     private DOMDataReadWriteTransaction frontendTransaction;
+    private int transactions;
+    private int modifications;
+    private long readyNanos;
+    private long submitNanos;
 
     PingPongTransaction(final DOMDataReadWriteTransaction delegate) {
         this.delegate = Preconditions.checkNotNull(delegate);
@@ -55,6 +59,47 @@ final class PingPongTransaction implements FutureCallback<Void> {
         return commitFuture;
     }
 
+    /*
+     * The counters are updated only by the thread holding the front-end transaction, and they are published
+     * to the thread submitting the backend transaction through the chain's atomic state updates.
+     */
+    void frontendAllocated() {
+        transactions++;
+    }
+
+    void modified() {
+        modifications++;
+    }
+
+    int getTransactions() {
+        return transactions;
+    }
+
+    int getModifications() {
+        return modifications;
+    }
+
+    /**
+     * Returns the time this transaction first became ready, in {@link System#nanoTime()} terms.
+     */
+    long getReadyNanos() {
+        return readyNanos;
+    }
+
+    void markReady(final long now) {
+        if (readyNanos == 0) {
+            readyNanos = now;
+        }
+    }
+
+    long getSubmitNanos() {
+        return submitNanos;
+    }
+
+    void markSubmitted(final long now) {
+        submitNanos = now;
+    }
+
     @Override
     public void onSuccess(final Void result) {
         future.set(result);
@@ -77,6 +122,7 @@ final class PingPongTransaction implements FutureCallback<Void> {
     }
 
     protected ToStringHelper addToStringAttributes(final ToStringHelper toStringHelper) {
-        return toStringHelper.add("delegate", delegate);
+        return toStringHelper.add("delegate", delegate).add("transactions", transactions)
+                .add("modifications", modifications);
     }
 }
\ No newline at end of file
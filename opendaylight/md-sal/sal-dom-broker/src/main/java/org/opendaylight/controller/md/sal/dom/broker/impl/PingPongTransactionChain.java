@@ -13,6 +13,8 @@ import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.GuardedBy;
@@ -50,13 +52,23 @@ import org.slf4j.LoggerFactory;
  * It furthermore means that the transactions returned by {@link #newReadOnlyTransaction()}
  * counts as an outstanding transaction and the user may not allocate multiple
  * read-only transactions at the same time.
+ *
+ * The batching is bounded by a {@link PingPongBatchPolicy}: a transaction which has accumulated
+ * the maximum number of modifications is submitted as soon as it is ready, pipelined behind the
+ * in-flight one, and an idle chain may hold a ready transaction back for the linger time. Each
+ * submitted transaction is recorded in {@link PingPongBatchStatistics}.
  */
 public final class PingPongTransactionChain implements DOMTransactionChain {
     private static final Logger LOG = LoggerFactory.getLogger(PingPongTransactionChain.class);
     private final DOMTransactionChain delegate;
+    private final PingPongBatchPolicy policy;
+    private final ScheduledExecutorService scheduler;
+    private final PingPongBatchStatistics statistics;
 
     @GuardedBy("this")
     private boolean failed;
+    @GuardedBy("this")
+    private boolean lingerScheduled;
 
     /**
      * This updater is used to manipulate the "ready" transaction. We perform only atomic
@@ -77,14 +89,26 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
     private volatile PingPongTransaction lockedTx;
 
     /**
-     * This updater is used to manipulate the "inflight" transaction. There can be at most
-     * one of these at any given time. We perform only compare-and-swap on these.
+     * This updater is used to manipulate the "inflight" transaction. This is the most recently
+     * submitted transaction, full transactions may be pipelined behind it. We perform
+     * compare-and-swap to clear it and plain set when submitting.
      */
     private static final AtomicReferenceFieldUpdater<PingPongTransactionChain, PingPongTransaction> INFLIGHT_UPDATER =
             AtomicReferenceFieldUpdater.newUpdater(PingPongTransactionChain.class, PingPongTransaction.class, "inflightTx");
     private volatile PingPongTransaction inflightTx;
 
     PingPongTransactionChain(final DOMDataBroker broker, final TransactionChainListener listener) {
+        this(broker, listener, PingPongBatchPolicy.DEFAULT, null, new PingPongBatchStatistics());
+    }
+
+    PingPongTransactionChain(final DOMDataBroker broker, final TransactionChainListener listener,
+            final PingPongBatchPolicy policy, final ScheduledExecutorService scheduler,
+            final PingPongBatchStatistics statistics) {
+        Preconditions.checkArgument(policy.getLingerNanos() == 0 || scheduler != null,
+            "Policy %s requires a scheduler", policy);
+        this.policy = policy;
+        this.scheduler = scheduler;
+        this.statistics = Preconditions.checkNotNull(statistics);
         this.delegate = broker.createTransactionChain(new TransactionChainListener() {
             @Override
             public void onTransactionChainFailed(final TransactionChain<?, ?> chain, final AsyncTransaction<?, ?> transaction, final Throwable cause) {
@@ -164,6 +188,11 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
     @GuardedBy("this")
     private void processIfReady() {
         if (inflightTx == null) {
+            final PingPongTransaction ready = readyTx;
+            if (ready != null && shouldLinger(ready)) {
+                return;
+            }
+
             final PingPongTransaction tx = READY_UPDATER.getAndSet(this, null);
             if (tx != null) {
                 processTransaction(tx);
@@ -171,6 +200,39 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
         }
     }
 
+    /*
+     * The ready transaction may be reused by a concurrent allocation while we look at it, which
+     * can only make it more worth submitting. Worst case we submit it slightly before its deadline.
+     */
+    @GuardedBy("this")
+    private boolean shouldLinger(final PingPongTransaction tx) {
+        if (failed || policy.getLingerNanos() == 0 || policy.isFull(tx.getModifications())) {
+            return false;
+        }
+
+        final long remaining = tx.getReadyNanos() + policy.getLingerNanos() - System.nanoTime();
+        if (remaining <= 0) {
+            return false;
+        }
+
+        if (!lingerScheduled) {
+            LOG.debug("Holding transaction {} back for {}ns", tx, remaining);
+            lingerScheduled = true;
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    lingerExpired();
+                }
+            }, remaining, TimeUnit.NANOSECONDS);
+        }
+        return true;
+    }
+
+    private synchronized void lingerExpired() {
+        lingerScheduled = false;
+        processIfReady();
+    }
+
     /**
      * Process a ready transaction. The caller needs to ensure that
      * each transaction is seen only once by this method.
@@ -186,10 +248,14 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
         }
 
         LOG.debug("Submitting transaction {}", tx);
-        if (!INFLIGHT_UPDATER.compareAndSet(this, null, tx)) {
-            LOG.warn("Submitting transaction {} while {} is still running", tx, inflightTx);
+        final PingPongTransaction previous = INFLIGHT_UPDATER.getAndSet(this, tx);
+        if (previous != null) {
+            LOG.debug("Transaction {} pipelined behind {}", tx, previous);
         }
 
+        statistics.recordBatch(tx.getTransactions(), tx.getModifications());
+        tx.markSubmitted(System.nanoTime());
+
         Futures.addCallback(tx.getTransaction().submit(), new FutureCallback<Void>() {
             @Override
             public void onSuccess(final Void result) {
@@ -205,12 +271,13 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
 
     private void transactionSuccessful(final PingPongTransaction tx, final Void result) {
         LOG.debug("Transaction {} completed successfully", tx);
+        statistics.recordCommit(System.nanoTime() - tx.getSubmitNanos());
 
-        final boolean success = INFLIGHT_UPDATER.compareAndSet(this, tx, null);
-        Preconditions.checkState(success, "Successful transaction %s while %s was submitted", tx, inflightTx);
-
-        synchronized (this) {
-            processIfReady();
+        // If a full transaction was pipelined behind this one, it remains in flight
+        if (INFLIGHT_UPDATER.compareAndSet(this, tx, null)) {
+            synchronized (this) {
+                processIfReady();
+            }
         }
 
         // Can run unsynchronized
@@ -219,10 +286,9 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
 
     private void transactionFailed(final PingPongTransaction tx, final Throwable t) {
         LOG.debug("Transaction {} failed", tx, t);
+        statistics.recordCommit(System.nanoTime() - tx.getSubmitNanos());
 
-        final boolean success = INFLIGHT_UPDATER.compareAndSet(this, tx, null);
-        Preconditions.checkState(success, "Failed transaction %s while %s was submitted", tx, inflightTx);
-
+        INFLIGHT_UPDATER.compareAndSet(this, tx, null);
         tx.onFailure(t);
     }
 
@@ -232,6 +298,19 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
         Preconditions.checkState(lockedMatch, "Attempted to submit transaction %s while we have %s", tx, lockedTx);
         LOG.debug("Transaction {} unlocked", tx);
 
+        /*
+         * A full transaction cannot be reused, so it is submitted right away. The ready slot
+         * is empty, as only the locked transaction can become ready, hence ordering is kept.
+         */
+        if (policy.isFull(tx.getModifications())) {
+            synchronized (this) {
+                processTransaction(tx);
+            }
+            return;
+        }
+
+        tx.markReady(System.nanoTime());
+
         /*
          * The transaction is ready. It will then be picked up by either next allocation,
          * or a background transaction completion callback.
@@ -309,12 +388,34 @@ public final class PingPongTransactionChain implements DOMTransactionChain {
     @Override
     public DOMDataReadWriteTransaction newReadWriteTransaction() {
         final PingPongTransaction tx = allocateTransaction();
+        tx.frontendAllocated();
+
         final DOMDataReadWriteTransaction ret = new ForwardingDOMDataReadWriteTransaction() {
             @Override
             protected DOMDataReadWriteTransaction delegate() {
                 return tx.getTransaction();
             }
 
+            @Override
+            public void put(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                    final NormalizedNode<?, ?> data) {
+                tx.modified();
+                super.put(store, path, data);
+            }
+
+            @Override
+            public void merge(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                    final NormalizedNode<?, ?> data) {
+                tx.modified();
+                super.merge(store, path, data);
+            }
+
+            @Override
+            public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+                tx.modified();
+                super.delete(store, path);
+            }
+
             @Override
             public CheckedFuture<Void, TransactionCommitFailedException> submit() {
                 readyTransaction(tx);
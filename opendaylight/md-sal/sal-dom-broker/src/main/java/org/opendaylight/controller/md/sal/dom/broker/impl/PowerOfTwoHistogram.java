@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.Preconditions;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of non-negative values. Bucket i counts the values up to 2^i which do not fit
+ * into bucket i-1, so recording is a single atomic increment regardless of the value range.
+ */
+final class PowerOfTwoHistogram {
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+
+    void record(final long value) {
+        Preconditions.checkArgument(value >= 0, "Negative value %s", value);
+        buckets.incrementAndGet(bucketOf(value));
+    }
+
+    private static int bucketOf(final long value) {
+        return value <= 1 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(value - 1);
+    }
+
+    long getCount() {
+        long count = 0;
+        for (int i = 0; i < buckets.length(); ++i) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the non-empty buckets, keyed by their upper bound and ordered by it.
+     */
+    Map<String, Long> snapshot() {
+        final Map<String, Long> ret = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length(); ++i) {
+            final long count = buckets.get(i);
+            if (count != 0) {
+                ret.put(i == Long.SIZE - 1 ? "<=" + Long.MAX_VALUE : "<=" + (1L << i), count);
+            }
+        }
+        return ret;
+    }
+
+    void reset() {
+        for (int i = 0; i < buckets.length(); ++i) {
+            buckets.set(i, 0);
+        }
+    }
+}
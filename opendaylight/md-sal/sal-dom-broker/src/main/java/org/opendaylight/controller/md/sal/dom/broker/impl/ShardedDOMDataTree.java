@@ -66,7 +66,7 @@ public final class ShardedDOMDataTree implements DOMDataTreeService, DOMDataTree
             }
 
             t.remove(prefix.getRootIdentifier());
-            parentReg = lookupShard(prefix).getRegistration();
+            parentReg = t.lookup(prefix.getRootIdentifier()).getRegistration();
 
             /*
              * FIXME: adjust all producers. This is tricky, as we need different locking strategy,
@@ -93,7 +93,7 @@ public final class ShardedDOMDataTree implements DOMDataTreeService, DOMDataTree
              * this registration.
              */
             final ShardingTableEntry parent = lookupShard(prefix);
-            parentReg = parent.getRegistration();
+            parentReg = parent == null ? null : parent.getRegistration();
             if (parentReg != null && prefix.equals(parentReg.getPrefix())) {
                 throw new DOMDataTreeShardingConflictException(String.format("Prefix %s is already occupied by shard {}", prefix, parentReg.getInstance()));
             }
@@ -115,6 +115,14 @@ public final class ShardedDOMDataTree implements DOMDataTreeService, DOMDataTree
         return reg;
     }
 
+    @GuardedBy("this")
+    private DOMDataTreeShard lookupShardInstance(final DOMDataTreeIdentifier subtree) {
+        final ShardingTableEntry entry = lookupShard(subtree);
+        final ShardRegistration<?> reg = entry == null ? null : entry.getRegistration();
+        Preconditions.checkArgument(reg != null, "No shard is registered for subtree %s", subtree);
+        return reg.getInstance();
+    }
+
     @GuardedBy("this")
     private DOMDataTreeProducer findProducer(final DOMDataTreeIdentifier subtree) {
         for (Entry<DOMDataTreeIdentifier, DOMDataTreeProducer> e : idToProducer.entrySet()) {
@@ -156,7 +164,7 @@ public final class ShardedDOMDataTree implements DOMDataTreeService, DOMDataTree
             final DOMDataTreeProducer producer = findProducer(s);
             Preconditions.checkArgument(producer == null, "Subtree %s is attached to producer %s", s, producer);
 
-            shardMap.put(s, lookupShard(s).getRegistration().getInstance());
+            shardMap.put(s, lookupShardInstance(s));
         }
 
         return createProducer(shardMap);
@@ -167,7 +175,7 @@ public final class ShardedDOMDataTree implements DOMDataTreeService, DOMDataTree
 
         final Map<DOMDataTreeIdentifier, DOMDataTreeShard> shardMap = new HashMap<>();
         for (DOMDataTreeIdentifier s : subtrees) {
-            shardMap.put(s, lookupShard(s).getRegistration().getInstance());
+            shardMap.put(s, lookupShardInstance(s));
         }
 
         return createProducer(shardMap);
@@ -199,7 +199,7 @@ final class ShardedDOMDataTreeProducer implements DOMDataTreeProducer {
     }
 
     synchronized void cancelTransaction(final ShardedDOMDataWriteTransaction transaction) {
-        if (!openTx.equals(transaction)) {
+        if (!transaction.equals(openTx)) {
             LOG.warn("Transaction {} is not open in producer {}", transaction, this);
             return;
         }
@@ -207,4 +207,14 @@ final class ShardedDOMDataTreeProducer implements DOMDataTreeProducer {
         LOG.debug("Transaction {} cancelled", transaction);
         openTx = null;
     }
+
+    synchronized void transactionSubmitted(final ShardedDOMDataWriteTransaction transaction) {
+        if (!transaction.equals(openTx)) {
+            LOG.warn("Transaction {} is not open in producer {}", transaction, this);
+            return;
+        }
+
+        LOG.debug("Transaction {} submitted", transaction);
+        openTx = null;
+    }
 }
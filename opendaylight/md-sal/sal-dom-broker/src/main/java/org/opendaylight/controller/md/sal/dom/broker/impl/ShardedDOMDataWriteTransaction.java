@@ -9,14 +9,18 @@ package org.opendaylight.controller.md.sal.dom.broker.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -88,6 +92,7 @@ final class ShardedDOMDataWriteTransaction implements DOMDataWriteTransaction {
     @Override
     public synchronized CheckedFuture<Void, TransactionCommitFailedException> submit() {
         Preconditions.checkState(!closed, "Transaction %s is already closed", identifier);
+        closed = true;
 
         final Set<DOMStoreWriteTransaction> txns = ImmutableSet.copyOf(idToTransaction.values());
         final List<DOMStoreThreePhaseCommitCohort> cohorts = new ArrayList<>(txns.size());
@@ -95,6 +100,16 @@ final class ShardedDOMDataWriteTransaction implements DOMDataWriteTransaction {
             cohorts.add(tx.ready());
         }
 
+        producer.transactionSubmitted(this);
+
+        /*
+         * A single shard needs no coordination, so we do not block the producer while it commits.
+         * Shards which support it elide the three phases into a single round-trip to their leader.
+         */
+        if (cohorts.size() == 1) {
+            return commitSingle(Iterables.getOnlyElement(cohorts));
+        }
+
         try {
             return Futures.immediateCheckedFuture(new CommitCoordinationTask(this, cohorts, null).call());
         } catch (TransactionCommitFailedException e) {
@@ -102,6 +117,60 @@ final class ShardedDOMDataWriteTransaction implements DOMDataWriteTransaction {
         }
     }
 
+    private CheckedFuture<Void, TransactionCommitFailedException> commitSingle(final DOMStoreThreePhaseCommitCohort cohort) {
+        final SettableFuture<Void> ret = SettableFuture.create();
+
+        Futures.addCallback(cohort.canCommit(), new FutureCallback<Boolean>() {
+            @Override
+            public void onSuccess(final Boolean result) {
+                if (result == null || !result) {
+                    abort(cohort, ret, new TransactionCommitFailedException("Can Commit failed, no detailed cause available."));
+                    return;
+                }
+
+                Futures.addCallback(cohort.preCommit(), new FutureCallback<Void>() {
+                    @Override
+                    public void onSuccess(final Void result) {
+                        Futures.addCallback(cohort.commit(), new FutureCallback<Void>() {
+                            @Override
+                            public void onSuccess(final Void result) {
+                                LOG.debug("Transaction {}: doCommit completed", identifier);
+                                ret.set(null);
+                            }
+
+                            @Override
+                            public void onFailure(final Throwable t) {
+                                abort(cohort, ret, TransactionCommitFailedExceptionMapper.COMMIT_ERROR_MAPPER.apply(
+                                    new ExecutionException(t)));
+                            }
+                        });
+                    }
+
+                    @Override
+                    public void onFailure(final Throwable t) {
+                        abort(cohort, ret, TransactionCommitFailedExceptionMapper.PRE_COMMIT_MAPPER.apply(
+                            new ExecutionException(t)));
+                    }
+                });
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                abort(cohort, ret, TransactionCommitFailedExceptionMapper.CAN_COMMIT_ERROR_MAPPER.apply(
+                    new ExecutionException(t)));
+            }
+        });
+
+        return new PingPongFuture(ret);
+    }
+
+    private void abort(final DOMStoreThreePhaseCommitCohort cohort, final SettableFuture<Void> future,
+            final TransactionCommitFailedException cause) {
+        LOG.warn("Tx: {} Error during commit, starting Abort", identifier, cause);
+        cohort.abort();
+        future.setException(cause);
+    }
+
     @Override
     @Deprecated
     public ListenableFuture<RpcResult<TransactionStatus>> commit() {
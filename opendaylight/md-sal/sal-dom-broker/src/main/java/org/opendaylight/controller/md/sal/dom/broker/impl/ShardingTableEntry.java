@@ -8,7 +8,7 @@
 package org.opendaylight.controller.md.sal.dom.broker.impl;
 
 import com.google.common.base.Preconditions;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import org.opendaylight.yangtools.concepts.Identifiable;
@@ -19,7 +19,7 @@ import org.slf4j.LoggerFactory;
 
 final class ShardingTableEntry implements Identifiable<PathArgument> {
     private static final Logger LOG = LoggerFactory.getLogger(ShardingTableEntry.class);
-    private final Map<PathArgument, ShardingTableEntry> children = Collections.emptyMap();
+    private final Map<PathArgument, ShardingTableEntry> children = new HashMap<>();
     private final PathArgument identifier;
     private ShardRegistration<?> registration;
 
@@ -40,9 +40,14 @@ final class ShardingTableEntry implements Identifiable<PathArgument> {
         return registration;
     }
 
+    /**
+     * Returns the most specific entry with a registration which covers the specified identifier,
+     * or this entry if there is none.
+     */
     ShardingTableEntry lookup(final YangInstanceIdentifier id) {
         final Iterator<PathArgument> it = id.getPathArguments().iterator();
         ShardingTableEntry entry = this;
+        ShardingTableEntry found = this;
 
         while (it.hasNext()) {
             final PathArgument a = it.next();
@@ -53,9 +58,12 @@ final class ShardingTableEntry implements Identifiable<PathArgument> {
             }
 
             entry = child;
+            if (entry.registration != null) {
+                found = entry;
+            }
         }
 
-        return entry;
+        return found;
     }
 
     void store(final YangInstanceIdentifier id, final ShardRegistration<?> reg) {
@@ -69,6 +77,8 @@ final class ShardingTableEntry implements Identifiable<PathArgument> {
                 child = new ShardingTableEntry(a);
                 entry.children.put(a, child);
             }
+
+            entry = child;
         }
 
         Preconditions.checkState(entry.registration == null);
@@ -86,6 +96,8 @@ final class ShardingTableEntry implements Identifiable<PathArgument> {
             } else {
                 LOG.warn("Cannot remove non-existent child {}", arg);
             }
+        } else {
+            registration = null;
         }
 
         return registration == null && children.isEmpty();
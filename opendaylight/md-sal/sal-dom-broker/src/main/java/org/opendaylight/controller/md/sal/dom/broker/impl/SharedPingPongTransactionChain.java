@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opendaylight.controller.md.sal.common.api.TransactionStatus;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChain;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMTransactionChain;
+import org.opendaylight.controller.md.sal.dom.spi.ForwardingDOMDataReadWriteTransaction;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+/**
+ * A {@link DOMTransactionChain} built on top of a {@link PingPongTransactionChain}, which can be shared
+ * by several application threads.
+ *
+ * Write-only transactions record their modifications, so any number of them can be open concurrently.
+ * When submitted, the modifications are replayed into the underlying ping-pong chain, where they are batched
+ * with the transactions of the other threads. Transactions are ordered by the time they are submitted.
+ *
+ * Read-only and read-write transactions are allocated directly from the underlying chain and hold it
+ * exclusively until they are closed, cancelled or submitted, so threads allocating them wait for each other.
+ * A thread holding such a transaction must not allocate another one nor submit a write-only transaction
+ * before releasing it, as it would wait for itself. Such attempts fail with an {@link IllegalStateException}.
+ * The underlying chain batches modifications of consecutive transactions, so a read-write transaction can be
+ * cancelled only as long as it has not been modified. Cancelling a modified transaction returns false and leaves
+ * it open, it still has to be submitted to release the chain.
+ */
+public final class SharedPingPongTransactionChain implements DOMTransactionChain, CoalescedWriteTransaction.Submitter {
+    private final AtomicLong txCounter = new AtomicLong();
+    private final Semaphore access = new Semaphore(1);
+    private volatile Thread accessOwner;
+    private final PingPongTransactionChain chain;
+
+    SharedPingPongTransactionChain(final DOMDataBroker broker, final TransactionChainListener listener,
+            final PingPongBatchPolicy policy, final ScheduledExecutorService scheduler,
+            final PingPongBatchStatistics statistics) {
+        chain = new PingPongTransactionChain(broker, new TransactionChainListener() {
+            @Override
+            public void onTransactionChainFailed(final TransactionChain<?, ?> chain,
+                    final AsyncTransaction<?, ?> transaction, final Throwable cause) {
+                listener.onTransactionChainFailed(SharedPingPongTransactionChain.this, transaction, cause);
+            }
+
+            @Override
+            public void onTransactionChainSuccessful(final TransactionChain<?, ?> chain) {
+                listener.onTransactionChainSuccessful(SharedPingPongTransactionChain.this);
+            }
+        }, policy, scheduler, statistics);
+    }
+
+    private void acquireAccess() {
+        final Thread current = Thread.currentThread();
+        Preconditions.checkState(accessOwner != current,
+            "Thread %s already holds an open transaction of chain %s, it has to be closed first", current, this);
+        access.acquireUninterruptibly();
+        accessOwner = current;
+    }
+
+    private void releaseAccess() {
+        accessOwner = null;
+        access.release();
+    }
+
+    @Override
+    public void submit(final CoalescedWriteTransaction tx) {
+        acquireAccess();
+        try {
+            final DOMDataWriteTransaction backendTx = chain.newWriteOnlyTransaction();
+            tx.applyTo(backendTx);
+            Futures.addCallback(backendTx.submit(), tx);
+        } finally {
+            releaseAccess();
+        }
+    }
+
+    @Override
+    public DOMDataWriteTransaction newWriteOnlyTransaction() {
+        return new CoalescedWriteTransaction("SPT-" + txCounter.getAndIncrement(), this);
+    }
+
+    @Override
+    public DOMDataReadOnlyTransaction newReadOnlyTransaction() {
+        acquireAccess();
+        final DOMDataReadOnlyTransaction tx;
+        try {
+            tx = chain.newReadOnlyTransaction();
+        } catch (RuntimeException e) {
+            releaseAccess();
+            throw e;
+        }
+
+        return new DOMDataReadOnlyTransaction() {
+            private boolean closed;
+
+            @Override
+            public CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException> read(
+                    final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+                return tx.read(store, path);
+            }
+
+            @Override
+            public CheckedFuture<Boolean, ReadFailedException> exists(final LogicalDatastoreType store,
+                    final YangInstanceIdentifier path) {
+                return tx.exists(store, path);
+            }
+
+            @Override
+            public Object getIdentifier() {
+                return tx.getIdentifier();
+            }
+
+            @Override
+            public void close() {
+                if (!closed) {
+                    closed = true;
+                    try {
+                        tx.close();
+                    } finally {
+                        releaseAccess();
+                    }
+                }
+            }
+        };
+    }
+
+    @Override
+    public DOMDataReadWriteTransaction newReadWriteTransaction() {
+        acquireAccess();
+        final DOMDataReadWriteTransaction tx;
+        try {
+            tx = chain.newReadWriteTransaction();
+        } catch (RuntimeException e) {
+            releaseAccess();
+            throw e;
+        }
+
+        return new ForwardingDOMDataReadWriteTransaction() {
+            private boolean modified;
+            private boolean released;
+
+            @Override
+            protected DOMDataReadWriteTransaction delegate() {
+                return tx;
+            }
+
+            @Override
+            public void put(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                    final NormalizedNode<?, ?> data) {
+                modified = true;
+                super.put(store, path, data);
+            }
+
+            @Override
+            public void merge(final LogicalDatastoreType store, final YangInstanceIdentifier path,
+                    final NormalizedNode<?, ?> data) {
+                modified = true;
+                super.merge(store, path, data);
+            }
+
+            @Override
+            public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
+                modified = true;
+                super.delete(store, path);
+            }
+
+            private void release() {
+                if (!released) {
+                    released = true;
+                    releaseAccess();
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                if (released) {
+                    return false;
+                }
+
+                if (modified) {
+                    /*
+                     * The modifications may already be batched with other transactions in the backend, so they
+                     * cannot be discarded. The transaction stays open and holds the chain until it is submitted.
+                     */
+                    return false;
+                }
+
+                // Nothing to discard, hand the transaction back to the chain
+                try {
+                    tx.submit();
+                } finally {
+                    release();
+                }
+                return true;
+            }
+
+            @Override
+            public CheckedFuture<Void, TransactionCommitFailedException> submit() {
+                try {
+                    return tx.submit();
+                } finally {
+                    release();
+                }
+            }
+
+            @Override
+            public ListenableFuture<RpcResult<TransactionStatus>> commit() {
+                try {
+                    return tx.commit();
+                } finally {
+                    release();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        acquireAccess();
+        try {
+            chain.close();
+        } finally {
+            releaseAccess();
+        }
+    }
+}
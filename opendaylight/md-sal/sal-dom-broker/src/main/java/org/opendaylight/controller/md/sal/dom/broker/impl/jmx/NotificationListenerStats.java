@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Notification delivery statistics of a single listener.
+ */
+public class NotificationListenerStats {
+    private final String listener;
+    private final long deliveredNotifications;
+    private final long pendingNotifications;
+    private final long lastDeliveryLagMillis;
+
+    @ConstructorProperties({"listener", "deliveredNotifications", "pendingNotifications", "lastDeliveryLagMillis"})
+    public NotificationListenerStats(String listener, long deliveredNotifications, long pendingNotifications,
+            long lastDeliveryLagMillis) {
+        this.listener = listener;
+        this.deliveredNotifications = deliveredNotifications;
+        this.pendingNotifications = pendingNotifications;
+        this.lastDeliveryLagMillis = lastDeliveryLagMillis;
+    }
+
+    public String getListener() {
+        return listener;
+    }
+
+    public long getDeliveredNotifications() {
+        return deliveredNotifications;
+    }
+
+    /**
+     * Returns the number of notifications published, but not yet delivered to the listener.
+     */
+    public long getPendingNotifications() {
+        return pendingNotifications;
+    }
+
+    /**
+     * Returns the time between the publication and the delivery of the last notification.
+     */
+    public long getLastDeliveryLagMillis() {
+        return lastDeliveryLagMillis;
+    }
+}
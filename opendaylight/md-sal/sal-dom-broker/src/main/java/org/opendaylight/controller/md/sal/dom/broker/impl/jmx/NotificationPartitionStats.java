@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Statistics of a single notification delivery partition.
+ */
+public class NotificationPartitionStats {
+    private final int partition;
+    private final int queueSize;
+    private final int remainingCapacity;
+    private final long blockedEnqueues;
+
+    @ConstructorProperties({"partition", "queueSize", "remainingCapacity", "blockedEnqueues"})
+    public NotificationPartitionStats(int partition, int queueSize, int remainingCapacity, long blockedEnqueues) {
+        this.partition = partition;
+        this.queueSize = queueSize;
+        this.remainingCapacity = remainingCapacity;
+        this.blockedEnqueues = blockedEnqueues;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public int getRemainingCapacity() {
+        return remainingCapacity;
+    }
+
+    /**
+     * Returns the number of times the dispatcher had to wait for space in the partition's queue.
+     */
+    public long getBlockedEnqueues() {
+        return blockedEnqueues;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import java.util.List;
+
+/**
+ * MXBean interface for retrieving notification delivery statistics.
+ */
+public interface NotificationRouterMXBean {
+
+    /**
+     * Returns the delivery statistics of each registered listener.
+     */
+    List<NotificationListenerStats> getListenerStats();
+
+    /**
+     * Returns the statistics of each delivery partition, empty if delivery is not partitioned.
+     */
+    List<NotificationPartitionStats> getPartitionStats();
+}
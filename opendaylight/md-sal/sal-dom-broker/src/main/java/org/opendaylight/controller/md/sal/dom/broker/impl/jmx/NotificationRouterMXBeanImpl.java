@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import com.google.common.base.Preconditions;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+import org.opendaylight.controller.md.sal.dom.broker.impl.DOMNotificationRouter;
+
+/**
+ * Implementation of the NotificationRouterMXBean interface.
+ */
+public class NotificationRouterMXBeanImpl extends AbstractMXBean implements NotificationRouterMXBean {
+
+    private final DOMNotificationRouter router;
+
+    /**
+     * Constructor.
+     *
+     * @param router the DOMNotificationRouter used to obtain the stats.
+     * @param mBeanType mBeanType Used as the <code>type</code> property in the bean's ObjectName.
+     */
+    public NotificationRouterMXBeanImpl(@Nonnull DOMNotificationRouter router, @Nonnull String mBeanType) {
+        super("NotificationRouter", mBeanType, null);
+        this.router = Preconditions.checkNotNull(router);
+    }
+
+    @Override
+    public List<NotificationListenerStats> getListenerStats() {
+        return router.getListenerStats();
+    }
+
+    @Override
+    public List<NotificationPartitionStats> getPartitionStats() {
+        return router.getPartitionStats();
+    }
+}
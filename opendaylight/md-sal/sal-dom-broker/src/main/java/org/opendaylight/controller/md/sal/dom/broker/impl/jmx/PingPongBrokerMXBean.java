@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import java.util.Map;
+
+/**
+ * MXBean interface for retrieving the batching statistics of a ping-pong broker's transaction chains.
+ * Histograms are keyed by the inclusive upper bound of each power-of-two bucket.
+ */
+public interface PingPongBrokerMXBean {
+
+    /**
+     * Returns the total number of backend transactions submitted.
+     */
+    long getTotalBatches();
+
+    /**
+     * Returns the histogram of front-end transactions per backend transaction.
+     */
+    Map<String, Long> getBatchTransactions();
+
+    /**
+     * Returns the histogram of modifications per backend transaction.
+     */
+    Map<String, Long> getBatchModifications();
+
+    /**
+     * Returns the histogram of backend commit latencies, in microseconds.
+     */
+    Map<String, Long> getCommitLatencyMicros();
+
+    /**
+     * Clears the current stats to their defaults.
+     */
+    void clearStats();
+}
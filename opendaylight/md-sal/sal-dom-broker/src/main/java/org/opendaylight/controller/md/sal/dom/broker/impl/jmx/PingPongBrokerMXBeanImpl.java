@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.md.sal.dom.broker.impl.jmx;
+
+import com.google.common.base.Preconditions;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+import org.opendaylight.controller.md.sal.dom.broker.impl.PingPongBatchStatistics;
+
+/**
+ * Implementation of the PingPongBrokerMXBean interface.
+ */
+public class PingPongBrokerMXBeanImpl extends AbstractMXBean implements PingPongBrokerMXBean {
+
+    private final PingPongBatchStatistics statistics;
+
+    /**
+     * Constructor.
+     *
+     * @param statistics the PingPongBatchStatistics used to obtain the stats.
+     * @param mBeanType mBeanType Used as the <code>type</code> property in the bean's ObjectName.
+     */
+    public PingPongBrokerMXBeanImpl(@Nonnull PingPongBatchStatistics statistics, @Nonnull String mBeanType) {
+        super("PingPongBatchStats", mBeanType, null);
+        this.statistics = Preconditions.checkNotNull(statistics);
+    }
+
+    @Override
+    public long getTotalBatches() {
+        return statistics.getTotalBatches();
+    }
+
+    @Override
+    public Map<String, Long> getBatchTransactions() {
+        return statistics.getBatchTransactions();
+    }
+
+    @Override
+    public Map<String, Long> getBatchModifications() {
+        return statistics.getBatchModifications();
+    }
+
+    @Override
+    public Map<String, Long> getCommitLatencyMicros() {
+        return statistics.getCommitLatencyMicros();
+    }
+
+    @Override
+    public void clearStats() {
+        statistics.reset();
+    }
+}
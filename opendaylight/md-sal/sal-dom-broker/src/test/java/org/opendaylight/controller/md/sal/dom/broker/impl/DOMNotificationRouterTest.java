@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+import org.opendaylight.controller.md.sal.dom.broker.impl.jmx.NotificationListenerStats;
+import org.opendaylight.controller.md.sal.dom.spi.DOMForwardingNotificationListener;
+import org.opendaylight.controller.md.sal.dom.spi.DOMNotificationBatchListener;
+import org.opendaylight.controller.md.sal.dom.spi.DOMNotificationSubscriptionListener;
+import org.opendaylight.controller.md.sal.dom.store.impl.TestModel;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class DOMNotificationRouterTest {
+    private static final SchemaPath TEST_TYPE = SchemaPath.create(true, TestModel.TEST_QNAME);
+
+    private DOMNotificationRouter router;
+
+    @After
+    public void tearDown() {
+        router.close();
+    }
+
+    private static DOMNotification notification() {
+        final DOMNotification notification = mock(DOMNotification.class);
+        doReturn(TEST_TYPE).when(notification).getType();
+        return notification;
+    }
+
+    private static final class BlockingListener implements DOMNotificationListener {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch received = new CountDownLatch(1);
+
+        @Override
+        public void onNotification(final DOMNotification notification) {
+            received.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class CountingListener implements DOMNotificationListener {
+        final CountDownLatch received;
+
+        CountingListener(final int expected) {
+            received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onNotification(final DOMNotification notification) {
+            received.countDown();
+        }
+    }
+
+    private static final class RecordingBatchListener implements DOMNotificationBatchListener {
+        final List<List<DOMNotification>> batches = new ArrayList<>();
+        final CountDownLatch received;
+
+        RecordingBatchListener(final int expected) {
+            received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onNotification(final DOMNotification notification) {
+            throw new AssertionError("Unexpected single notification");
+        }
+
+        @Override
+        public synchronized void onNotifications(final List<DOMNotification> notifications) {
+            batches.add(notifications);
+            for (int i = 0; i < notifications.size(); ++i) {
+                received.countDown();
+            }
+        }
+    }
+
+    @Test
+    public void testSlowListenerDoesNotBlockOtherListeners() throws Exception {
+        router = DOMNotificationRouter.create(16, 1, 30, TimeUnit.MILLISECONDS, 2, 16, true);
+
+        final BlockingListener slow = new BlockingListener();
+        final CountingListener fast = new CountingListener(5);
+        router.registerNotificationListener(slow, TEST_TYPE);
+        router.registerNotificationListener(fast, TEST_TYPE);
+
+        // Listeners are assigned to partitions in registration order
+        final List<NotificationListenerStats> stats = router.getListenerStats();
+        assertEquals(2, stats.size());
+
+        final List<ListenableFuture<? extends Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            futures.add(router.putNotification(notification()));
+        }
+
+        assertTrue(slow.received.await(5, TimeUnit.SECONDS));
+        assertTrue(fast.received.await(5, TimeUnit.SECONDS));
+
+        // The futures complete only once every listener got the notification
+        assertFalse(futures.get(4).isDone());
+        slow.release.countDown();
+        for (ListenableFuture<? extends Object> f : futures) {
+            f.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testBatchDelivery() throws Exception {
+        router = DOMNotificationRouter.create(16, 1, 30, TimeUnit.MILLISECONDS, 1, 16, false);
+
+        final BlockingListener blocker = new BlockingListener();
+        final RecordingBatchListener batchListener = new RecordingBatchListener(4);
+        router.registerNotificationListener(blocker, TEST_TYPE);
+        router.registerNotificationListener(batchListener, TEST_TYPE);
+
+        // The first notification blocks the partition, the following ones queue up
+        router.putNotification(notification());
+        assertTrue(blocker.received.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 3; ++i) {
+            router.putNotification(notification());
+        }
+
+        // Wait for the notifications to reach the partition's queue
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (router.getPartitionStats().get(0).getQueueSize() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        blocker.release.countDown();
+        assertTrue(batchListener.received.await(5, TimeUnit.SECONDS));
+
+        synchronized (batchListener) {
+            assertEquals(2, batchListener.batches.size());
+            assertEquals(1, batchListener.batches.get(0).size());
+            assertEquals(3, batchListener.batches.get(1).size());
+        }
+    }
+
+    @Test
+    public void testCloseDeliversQueuedNotifications() throws Exception {
+        router = DOMNotificationRouter.create(16, 1, 30, TimeUnit.MILLISECONDS, 1, 16, false);
+
+        final BlockingListener blocker = new BlockingListener();
+        router.registerNotificationListener(blocker, TEST_TYPE);
+
+        final List<ListenableFuture<? extends Object>> futures = new ArrayList<>();
+        futures.add(router.putNotification(notification()));
+        assertTrue(blocker.received.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 3; ++i) {
+            futures.add(router.putNotification(notification()));
+        }
+
+        // Queued notifications are still delivered after close
+        router.close();
+        assertFalse(futures.get(3).isDone());
+        blocker.release.countDown();
+        for (ListenableFuture<? extends Object> f : futures) {
+            f.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testForwardingListenerNotReportedAsSubscription() throws Exception {
+        router = DOMNotificationRouter.create(16);
+
+        final BlockingQueue<Set<SchemaPath>> subscriptions = new LinkedBlockingQueue<>();
+        router.registerSubscriptionListener(new DOMNotificationSubscriptionListener() {
+            @Override
+            public void onSubscriptionChanged(final Set<SchemaPath> currentTypes) {
+                subscriptions.add(currentTypes);
+            }
+        });
+        assertEquals(Collections.emptySet(), subscriptions.poll(5, TimeUnit.SECONDS));
+
+        final DOMForwardingNotificationListener forwarder = mock(DOMForwardingNotificationListener.class);
+        router.registerNotificationListener(forwarder, TEST_TYPE);
+        assertEquals(Collections.emptySet(), subscriptions.poll(5, TimeUnit.SECONDS));
+
+        router.registerNotificationListener(new CountingListener(1), TEST_TYPE);
+        assertEquals(Collections.singleton(TEST_TYPE), subscriptions.poll(5, TimeUnit.SECONDS));
+    }
+}
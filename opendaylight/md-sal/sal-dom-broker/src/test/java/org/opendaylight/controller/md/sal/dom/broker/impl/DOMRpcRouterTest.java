@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcAvailabilityListener;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcIdentifier;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcImplementation;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcImplementationRegistration;
+import org.opendaylight.controller.md.sal.dom.store.impl.TestModel;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class DOMRpcRouterTest {
+    private static final SchemaPath TEST_RPC = SchemaPath.create(true, TestModel.TEST_QNAME);
+    private static final int CONTEXT_COUNT = 5000;
+
+    private DOMRpcRouter router;
+
+    @Before
+    public void setUp() {
+        router = new DOMRpcRouter();
+    }
+
+    @After
+    public void tearDown() {
+        router.close();
+    }
+
+    private static DOMRpcIdentifier routedRpc(final int id) {
+        return DOMRpcIdentifier.create(TEST_RPC, YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+                .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, id).build());
+    }
+
+    private Set<YangInstanceIdentifier> registeredContexts() {
+        final Set<YangInstanceIdentifier> contexts = router.routingTable().getRpcs().get(TEST_RPC);
+        return contexts == null ? Collections.<YangInstanceIdentifier>emptySet() : contexts;
+    }
+
+    @Test
+    public void testIncrementalRoutedRegistrations() {
+        final DOMRpcImplementation impl = mock(DOMRpcImplementation.class);
+        final List<DOMRpcImplementationRegistration<DOMRpcImplementation>> regs = new ArrayList<>(CONTEXT_COUNT);
+        for (int i = 0; i < CONTEXT_COUNT; i++) {
+            regs.add(router.registerRpcImplementation(impl, routedRpc(i)));
+        }
+
+        assertEquals(CONTEXT_COUNT, registeredContexts().size());
+        assertTrue(router.routingTable().contains(routedRpc(CONTEXT_COUNT - 1)));
+
+        for (int i = 0; i < CONTEXT_COUNT; i += 2) {
+            regs.get(i).close();
+        }
+
+        assertEquals(CONTEXT_COUNT / 2, registeredContexts().size());
+        assertFalse(router.routingTable().contains(routedRpc(0)));
+        assertTrue(router.routingTable().contains(routedRpc(1)));
+
+        for (int i = 1; i < CONTEXT_COUNT; i += 2) {
+            regs.get(i).close();
+        }
+
+        assertTrue(registeredContexts().isEmpty());
+    }
+
+    @Test
+    public void testMultipleImplementationsOfContext() {
+        final DOMRpcImplementation impl1 = mock(DOMRpcImplementation.class);
+        final DOMRpcImplementation impl2 = mock(DOMRpcImplementation.class);
+
+        final DOMRpcImplementationRegistration<DOMRpcImplementation> reg1 =
+                router.registerRpcImplementation(impl1, routedRpc(1));
+        final DOMRpcImplementationRegistration<DOMRpcImplementation> reg2 =
+                router.registerRpcImplementation(impl2, routedRpc(1), routedRpc(2));
+
+        reg1.close();
+        assertTrue(router.routingTable().contains(routedRpc(1)));
+
+        reg2.close();
+        assertFalse(router.routingTable().contains(routedRpc(1)));
+        assertFalse(router.routingTable().contains(routedRpc(2)));
+    }
+
+    @Test
+    public void testListenerNotifications() {
+        final DOMRpcAvailabilityListener listener = mock(DOMRpcAvailabilityListener.class);
+        router.registerRpcListener(listener);
+
+        final DOMRpcImplementation impl = mock(DOMRpcImplementation.class);
+        final DOMRpcImplementationRegistration<DOMRpcImplementation> reg =
+                router.registerRpcImplementation(impl, routedRpc(1), routedRpc(2));
+        verify(listener, timeout(5000)).onRpcAvailable(ImmutableSet.of(routedRpc(1), routedRpc(2)));
+
+        reg.close();
+        verify(listener, timeout(5000)).onRpcUnavailable(ImmutableSet.of(routedRpc(1), routedRpc(2)));
+    }
+
+    @Test
+    public void testConcurrentRegistrations() throws Exception {
+        final Set<DOMRpcIdentifier> available = Collections.synchronizedSet(new HashSet<DOMRpcIdentifier>());
+        final CountDownLatch allAvailable = new CountDownLatch(1);
+        router.registerRpcListener(new DOMRpcAvailabilityListener() {
+            @Override
+            public void onRpcAvailable(final Collection<DOMRpcIdentifier> rpcs) {
+                available.addAll(rpcs);
+                if (available.size() == CONTEXT_COUNT) {
+                    allAvailable.countDown();
+                }
+            }
+
+            @Override
+            public void onRpcUnavailable(final Collection<DOMRpcIdentifier> rpcs) {
+                available.removeAll(rpcs);
+            }
+        });
+
+        final DOMRpcImplementation impl = mock(DOMRpcImplementation.class);
+        final int threadCount = 4;
+        final List<Thread> threads = new ArrayList<>(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            final int first = t;
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    for (int i = first; i < CONTEXT_COUNT; i += threadCount) {
+                        router.registerRpcImplementation(impl, routedRpc(i));
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // No registration is lost and listeners end up seeing all of them
+        assertEquals(CONTEXT_COUNT, registeredContexts().size());
+        assertTrue(allAvailable.await(5, TimeUnit.SECONDS));
+    }
+}
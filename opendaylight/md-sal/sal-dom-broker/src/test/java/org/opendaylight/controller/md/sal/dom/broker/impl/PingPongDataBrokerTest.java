@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType.OPERATIONAL;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.store.impl.TestModel;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class PingPongDataBrokerTest {
+    private static final NormalizedNode<?, ?> TEST_CONTAINER = ImmutableNodes.containerNode(TestModel.TEST_QNAME);
+    private static final NormalizedNode<?, ?> TEST2_CONTAINER = ImmutableNodes.containerNode(TestModel.TEST2_QNAME);
+
+    private DOMDataBroker delegate;
+    private DOMDataWriteTransaction firstBackendTx;
+    private DOMDataWriteTransaction secondBackendTx;
+    private DOMDataWriteTransaction thirdBackendTx;
+    private SettableFuture<Void> firstFuture;
+    private SettableFuture<Void> secondFuture;
+    private SettableFuture<Void> thirdFuture;
+
+    @Before
+    public void setUp() {
+        delegate = mock(DOMDataBroker.class);
+        firstBackendTx = mock(DOMDataWriteTransaction.class);
+        secondBackendTx = mock(DOMDataWriteTransaction.class);
+        thirdBackendTx = mock(DOMDataWriteTransaction.class);
+        firstFuture = SettableFuture.create();
+        secondFuture = SettableFuture.create();
+        thirdFuture = SettableFuture.create();
+
+        doReturn(checked(firstFuture)).when(firstBackendTx).submit();
+        doReturn(checked(secondFuture)).when(secondBackendTx).submit();
+        doReturn(checked(thirdFuture)).when(thirdBackendTx).submit();
+        doReturn(firstBackendTx).doReturn(secondBackendTx).doReturn(thirdBackendTx)
+                .when(delegate).newWriteOnlyTransaction();
+    }
+
+    private static CheckedFuture<Void, TransactionCommitFailedException> checked(final SettableFuture<Void> future) {
+        return new PingPongFuture(future);
+    }
+
+    @Test
+    public void testCoalescingDisabled() {
+        PingPongDataBroker broker = new PingPongDataBroker(delegate);
+        assertSame(firstBackendTx, broker.newWriteOnlyTransaction());
+    }
+
+    @Test
+    public void testCoalescedTransactions() throws Exception {
+        PingPongDataBroker broker = new PingPongDataBroker(delegate, 10);
+
+        // The first transaction is committed right away, the following ones are batched while it is in flight.
+        DOMDataWriteTransaction tx1 = broker.newWriteOnlyTransaction();
+        tx1.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        CheckedFuture<Void, TransactionCommitFailedException> future1 = tx1.submit();
+
+        DOMDataWriteTransaction tx2 = broker.newWriteOnlyTransaction();
+        tx2.merge(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        CheckedFuture<Void, TransactionCommitFailedException> future2 = tx2.submit();
+
+        DOMDataWriteTransaction tx3 = broker.newWriteOnlyTransaction();
+        tx3.delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+        CheckedFuture<Void, TransactionCommitFailedException> future3 = tx3.submit();
+
+        verify(firstBackendTx).put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        verify(delegate, times(1)).newWriteOnlyTransaction();
+
+        firstFuture.set(null);
+        future1.checkedGet();
+        assertFalse(future2.isDone());
+
+        // tx2 and tx3 do not overlap, so they share a backend transaction
+        verify(secondBackendTx).merge(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        verify(secondBackendTx).delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+        verify(delegate, times(2)).newWriteOnlyTransaction();
+
+        secondFuture.set(null);
+        future2.checkedGet();
+        future3.checkedGet();
+    }
+
+    @Test
+    public void testConflictingTransactionsNotCoalesced() throws Exception {
+        PingPongDataBroker broker = new PingPongDataBroker(delegate, 10);
+
+        DOMDataWriteTransaction tx1 = broker.newWriteOnlyTransaction();
+        tx1.put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        tx1.submit();
+
+        DOMDataWriteTransaction tx2 = broker.newWriteOnlyTransaction();
+        tx2.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        CheckedFuture<Void, TransactionCommitFailedException> future2 = tx2.submit();
+
+        DOMDataWriteTransaction tx3 = broker.newWriteOnlyTransaction();
+        tx3.delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+        CheckedFuture<Void, TransactionCommitFailedException> future3 = tx3.submit();
+
+        firstFuture.set(null);
+        verify(secondBackendTx).put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+
+        secondFuture.set(null);
+        future2.checkedGet();
+        assertFalse(future3.isDone());
+        verify(thirdBackendTx).delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+
+        thirdFuture.set(null);
+        future3.checkedGet();
+    }
+
+    @Test
+    public void testFailedBatchRetriedIndividually() throws Exception {
+        DOMDataWriteTransaction fourthBackendTx = mock(DOMDataWriteTransaction.class);
+        SettableFuture<Void> fourthFuture = SettableFuture.create();
+        doReturn(checked(fourthFuture)).when(fourthBackendTx).submit();
+        doReturn(firstBackendTx).doReturn(secondBackendTx).doReturn(thirdBackendTx).doReturn(fourthBackendTx)
+                .when(delegate).newWriteOnlyTransaction();
+
+        PingPongDataBroker broker = new PingPongDataBroker(delegate, 10);
+
+        DOMDataWriteTransaction tx0 = broker.newWriteOnlyTransaction();
+        tx0.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        tx0.submit();
+
+        DOMDataWriteTransaction tx1 = broker.newWriteOnlyTransaction();
+        tx1.put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        CheckedFuture<Void, TransactionCommitFailedException> future1 = tx1.submit();
+
+        DOMDataWriteTransaction tx2 = broker.newWriteOnlyTransaction();
+        tx2.delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+        CheckedFuture<Void, TransactionCommitFailedException> future2 = tx2.submit();
+
+        firstFuture.set(null);
+        verify(secondBackendTx).put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        verify(secondBackendTx).delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+
+        // The batch fails, its transactions are retried one by one
+        secondFuture.setException(new TransactionCommitFailedException("mock"));
+        assertFalse(future1.isDone());
+        verify(thirdBackendTx).put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+
+        thirdFuture.setException(new TransactionCommitFailedException("mock"));
+        try {
+            future1.checkedGet();
+            fail("Expected TransactionCommitFailedException");
+        } catch (TransactionCommitFailedException e) {
+            // Expected
+        }
+
+        assertFalse(future2.isDone());
+        verify(fourthBackendTx).delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+
+        fourthFuture.set(null);
+        future2.checkedGet();
+    }
+
+    @Test
+    public void testSynchronousFailure() throws Exception {
+        doThrow(new IllegalArgumentException("mock")).when(secondBackendTx).delete(OPERATIONAL,
+            TestModel.OUTER_LIST_PATH);
+
+        PingPongDataBroker broker = new PingPongDataBroker(delegate, 10);
+
+        DOMDataWriteTransaction tx0 = broker.newWriteOnlyTransaction();
+        tx0.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        CheckedFuture<Void, TransactionCommitFailedException> future0 = tx0.submit();
+
+        DOMDataWriteTransaction tx1 = broker.newWriteOnlyTransaction();
+        tx1.delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+        CheckedFuture<Void, TransactionCommitFailedException> future1 = tx1.submit();
+
+        // The failure is reported to the failing transaction only, not to the submitter of the batch
+        firstFuture.set(null);
+        future0.checkedGet();
+        verify(secondBackendTx).cancel();
+
+        try {
+            future1.checkedGet();
+            fail("Expected TransactionCommitFailedException");
+        } catch (TransactionCommitFailedException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+
+        // The batcher is idle again, so the next transaction is committed right away
+        DOMDataWriteTransaction tx2 = broker.newWriteOnlyTransaction();
+        tx2.put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        CheckedFuture<Void, TransactionCommitFailedException> future2 = tx2.submit();
+
+        verify(thirdBackendTx).put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        thirdFuture.set(null);
+        future2.checkedGet();
+    }
+
+    @Test
+    public void testSynchronousCompletion() throws Exception {
+        DOMDataWriteTransaction immediateBackendTx = mock(DOMDataWriteTransaction.class);
+        doReturn(Futures.<Void, TransactionCommitFailedException>immediateCheckedFuture(null))
+                .when(immediateBackendTx).submit();
+        doReturn(firstBackendTx).doReturn(immediateBackendTx).when(delegate).newWriteOnlyTransaction();
+
+        PingPongDataBroker broker = new PingPongDataBroker(delegate, 10);
+
+        DOMDataWriteTransaction tx = broker.newWriteOnlyTransaction();
+        tx.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        tx.submit();
+
+        // Conflicting transactions queue up as separate batches, each of which completes synchronously
+        // once the first one is done. This must not grow the stack with the number of batches.
+        CheckedFuture<Void, TransactionCommitFailedException> last = null;
+        for (int i = 0; i < 20000; ++i) {
+            tx = broker.newWriteOnlyTransaction();
+            tx.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+            last = tx.submit();
+        }
+
+        firstFuture.set(null);
+        last.checkedGet();
+        verify(delegate, times(20001)).newWriteOnlyTransaction();
+    }
+
+    @Test
+    public void testCancel() throws ExecutionException, InterruptedException {
+        PingPongDataBroker broker = new PingPongDataBroker(delegate, 10);
+
+        DOMDataWriteTransaction tx = broker.newWriteOnlyTransaction();
+        tx.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        assertTrue(tx.cancel());
+        assertFalse(tx.cancel());
+        verify(delegate, times(0)).newWriteOnlyTransaction();
+
+        DOMDataWriteTransaction empty = broker.newWriteOnlyTransaction();
+        empty.submit().get();
+        verify(delegate, times(0)).newWriteOnlyTransaction();
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.broker.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType.OPERATIONAL;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMTransactionChain;
+import org.opendaylight.controller.md.sal.dom.store.impl.TestModel;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class PingPongTransactionChainTest {
+    private static final NormalizedNode<?, ?> TEST_CONTAINER = ImmutableNodes.containerNode(TestModel.TEST_QNAME);
+    private static final NormalizedNode<?, ?> TEST2_CONTAINER = ImmutableNodes.containerNode(TestModel.TEST2_QNAME);
+
+    private DOMDataBroker broker;
+    private TransactionChainListener listener;
+    private DOMDataReadWriteTransaction firstBackendTx;
+    private DOMDataReadWriteTransaction secondBackendTx;
+    private SettableFuture<Void> firstFuture;
+    private SettableFuture<Void> secondFuture;
+    private PingPongBatchStatistics statistics;
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void setUp() {
+        broker = mock(DOMDataBroker.class);
+        listener = mock(TransactionChainListener.class);
+        final DOMTransactionChain backendChain = mock(DOMTransactionChain.class);
+        doReturn(backendChain).when(broker).createTransactionChain(any(TransactionChainListener.class));
+
+        firstBackendTx = mock(DOMDataReadWriteTransaction.class);
+        secondBackendTx = mock(DOMDataReadWriteTransaction.class);
+        firstFuture = SettableFuture.create();
+        secondFuture = SettableFuture.create();
+        doReturn(checked(firstFuture)).when(firstBackendTx).submit();
+        doReturn(checked(secondFuture)).when(secondBackendTx).submit();
+        doReturn(firstBackendTx).doReturn(secondBackendTx).when(backendChain).newReadWriteTransaction();
+
+        statistics = new PingPongBatchStatistics();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private static CheckedFuture<Void, TransactionCommitFailedException> checked(final SettableFuture<Void> future) {
+        return new PingPongFuture(future);
+    }
+
+    private PingPongTransactionChain createChain(final PingPongBatchPolicy policy) {
+        return new PingPongTransactionChain(broker, listener, policy, scheduler, statistics);
+    }
+
+    @Test
+    public void testBatchedWhileInflight() throws Exception {
+        final PingPongTransactionChain chain = createChain(PingPongBatchPolicy.DEFAULT);
+
+        final DOMDataWriteTransaction tx1 = chain.newWriteOnlyTransaction();
+        tx1.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        final CheckedFuture<Void, TransactionCommitFailedException> future1 = tx1.submit();
+        verify(firstBackendTx).submit();
+
+        final DOMDataWriteTransaction tx2 = chain.newWriteOnlyTransaction();
+        tx2.put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        tx2.submit();
+        final DOMDataWriteTransaction tx3 = chain.newWriteOnlyTransaction();
+        tx3.delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+        final CheckedFuture<Void, TransactionCommitFailedException> future3 = tx3.submit();
+        verify(secondBackendTx, never()).submit();
+
+        firstFuture.set(null);
+        future1.checkedGet();
+        verify(secondBackendTx).submit();
+        verify(secondBackendTx).put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        verify(secondBackendTx).delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+
+        secondFuture.set(null);
+        future3.checkedGet();
+
+        assertEquals(2, statistics.getTotalBatches());
+        assertEquals(ImmutableMap.of("<=1", 1L, "<=2", 1L), statistics.getBatchTransactions());
+        assertEquals(ImmutableMap.of("<=1", 1L, "<=2", 1L), statistics.getBatchModifications());
+        assertEquals(2, sum(statistics.getCommitLatencyMicros().values()));
+    }
+
+    private static long sum(final Iterable<Long> values) {
+        long ret = 0;
+        for (Long v : values) {
+            ret += v;
+        }
+        return ret;
+    }
+
+    @Test
+    public void testFullBatchPipelined() throws Exception {
+        final PingPongTransactionChain chain = createChain(new PingPongBatchPolicy(2, 0, TimeUnit.NANOSECONDS));
+
+        final DOMDataWriteTransaction tx1 = chain.newWriteOnlyTransaction();
+        tx1.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        tx1.submit();
+        verify(firstBackendTx).submit();
+
+        // The second backend transaction fills up while the first one is in flight and is submitted right away
+        final DOMDataWriteTransaction tx2 = chain.newWriteOnlyTransaction();
+        tx2.put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        tx2.submit();
+        verify(secondBackendTx, never()).submit();
+
+        final DOMDataWriteTransaction tx3 = chain.newWriteOnlyTransaction();
+        tx3.delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+        final CheckedFuture<Void, TransactionCommitFailedException> future3 = tx3.submit();
+        verify(secondBackendTx).submit();
+
+        // Completing the first transaction must not disturb the pipelined one
+        firstFuture.set(null);
+        assertFalse(future3.isDone());
+        secondFuture.set(null);
+        future3.checkedGet();
+
+        chain.close();
+    }
+
+    @Test
+    public void testLinger() throws Exception {
+        final PingPongTransactionChain chain = createChain(new PingPongBatchPolicy(0, 500, TimeUnit.MILLISECONDS));
+
+        final DOMDataWriteTransaction tx1 = chain.newWriteOnlyTransaction();
+        tx1.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        final CheckedFuture<Void, TransactionCommitFailedException> future1 = tx1.submit();
+
+        final DOMDataWriteTransaction tx2 = chain.newWriteOnlyTransaction();
+        tx2.put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        tx2.submit();
+
+        // Both transactions share the first backend transaction, which is submitted once linger expires
+        verify(firstBackendTx, timeout(5000)).submit();
+        verify(firstBackendTx).put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        firstFuture.set(null);
+        future1.checkedGet();
+        assertEquals(ImmutableMap.of("<=2", 1L), statistics.getBatchTransactions());
+    }
+
+    @Test
+    public void testSharedChainWriteTransactions() throws Exception {
+        final SharedPingPongTransactionChain chain = new SharedPingPongTransactionChain(broker, listener,
+            PingPongBatchPolicy.DEFAULT, scheduler, statistics);
+
+        // Write-only transactions can be open concurrently
+        final DOMDataWriteTransaction tx1 = chain.newWriteOnlyTransaction();
+        final DOMDataWriteTransaction tx2 = chain.newWriteOnlyTransaction();
+        final DOMDataWriteTransaction tx3 = chain.newWriteOnlyTransaction();
+        tx1.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        tx2.put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        tx3.delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+
+        final CheckedFuture<Void, TransactionCommitFailedException> future1 = tx1.submit();
+        verify(firstBackendTx).put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        verify(firstBackendTx).submit();
+
+        final CheckedFuture<Void, TransactionCommitFailedException> future3 = tx3.submit();
+        final CheckedFuture<Void, TransactionCommitFailedException> future2 = tx2.submit();
+        firstFuture.set(null);
+        future1.checkedGet();
+
+        verify(secondBackendTx).delete(OPERATIONAL, TestModel.OUTER_LIST_PATH);
+        verify(secondBackendTx).put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        verify(secondBackendTx, times(1)).submit();
+        secondFuture.set(null);
+        future2.checkedGet();
+        assertTrue(future3.isDone());
+    }
+
+    @Test
+    public void testSharedChainReadWriteTransactionCancel() throws Exception {
+        final SharedPingPongTransactionChain chain = new SharedPingPongTransactionChain(broker, listener,
+            PingPongBatchPolicy.DEFAULT, scheduler, statistics);
+
+        final DOMDataReadWriteTransaction tx = chain.newReadWriteTransaction();
+
+        // The thread holding the chain cannot wait for it
+        try {
+            chain.newReadOnlyTransaction();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+
+        final DOMDataWriteTransaction writeTx = chain.newWriteOnlyTransaction();
+        writeTx.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+        try {
+            writeTx.submit();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+
+        // Cancelling an unmodified transaction releases the chain
+        assertTrue(tx.cancel());
+        assertFalse(tx.cancel());
+        verify(firstBackendTx, never()).put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+
+        final DOMDataReadWriteTransaction tx2 = chain.newReadWriteTransaction();
+        tx2.put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        tx2.submit();
+        verify(firstBackendTx).submit();
+        verify(secondBackendTx).put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+    }
+
+    @Test
+    public void testSharedChainModifiedReadWriteTransactionCancel() throws Exception {
+        final SharedPingPongTransactionChain chain = new SharedPingPongTransactionChain(broker, listener,
+            PingPongBatchPolicy.DEFAULT, scheduler, statistics);
+
+        final DOMDataReadWriteTransaction tx = chain.newReadWriteTransaction();
+        tx.put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+
+        // Modifications cannot be discarded, the transaction stays open
+        assertFalse(tx.cancel());
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<DOMDataReadWriteTransaction> future = executor.submit(
+                new Callable<DOMDataReadWriteTransaction>() {
+                    @Override
+                    public DOMDataReadWriteTransaction call() {
+                        return chain.newReadWriteTransaction();
+                    }
+                });
+
+            try {
+                future.get(200, TimeUnit.MILLISECONDS);
+                fail("Expected the transaction allocation to wait for the open transaction");
+            } catch (TimeoutException e) {
+                // Expected
+            }
+
+            // Submitting the transaction hands the chain over to the other thread
+            tx.submit();
+            verify(firstBackendTx).put(OPERATIONAL, TestModel.TEST_PATH, TEST_CONTAINER);
+
+            final DOMDataReadWriteTransaction tx2 = future.get(5, TimeUnit.SECONDS);
+            tx2.put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+            tx2.submit();
+            verify(secondBackendTx).put(OPERATIONAL, TestModel.TEST2_PATH, TEST2_CONTAINER);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
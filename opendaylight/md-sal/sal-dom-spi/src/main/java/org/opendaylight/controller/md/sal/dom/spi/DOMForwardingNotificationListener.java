@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.spi;
+
+import com.google.common.annotations.Beta;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+
+/**
+ * Notification listener which does not consume notifications itself,
+ * but forwards them to listeners outside of the local notification
+ * service, for example on other cluster members.
+ *
+ * Notification services implementing {@link DOMNotificationSubscriptionListenerRegistry}
+ * do not report types for which only such listeners are registered
+ * to {@link DOMNotificationSubscriptionListener}s, so that forwarders
+ * do not mistake each other for subscribers.
+ */
+@Beta
+public interface DOMForwardingNotificationListener extends DOMNotificationListener {
+
+}
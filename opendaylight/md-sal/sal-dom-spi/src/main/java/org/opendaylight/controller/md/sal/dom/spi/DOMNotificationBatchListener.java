@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.spi;
+
+import com.google.common.annotations.Beta;
+import java.util.List;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
+
+/**
+ * Notification listener which can process multiple notifications
+ * in a single invocation. Notification routers which queue
+ * notifications before delivering them may hand all notifications
+ * queued for such a listener at once, other implementations simply
+ * invoke {@link #onNotification(DOMNotification)}.
+ */
+@Beta
+public interface DOMNotificationBatchListener extends DOMNotificationListener {
+
+    /**
+     * Invoked with a batch of notifications, in the order in which
+     * they were published.
+     *
+     * @param notifications Received notifications, never empty
+     */
+    void onNotifications(@Nonnull List<DOMNotification> notifications);
+
+}
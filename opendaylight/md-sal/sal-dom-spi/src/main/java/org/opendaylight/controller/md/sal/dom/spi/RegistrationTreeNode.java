@@ -38,6 +38,7 @@ public final class RegistrationTreeNode<T> implements Identifiable<PathArgument>
     private static final Logger LOG = LoggerFactory.getLogger(RegistrationTreeNode.class);
 
     private final Map<PathArgument, RegistrationTreeNode<T>> children = new HashMap<>();
+    private final Collection<RegistrationTreeNode<T>> publicChildren = Collections.unmodifiableCollection(children.values());
     private final Collection<T> registrations = new ArrayList<>(2);
     private final Collection<T> publicRegistrations = Collections.unmodifiableCollection(registrations);
     private final Reference<RegistrationTreeNode<T>> parent;
@@ -90,6 +91,16 @@ public final class RegistrationTreeNode<T> implements Identifiable<PathArgument>
         }
     }
 
+    /**
+     * Return all children of this node. This collection is guaranteed to be immutable
+     * only while the snapshot, through which this node is reachable remains unclosed.
+     *
+     * @return Collection of children, guaranteed to be non-null.
+     */
+    public @Nonnull Collection<RegistrationTreeNode<T>> getChildren() {
+        return publicChildren;
+    }
+
     public Collection<T> getRegistrations() {
         return publicRegistrations;
     }
@@ -26,7 +26,7 @@ public class InMemoryConfigDataStoreProviderModule extends org.opendaylight.cont
                 getDebugTransactions(),
                 InMemoryDOMDataStoreConfigProperties.create(getMaxDataChangeExecutorPoolSize(),
                         getMaxDataChangeExecutorQueueSize(), getMaxDataChangeListenerQueueSize(),
-                        getMaxDataStoreExecutorQueueSize()));
+                        getMaxDataStoreExecutorQueueSize(), getConcurrentCommit()));
 
         InMemoryDataStoreStats statsBean = new InMemoryDataStoreStats("InMemoryConfigDataStore", dataStore);
         dataStore.setCloseable(statsBean);
@@ -25,7 +25,7 @@ public class InMemoryOperationalDataStoreProviderModule extends org.opendaylight
         InMemoryDOMDataStore dataStore = InMemoryDOMDataStoreFactory.create("DOM-OPER", getSchemaServiceDependency(),
                 getDebugTransactions(), InMemoryDOMDataStoreConfigProperties.create(getMaxDataChangeExecutorPoolSize(),
                         getMaxDataChangeExecutorQueueSize(), getMaxDataChangeListenerQueueSize(),
-                        getMaxDataStoreExecutorQueueSize()));
+                        getMaxDataStoreExecutorQueueSize(), getConcurrentCommit()));
 
 
         InMemoryDataStoreStats statsBean = new InMemoryDataStoreStats("InMemoryOperationalDataStore", dataStore);
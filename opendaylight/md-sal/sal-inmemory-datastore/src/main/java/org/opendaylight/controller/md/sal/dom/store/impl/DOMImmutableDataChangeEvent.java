@@ -8,10 +8,15 @@
 package org.opendaylight.controller.md.sal.dom.store.impl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -21,6 +26,11 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
+/**
+ * An immutable data change event. Events merged into an event via {@link Builder#merge(DOMImmutableDataChangeEvent)}
+ * are not copied, but are referenced by the resulting event. The original, created, updated and removed data are
+ * computed on first access and cached, so listeners pay only for the parts of the event they actually use.
+ */
 public final class DOMImmutableDataChangeEvent implements
         AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> {
 
@@ -30,22 +40,37 @@ public final class DOMImmutableDataChangeEvent implements
 
     private final NormalizedNode<?, ?> original;
     private final NormalizedNode<?, ?> updated;
-    private final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> originalData;
-    private final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> createdData;
-    private final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> updatedData;
-    private final Set<YangInstanceIdentifier> removedPaths;
+    private final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> ownOriginalData;
+    private final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> ownCreatedData;
+    private final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> ownUpdatedData;
+    private final Set<YangInstanceIdentifier> ownRemovedPaths;
+    /**
+     * Non-empty events merged into this event, in the order in which they were merged.
+     */
+    private final List<DOMImmutableDataChangeEvent> mergedEvents;
     private final DataChangeScope scope;
+    private final boolean empty;
 
-
+    // Computed on first access
+    private volatile Map<YangInstanceIdentifier, NormalizedNode<?, ?>> originalData;
+    private volatile Map<YangInstanceIdentifier, NormalizedNode<?, ?>> createdData;
+    private volatile Map<YangInstanceIdentifier, NormalizedNode<?, ?>> updatedData;
+    private volatile Set<YangInstanceIdentifier> removedPaths;
 
     private DOMImmutableDataChangeEvent(final Builder change) {
         original = change.before;
         updated = change.after;
-        originalData = Collections.unmodifiableMap(change.original);
-        createdData = Collections.unmodifiableMap(change.created);
-        updatedData = Collections.unmodifiableMap(change.updated);
-        removedPaths = Collections.unmodifiableSet(change.removed);
+        ownOriginalData = copyOf(change.original);
+        ownCreatedData = copyOf(change.created);
+        ownUpdatedData = copyOf(change.updated);
+        ownRemovedPaths = change.removed == null ? ImmutableSet.<YangInstanceIdentifier>of() : ImmutableSet.copyOf(change.removed);
+        mergedEvents = change.merged == null ? ImmutableList.<DOMImmutableDataChangeEvent>of() : ImmutableList.copyOf(change.merged);
         scope = change.scope;
+        empty = change.isEmpty();
+    }
+
+    private static Map<YangInstanceIdentifier, NormalizedNode<?, ?>> copyOf(final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> map) {
+        return map == null ? ImmutableMap.<YangInstanceIdentifier, NormalizedNode<?, ?>>of() : ImmutableMap.copyOf(map);
     }
 
     public static final Builder builder(final DataChangeScope scope) {
@@ -56,6 +81,15 @@ public final class DOMImmutableDataChangeEvent implements
         return scope;
     }
 
+    /**
+     * Check whether this event reports any created, updated or removed data.
+     *
+     * @return True if the event does not report any changes.
+     */
+    boolean isEmpty() {
+        return empty;
+    }
+
     @Override
     public NormalizedNode<?, ?> getOriginalSubtree() {
         return original;
@@ -68,28 +102,164 @@ public final class DOMImmutableDataChangeEvent implements
 
     @Override
     public Map<YangInstanceIdentifier, NormalizedNode<?, ?>> getOriginalData() {
-        return originalData;
+        Map<YangInstanceIdentifier, NormalizedNode<?, ?>> ret = originalData;
+        if (ret == null) {
+            ret = DataMap.ORIGINAL.resolve(this);
+            originalData = ret;
+        }
+        return ret;
     }
 
     @Override
     public Map<YangInstanceIdentifier, NormalizedNode<?, ?>> getCreatedData() {
-        return createdData;
+        Map<YangInstanceIdentifier, NormalizedNode<?, ?>> ret = createdData;
+        if (ret == null) {
+            ret = DataMap.CREATED.resolve(this);
+            createdData = ret;
+        }
+        return ret;
     }
 
     @Override
     public Map<YangInstanceIdentifier, NormalizedNode<?, ?>> getUpdatedData() {
-        return updatedData;
+        Map<YangInstanceIdentifier, NormalizedNode<?, ?>> ret = updatedData;
+        if (ret == null) {
+            ret = DataMap.UPDATED.resolve(this);
+            updatedData = ret;
+        }
+        return ret;
     }
 
     @Override
     public Set<YangInstanceIdentifier> getRemovedPaths() {
-        return removedPaths;
+        Set<YangInstanceIdentifier> ret = removedPaths;
+        if (ret == null) {
+            ret = resolveRemovedPaths();
+            removedPaths = ret;
+        }
+        return ret;
+    }
+
+    private Set<YangInstanceIdentifier> resolveRemovedPaths() {
+        if (mergedEvents.isEmpty()) {
+            return ownRemovedPaths;
+        }
+        if (mergedEvents.size() == 1 && ownRemovedPaths.isEmpty()) {
+            // Share the result with the only merged event
+            return mergedEvents.get(0).getRemovedPaths();
+        }
+
+        final Set<YangInstanceIdentifier> ret = new HashSet<>();
+        collectRemovedPaths(ret);
+        return ret.isEmpty() ? Collections.<YangInstanceIdentifier>emptySet() : Collections.unmodifiableSet(ret);
+    }
+
+    private void collectRemovedPaths(final Set<YangInstanceIdentifier> target) {
+        for (DOMImmutableDataChangeEvent e : mergedEvents) {
+            final Set<YangInstanceIdentifier> cached = e.removedPaths;
+            if (cached != null) {
+                target.addAll(cached);
+            } else {
+                e.collectRemovedPaths(target);
+            }
+        }
+        target.addAll(ownRemovedPaths);
     }
 
     @Override
     public String toString() {
-        return "DOMImmutableDataChangeEvent [created=" + createdData.keySet() + ", updated=" + updatedData.keySet()
-                + ", removed=" + removedPaths + "]";
+        return "DOMImmutableDataChangeEvent [created=" + getCreatedData().keySet() + ", updated=" + getUpdatedData().keySet()
+                + ", removed=" + getRemovedPaths() + "]";
+    }
+
+    /**
+     * Path to data maps reported by an event. Each map is resolved by applying the maps of the merged
+     * events in the order in which they were merged, followed by the event's own data.
+     */
+    private enum DataMap {
+        ORIGINAL {
+            @Override
+            Map<YangInstanceIdentifier, NormalizedNode<?, ?>> own(final DOMImmutableDataChangeEvent event) {
+                return event.ownOriginalData;
+            }
+
+            @Override
+            Map<YangInstanceIdentifier, NormalizedNode<?, ?>> cached(final DOMImmutableDataChangeEvent event) {
+                return event.originalData;
+            }
+
+            @Override
+            Map<YangInstanceIdentifier, NormalizedNode<?, ?>> get(final DOMImmutableDataChangeEvent event) {
+                return event.getOriginalData();
+            }
+        },
+        CREATED {
+            @Override
+            Map<YangInstanceIdentifier, NormalizedNode<?, ?>> own(final DOMImmutableDataChangeEvent event) {
+                return event.ownCreatedData;
+            }
+
+            @Override
+            Map<YangInstanceIdentifier, NormalizedNode<?, ?>> cached(final DOMImmutableDataChangeEvent event) {
+                return event.createdData;
+            }
+
+            @Override
+            Map<YangInstanceIdentifier, NormalizedNode<?, ?>> get(final DOMImmutableDataChangeEvent event) {
+                return event.getCreatedData();
+            }
+        },
+        UPDATED {
+            @Override
+            Map<YangInstanceIdentifier, NormalizedNode<?, ?>> own(final DOMImmutableDataChangeEvent event) {
+                return event.ownUpdatedData;
+            }
+
+            @Override
+            Map<YangInstanceIdentifier, NormalizedNode<?, ?>> cached(final DOMImmutableDataChangeEvent event) {
+                return event.updatedData;
+            }
+
+            @Override
+            Map<YangInstanceIdentifier, NormalizedNode<?, ?>> get(final DOMImmutableDataChangeEvent event) {
+                return event.getUpdatedData();
+            }
+        };
+
+        abstract Map<YangInstanceIdentifier, NormalizedNode<?, ?>> own(DOMImmutableDataChangeEvent event);
+
+        abstract Map<YangInstanceIdentifier, NormalizedNode<?, ?>> cached(DOMImmutableDataChangeEvent event);
+
+        abstract Map<YangInstanceIdentifier, NormalizedNode<?, ?>> get(DOMImmutableDataChangeEvent event);
+
+        final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> resolve(final DOMImmutableDataChangeEvent event) {
+            final List<DOMImmutableDataChangeEvent> merged = event.mergedEvents;
+            if (merged.isEmpty()) {
+                return own(event);
+            }
+            if (merged.size() == 1 && own(event).isEmpty()) {
+                // Share the result with the only merged event
+                return get(merged.get(0));
+            }
+
+            final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> ret = new HashMap<>();
+            collect(event, ret);
+            return ret.isEmpty() ? Collections.<YangInstanceIdentifier, NormalizedNode<?, ?>>emptyMap()
+                    : Collections.unmodifiableMap(ret);
+        }
+
+        private void collect(final DOMImmutableDataChangeEvent event, final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> target) {
+            for (DOMImmutableDataChangeEvent e : event.mergedEvents) {
+                // Reuse the result if it has already been computed, otherwise do not bother caching it
+                final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> cached = cached(e);
+                if (cached != null) {
+                    target.putAll(cached);
+                } else {
+                    collect(e, target);
+                }
+            }
+            target.putAll(own(event));
+        }
     }
 
     /**
@@ -133,10 +303,12 @@ public final class DOMImmutableDataChangeEvent implements
         private NormalizedNode<?, ?> after;
         private NormalizedNode<?, ?> before;
 
-        private final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> original = new HashMap<>();
-        private final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> created = new HashMap<>();
-        private final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> updated = new HashMap<>();
-        private final Set<YangInstanceIdentifier> removed = new HashSet<>();
+        // Allocated on first use, most builders use only a few of these
+        private Map<YangInstanceIdentifier, NormalizedNode<?, ?>> original;
+        private Map<YangInstanceIdentifier, NormalizedNode<?, ?>> created;
+        private Map<YangInstanceIdentifier, NormalizedNode<?, ?>> updated;
+        private Set<YangInstanceIdentifier> removed;
+        private List<DOMImmutableDataChangeEvent> merged;
 
         private Builder(final DataChangeScope scope) {
             Preconditions.checkNotNull(scope, "Data change scope should not be null.");
@@ -153,13 +325,21 @@ public final class DOMImmutableDataChangeEvent implements
             return new DOMImmutableDataChangeEvent(this);
         }
 
+        /**
+         * Merge changes reported by an event into this builder. The event is referenced rather than
+         * copied. Its changes take precedence over the changes of events merged before it, but not
+         * over changes added directly to this builder.
+         *
+         * @param nestedChanges Event to merge
+         */
         public void merge(final DOMImmutableDataChangeEvent nestedChanges) {
-
-            original.putAll(nestedChanges.getOriginalData());
-            created.putAll(nestedChanges.getCreatedData());
-            updated.putAll(nestedChanges.getUpdatedData());
-            removed.addAll(nestedChanges.getRemovedPaths());
-
+            if (nestedChanges.isEmpty()) {
+                return;
+            }
+            if (merged == null) {
+                merged = new ArrayList<>(2);
+            }
+            merged.add(nestedChanges);
         }
 
         public Builder setBefore(final NormalizedNode<?, ?> node) {
@@ -168,11 +348,20 @@ public final class DOMImmutableDataChangeEvent implements
         }
 
         public Builder addCreated(final YangInstanceIdentifier path, final NormalizedNode<?, ?> node) {
+            if (created == null) {
+                created = new HashMap<>();
+            }
             created.put(path, node);
             return this;
         }
 
         public Builder addRemoved(final YangInstanceIdentifier path, final NormalizedNode<?, ?> node) {
+            if (original == null) {
+                original = new HashMap<>();
+            }
+            if (removed == null) {
+                removed = new HashSet<>();
+            }
             original.put(path, node);
             removed.add(path);
             return this;
@@ -180,13 +369,21 @@ public final class DOMImmutableDataChangeEvent implements
 
         public Builder addUpdated(final YangInstanceIdentifier path, final NormalizedNode<?, ?> before,
                 final NormalizedNode<?, ?> after) {
+            if (original == null) {
+                original = new HashMap<>();
+            }
+            if (updated == null) {
+                updated = new HashMap<>();
+            }
             original.put(path, before);
             updated.put(path, after);
             return this;
         }
 
         public boolean isEmpty() {
-            return created.isEmpty() && removed.isEmpty() && updated.isEmpty();
+            // Only non-empty events are retained by merge()
+            return merged == null && (created == null || created.isEmpty()) && (removed == null || removed.isEmpty())
+                    && (updated == null || updated.isEmpty());
         }
     }
 
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.impl;
+
+/**
+ * Policy applied when a data change listener with its own notification queue does not keep up
+ * with the rate of changes and its queue is full.
+ */
+public enum DataChangeListenerBackpressure {
+    /**
+     * Block the committing thread until the listener makes room in its queue. The thread blocks once it
+     * has completed the commit, so other transactions can still be committed meanwhile.
+     */
+    BLOCK,
+    /**
+     * Discard the oldest queued notification.
+     */
+    DROP_OLDEST,
+    /**
+     * Merge the notification into the most recent queued notification, so the listener eventually
+     * observes the latest state, but not the individual intermediate changes.
+     */
+    COALESCE,
+    /**
+     * Discard all queued notifications and unregister the listener.
+     */
+    UNREGISTER
+}
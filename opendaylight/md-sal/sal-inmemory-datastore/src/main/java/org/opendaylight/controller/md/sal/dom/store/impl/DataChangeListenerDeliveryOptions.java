@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
+
+/**
+ * Options for delivering data change notifications to a listener registered through
+ * {@link InMemoryDOMDataStore#registerChangeListener(org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier,
+ * org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeListener,
+ * org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope, DataChangeListenerDeliveryOptions)}.
+ * Such a listener gets its own notification queue, which is bounded and governed by a
+ * {@link DataChangeListenerBackpressure} policy. Notifications are delivered either on the data store's
+ * listener executor, or on an executor dedicated to the listener.
+ */
+public final class DataChangeListenerDeliveryOptions {
+    private final DataChangeListenerBackpressure backpressure;
+    private final int maxQueueSize;
+    private final Executor executor;
+
+    private DataChangeListenerDeliveryOptions(final DataChangeListenerBackpressure backpressure,
+            final int maxQueueSize, final Executor executor) {
+        this.backpressure = Preconditions.checkNotNull(backpressure);
+        Preconditions.checkArgument(maxQueueSize > 0, "Maximum queue size %s must be positive", maxQueueSize);
+        this.maxQueueSize = maxQueueSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Constructs options for a listener using the data store's listener executor.
+     *
+     * @param backpressure the policy applied when the listener's queue is full
+     * @param maxQueueSize the maximum number of notifications queued for the listener
+     */
+    public static DataChangeListenerDeliveryOptions create(final DataChangeListenerBackpressure backpressure,
+            final int maxQueueSize) {
+        return new DataChangeListenerDeliveryOptions(backpressure, maxQueueSize, null);
+    }
+
+    /**
+     * Constructs options for a listener using a dedicated executor.
+     *
+     * @param backpressure the policy applied when the listener's queue is full
+     * @param maxQueueSize the maximum number of notifications queued for the listener
+     * @param executor the executor on which notifications are delivered to the listener
+     */
+    public static DataChangeListenerDeliveryOptions create(final DataChangeListenerBackpressure backpressure,
+            final int maxQueueSize, final Executor executor) {
+        return new DataChangeListenerDeliveryOptions(backpressure, maxQueueSize, Preconditions.checkNotNull(executor));
+    }
+
+    public DataChangeListenerBackpressure getBackpressure() {
+        return backpressure;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * @return the dedicated executor, or null if the data store's listener executor is used.
+     */
+    @Nullable
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("backpressure", backpressure).add("maxQueueSize", maxQueueSize)
+                .add("executor", executor).toString();
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.impl;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeListener;
+import org.opendaylight.controller.md.sal.common.util.jmx.ListenerQueueStats;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Notification queue of a single data change listener registered with {@link DataChangeListenerDeliveryOptions}.
+ * An instance of this class is registered in the listener tree in place of the actual listener. Notifications
+ * are enqueued on the committing thread and delivered to the listener by a task running on the configured
+ * executor, which drains the queue. When the queue is full, the {@link DataChangeListenerBackpressure} policy
+ * decides what happens to the notification.
+ *
+ * Notifications are enqueued while the data store is locked, so the {@link DataChangeListenerBackpressure#BLOCK}
+ * policy does not wait there. The notification is enqueued beyond the bound and the committing thread waits in
+ * {@link #awaitCapacity()} once it has released the data store.
+ */
+final class DataChangeListenerQueue implements AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>>, Runnable {
+    private static final Logger LOG = LoggerFactory.getLogger(DataChangeListenerQueue.class);
+
+    private static final class Pending {
+        private final long enqueuedNanos = System.nanoTime();
+        private DOMImmutableDataChangeEvent event;
+
+        Pending(final DOMImmutableDataChangeEvent event) {
+            this.event = event;
+        }
+    }
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    @GuardedBy("lock")
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    private final AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>> listener;
+    private final DataChangeListenerBackpressure backpressure;
+    private final Executor executor;
+    private final int maxQueueSize;
+
+    @GuardedBy("lock")
+    private boolean dispatching;
+    @GuardedBy("lock")
+    private boolean closed;
+    @GuardedBy("lock")
+    private long deliveredCount;
+    @GuardedBy("lock")
+    private long droppedCount;
+    @GuardedBy("lock")
+    private long coalescedCount;
+
+    private volatile ListenerRegistration<?> registration;
+
+    DataChangeListenerQueue(final AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>> listener,
+            final DataChangeListenerDeliveryOptions options, final Executor defaultExecutor) {
+        this.listener = Preconditions.checkNotNull(listener);
+        this.backpressure = options.getBackpressure();
+        this.maxQueueSize = options.getMaxQueueSize();
+        this.executor = options.getExecutor() != null ? options.getExecutor() : Preconditions.checkNotNull(defaultExecutor);
+    }
+
+    /**
+     * Set the registration of the listener, which is closed under the {@link DataChangeListenerBackpressure#UNREGISTER}
+     * policy. Closing it has to remove this queue from the data store.
+     */
+    void setRegistration(final ListenerRegistration<?> registration) {
+        this.registration = Preconditions.checkNotNull(registration);
+    }
+
+    @Override
+    public void onDataChanged(final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) {
+        Preconditions.checkArgument(change instanceof DOMImmutableDataChangeEvent, "Unexpected event %s", change);
+        final DOMImmutableDataChangeEvent event = (DOMImmutableDataChangeEvent) change;
+
+        boolean unregister = false;
+        boolean submit = false;
+        lock.lock();
+        try {
+            if (closed) {
+                LOG.debug("Listener {} is closed, not delivering {}", listener, event);
+                return;
+            }
+
+            if (queue.size() >= maxQueueSize) {
+                switch (backpressure) {
+                case BLOCK:
+                    // The committing thread waits in awaitCapacity()
+                    break;
+                case DROP_OLDEST:
+                    queue.removeFirst();
+                    droppedCount++;
+                    break;
+                case COALESCE:
+                    // The queue is not empty, hence it is being dispatched
+                    final Pending last = queue.getLast();
+                    last.event = coalesce(last.event, event);
+                    coalescedCount++;
+                    return;
+                case UNREGISTER:
+                    LOG.warn("Listener {} does not keep up with {} queued notifications, unregistering it",
+                        listener, queue.size());
+                    droppedCount += queue.size() + 1;
+                    closeQueue();
+                    unregister = true;
+                    break;
+                }
+            }
+
+            if (!unregister) {
+                queue.addLast(new Pending(event));
+                if (!dispatching) {
+                    dispatching = true;
+                    submit = true;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (unregister) {
+            final ListenerRegistration<?> reg = registration;
+            if (reg != null) {
+                reg.close();
+            }
+        }
+        if (submit) {
+            dispatch();
+        }
+    }
+
+    private static DOMImmutableDataChangeEvent coalesce(final DOMImmutableDataChangeEvent older,
+            final DOMImmutableDataChangeEvent newer) {
+        final DOMImmutableDataChangeEvent.Builder b = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE);
+        b.merge(older);
+        b.merge(newer);
+        return b.setBefore(older.getOriginalSubtree()).setAfter(newer.getUpdatedSubtree()).build();
+    }
+
+    private void dispatch() {
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Executor {} rejected delivery of notifications to listener {}", executor, listener, e);
+
+            lock.lock();
+            try {
+                dispatching = false;
+                droppedCount += queue.size();
+                queue.clear();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            final Pending p;
+            lock.lock();
+            try {
+                p = queue.pollFirst();
+                if (p == null) {
+                    dispatching = false;
+                    return;
+                }
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                listener.onDataChanged(p.event);
+            } catch (Exception e) {
+                LOG.error("Listener {} failed to process notification {}", listener, p.event, e);
+            }
+
+            lock.lock();
+            try {
+                deliveredCount++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    boolean isBlocking() {
+        return backpressure == DataChangeListenerBackpressure.BLOCK;
+    }
+
+    /**
+     * Wait until the listener has caught up with notifications enqueued beyond the bound of the queue. Must not be
+     * invoked while holding the data store's locks.
+     */
+    void awaitCapacity() {
+        lock.lock();
+        try {
+            if (queue.size() > maxQueueSize) {
+                LOG.debug("Queue of listener {} is full, waiting for it to catch up", listener);
+                while (queue.size() > maxQueueSize && !closed) {
+                    notFull.awaitUninterruptibly();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @GuardedBy("lock")
+    private void closeQueue() {
+        closed = true;
+        queue.clear();
+        notFull.signalAll();
+    }
+
+    /**
+     * Stop accepting notifications and discard the queued ones.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closeQueue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ListenerQueueStats toListenerQueueStats() {
+        lock.lock();
+        try {
+            final Pending oldest = queue.peekFirst();
+            final long age = oldest == null ? 0 :
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedNanos);
+            return new ListenerQueueStats(listener.getClass().getName(), backpressure.name(), queue.size(),
+                maxQueueSize, age, deliveredCount, droppedCount, coalescedCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -9,11 +9,22 @@ package org.opendaylight.controller.md.sal.dom.store.impl;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeListener;
+import org.opendaylight.controller.md.sal.common.util.jmx.ListenerQueueStats;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataTreeChangeListener;
 import org.opendaylight.controller.md.sal.dom.store.impl.tree.ListenerTree;
 import org.opendaylight.controller.sal.core.spi.data.DOMStore;
@@ -30,6 +41,7 @@ import org.opendaylight.yangtools.concepts.AbstractListenerRegistration;
 import org.opendaylight.yangtools.concepts.Identifiable;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.util.ExecutorServiceUtil;
+import org.opendaylight.yangtools.util.concurrent.NotificationManager;
 import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager;
 import org.opendaylight.yangtools.util.concurrent.QueuedNotificationManager.Invoker;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -53,6 +65,19 @@ import org.slf4j.LoggerFactory;
  * {@link org.opendaylight.controller.sal.core.spi.data.SnapshotBackedReadTransaction} and {@link ResolveDataChangeEventsTask}
  * to implement {@link DOMStore} contract.
  *
+ * In concurrent commit mode, transactions are validated and prepared without holding the store monitor.
+ * A prepared transaction advances the tip with a compare-and-set on the version of the tip it was prepared
+ * against. If another transaction has been committed in the meantime, it is validated and prepared again
+ * against the new tip and the commit is retried, so only conflicting transactions fail. The pre-commit phase
+ * rebases onto the current tip as well, hence a transaction fails in the commit phase only if a conflicting
+ * one is committed between its pre-commit and commit. The changes are published to listeners in commit
+ * order by whichever committing thread gets to them first. The mode only pays off with a data broker which
+ * commits transactions from several threads, the default in-memory data broker commits them one by one on
+ * a single thread.
+ *
+ * Data change listeners normally share a single {@link QueuedNotificationManager}. Listeners registered
+ * with {@link DataChangeListenerDeliveryOptions} get their own bounded queue and optionally their own
+ * executor, so that a slow listener cannot delay notifications to the others.
  */
 public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> implements DOMStore, Identifiable<String>, SchemaContextListener, AutoCloseable, DOMStoreTreeChangePublisher {
     private static final Logger LOG = LoggerFactory.getLogger(InMemoryDOMDataStore.class);
@@ -72,13 +97,52 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
     private final DataTree dataTree = InMemoryDataTreeFactory.getInstance().create();
     private final ListenerTree listenerTree = ListenerTree.create();
     private final AtomicLong txCounter = new AtomicLong(0);
+    private final AtomicLong commitRebaseCount = new AtomicLong(0);
+    private final Queue<DataTreeCandidate> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final Lock publishLock = new ReentrantLock();
+    private final Set<DataChangeListenerQueue> listenerQueues =
+            Collections.newSetFromMap(new ConcurrentHashMap<DataChangeListenerQueue, Boolean>());
+    private final Set<DataChangeListenerQueue> blockingListenerQueues =
+            Collections.newSetFromMap(new ConcurrentHashMap<DataChangeListenerQueue, Boolean>());
+
+    /**
+     * Routes notifications to listeners registered with their own queue directly, bypassing
+     * the shared notification manager.
+     */
+    private final NotificationManager<DataChangeListenerRegistration<?>, DOMImmutableDataChangeEvent> dataChangeListenerDispatcher =
+            new NotificationManager<DataChangeListenerRegistration<?>, DOMImmutableDataChangeEvent>() {
+                @Override
+                public void submitNotification(final DataChangeListenerRegistration<?> listener,
+                        final DOMImmutableDataChangeEvent notification) {
+                    final AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>> inst = listener.getInstance();
+                    if (inst instanceof DataChangeListenerQueue) {
+                        inst.onDataChanged(notification);
+                    } else {
+                        dataChangeListenerNotificationManager.submitNotification(listener, notification);
+                    }
+                }
+
+                @Override
+                public void submitNotifications(final DataChangeListenerRegistration<?> listener,
+                        final Iterable<DOMImmutableDataChangeEvent> notifications) {
+                    for (DOMImmutableDataChangeEvent n : notifications) {
+                        submitNotification(listener, n);
+                    }
+                }
+            };
 
     private final QueuedNotificationManager<DataChangeListenerRegistration<?>, DOMImmutableDataChangeEvent> dataChangeListenerNotificationManager;
     private final InMemoryDOMStoreTreeChangePublisher changePublisher;
     private final ExecutorService dataChangeListenerExecutor;
     private final boolean debugTransactions;
+    private final boolean concurrentCommit;
     private final String name;
 
+    /**
+     * Incremented each time the tip of the data tree is advanced, only while holding the store monitor.
+     */
+    private volatile long tipVersion;
+
     private volatile AutoCloseable closeable;
 
     public InMemoryDOMDataStore(final String name, final ExecutorService dataChangeListenerExecutor) {
@@ -87,9 +151,16 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
 
     public InMemoryDOMDataStore(final String name, final ExecutorService dataChangeListenerExecutor,
             final int maxDataChangeListenerQueueSize, final boolean debugTransactions) {
+        this(name, dataChangeListenerExecutor, maxDataChangeListenerQueueSize, debugTransactions, false);
+    }
+
+    public InMemoryDOMDataStore(final String name, final ExecutorService dataChangeListenerExecutor,
+            final int maxDataChangeListenerQueueSize, final boolean debugTransactions,
+            final boolean concurrentCommit) {
         this.name = Preconditions.checkNotNull(name);
         this.dataChangeListenerExecutor = Preconditions.checkNotNull(dataChangeListenerExecutor);
         this.debugTransactions = debugTransactions;
+        this.concurrentCommit = concurrentCommit;
 
         dataChangeListenerNotificationManager =
                 new QueuedNotificationManager<>(this.dataChangeListenerExecutor,
@@ -106,6 +177,17 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
         return dataChangeListenerNotificationManager;
     }
 
+    /**
+     * Returns statistics of the queues of listeners registered with {@link DataChangeListenerDeliveryOptions}.
+     */
+    public List<ListenerQueueStats> getListenerQueueStats() {
+        final List<ListenerQueueStats> ret = new ArrayList<>(listenerQueues.size());
+        for (DataChangeListenerQueue q : listenerQueues) {
+            ret.add(q.toListenerQueueStats());
+        }
+        return ret;
+    }
+
     @Override
     public final String getIdentifier() {
         return name;
@@ -153,6 +235,19 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
         return debugTransactions;
     }
 
+    public final boolean isConcurrentCommit() {
+        return concurrentCommit;
+    }
+
+    /**
+     * Returns the number of times a modification had to be validated and prepared again because other
+     * transactions were committed since it was validated or prepared. Always zero unless concurrent commit
+     * is enabled.
+     */
+    public long getCommitRebaseCount() {
+        return commitRebaseCount.get();
+    }
+
     final DataTreeSnapshot takeSnapshot() {
         return dataTree.takeSnapshot();
     }
@@ -160,6 +255,61 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
     @Override
     public <L extends AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>>> ListenerRegistration<L> registerChangeListener(
             final YangInstanceIdentifier path, final L listener, final DataChangeScope scope) {
+        final DataChangeListenerRegistration<L> reg = registerInListenerTree(path, listener, scope);
+
+        return new AbstractListenerRegistration<L>(listener) {
+            @Override
+            protected void removeRegistration() {
+                synchronized (InMemoryDOMDataStore.this) {
+                    reg.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * Registers a data change listener, which has its own notification queue. Unlike listeners
+     * registered via {@link #registerChangeListener(YangInstanceIdentifier, AsyncDataChangeListener, DataChangeScope)},
+     * a slow listener does not fill the queue of the shared notification manager. The options specify what
+     * happens when the listener's queue is full and whether notifications are delivered on a dedicated
+     * executor. Statistics of the queue are available via {@link #getListenerQueueStats()}.
+     *
+     * @param path path to listen on
+     * @param listener the listener
+     * @param scope the scope of changes the listener is interested in
+     * @param options delivery options
+     * @return listener registration
+     */
+    public <L extends AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>>> ListenerRegistration<L> registerChangeListener(
+            final YangInstanceIdentifier path, final L listener, final DataChangeScope scope,
+            final DataChangeListenerDeliveryOptions options) {
+        Preconditions.checkNotNull(options);
+
+        final DataChangeListenerQueue queue = new DataChangeListenerQueue(listener, options, dataChangeListenerExecutor);
+        listenerQueues.add(queue);
+        if (queue.isBlocking()) {
+            blockingListenerQueues.add(queue);
+        }
+        final DataChangeListenerRegistration<DataChangeListenerQueue> reg = registerInListenerTree(path, queue, scope);
+
+        // Also closed by the queue when it unregisters the listener
+        final ListenerRegistration<L> ret = new AbstractListenerRegistration<L>(listener) {
+            @Override
+            protected void removeRegistration() {
+                synchronized (InMemoryDOMDataStore.this) {
+                    reg.close();
+                }
+                queue.close();
+                listenerQueues.remove(queue);
+                blockingListenerQueues.remove(queue);
+            }
+        };
+        queue.setRegistration(ret);
+        return ret;
+    }
+
+    private <L extends AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>>> DataChangeListenerRegistration<L> registerInListenerTree(
+            final YangInstanceIdentifier path, final L listener, final DataChangeScope scope) {
 
         /*
          * Make sure commit is not occurring right now. Listener has to be
@@ -170,31 +320,32 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
          */
         final DataChangeListenerRegistration<L> reg;
         synchronized (this) {
-            LOG.debug("{}: Registering data change listener {} for {}", name, listener, path);
+            publishLock.lock();
+            try {
+                // Changes already in the tree must not be published to the new listener
+                publishPendingChanges();
 
-            reg = listenerTree.registerDataChangeListener(path, listener, scope);
+                LOG.debug("{}: Registering data change listener {} for {}", name, listener, path);
 
-            Optional<NormalizedNode<?, ?>> currentState = dataTree.takeSnapshot().readNode(path);
-            if (currentState.isPresent()) {
-                final NormalizedNode<?, ?> data = currentState.get();
+                reg = listenerTree.registerDataChangeListener(path, listener, scope);
 
-                final DOMImmutableDataChangeEvent event = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE) //
-                        .setAfter(data) //
-                        .addCreated(path, data) //
-                        .build();
+                Optional<NormalizedNode<?, ?>> currentState = dataTree.takeSnapshot().readNode(path);
+                if (currentState.isPresent()) {
+                    final NormalizedNode<?, ?> data = currentState.get();
 
-                dataChangeListenerNotificationManager.submitNotification(reg, event);
-            }
-        }
+                    final DOMImmutableDataChangeEvent event = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE) //
+                            .setAfter(data) //
+                            .addCreated(path, data) //
+                            .build();
 
-        return new AbstractListenerRegistration<L>(listener) {
-            @Override
-            protected void removeRegistration() {
-                synchronized (InMemoryDOMDataStore.this) {
-                    reg.close();
+                    dataChangeListenerDispatcher.submitNotification(reg, event);
                 }
+            } finally {
+                publishLock.unlock();
             }
-        };
+        }
+
+        return reg;
     }
 
     @Override
@@ -203,7 +354,13 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
          * Make sure commit is not occurring right now. Listener has to be
          * registered and its state capture enqueued at a consistent point.
          */
-        return changePublisher.registerTreeChangeListener(treeId, listener, dataTree.takeSnapshot());
+        publishLock.lock();
+        try {
+            publishPendingChanges();
+            return changePublisher.registerTreeChangeListener(treeId, listener, dataTree.takeSnapshot());
+        } finally {
+            publishLock.unlock();
+        }
     }
 
     @Override
@@ -229,9 +386,105 @@ public class InMemoryDOMDataStore extends TransactionReadyPrototype<String> impl
         return dataTree.prepare(modification);
     }
 
-    synchronized void commit(final DataTreeCandidate candidate) {
-        dataTree.commit(candidate);
-        changePublisher.publishChange(candidate);
-        ResolveDataChangeEventsTask.create(candidate, listenerTree).resolve(dataChangeListenerNotificationManager);
+    long getTipVersion() {
+        return tipVersion;
+    }
+
+    void commit(final DataTreeCandidate candidate) {
+        synchronized (this) {
+            dataTree.commit(candidate);
+            tipVersion++;
+            changePublisher.publishChange(candidate);
+            ResolveDataChangeEventsTask.create(candidate, listenerTree).resolve(dataChangeListenerDispatcher);
+        }
+
+        awaitListenerQueues();
+    }
+
+    /**
+     * Waits for blocking listener queues filled by the last commit to catch up, once the store is no longer locked.
+     */
+    private void awaitListenerQueues() {
+        for (DataChangeListenerQueue queue : blockingListenerQueues) {
+            queue.awaitCapacity();
+        }
+    }
+
+    /**
+     * Prepares a modification which was validated when the tip had the specified version. If the tip has
+     * been advanced since then, the modification is validated again against the new tip.
+     *
+     * @throws DataValidationFailedException if the modification conflicts with a transaction committed
+     *         since it was validated
+     */
+    PreparedCommit prepareCommit(final DataTreeModification modification, final long validatedVersion)
+            throws DataValidationFailedException {
+        final long version = tipVersion;
+        if (version != validatedVersion) {
+            commitRebaseCount.incrementAndGet();
+            dataTree.validate(modification);
+        }
+        return new PreparedCommit(dataTree.prepare(modification), version);
+    }
+
+    /**
+     * Commits a candidate returned by {@link #prepareCommit(DataTreeModification, long)}. The tip is advanced
+     * only if no other transaction has been committed since the candidate was prepared, otherwise the
+     * modification is validated and prepared again outside of the store monitor and the commit is retried.
+     *
+     * @throws DataValidationFailedException if the modification conflicts with a transaction committed
+     *         since it was prepared, in which case nothing is committed
+     */
+    void commitPrepared(final DataTreeModification modification, final PreparedCommit prepared)
+            throws DataValidationFailedException {
+        PreparedCommit current = prepared;
+        while (!tryCommit(current)) {
+            commitRebaseCount.incrementAndGet();
+            final long version = tipVersion;
+            dataTree.validate(modification);
+            current = new PreparedCommit(dataTree.prepare(modification), version);
+        }
+
+        publishLock.lock();
+        try {
+            publishPendingChanges();
+        } finally {
+            publishLock.unlock();
+        }
+
+        awaitListenerQueues();
+    }
+
+    private synchronized boolean tryCommit(final PreparedCommit prepared) {
+        if (tipVersion != prepared.version) {
+            return false;
+        }
+
+        dataTree.commit(prepared.candidate);
+        tipVersion++;
+        pendingChanges.add(prepared.candidate);
+        return true;
+    }
+
+    /**
+     * A candidate together with the version of the tip it was prepared against.
+     */
+    static final class PreparedCommit {
+        private final DataTreeCandidate candidate;
+        private final long version;
+
+        PreparedCommit(final DataTreeCandidate candidate, final long version) {
+            this.candidate = Preconditions.checkNotNull(candidate);
+            this.version = version;
+        }
+    }
+
+    @GuardedBy("publishLock")
+    private void publishPendingChanges() {
+        DataTreeCandidate candidate;
+        while ((candidate = pendingChanges.poll()) != null) {
+            changePublisher.publishChange(candidate);
+            ResolveDataChangeEventsTask.create(candidate, listenerTree).resolve(dataChangeListenerDispatcher);
+        }
     }
 }
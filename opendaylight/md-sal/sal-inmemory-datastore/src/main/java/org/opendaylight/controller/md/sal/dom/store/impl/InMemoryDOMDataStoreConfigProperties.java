@@ -32,6 +32,7 @@ public class InMemoryDOMDataStoreConfigProperties {
     private final int maxDataChangeExecutorPoolSize;
     private final int maxDataChangeListenerQueueSize;
     private final int maxDataStoreExecutorQueueSize;
+    private final boolean concurrentCommit;
 
     /**
      * Constructs an instance with the given property values.
@@ -44,20 +45,30 @@ public class InMemoryDOMDataStoreConfigProperties {
      *            maximum queue size for the data change listeners.
      * @param maxDataStoreExecutorQueueSize
      *            maximum queue size for the data store executor.
+     * @param concurrentCommit
+     *            whether transactions which do not conflict may be committed concurrently.
      */
+    public static InMemoryDOMDataStoreConfigProperties create(int maxDataChangeExecutorPoolSize,
+            int maxDataChangeExecutorQueueSize, int maxDataChangeListenerQueueSize,
+            int maxDataStoreExecutorQueueSize, boolean concurrentCommit) {
+        return new InMemoryDOMDataStoreConfigProperties(maxDataChangeExecutorPoolSize,
+                maxDataChangeExecutorQueueSize, maxDataChangeListenerQueueSize,
+                maxDataStoreExecutorQueueSize, concurrentCommit);
+    }
+
     public static InMemoryDOMDataStoreConfigProperties create(int maxDataChangeExecutorPoolSize,
             int maxDataChangeExecutorQueueSize, int maxDataChangeListenerQueueSize,
             int maxDataStoreExecutorQueueSize) {
         return new InMemoryDOMDataStoreConfigProperties(maxDataChangeExecutorPoolSize,
                 maxDataChangeExecutorQueueSize, maxDataChangeListenerQueueSize,
-                maxDataStoreExecutorQueueSize);
+                maxDataStoreExecutorQueueSize, false);
     }
 
     public static InMemoryDOMDataStoreConfigProperties create(int maxDataChangeExecutorPoolSize,
             int maxDataChangeExecutorQueueSize, int maxDataChangeListenerQueueSize) {
         return new InMemoryDOMDataStoreConfigProperties(maxDataChangeExecutorPoolSize,
                 maxDataChangeExecutorQueueSize, maxDataChangeListenerQueueSize,
-                DEFAULT_MAX_DATA_STORE_EXECUTOR_QUEUE_SIZE);
+                DEFAULT_MAX_DATA_STORE_EXECUTOR_QUEUE_SIZE, false);
     }
 
     /**
@@ -69,11 +80,12 @@ public class InMemoryDOMDataStoreConfigProperties {
 
     private InMemoryDOMDataStoreConfigProperties(int maxDataChangeExecutorPoolSize,
             int maxDataChangeExecutorQueueSize, int maxDataChangeListenerQueueSize,
-            int maxDataStoreExecutorQueueSize) {
+            int maxDataStoreExecutorQueueSize, boolean concurrentCommit) {
         this.maxDataChangeExecutorQueueSize = maxDataChangeExecutorQueueSize;
         this.maxDataChangeExecutorPoolSize = maxDataChangeExecutorPoolSize;
         this.maxDataChangeListenerQueueSize = maxDataChangeListenerQueueSize;
         this.maxDataStoreExecutorQueueSize = maxDataStoreExecutorQueueSize;
+        this.concurrentCommit = concurrentCommit;
     }
 
     /**
@@ -103,4 +115,11 @@ public class InMemoryDOMDataStoreConfigProperties {
     public int getMaxDataStoreExecutorQueueSize() {
         return maxDataStoreExecutorQueueSize;
     }
+
+    /**
+     * Returns whether transactions which do not conflict may be committed concurrently.
+     */
+    public boolean isConcurrentCommit() {
+        return concurrentCommit;
+    }
 }
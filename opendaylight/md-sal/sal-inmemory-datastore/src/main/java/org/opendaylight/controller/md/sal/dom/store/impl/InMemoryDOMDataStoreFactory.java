@@ -72,7 +72,8 @@ public final class InMemoryDOMDataStoreFactory {
                 dclExecutorMaxPoolSize, dclExecutorMaxQueueSize, name + "-DCL" );
 
         final InMemoryDOMDataStore dataStore = new InMemoryDOMDataStore(name, dataChangeListenerExecutor,
-                actualProperties.getMaxDataChangeListenerQueueSize(), debugTransactions);
+                actualProperties.getMaxDataChangeListenerQueueSize(), debugTransactions,
+                actualProperties.isConcurrentCommit());
 
         if (schemaService != null) {
             schemaService.registerSchemaContextListener(dataStore);
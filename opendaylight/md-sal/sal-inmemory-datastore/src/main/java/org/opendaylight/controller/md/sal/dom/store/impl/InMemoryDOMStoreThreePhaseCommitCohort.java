@@ -24,6 +24,8 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
     private final DataTreeModification modification;
     private final InMemoryDOMDataStore store;
     private DataTreeCandidate candidate;
+    private long validatedVersion;
+    private InMemoryDOMDataStore.PreparedCommit prepared;
 
     public InMemoryDOMStoreThreePhaseCommitCohort(final InMemoryDOMDataStore store, final SnapshotBackedWriteTransaction<String> writeTransaction, final DataTreeModification modification) {
         this.transaction = Preconditions.checkNotNull(writeTransaction);
@@ -41,6 +43,7 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
     @Override
     public final ListenableFuture<Boolean> canCommit() {
         try {
+            validatedVersion = store.getTipVersion();
             store.validate(modification);
             LOG.debug("Store Transaction: {} can be committed", getTransaction().getIdentifier());
             return CAN_COMMIT_FUTURE;
@@ -67,6 +70,10 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
 
     @Override
     public final ListenableFuture<Void> preCommit() {
+        if (store.isConcurrentCommit()) {
+            return prepareConcurrentCommit();
+        }
+
         try {
             candidate = store.prepare(modification);
             return SUCCESSFUL_FUTURE;
@@ -76,9 +83,30 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
         }
     }
 
+    private ListenableFuture<Void> prepareConcurrentCommit() {
+        try {
+            prepared = store.prepareCommit(modification, validatedVersion);
+            return SUCCESSFUL_FUTURE;
+        } catch (ConflictingModificationAppliedException e) {
+            LOG.warn("Store Tx: {} Conflicting modification for {} committed concurrently.",
+                    getTransaction().getIdentifier(), e.getPath());
+            warnDebugContext(getTransaction());
+            return Futures.immediateFailedFuture(new OptimisticLockFailedException("Optimistic lock failed.", e));
+        } catch (DataValidationFailedException e) {
+            LOG.warn("Store Tx: {} Data Precondition failed for {} after a concurrent commit.",
+                    getTransaction().getIdentifier(), e.getPath(), e);
+            warnDebugContext(getTransaction());
+            return Futures.immediateFailedFuture(new TransactionCommitFailedException("Data did not pass validation.", e));
+        } catch (Exception e) {
+            LOG.warn("Unexpected failure in pre-commit phase", e);
+            return Futures.immediateFailedFuture(e);
+        }
+    }
+
     @Override
     public final ListenableFuture<Void> abort() {
         candidate = null;
+        prepared = null;
         return SUCCESSFUL_FUTURE;
     }
 
@@ -88,6 +116,10 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
 
     @Override
     public ListenableFuture<Void> commit() {
+        if (prepared != null) {
+            return commitConcurrently();
+        }
+
         checkState(candidate != null, "Proposed subtree must be computed");
 
         /*
@@ -97,4 +129,23 @@ class InMemoryDOMStoreThreePhaseCommitCohort implements DOMStoreThreePhaseCommit
         store.commit(candidate);
         return SUCCESSFUL_FUTURE;
     }
+
+    private ListenableFuture<Void> commitConcurrently() {
+        try {
+            store.commitPrepared(modification, prepared);
+            return SUCCESSFUL_FUTURE;
+        } catch (ConflictingModificationAppliedException e) {
+            LOG.warn("Store Tx: {} Conflicting modification for {} committed after pre-commit.",
+                    getTransaction().getIdentifier(), e.getPath());
+            warnDebugContext(getTransaction());
+            return Futures.immediateFailedFuture(new OptimisticLockFailedException("Optimistic lock failed.", e));
+        } catch (DataValidationFailedException e) {
+            LOG.warn("Store Tx: {} Data Precondition failed for {} after a commit following pre-commit.",
+                    getTransaction().getIdentifier(), e.getPath(), e);
+            warnDebugContext(getTransaction());
+            return Futures.immediateFailedFuture(new TransactionCommitFailedException("Data did not pass validation.", e));
+        } finally {
+            prepared = null;
+        }
+    }
 }
\ No newline at end of file
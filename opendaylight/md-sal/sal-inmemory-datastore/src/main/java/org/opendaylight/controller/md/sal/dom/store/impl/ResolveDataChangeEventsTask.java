@@ -15,9 +15,9 @@ import com.google.common.collect.Multimap;
 import java.util.Collection;
 import java.util.Map.Entry;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
-import org.opendaylight.controller.md.sal.dom.spi.RegistrationTreeSnapshot;
 import org.opendaylight.controller.md.sal.dom.store.impl.DOMImmutableDataChangeEvent.Builder;
 import org.opendaylight.controller.md.sal.dom.store.impl.DOMImmutableDataChangeEvent.SimpleEventFactory;
+import org.opendaylight.controller.md.sal.dom.store.impl.tree.ListenerIndexNode;
 import org.opendaylight.controller.md.sal.dom.store.impl.tree.ListenerTree;
 import org.opendaylight.yangtools.util.concurrent.NotificationManager;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
@@ -53,36 +53,40 @@ public final class ResolveDataChangeEventsTask {
      * Resolves and submits notification tasks to the specified manager.
      */
     public synchronized void resolve(final NotificationManager<DataChangeListenerRegistration<?>, DOMImmutableDataChangeEvent> manager) {
-        try (final RegistrationTreeSnapshot<DataChangeListenerRegistration<?>> w = listenerRoot.takeSnapshot()) {
-            // Defensive: reset internal state
-            collectedEvents = ArrayListMultimap.create();
-
-            // Run through the tree
-            final ResolveDataChangeState s = ResolveDataChangeState.initial(candidate.getRootPath(), w.getRootNode());
-            resolveAnyChangeEvent(s, candidate.getRootNode());
-
-            /*
-             * Convert to tasks, but be mindful of multiple values -- those indicate multiple
-             * wildcard matches, which need to be merged.
-             */
-            for (Entry<DataChangeListenerRegistration<?>, Collection<DOMImmutableDataChangeEvent>> e : collectedEvents.asMap().entrySet()) {
-                final Collection<DOMImmutableDataChangeEvent> col = e.getValue();
-                final DOMImmutableDataChangeEvent event;
-
-                if (col.size() != 1) {
-                    final Builder b = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE);
-                    for (DOMImmutableDataChangeEvent i : col) {
-                        b.merge(i);
-                    }
-
-                    event = b.build();
-                    LOG.trace("Merged events {} into event {}", col, event);
-                } else {
-                    event = col.iterator().next();
+        /*
+         * The index is immutable, so we do not need to hold the listener tree lock
+         * while resolving the candidate.
+         */
+        final ListenerIndexNode index = listenerRoot.getIndex();
+
+        // Defensive: reset internal state
+        collectedEvents = ArrayListMultimap.create();
+
+        // Run through the tree
+        final ResolveDataChangeState s = ResolveDataChangeState.initial(candidate.getRootPath(), index);
+        resolveAnyChangeEvent(s, candidate.getRootNode());
+
+        /*
+         * Convert to tasks, but be mindful of multiple values -- those indicate multiple
+         * wildcard matches, which need to be merged.
+         */
+        for (Entry<DataChangeListenerRegistration<?>, Collection<DOMImmutableDataChangeEvent>> e : collectedEvents.asMap().entrySet()) {
+            final Collection<DOMImmutableDataChangeEvent> col = e.getValue();
+            final DOMImmutableDataChangeEvent event;
+
+            if (col.size() != 1) {
+                final Builder b = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE);
+                for (DOMImmutableDataChangeEvent i : col) {
+                    b.merge(i);
                 }
 
-                manager.submitNotification(e.getKey(), event);
+                event = b.build();
+                LOG.trace("Merged events {} into event {}", col, event);
+            } else {
+                event = col.iterator().next();
             }
+
+            manager.submitNotification(e.getKey(), event);
         }
     }
 
@@ -170,10 +174,12 @@ public final class ResolveDataChangeEventsTask {
             return false;
         }
 
-        LOG.trace("Resolving leaf replace event for {} , before {}, after {}", state.getPath(), beforeData, afterData);
-        DOMImmutableDataChangeEvent event = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE).addUpdated(state.getPath(), beforeData, afterData).build();
-        state.addEvent(event);
-        state.collectEvents(beforeData, afterData, collectedEvents);
+        if (state.needsEvent(DataChangeScope.BASE)) {
+            LOG.trace("Resolving leaf replace event for {} , before {}, after {}", state.getPath(), beforeData, afterData);
+            DOMImmutableDataChangeEvent event = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE).addUpdated(state.getPath(), beforeData, afterData).build();
+            state.addEvent(event);
+            state.collectEvents(beforeData, afterData, collectedEvents);
+        }
         return true;
     }
 
@@ -209,7 +215,7 @@ public final class ResolveDataChangeEventsTask {
             }
         }
 
-        if (childChanged) {
+        if (childChanged && state.needsEvent(DataChangeScope.BASE)) {
             DOMImmutableDataChangeEvent event = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE)
                     .addUpdated(state.getPath(), beforeCont, afterCont).build();
             state.addEvent(event);
@@ -240,7 +246,7 @@ public final class ResolveDataChangeEventsTask {
 
         // We have listeners for this node or it's children, so we will try
         // to do additional processing
-        if (node instanceof NormalizedNodeContainer<?, ?, ?>) {
+        if (node instanceof NormalizedNodeContainer<?, ?, ?> && state.childrenNeedProcessing()) {
             LOG.trace("Resolving subtree recursive event for {}, type {}", state.getPath(), eventFactory);
 
             // Node has children, so we will try to resolve it's children
@@ -255,10 +261,13 @@ public final class ResolveDataChangeEventsTask {
             }
         }
 
-        final DOMImmutableDataChangeEvent event = eventFactory.create(state.getPath(), node);
-        LOG.trace("Adding event {} at path {}", event, state.getPath());
-        state.addEvent(event);
-        state.collectEvents(event.getOriginalSubtree(), event.getUpdatedSubtree(), collectedEvents);
+        // Events created by the factories are always BASE-scoped
+        if (state.needsEvent(DataChangeScope.BASE)) {
+            final DOMImmutableDataChangeEvent event = eventFactory.create(state.getPath(), node);
+            LOG.trace("Adding event {} at path {}", event, state.getPath());
+            state.addEvent(event);
+            state.collectEvents(event.getOriginalSubtree(), event.getUpdatedSubtree(), collectedEvents);
+        }
     }
 
     private boolean resolveSubtreeChangeEvent(final ResolveDataChangeState state, final DataTreeCandidateNode modification) {
@@ -299,7 +308,7 @@ public final class ResolveDataChangeEventsTask {
         final NormalizedNode<?, ?> before = maybeBefore.get();
         final NormalizedNode<?, ?> after = maybeAfter.get();
 
-        if (scope != null) {
+        if (scope != null && state.needsEvent(scope)) {
             DOMImmutableDataChangeEvent one = DOMImmutableDataChangeEvent.builder(scope).addUpdated(state.getPath(), before, after).build();
             state.addEvent(one);
         }
@@ -13,17 +13,11 @@ import com.google.common.collect.Multimap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
-import org.opendaylight.controller.md.sal.dom.spi.RegistrationTreeNode;
 import org.opendaylight.controller.md.sal.dom.store.impl.DOMImmutableDataChangeEvent.Builder;
+import org.opendaylight.controller.md.sal.dom.store.impl.tree.ListenerIndexNode;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
@@ -46,65 +40,75 @@ final class ResolveDataChangeState {
      */
     private final Collection<Builder> inheritedOne;
     private final YangInstanceIdentifier nodeId;
-    private final Collection<RegistrationTreeNode<DataChangeListenerRegistration<?>>> nodes;
+    private final Collection<ListenerIndexNode> nodes;
 
-    private final Map<DataChangeListenerRegistration<?>, Builder> subBuilders;
-    private final Map<DataChangeListenerRegistration<?>, Builder> oneBuilders;
-    private final Map<DataChangeListenerRegistration<?>, Builder> baseBuilders;
+    private final List<DataChangeListenerRegistration<?>> baseRegistrations;
+    private final List<DataChangeListenerRegistration<?>> oneRegistrations;
+    private final List<DataChangeListenerRegistration<?>> subRegistrations;
+
+    /*
+     * Builders are kept in lists parallel to the registrations. SUB/ONE builders are
+     * inherited by children, hence they are allocated up front. BASE builders receive
+     * only events for this node, so they are allocated only once such an event is added.
+     */
+    private final List<Builder> subBuilders;
+    private final List<Builder> oneBuilders;
+    private List<Builder> baseBuilders = Collections.emptyList();
 
     private ResolveDataChangeState(final YangInstanceIdentifier nodeId,
             final Iterable<Builder> inheritedSub, final Collection<Builder> inheritedOne,
-            final Collection<RegistrationTreeNode<DataChangeListenerRegistration<?>>> nodes) {
+            final Collection<ListenerIndexNode> nodes) {
         this.nodeId = Preconditions.checkNotNull(nodeId);
         this.nodes = Preconditions.checkNotNull(nodes);
         this.inheritedSub = Preconditions.checkNotNull(inheritedSub);
         this.inheritedOne = Preconditions.checkNotNull(inheritedOne);
 
-        /*
-         * Collect the nodes which need to be propagated from us to the child.
-         */
-        final Map<DataChangeListenerRegistration<?>, Builder> sub = new HashMap<>();
-        final Map<DataChangeListenerRegistration<?>, Builder> one = new HashMap<>();
-        final Map<DataChangeListenerRegistration<?>, Builder> base = new HashMap<>();
-        for (RegistrationTreeNode<DataChangeListenerRegistration<?>> n : nodes) {
-            for (DataChangeListenerRegistration<?> l : n.getRegistrations()) {
-                final Builder b = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE);
-                switch (l.getScope()) {
-                case BASE:
-                    base.put(l, b);
-                    break;
-                case ONE:
-                    one.put(l, b);
-                    break;
-                case SUBTREE:
-                    sub.put(l, b);
-                    break;
-                }
+        baseRegistrations = registrations(nodes, DataChangeScope.BASE);
+        oneRegistrations = registrations(nodes, DataChangeScope.ONE);
+        subRegistrations = registrations(nodes, DataChangeScope.SUBTREE);
+        oneBuilders = newBuilders(oneRegistrations.size());
+        subBuilders = newBuilders(subRegistrations.size());
+    }
+
+    private static List<DataChangeListenerRegistration<?>> registrations(final Collection<ListenerIndexNode> nodes,
+            final DataChangeScope scope) {
+        switch (nodes.size()) {
+        case 0:
+            return Collections.emptyList();
+        case 1:
+            // The common case, the index already has the registrations split by scope
+            return nodes.iterator().next().getRegistrations(scope);
+        default:
+            final List<DataChangeListenerRegistration<?>> ret = new ArrayList<>();
+            for (ListenerIndexNode n : nodes) {
+                ret.addAll(n.getRegistrations(scope));
             }
+            return ret;
         }
-
-        baseBuilders = maybeEmpty(base);
-        oneBuilders = maybeEmpty(one);
-        subBuilders = maybeEmpty(sub);
     }
 
-    private static <K, V> Map<K, V> maybeEmpty(final Map<K, V> map) {
-        if (map.isEmpty()) {
-            return Collections.emptyMap();
+    private static List<Builder> newBuilders(final int size) {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+
+        final List<Builder> ret = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            ret.add(DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE));
         }
-        return map;
+        return ret;
     }
 
     /**
      * Create an initial state handle at a particular root node.
      *
      * @param rootId root instance identifier
-     * @param registrationTreeNode root node
+     * @param indexRoot root node of the listener index
      * @return
      */
-    public static ResolveDataChangeState initial(final YangInstanceIdentifier rootId, final RegistrationTreeNode<DataChangeListenerRegistration<?>> registrationTreeNode) {
+    public static ResolveDataChangeState initial(final YangInstanceIdentifier rootId, final ListenerIndexNode indexRoot) {
         return new ResolveDataChangeState(rootId, Collections.<Builder>emptyList(),
-            Collections.<Builder>emptyList(), Collections.singletonList(registrationTreeNode));
+            Collections.<Builder>emptyList(), Collections.singletonList(indexRoot));
     }
 
     /**
@@ -137,16 +141,16 @@ final class ResolveDataChangeState {
         final Iterable<Builder> sb;
         if (!subBuilders.isEmpty()) {
             if (inheritedSub instanceof Collection && ((Collection<?>) inheritedSub).isEmpty()) {
-                sb = subBuilders.values();
+                sb = subBuilders;
             } else {
-                sb = Iterables.concat(inheritedSub, subBuilders.values());
+                sb = Iterables.concat(inheritedSub, subBuilders);
             }
         } else {
             sb = inheritedSub;
         }
 
         return new ResolveDataChangeState(nodeId.node(childId), sb,
-            oneBuilders.values(), getListenerChildrenWildcarded(nodes, childId));
+            oneBuilders, getListenerChildrenWildcarded(nodes, childId));
     }
 
     /**
@@ -173,9 +177,59 @@ final class ResolveDataChangeState {
             return true;
         }
 
+        // Have SUBTREE listeners
+        return hasInheritedSub();
+    }
+
+    /**
+     * Check if children of this node may need processing. Children inherit ONE listeners
+     * only from their immediate parent, hence unlike {@link #needsProcessing()} this does
+     * not consider ONE listeners inherited by this node.
+     *
+     * @return True if processing of children needs to occur, false otherwise.
+     */
+    public boolean childrenNeedProcessing() {
+        if (!subBuilders.isEmpty() || !oneBuilders.isEmpty()) {
+            return true;
+        }
+        for (ListenerIndexNode n : nodes) {
+            if (n.hasChildren()) {
+                return true;
+            }
+        }
+
+        return hasInheritedSub();
+    }
+
+    /**
+     * Check if any listener would receive an event of specified scope added via
+     * {@link #addEvent(DOMImmutableDataChangeEvent)}. If not, there is no need
+     * to construct the event at all.
+     *
+     * @param scope Event scope
+     * @return True if the event needs to be constructed, false otherwise.
+     */
+    public boolean needsEvent(final DataChangeScope scope) {
+        // Subtree builders get always notified
+        if (!subBuilders.isEmpty() || hasInheritedSub()) {
+            return true;
+        }
+
+        switch (scope) {
+        case BASE:
+            if (!inheritedOne.isEmpty() || !baseRegistrations.isEmpty()) {
+                return true;
+            }
+            // fall through
+        case ONE:
+            return !oneBuilders.isEmpty();
+        default:
+            return false;
+        }
+    }
+
+    private boolean hasInheritedSub() {
         /*
-         * Have SUBTREE listeners
-         *
          * This is slightly magical replacement for !Iterables.isEmpty(inheritedSub).
          * It relies on the logic in child(), which gives us the guarantee that when
          * inheritedSub is not a Collection, it is guaranteed to be non-empty (which
@@ -200,7 +254,7 @@ final class ResolveDataChangeState {
      */
     public void addEvent(final DOMImmutableDataChangeEvent event) {
         // Subtree builders get always notified
-        for (Builder b : subBuilders.values()) {
+        for (Builder b : subBuilders) {
             b.merge(event);
         }
         for (Builder b : inheritedSub) {
@@ -208,7 +262,7 @@ final class ResolveDataChangeState {
         }
 
         if (event.getScope() == DataChangeScope.ONE || event.getScope() == DataChangeScope.BASE) {
-            for (Builder b : oneBuilders.values()) {
+            for (Builder b : oneBuilders) {
                 b.merge(event);
             }
         }
@@ -217,8 +271,13 @@ final class ResolveDataChangeState {
             for (Builder b : inheritedOne) {
                 b.merge(event);
             }
-            for (Builder b : baseBuilders.values()) {
-                b.merge(event);
+            if (!baseRegistrations.isEmpty()) {
+                if (baseBuilders.isEmpty()) {
+                    baseBuilders = newBuilders(baseRegistrations.size());
+                }
+                for (Builder b : baseBuilders) {
+                    b.merge(event);
+                }
             }
         }
     }
@@ -232,49 +291,47 @@ final class ResolveDataChangeState {
      */
     public void collectEvents(final NormalizedNode<?, ?> before, final NormalizedNode<?, ?> after,
             final Multimap<DataChangeListenerRegistration<?>, DOMImmutableDataChangeEvent> map) {
-        for (Entry<DataChangeListenerRegistration<?>, Builder> e : baseBuilders.entrySet()) {
-            final Builder b = e.getValue();
-            if (!b.isEmpty()) {
-                map.put(e.getKey(), b.setBefore(before).setAfter(after).build());
-            }
-        }
-        for (Entry<DataChangeListenerRegistration<?>, Builder> e : oneBuilders.entrySet()) {
-            final Builder b = e.getValue();
-            if (!b.isEmpty()) {
-                map.put(e.getKey(), b.setBefore(before).setAfter(after).build());
-            }
-        }
-        for (Entry<DataChangeListenerRegistration<?>, Builder> e : subBuilders.entrySet()) {
-            final Builder b = e.getValue();
+        collectEvents(baseRegistrations, baseBuilders, before, after, map);
+        collectEvents(oneRegistrations, oneBuilders, before, after, map);
+        collectEvents(subRegistrations, subBuilders, before, after, map);
+
+        LOG.trace("Collected events {}", map);
+    }
+
+    private static void collectEvents(final List<DataChangeListenerRegistration<?>> registrations,
+            final List<Builder> builders, final NormalizedNode<?, ?> before, final NormalizedNode<?, ?> after,
+            final Multimap<DataChangeListenerRegistration<?>, DOMImmutableDataChangeEvent> map) {
+        for (int i = 0; i < builders.size(); ++i) {
+            final Builder b = builders.get(i);
             if (!b.isEmpty()) {
-                map.put(e.getKey(), b.setBefore(before).setAfter(after).build());
+                map.put(registrations.get(i), b.setBefore(before).setAfter(after).build());
             }
         }
-
-        LOG.trace("Collected events {}", map);
     }
 
-    private static Collection<RegistrationTreeNode<DataChangeListenerRegistration<?>>> getListenerChildrenWildcarded(final Collection<RegistrationTreeNode<DataChangeListenerRegistration<?>>> parentNodes,
+    private static Collection<ListenerIndexNode> getListenerChildrenWildcarded(final Collection<ListenerIndexNode> parentNodes,
             final PathArgument child) {
-        if (parentNodes.isEmpty()) {
-            return Collections.emptyList();
+        List<ListenerIndexNode> result = null;
+        for (ListenerIndexNode node : parentNodes) {
+            final ListenerIndexNode wildcard = node.getWildcardChild(child);
+            if (wildcard != null) {
+                result = addChildNode(result, wildcard);
+            }
+            final ListenerIndexNode exact = node.getExactChild(child);
+            if (exact != null) {
+                result = addChildNode(result, exact);
+            }
         }
 
-        final List<RegistrationTreeNode<DataChangeListenerRegistration<?>>> result = new ArrayList<>();
-        if (child instanceof NodeWithValue || child instanceof NodeIdentifierWithPredicates) {
-            NodeIdentifier wildcardedIdentifier = new NodeIdentifier(child.getNodeType());
-            addChildNodes(result, parentNodes, wildcardedIdentifier);
+        if (result == null) {
+            return Collections.emptyList();
         }
-        addChildNodes(result, parentNodes, child);
         return result;
     }
 
-    private static void addChildNodes(final List<RegistrationTreeNode<DataChangeListenerRegistration<?>>> result, final Collection<RegistrationTreeNode<DataChangeListenerRegistration<?>>> parentNodes, final PathArgument childIdentifier) {
-        for (RegistrationTreeNode<DataChangeListenerRegistration<?>> node : parentNodes) {
-            RegistrationTreeNode<DataChangeListenerRegistration<?>> child = node.getExactChild(childIdentifier);
-            if (child != null) {
-                result.add(child);
-            }
-        }
+    private static List<ListenerIndexNode> addChildNode(final List<ListenerIndexNode> result, final ListenerIndexNode child) {
+        final List<ListenerIndexNode> ret = result != null ? result : new ArrayList<ListenerIndexNode>(2);
+        ret.add(child);
+        return ret;
     }
 }
@@ -8,7 +8,10 @@
 
 package org.opendaylight.controller.md.sal.dom.store.impl.jmx;
 
+import java.util.List;
 import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
+import org.opendaylight.controller.md.sal.common.util.jmx.ListenerQueueStats;
+import org.opendaylight.controller.md.sal.common.util.jmx.ListenerQueueStatsProvider;
 import org.opendaylight.controller.md.sal.common.util.jmx.QueuedNotificationManagerMXBeanImpl;
 import org.opendaylight.controller.md.sal.common.util.jmx.ThreadExecutorStatsMXBeanImpl;
 import org.opendaylight.controller.md.sal.dom.store.impl.InMemoryDOMDataStore;
@@ -25,8 +28,13 @@ public class InMemoryDataStoreStats implements AutoCloseable {
     private final QueuedNotificationManagerMXBeanImpl notificationManagerStatsBean;
 
     public InMemoryDataStoreStats(final String mBeanType, final QueuedNotificationManager<?, ?> manager) {
+        this(mBeanType, manager, null);
+    }
+
+    private InMemoryDataStoreStats(final String mBeanType, final QueuedNotificationManager<?, ?> manager,
+            final ListenerQueueStatsProvider listenerQueueStatsProvider) {
 
-        notificationManagerStatsBean = new QueuedNotificationManagerMXBeanImpl(manager,
+        notificationManagerStatsBean = new QueuedNotificationManagerMXBeanImpl(manager, listenerQueueStatsProvider,
                 "notification-manager", mBeanType, null);
         notificationManagerStatsBean.registerMBean();
 
@@ -38,7 +46,12 @@ public class InMemoryDataStoreStats implements AutoCloseable {
     }
 
     public InMemoryDataStoreStats(final String name, final InMemoryDOMDataStore dataStore) {
-        this(name, dataStore.getDataChangeListenerNotificationManager());
+        this(name, dataStore.getDataChangeListenerNotificationManager(), new ListenerQueueStatsProvider() {
+            @Override
+            public List<ListenerQueueStats> getListenerQueueStats() {
+                return dataStore.getListenerQueueStats();
+            }
+        });
     }
 
     @Override
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.impl.tree;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
+import org.opendaylight.controller.md.sal.dom.spi.RegistrationTreeNode;
+import org.opendaylight.controller.md.sal.dom.store.impl.DataChangeListenerRegistration;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+
+/**
+ * A single node of the listener dispatch index, as provided by {@link ListenerTree#getIndex()}.
+ * Unlike {@link RegistrationTreeNode} this node is immutable, so it can be walked without holding any
+ * locks. Registration changes produce a new index which shares all nodes not on the changed path. Registrations are split by their scope and only subtrees which contain registrations are
+ * retained. Children which can be reached by a wildcard are additionally indexed by their node type,
+ * so keyed path arguments can be matched without instantiating a wildcard identifier.
+ */
+public final class ListenerIndexNode {
+    static final ListenerIndexNode EMPTY = new ListenerIndexNode(
+        ImmutableList.<DataChangeListenerRegistration<?>>of(), ImmutableList.<DataChangeListenerRegistration<?>>of(),
+        ImmutableList.<DataChangeListenerRegistration<?>>of(), ImmutableMap.<PathArgument, ListenerIndexNode>of(),
+        ImmutableMap.<QName, ListenerIndexNode>of());
+
+    private final List<DataChangeListenerRegistration<?>> baseRegistrations;
+    private final List<DataChangeListenerRegistration<?>> oneRegistrations;
+    private final List<DataChangeListenerRegistration<?>> subtreeRegistrations;
+    private final Map<PathArgument, ListenerIndexNode> exactChildren;
+    private final Map<QName, ListenerIndexNode> wildcardChildren;
+
+    private ListenerIndexNode(final List<DataChangeListenerRegistration<?>> baseRegistrations,
+            final List<DataChangeListenerRegistration<?>> oneRegistrations,
+            final List<DataChangeListenerRegistration<?>> subtreeRegistrations,
+            final Map<PathArgument, ListenerIndexNode> exactChildren,
+            final Map<QName, ListenerIndexNode> wildcardChildren) {
+        this.baseRegistrations = Preconditions.checkNotNull(baseRegistrations);
+        this.oneRegistrations = Preconditions.checkNotNull(oneRegistrations);
+        this.subtreeRegistrations = Preconditions.checkNotNull(subtreeRegistrations);
+        this.exactChildren = Preconditions.checkNotNull(exactChildren);
+        this.wildcardChildren = Preconditions.checkNotNull(wildcardChildren);
+    }
+
+    /**
+     * Return a copy of this node with a registration added at the specified path below it. Only the nodes on the
+     * path are copied, all other nodes are shared with this node.
+     *
+     * @param path Remaining path to the registration's node
+     * @param reg Registration to add
+     * @return Updated node
+     */
+    ListenerIndexNode withRegistration(final Iterator<PathArgument> path, final DataChangeListenerRegistration<?> reg) {
+        if (!path.hasNext()) {
+            switch (reg.getScope()) {
+            case BASE:
+                return new ListenerIndexNode(append(baseRegistrations, reg), oneRegistrations, subtreeRegistrations,
+                    exactChildren, wildcardChildren);
+            case ONE:
+                return new ListenerIndexNode(baseRegistrations, append(oneRegistrations, reg), subtreeRegistrations,
+                    exactChildren, wildcardChildren);
+            case SUBTREE:
+                return new ListenerIndexNode(baseRegistrations, oneRegistrations, append(subtreeRegistrations, reg),
+                    exactChildren, wildcardChildren);
+            }
+
+            throw new IllegalArgumentException("Unhandled scope " + reg.getScope());
+        }
+
+        final PathArgument arg = path.next();
+        final ListenerIndexNode child = exactChildren.get(arg);
+        return withChild(arg, (child != null ? child : EMPTY).withRegistration(path, reg));
+    }
+
+    /**
+     * Return a copy of this node with a registration removed from the specified path below it. Nodes which no
+     * longer lead to any registrations are pruned, all nodes which are not on the path are shared with this node.
+     *
+     * @param path Remaining path to the registration's node
+     * @param reg Registration to remove
+     * @return Updated node, this node if the registration is not present, or null if the node's subtree
+     *         no longer contains any registrations.
+     */
+    @Nullable ListenerIndexNode withoutRegistration(final Iterator<PathArgument> path,
+            final DataChangeListenerRegistration<?> reg) {
+        final ListenerIndexNode ret;
+        if (path.hasNext()) {
+            final PathArgument arg = path.next();
+            final ListenerIndexNode child = exactChildren.get(arg);
+            if (child == null) {
+                return this;
+            }
+
+            final ListenerIndexNode newChild = child.withoutRegistration(path, reg);
+            if (newChild == child) {
+                return this;
+            }
+
+            ret = newChild != null ? withChild(arg, newChild) : withoutChild(arg);
+        } else {
+            final List<DataChangeListenerRegistration<?>> base = remove(baseRegistrations, reg);
+            final List<DataChangeListenerRegistration<?>> one = remove(oneRegistrations, reg);
+            final List<DataChangeListenerRegistration<?>> sub = remove(subtreeRegistrations, reg);
+            if (base == baseRegistrations && one == oneRegistrations && sub == subtreeRegistrations) {
+                return this;
+            }
+
+            ret = new ListenerIndexNode(base, one, sub, exactChildren, wildcardChildren);
+        }
+
+        return ret.isEmpty() ? null : ret;
+    }
+
+    private boolean isEmpty() {
+        return exactChildren.isEmpty() && baseRegistrations.isEmpty() && oneRegistrations.isEmpty()
+                && subtreeRegistrations.isEmpty();
+    }
+
+    private ListenerIndexNode withChild(final PathArgument arg, final ListenerIndexNode child) {
+        final ImmutableMap.Builder<PathArgument, ListenerIndexNode> exact = ImmutableMap.builder();
+        for (Entry<PathArgument, ListenerIndexNode> e : exactChildren.entrySet()) {
+            if (!arg.equals(e.getKey())) {
+                exact.put(e);
+            }
+        }
+        exact.put(arg, child);
+
+        final Map<QName, ListenerIndexNode> wildcard;
+        if (arg instanceof NodeIdentifier) {
+            final ImmutableMap.Builder<QName, ListenerIndexNode> builder = ImmutableMap.builder();
+            for (Entry<QName, ListenerIndexNode> e : wildcardChildren.entrySet()) {
+                if (!arg.getNodeType().equals(e.getKey())) {
+                    builder.put(e);
+                }
+            }
+            wildcard = builder.put(arg.getNodeType(), child).build();
+        } else {
+            wildcard = wildcardChildren;
+        }
+
+        return new ListenerIndexNode(baseRegistrations, oneRegistrations, subtreeRegistrations, exact.build(),
+            wildcard);
+    }
+
+    private ListenerIndexNode withoutChild(final PathArgument arg) {
+        final ImmutableMap.Builder<PathArgument, ListenerIndexNode> exact = ImmutableMap.builder();
+        for (Entry<PathArgument, ListenerIndexNode> e : exactChildren.entrySet()) {
+            if (!arg.equals(e.getKey())) {
+                exact.put(e);
+            }
+        }
+
+        final Map<QName, ListenerIndexNode> wildcard;
+        if (arg instanceof NodeIdentifier) {
+            final ImmutableMap.Builder<QName, ListenerIndexNode> builder = ImmutableMap.builder();
+            for (Entry<QName, ListenerIndexNode> e : wildcardChildren.entrySet()) {
+                if (!arg.getNodeType().equals(e.getKey())) {
+                    builder.put(e);
+                }
+            }
+            wildcard = builder.build();
+        } else {
+            wildcard = wildcardChildren;
+        }
+
+        return new ListenerIndexNode(baseRegistrations, oneRegistrations, subtreeRegistrations, exact.build(),
+            wildcard);
+    }
+
+    private static List<DataChangeListenerRegistration<?>> append(final List<DataChangeListenerRegistration<?>> regs,
+            final DataChangeListenerRegistration<?> reg) {
+        return ImmutableList.<DataChangeListenerRegistration<?>>builder().addAll(regs).add(reg).build();
+    }
+
+    private static List<DataChangeListenerRegistration<?>> remove(final List<DataChangeListenerRegistration<?>> regs,
+            final DataChangeListenerRegistration<?> reg) {
+        if (!regs.contains(reg)) {
+            return regs;
+        }
+
+        final ImmutableList.Builder<DataChangeListenerRegistration<?>> builder = ImmutableList.builder();
+        for (DataChangeListenerRegistration<?> r : regs) {
+            if (!r.equals(reg)) {
+                builder.add(r);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Return the child matching a {@link PathArgument} exactly.
+     *
+     * @param arg Child identifier
+     * @return Child matching exactly, or null.
+     */
+    public ListenerIndexNode getExactChild(@Nonnull final PathArgument arg) {
+        return exactChildren.get(arg);
+    }
+
+    /**
+     * Return the child matching a keyed {@link PathArgument} by its node type, e.g. a listener
+     * registered for all entries of a list. This explicitly excludes the child returned by
+     * {@link #getExactChild(PathArgument)}.
+     *
+     * @param arg Child identifier
+     * @return Child matching the wildcard, or null.
+     */
+    public ListenerIndexNode getWildcardChild(@Nonnull final PathArgument arg) {
+        if (wildcardChildren.isEmpty()) {
+            return null;
+        }
+        if (arg instanceof NodeIdentifierWithPredicates || arg instanceof NodeWithValue) {
+            return wildcardChildren.get(arg.getNodeType());
+        }
+        return null;
+    }
+
+    /**
+     * Check whether this node has any children, i.e. whether there are any registrations
+     * below this node.
+     *
+     * @return True if this node has children.
+     */
+    public boolean hasChildren() {
+        return !exactChildren.isEmpty();
+    }
+
+    /**
+     * Return the registrations at this node, which have the specified scope.
+     *
+     * @param scope Registration scope
+     * @return Immutable list of registrations
+     */
+    public List<DataChangeListenerRegistration<?>> getRegistrations(final DataChangeScope scope) {
+        switch (scope) {
+        case BASE:
+            return baseRegistrations;
+        case ONE:
+            return oneRegistrations;
+        case SUBTREE:
+            return subtreeRegistrations;
+        }
+
+        throw new IllegalArgumentException("Unhandled scope " + scope);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("base", baseRegistrations.size())
+                .add("one", oneRegistrations.size())
+                .add("subtree", subtreeRegistrations.size())
+                .add("children", exactChildren.size()).toString();
+    }
+}
@@ -22,6 +22,12 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
  * @author Robert Varga
  */
 public final class ListenerTree extends AbstractRegistrationTree<DataChangeListenerRegistration<?>> {
+    /*
+     * Dispatch index. It is updated under the write lock whenever a registration is added or removed,
+     * by copying only the nodes on the registration's path.
+     */
+    private volatile ListenerIndexNode index = ListenerIndexNode.EMPTY;
+
     private ListenerTree() {
         // Private to disallow direct instantiation
     }
@@ -74,10 +80,12 @@ public final class ListenerTree extends AbstractRegistrationTree<DataChangeListe
                      *       contract, it is probably not going to be liked by the users.
                      */
                     ListenerTree.this.removeRegistration(node, this);
+                    removeFromIndex(path, this);
                 }
             };
 
             addRegistration(node, reg);
+            index = index.withRegistration(path.getPathArguments().iterator(), reg);
             return reg;
         } finally {
             // Always release the lock
@@ -85,6 +93,28 @@ public final class ListenerTree extends AbstractRegistrationTree<DataChangeListe
         }
     }
 
+    private void removeFromIndex(final YangInstanceIdentifier path, final DataChangeListenerRegistration<?> reg) {
+        takeLock();
+        try {
+            final ListenerIndexNode ret = index.withoutRegistration(path.getPathArguments().iterator(), reg);
+            index = ret != null ? ret : ListenerIndexNode.EMPTY;
+        } finally {
+            releaseLock();
+        }
+    }
+
+    /**
+     * Obtain the dispatch index of this tree. Unlike {@link #takeSnapshot()}, the index is
+     * immutable and does not block modification of the listener tree, hence it does not need to be
+     * released. It reflects the registrations at the time of the call, registrations made after that
+     * are not visible through it.
+     *
+     * @return Root node of the index.
+     */
+    public ListenerIndexNode getIndex() {
+        return index;
+    }
+
     /**
      * Obtain a tree walking context. This context ensures a consistent view of
      * the listener registrations. The context should be closed as soon as it
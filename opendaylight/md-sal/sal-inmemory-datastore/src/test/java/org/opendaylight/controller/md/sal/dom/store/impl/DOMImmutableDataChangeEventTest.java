@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class DOMImmutableDataChangeEventTest {
+    private static final YangInstanceIdentifier OUTER_LIST_1_PATH = YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+            .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1).build();
+    private static final YangInstanceIdentifier OUTER_LIST_2_PATH = YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+            .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2).build();
+    private static final NormalizedNode<?, ?> OUTER_LIST_1 = ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME,
+        TestModel.ID_QNAME, 1);
+    private static final NormalizedNode<?, ?> OUTER_LIST_2 = ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME,
+        TestModel.ID_QNAME, 2);
+
+    @Test
+    public void testMergedEvents() {
+        final DOMImmutableDataChangeEvent created = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE)
+                .addCreated(OUTER_LIST_1_PATH, OUTER_LIST_1).setAfter(OUTER_LIST_1).build();
+        final DOMImmutableDataChangeEvent removed = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE)
+                .addRemoved(OUTER_LIST_2_PATH, OUTER_LIST_2).build();
+
+        final DOMImmutableDataChangeEvent.Builder builder = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE);
+        builder.merge(created);
+        builder.merge(removed);
+        builder.merge(DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE).build());
+        assertFalse(builder.isEmpty());
+
+        final DOMImmutableDataChangeEvent event = builder.build();
+        assertEquals(ImmutableMap.of(OUTER_LIST_1_PATH, OUTER_LIST_1), event.getCreatedData());
+        assertEquals(ImmutableMap.of(OUTER_LIST_2_PATH, OUTER_LIST_2), event.getOriginalData());
+        assertEquals(ImmutableSet.of(OUTER_LIST_2_PATH), event.getRemovedPaths());
+        assertTrue(event.getUpdatedData().isEmpty());
+
+        // Computed maps are cached
+        assertSame(event.getCreatedData(), event.getCreatedData());
+    }
+
+    @Test
+    public void testSingleMergedEventIsShared() {
+        final DOMImmutableDataChangeEvent created = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE)
+                .addCreated(OUTER_LIST_1_PATH, OUTER_LIST_1).setAfter(OUTER_LIST_1).build();
+
+        final DOMImmutableDataChangeEvent.Builder builder = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE);
+        builder.merge(created);
+        final DOMImmutableDataChangeEvent event = builder.setAfter(OUTER_LIST_1).build();
+
+        assertSame(created.getCreatedData(), event.getCreatedData());
+        assertSame(OUTER_LIST_1, event.getUpdatedSubtree());
+    }
+
+    @Test
+    public void testOwnChangesTakePrecedence() {
+        final DOMImmutableDataChangeEvent nested = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE)
+                .addUpdated(OUTER_LIST_1_PATH, OUTER_LIST_2, OUTER_LIST_2).build();
+
+        final DOMImmutableDataChangeEvent.Builder builder = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE)
+                .addUpdated(OUTER_LIST_1_PATH, OUTER_LIST_1, OUTER_LIST_1);
+        builder.merge(nested);
+
+        final DOMImmutableDataChangeEvent event = builder.build();
+        assertEquals(ImmutableMap.of(OUTER_LIST_1_PATH, OUTER_LIST_1), event.getUpdatedData());
+        assertEquals(ImmutableMap.of(OUTER_LIST_1_PATH, OUTER_LIST_1), event.getOriginalData());
+    }
+
+    @Test
+    public void testEmptyEvent() {
+        final DOMImmutableDataChangeEvent.Builder builder = DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE);
+        assertTrue(builder.isEmpty());
+
+        final DOMImmutableDataChangeEvent event = builder.build();
+        assertTrue(event.getCreatedData().isEmpty());
+        assertTrue(event.getOriginalData().isEmpty());
+        assertTrue(event.getRemovedPaths().isEmpty());
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeListener;
+import org.opendaylight.controller.md.sal.common.util.jmx.ListenerQueueStats;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreThreePhaseCommitCohort;
+import org.opendaylight.controller.sal.core.spi.data.DOMStoreWriteTransaction;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class DataChangeListenerQueueTest {
+    private static final YangInstanceIdentifier OUTER_LIST_1_PATH = YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+            .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1).build();
+    private static final YangInstanceIdentifier OUTER_LIST_2_PATH = YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+            .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2).build();
+
+    /**
+     * Executor which runs the submitted tasks only when asked to, simulating a slow listener.
+     */
+    private static final class ManualExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(final Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            final List<Runnable> copy = new ArrayList<>(tasks);
+            tasks.clear();
+            for (Runnable r : copy) {
+                r.run();
+            }
+        }
+    }
+
+    private final List<AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>>> delivered = new ArrayList<>();
+    private final AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>> listener =
+            new AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>>() {
+                @Override
+                public void onDataChanged(final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) {
+                    delivered.add(change);
+                }
+            };
+
+    private ManualExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new ManualExecutor();
+    }
+
+    private DataChangeListenerQueue newQueue(final DataChangeListenerBackpressure backpressure, final int maxQueueSize) {
+        return new DataChangeListenerQueue(listener,
+            DataChangeListenerDeliveryOptions.create(backpressure, maxQueueSize, executor), executor);
+    }
+
+    private static DOMImmutableDataChangeEvent created(final YangInstanceIdentifier path, final int id) {
+        final NormalizedNode<?, ?> data = ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, id);
+        return DOMImmutableDataChangeEvent.builder(DataChangeScope.BASE).addCreated(path, data).setAfter(data).build();
+    }
+
+    @Test
+    public void testDropOldest() {
+        final DataChangeListenerQueue queue = newQueue(DataChangeListenerBackpressure.DROP_OLDEST, 1);
+        final DOMImmutableDataChangeEvent second = created(OUTER_LIST_2_PATH, 2);
+        queue.onDataChanged(created(OUTER_LIST_1_PATH, 1));
+        queue.onDataChanged(second);
+
+        ListenerQueueStats stats = queue.toListenerQueueStats();
+        assertEquals(1, stats.getCurrentQueueSize());
+        assertEquals(1, stats.getDroppedNotificationCount());
+
+        executor.runAll();
+        assertEquals(1, delivered.size());
+        assertSame(second, delivered.get(0));
+
+        stats = queue.toListenerQueueStats();
+        assertEquals(0, stats.getCurrentQueueSize());
+        assertEquals(1, stats.getDeliveredNotificationCount());
+    }
+
+    @Test
+    public void testCoalesce() {
+        final DataChangeListenerQueue queue = newQueue(DataChangeListenerBackpressure.COALESCE, 1);
+        queue.onDataChanged(created(OUTER_LIST_1_PATH, 1));
+        queue.onDataChanged(created(OUTER_LIST_2_PATH, 2));
+        assertEquals(1, queue.toListenerQueueStats().getCoalescedNotificationCount());
+
+        executor.runAll();
+        assertEquals(1, delivered.size());
+        assertEquals(2, delivered.get(0).getCreatedData().size());
+    }
+
+    @Test
+    public void testUnregister() {
+        final DataChangeListenerQueue queue = newQueue(DataChangeListenerBackpressure.UNREGISTER, 1);
+        final ListenerRegistration<?> reg = mock(ListenerRegistration.class);
+        queue.setRegistration(reg);
+
+        queue.onDataChanged(created(OUTER_LIST_1_PATH, 1));
+        queue.onDataChanged(created(OUTER_LIST_2_PATH, 2));
+        verify(reg, times(1)).close();
+
+        // Further notifications are ignored
+        queue.onDataChanged(created(OUTER_LIST_2_PATH, 2));
+        executor.runAll();
+        assertEquals(0, delivered.size());
+        assertEquals(2, queue.toListenerQueueStats().getDroppedNotificationCount());
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        final DataChangeListenerQueue queue = newQueue(DataChangeListenerBackpressure.BLOCK, 1);
+
+        // Enqueueing does not block, the committing thread waits separately
+        queue.onDataChanged(created(OUTER_LIST_1_PATH, 1));
+        queue.onDataChanged(created(OUTER_LIST_2_PATH, 2));
+        assertEquals(2, queue.toListenerQueueStats().getCurrentQueueSize());
+
+        final Thread committer = new Thread() {
+            @Override
+            public void run() {
+                queue.awaitCapacity();
+            }
+        };
+        committer.start();
+        committer.join(200);
+        assertTrue(committer.isAlive());
+
+        executor.runAll();
+        committer.join(5000);
+        assertFalse(committer.isAlive());
+        assertEquals(2, delivered.size());
+    }
+
+    @Test
+    public void testStoreUnregister() throws Exception {
+        final InMemoryDOMDataStore store = new InMemoryDOMDataStore("TEST", MoreExecutors.newDirectExecutorService());
+        store.onGlobalContextUpdated(TestModel.createTestContext());
+
+        store.registerChangeListener(TestModel.TEST_PATH, listener, DataChangeScope.SUBTREE,
+            DataChangeListenerDeliveryOptions.create(DataChangeListenerBackpressure.UNREGISTER, 1, executor));
+        assertEquals(1, store.getListenerQueueStats().size());
+
+        DOMStoreWriteTransaction tx = store.newWriteOnlyTransaction();
+        tx.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        commit(tx.ready());
+        tx = store.newWriteOnlyTransaction();
+        tx.write(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).build());
+        commit(tx.ready());
+
+        // The listener did not keep up, it is no longer known to the store
+        assertEquals(0, store.getListenerQueueStats().size());
+        executor.runAll();
+        assertEquals(0, delivered.size());
+    }
+
+    private static void commit(final DOMStoreThreePhaseCommitCohort cohort) throws Exception {
+        assertTrue(cohort.canCommit().get());
+        cohort.preCommit().get();
+        cohort.commit().get();
+    }
+
+    @Test
+    public void testStoreRegistration() throws Exception {
+        final InMemoryDOMDataStore store = new InMemoryDOMDataStore("TEST", MoreExecutors.newDirectExecutorService());
+        store.onGlobalContextUpdated(TestModel.createTestContext());
+
+        final ListenerRegistration<?> reg = store.registerChangeListener(TestModel.TEST_PATH, listener,
+            DataChangeScope.SUBTREE, DataChangeListenerDeliveryOptions.create(DataChangeListenerBackpressure.BLOCK, 16,
+                executor));
+        assertEquals(1, store.getListenerQueueStats().size());
+
+        final DOMStoreWriteTransaction tx = store.newWriteOnlyTransaction();
+        tx.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        final DOMStoreThreePhaseCommitCohort cohort = tx.ready();
+        assertTrue(cohort.canCommit().get());
+        cohort.preCommit().get();
+        cohort.commit().get();
+
+        // Nothing is delivered until the listener's executor runs
+        assertEquals(0, delivered.size());
+        executor.runAll();
+        assertEquals(1, delivered.size());
+
+        reg.close();
+        assertEquals(0, store.getListenerQueueStats().size());
+    }
+}
@@ -11,6 +11,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -20,6 +21,7 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.opendaylight.controller.md.sal.common.api.data.OptimisticLockFailedException;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadTransaction;
 import org.opendaylight.controller.sal.core.spi.data.DOMStoreReadWriteTransaction;
@@ -447,6 +449,133 @@ public class InMemoryDataStoreTest {
         assertFalse(txTwo.ready().canCommit().get());
     }
 
+    @Test
+    public void testConcurrentCommitOfIndependentTransactions() throws Exception {
+        final InMemoryDOMDataStore store = createConcurrentCommitStore();
+
+        final DOMStoreWriteTransaction txOne = store.newWriteOnlyTransaction();
+        txOne.write(outerListEntryPath(1), ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1));
+        final DOMStoreWriteTransaction txTwo = store.newWriteOnlyTransaction();
+        txTwo.write(outerListEntryPath(2), ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2));
+
+        // Both transactions are validated against the same tip
+        final DOMStoreThreePhaseCommitCohort cohortOne = txOne.ready();
+        final DOMStoreThreePhaseCommitCohort cohortTwo = txTwo.ready();
+        assertTrue(cohortOne.canCommit().get());
+        assertTrue(cohortTwo.canCommit().get());
+        cohortOne.preCommit().get();
+        cohortTwo.preCommit().get();
+        assertEquals("Commit rebase count", 0, store.getCommitRebaseCount());
+
+        // The second one is rebased onto the first one when its compare-and-set of the tip fails
+        cohortOne.commit().get();
+        cohortTwo.commit().get();
+        assertEquals("Commit rebase count", 1, store.getCommitRebaseCount());
+
+        final DOMStoreReadTransaction readTx = store.newReadOnlyTransaction();
+        assertTrue(readTx.exists(outerListEntryPath(1)).get());
+        assertTrue(readTx.exists(outerListEntryPath(2)).get());
+    }
+
+    @Test
+    public void testConcurrentCommitOfConflictingTransactions() throws Exception {
+        final InMemoryDOMDataStore store = createConcurrentCommitStore();
+
+        final DOMStoreWriteTransaction txOne = store.newWriteOnlyTransaction();
+        txOne.write(outerListEntryPath(1), ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1));
+        final DOMStoreWriteTransaction txTwo = store.newWriteOnlyTransaction();
+        txTwo.write(outerListEntryPath(1), ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1));
+
+        final DOMStoreThreePhaseCommitCohort cohortOne = txOne.ready();
+        final DOMStoreThreePhaseCommitCohort cohortTwo = txTwo.ready();
+        assertTrue(cohortOne.canCommit().get());
+        assertTrue(cohortTwo.canCommit().get());
+        cohortOne.preCommit().get();
+        cohortOne.commit().get();
+
+        // The conflict is detected before the commit phase, so other stores of the transaction can abort
+        try {
+            cohortTwo.preCommit().get();
+            fail("Expected OptimisticLockFailedException");
+        } catch (ExecutionException e) {
+            assertTrue("Unexpected cause " + e.getCause(), e.getCause() instanceof OptimisticLockFailedException);
+        }
+        cohortTwo.abort().get();
+
+        // The failed transaction does not hold the store
+        final DOMStoreWriteTransaction txThree = store.newWriteOnlyTransaction();
+        txThree.write(outerListEntryPath(2), ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2));
+        assertThreePhaseCommit(txThree.ready());
+    }
+
+    @Test
+    public void testConcurrentCommitOfTransactionConflictingAfterPreCommit() throws Exception {
+        final InMemoryDOMDataStore store = createConcurrentCommitStore();
+
+        final DOMStoreWriteTransaction txOne = store.newWriteOnlyTransaction();
+        txOne.write(outerListEntryPath(1), ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1));
+        final DOMStoreWriteTransaction txTwo = store.newWriteOnlyTransaction();
+        txTwo.write(outerListEntryPath(1), ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1));
+
+        final DOMStoreThreePhaseCommitCohort cohortOne = txOne.ready();
+        final DOMStoreThreePhaseCommitCohort cohortTwo = txTwo.ready();
+        assertTrue(cohortOne.canCommit().get());
+        assertTrue(cohortTwo.canCommit().get());
+        cohortOne.preCommit().get();
+        cohortTwo.preCommit().get();
+        cohortOne.commit().get();
+
+        // Only a conflicting commit between pre-commit and commit makes the commit phase fail
+        try {
+            cohortTwo.commit().get();
+            fail("Expected OptimisticLockFailedException");
+        } catch (ExecutionException e) {
+            assertTrue("Unexpected cause " + e.getCause(), e.getCause() instanceof OptimisticLockFailedException);
+        }
+
+        final DOMStoreWriteTransaction txThree = store.newWriteOnlyTransaction();
+        txThree.write(outerListEntryPath(2), ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2));
+        assertThreePhaseCommit(txThree.ready());
+    }
+
+    @Test
+    public void testConcurrentCommitAbortAfterPreCommit() throws Exception {
+        final InMemoryDOMDataStore store = createConcurrentCommitStore();
+
+        final DOMStoreWriteTransaction txOne = store.newWriteOnlyTransaction();
+        txOne.write(outerListEntryPath(1), ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 1));
+        final DOMStoreThreePhaseCommitCohort cohortOne = txOne.ready();
+        assertTrue(cohortOne.canCommit().get());
+        cohortOne.preCommit().get();
+        cohortOne.abort().get();
+
+        final DOMStoreWriteTransaction txTwo = store.newWriteOnlyTransaction();
+        txTwo.write(outerListEntryPath(2), ImmutableNodes.mapEntry(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, 2));
+        assertThreePhaseCommit(txTwo.ready());
+
+        final DOMStoreReadTransaction readTx = store.newReadOnlyTransaction();
+        assertFalse(readTx.exists(outerListEntryPath(1)).get());
+        assertTrue(readTx.exists(outerListEntryPath(2)).get());
+    }
+
+    private InMemoryDOMDataStore createConcurrentCommitStore() throws InterruptedException, ExecutionException {
+        final InMemoryDOMDataStore store = new InMemoryDOMDataStore("TEST-CONCURRENT",
+                MoreExecutors.newDirectExecutorService(),
+                InMemoryDOMDataStoreConfigProperties.DEFAULT_MAX_DATA_CHANGE_LISTENER_QUEUE_SIZE, false, true);
+        store.onGlobalContextUpdated(schemaContext);
+
+        final DOMStoreWriteTransaction writeTx = store.newWriteOnlyTransaction();
+        writeTx.write(TestModel.TEST_PATH, ImmutableNodes.containerNode(TestModel.TEST_QNAME));
+        writeTx.write(TestModel.OUTER_LIST_PATH, ImmutableNodes.mapNodeBuilder(TestModel.OUTER_LIST_QNAME).build());
+        assertThreePhaseCommit(writeTx.ready());
+        return store;
+    }
+
+    private static YangInstanceIdentifier outerListEntryPath(final int id) {
+        return YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+                .nodeWithKey(TestModel.OUTER_LIST_QNAME, TestModel.ID_QNAME, id).build();
+    }
+
     private static void assertThreePhaseCommit(final DOMStoreThreePhaseCommitCohort cohort)
             throws InterruptedException, ExecutionException {
         assertTrue(cohort.canCommit().get().booleanValue());
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.md.sal.dom.store.impl.tree;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeListener;
+import org.opendaylight.controller.md.sal.dom.store.impl.DataChangeListenerRegistration;
+import org.opendaylight.controller.md.sal.dom.store.impl.TestModel;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+
+public class ListenerTreeTest {
+    private static final PathArgument OUTER_LIST_ENTRY = new NodeIdentifierWithPredicates(TestModel.OUTER_LIST_QNAME,
+        TestModel.ID_QNAME, 1);
+
+    @SuppressWarnings("unchecked")
+    private static AsyncDataChangeListener<YangInstanceIdentifier, NormalizedNode<?, ?>> mockListener() {
+        return mock(AsyncDataChangeListener.class);
+    }
+
+    private static ListenerIndexNode outerList(final ListenerIndexNode root) {
+        final ListenerIndexNode test = root.getExactChild(new NodeIdentifier(TestModel.TEST_QNAME));
+        assertNotNull(test);
+        return test.getExactChild(new NodeIdentifier(TestModel.OUTER_LIST_QNAME));
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        final ListenerIndexNode root = ListenerTree.create().getIndex();
+        assertFalse(root.hasChildren());
+        assertTrue(root.getRegistrations(DataChangeScope.BASE).isEmpty());
+    }
+
+    @Test
+    public void testWildcardedRegistration() {
+        final ListenerTree tree = ListenerTree.create();
+        final YangInstanceIdentifier wildcard = YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+                .node(TestModel.OUTER_LIST_QNAME).build();
+        final DataChangeListenerRegistration<?> reg = tree.registerDataChangeListener(wildcard, mockListener(),
+            DataChangeScope.ONE);
+
+        final ListenerIndexNode outerList = outerList(tree.getIndex());
+        assertNotNull(outerList);
+
+        final ListenerIndexNode entry = outerList.getWildcardChild(OUTER_LIST_ENTRY);
+        assertNotNull(entry);
+        assertNull(outerList.getExactChild(OUTER_LIST_ENTRY));
+        assertNull(outerList.getWildcardChild(new NodeIdentifier(TestModel.OUTER_LIST_QNAME)));
+        assertEquals(Collections.singletonList(reg), entry.getRegistrations(DataChangeScope.ONE));
+        assertTrue(entry.getRegistrations(DataChangeScope.BASE).isEmpty());
+        assertTrue(entry.getRegistrations(DataChangeScope.SUBTREE).isEmpty());
+    }
+
+    @Test
+    public void testIndexInvalidation() {
+        final ListenerTree tree = ListenerTree.create();
+        final YangInstanceIdentifier keyed = YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+                .node(OUTER_LIST_ENTRY).build();
+
+        final ListenerIndexNode empty = tree.getIndex();
+        final DataChangeListenerRegistration<?> reg = tree.registerDataChangeListener(keyed, mockListener(),
+            DataChangeScope.SUBTREE);
+
+        final ListenerIndexNode index = tree.getIndex();
+        assertSame(index, tree.getIndex());
+        assertFalse(empty.hasChildren());
+
+        final ListenerIndexNode entry = outerList(index).getExactChild(OUTER_LIST_ENTRY);
+        assertNotNull(entry);
+        assertNull(outerList(index).getWildcardChild(OUTER_LIST_ENTRY));
+        assertEquals(Collections.singletonList(reg), entry.getRegistrations(DataChangeScope.SUBTREE));
+
+        reg.close();
+        assertFalse(tree.getIndex().hasChildren());
+
+        // The old index remains unaffected
+        assertEquals(Collections.singletonList(reg), entry.getRegistrations(DataChangeScope.SUBTREE));
+    }
+
+    @Test
+    public void testIncrementalIndexUpdate() {
+        final ListenerTree tree = ListenerTree.create();
+        final YangInstanceIdentifier keyed = YangInstanceIdentifier.builder(TestModel.OUTER_LIST_PATH)
+                .node(OUTER_LIST_ENTRY).build();
+        final DataChangeListenerRegistration<?> entryReg = tree.registerDataChangeListener(keyed, mockListener(),
+            DataChangeScope.SUBTREE);
+        final ListenerIndexNode entry = outerList(tree.getIndex()).getExactChild(OUTER_LIST_ENTRY);
+
+        // Registrations on other paths share the untouched nodes
+        final DataChangeListenerRegistration<?> listReg = tree.registerDataChangeListener(TestModel.OUTER_LIST_PATH,
+            mockListener(), DataChangeScope.ONE);
+        final ListenerIndexNode outerList = outerList(tree.getIndex());
+        assertSame(entry, outerList.getExactChild(OUTER_LIST_ENTRY));
+        assertEquals(Collections.singletonList(listReg), outerList.getRegistrations(DataChangeScope.ONE));
+
+        // Removal keeps the nodes which still lead to registrations
+        listReg.close();
+        assertSame(entry, outerList(tree.getIndex()).getExactChild(OUTER_LIST_ENTRY));
+        assertTrue(outerList(tree.getIndex()).getRegistrations(DataChangeScope.ONE).isEmpty());
+
+        // Closing again does not change anything
+        final ListenerIndexNode index = tree.getIndex();
+        listReg.close();
+        assertSame(index, tree.getIndex());
+
+        entryReg.close();
+        assertFalse(tree.getIndex().hasChildren());
+    }
+}
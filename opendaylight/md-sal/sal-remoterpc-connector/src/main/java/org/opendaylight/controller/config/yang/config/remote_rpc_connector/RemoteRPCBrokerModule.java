@@ -1,8 +1,10 @@
 package org.opendaylight.controller.config.yang.config.remote_rpc_connector;
 
 import org.opendaylight.controller.cluster.common.actor.DefaultAkkaConfigurationReader;
+import org.opendaylight.controller.remote.notification.NotificationDeliveryMode;
 import org.opendaylight.controller.remote.rpc.RemoteRpcProviderConfig;
 import org.opendaylight.controller.remote.rpc.RemoteRpcProviderFactory;
+import org.opendaylight.controller.remote.rpc.utils.RoutingPolicy;
 import org.opendaylight.controller.sal.core.api.Broker;
 import org.osgi.framework.BundleContext;
 
@@ -19,6 +21,10 @@ public class RemoteRPCBrokerModule extends org.opendaylight.controller.config.ya
   @Override
   public void customValidation() {
      // add custom validation form module attributes here.
+     NotificationDeliveryMode.forConfigName(getNotificationDeliveryMode());
+     if (getRoutingPolicy() != null) {
+         RoutingPolicy.forConfigName(getRoutingPolicy());
+     }
   }
 
   @Override
@@ -30,11 +36,19 @@ public class RemoteRPCBrokerModule extends org.opendaylight.controller.config.ya
   public java.lang.AutoCloseable createInstance() {
     Broker broker = getDomBrokerDependency();
 
-    RemoteRpcProviderConfig config = new RemoteRpcProviderConfig.Builder(getActorSystemName())
+    RemoteRpcProviderConfig.Builder builder = new RemoteRpcProviderConfig.Builder(getActorSystemName())
                               .metricCaptureEnabled(getEnableMetricCapture())
                               .mailboxCapacity(getBoundedMailboxCapacity())
-                              .withConfigReader(new DefaultAkkaConfigurationReader())
-                              .build();
+                              .notificationDistribution(getEnableNotificationDistribution())
+                              .notificationDeliveryMode(NotificationDeliveryMode.forConfigName(getNotificationDeliveryMode()))
+                              .withConfigReader(new DefaultAkkaConfigurationReader());
+
+    // Unless set here, the routing policy configured in akka.conf applies
+    if (getRoutingPolicy() != null) {
+      builder.routingPolicy(RoutingPolicy.forConfigName(getRoutingPolicy()));
+    }
+
+    RemoteRpcProviderConfig config = builder.build();
 
     return RemoteRpcProviderFactory.createInstance(broker, bundleContext, config);
   }
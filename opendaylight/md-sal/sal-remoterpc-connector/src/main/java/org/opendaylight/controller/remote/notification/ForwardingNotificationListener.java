@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification;
+
+import akka.actor.ActorRef;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationService;
+import org.opendaylight.controller.md.sal.dom.spi.DOMForwardingNotificationListener;
+import org.opendaylight.controller.md.sal.dom.spi.DOMNotificationBatchListener;
+import org.opendaylight.controller.remote.notification.NotificationForwarder.ForwardNotifications;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listens on the local notification service for the types other cluster members have listeners for and
+ * hands the notifications published on this member to the {@link NotificationForwarder}. Notifications
+ * received from other members are ignored.
+ */
+public class ForwardingNotificationListener implements DOMForwardingNotificationListener,
+        DOMNotificationBatchListener, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ForwardingNotificationListener.class);
+
+    private final DOMNotificationService notificationService;
+    private final ActorRef forwarder;
+
+    /**
+     * One registration per type, so that changing the set of types never unregisters a type which stays
+     * subscribed, nor registers a type twice.
+     */
+    @GuardedBy("this")
+    private final Map<SchemaPath, ListenerRegistration<ForwardingNotificationListener>> registrations =
+            new HashMap<>();
+    @GuardedBy("this")
+    private boolean closed;
+
+    public ForwardingNotificationListener(final DOMNotificationService notificationService, final ActorRef forwarder) {
+        this.notificationService = Preconditions.checkNotNull(notificationService);
+        this.forwarder = Preconditions.checkNotNull(forwarder);
+    }
+
+    @Override
+    public void onNotification(@Nonnull final DOMNotification notification) {
+        if (!(notification instanceof RemoteDOMNotification)) {
+            forwarder.tell(new ForwardNotifications(Collections.singletonList(notification)), ActorRef.noSender());
+        }
+    }
+
+    @Override
+    public void onNotifications(@Nonnull final List<DOMNotification> notifications) {
+        final List<DOMNotification> local = new ArrayList<>(notifications.size());
+        for (DOMNotification notification : notifications) {
+            if (!(notification instanceof RemoteDOMNotification)) {
+                local.add(notification);
+            }
+        }
+
+        if (!local.isEmpty()) {
+            forwarder.tell(new ForwardNotifications(local), ActorRef.noSender());
+        }
+    }
+
+    /**
+     * Updates the registrations with the local notification service. Types which remain subscribed keep
+     * their registration, so none of their notifications are lost or forwarded twice.
+     *
+     * @param newTypes the types other members have listeners for
+     */
+    public synchronized void updateRegistration(final Set<SchemaPath> newTypes) {
+        if (closed || newTypes.equals(registrations.keySet())) {
+            return;
+        }
+
+        LOG.debug("Forwarding notifications of types {}", newTypes);
+
+        for (SchemaPath type : newTypes) {
+            if (!registrations.containsKey(type)) {
+                registrations.put(type, notificationService.registerNotificationListener(this, type));
+            }
+        }
+
+        final Iterator<Map.Entry<SchemaPath, ListenerRegistration<ForwardingNotificationListener>>> it =
+                registrations.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<SchemaPath, ListenerRegistration<ForwardingNotificationListener>> e = it.next();
+            if (!newTypes.contains(e.getKey())) {
+                e.getValue().close();
+                it.remove();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (ListenerRegistration<ForwardingNotificationListener> registration : registrations.values()) {
+            registration.close();
+        }
+        registrations.clear();
+    }
+}
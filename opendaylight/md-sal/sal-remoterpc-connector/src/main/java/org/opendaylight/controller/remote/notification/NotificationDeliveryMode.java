@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification;
+
+/**
+ * The guarantees given when delivering notifications to other cluster members, as configured by the
+ * {@code notification-delivery-mode} setting.
+ */
+public enum NotificationDeliveryMode {
+    /**
+     * Batches are sent once and not acknowledged. Batches lost in transit and notifications the receiving
+     * member's notification service does not accept right away are dropped.
+     */
+    AT_MOST_ONCE("at-most-once"),
+    /**
+     * Batches are numbered per receiving member and retransmitted until acknowledged. The receiver delivers
+     * them in order, waiting for its notification service to accept each notification, so notifications
+     * from one publishing member are seen in the order they were published.
+     */
+    ORDERED("ordered");
+
+    private final String configName;
+
+    private NotificationDeliveryMode(String configName) {
+        this.configName = configName;
+    }
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    /**
+     * @throws IllegalArgumentException if no mode has the given name
+     */
+    public static NotificationDeliveryMode forConfigName(String configName) {
+        for(NotificationDeliveryMode mode : values()) {
+            if(mode.configName.equals(configName)) {
+                return mode;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown notification delivery mode " + configName);
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification;
+
+import akka.actor.ActorRef;
+import akka.actor.Cancellable;
+import akka.actor.Props;
+import akka.actor.Terminated;
+import akka.japi.Creator;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActor;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.remote.notification.messages.NotificationBatch;
+import org.opendaylight.controller.remote.notification.messages.NotificationBatchAck;
+import org.opendaylight.controller.remote.notification.registry.SubscriptionIndex;
+import org.opendaylight.controller.remote.rpc.RemoteRpcProviderConfig;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Sends the notifications published on this member to the {@link NotificationReceiver}s of the members
+ * which have listeners for them, as found in the {@link SubscriptionIndex}.
+ * <p/>
+ * Notifications are batched per receiver: the notifications queued in the mailbox are collected until
+ * a flush message the forwarder sends itself is processed, so batching adds no delay when the forwarder
+ * keeps up, and a batch is sent early once it reaches the configured maximum size.
+ * <p/>
+ * In {@link NotificationDeliveryMode#ORDERED} mode the batches sent to each receiver are numbered and
+ * retained until acknowledged. When the oldest unacknowledged batch is not acknowledged within the
+ * retransmit interval, all retained batches are sent again in order. If a receiver falls too far behind,
+ * its retained batches are dropped and numbering restarts in a new epoch.
+ */
+public class NotificationForwarder extends AbstractUntypedActor {
+    /**
+     * Maximum number of unacknowledged batches retained per receiver.
+     */
+    private static final int MAX_UNACKED_BATCHES = 1024;
+
+    private static final Object FLUSH = new Object();
+    private static final Object RETRANSMIT_TICK = new Object();
+
+    private final SubscriptionIndex index;
+    private final NotificationDeliveryMode mode;
+    private final int maxBatchSize;
+    private final FiniteDuration retransmitInterval;
+
+    private final Map<ActorRef, List<DOMNotification>> pending = new LinkedHashMap<>();
+    private final Map<ActorRef, Destination> destinations = new HashMap<>();
+    private boolean flushScheduled;
+    private long nextEpoch = 1;
+    private Cancellable retransmitTask;
+
+    private NotificationForwarder(final SubscriptionIndex index) {
+        this.index = Preconditions.checkNotNull(index);
+
+        final RemoteRpcProviderConfig config = new RemoteRpcProviderConfig(getContext().system().settings().config());
+        mode = config.getNotificationDeliveryMode();
+        maxBatchSize = config.getNotificationMaxBatchSize();
+        retransmitInterval = config.getNotificationRetransmitInterval();
+    }
+
+    public static Props props(final SubscriptionIndex index) {
+        Preconditions.checkNotNull(index, "SubscriptionIndex can not be null");
+        return Props.create(new NotificationForwarderCreator(index));
+    }
+
+    @Override
+    public void preStart() {
+        if (mode == NotificationDeliveryMode.ORDERED) {
+            retransmitTask = getContext().system().scheduler().schedule(retransmitInterval, retransmitInterval,
+                    getSelf(), RETRANSMIT_TICK, getContext().dispatcher(), getSelf());
+        }
+    }
+
+    @Override
+    public void postStop() {
+        if (retransmitTask != null) {
+            retransmitTask.cancel();
+        }
+    }
+
+    @Override
+    protected void handleReceive(final Object message) throws Exception {
+        if (message instanceof ForwardNotifications) {
+            forward(((ForwardNotifications) message).notifications);
+        } else if (message == FLUSH) {
+            flush();
+        } else if (message instanceof NotificationBatchAck) {
+            acknowledged((NotificationBatchAck) message);
+        } else if (message == RETRANSMIT_TICK) {
+            retransmit();
+        } else if (message instanceof Terminated) {
+            final ActorRef receiver = ((Terminated) message).getActor();
+            LOG.debug("Notification receiver {} terminated", receiver);
+            pending.remove(receiver);
+            destinations.remove(receiver);
+        } else {
+            unhandled(message);
+        }
+    }
+
+    private void forward(final List<DOMNotification> notifications) {
+        for (DOMNotification notification : notifications) {
+            for (ActorRef receiver : index.getReceivers(notification.getType())) {
+                List<DOMNotification> batch = pending.get(receiver);
+                if (batch == null) {
+                    batch = new ArrayList<>();
+                    pending.put(receiver, batch);
+                }
+
+                batch.add(notification);
+                if (batch.size() >= maxBatchSize) {
+                    pending.remove(receiver);
+                    send(receiver, batch);
+                }
+            }
+        }
+
+        if (!pending.isEmpty() && !flushScheduled) {
+            getSelf().tell(FLUSH, getSelf());
+            flushScheduled = true;
+        }
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        for (Map.Entry<ActorRef, List<DOMNotification>> e : pending.entrySet()) {
+            send(e.getKey(), e.getValue());
+        }
+
+        pending.clear();
+    }
+
+    private void send(final ActorRef receiver, final List<DOMNotification> notifications) {
+        if (mode == NotificationDeliveryMode.AT_MOST_ONCE) {
+            receiver.tell(new NotificationBatch(0, NotificationBatch.UNORDERED, notifications), getSelf());
+            return;
+        }
+
+        Destination destination = destinations.get(receiver);
+        if (destination == null) {
+            destination = new Destination(nextEpoch++);
+            destinations.put(receiver, destination);
+            getContext().watch(receiver);
+        } else if (destination.unacked.size() >= MAX_UNACKED_BATCHES) {
+            LOG.warn("Notification receiver {} did not acknowledge {} batches, dropping them", receiver,
+                    destination.unacked.size());
+            destination = new Destination(nextEpoch++);
+            destinations.put(receiver, destination);
+        }
+
+        final NotificationBatch batch = new NotificationBatch(destination.epoch, destination.nextSequence++,
+                notifications);
+        destination.unacked.addLast(new SentBatch(batch, System.nanoTime()));
+        receiver.tell(batch, getSelf());
+    }
+
+    private void acknowledged(final NotificationBatchAck ack) {
+        final Destination destination = destinations.get(getSender());
+        if (destination == null || destination.epoch != ack.getEpoch()) {
+            return;
+        }
+
+        final Iterator<SentBatch> it = destination.unacked.iterator();
+        while (it.hasNext() && it.next().batch.getSequence() <= ack.getSequence()) {
+            it.remove();
+        }
+    }
+
+    private void retransmit() {
+        final long now = System.nanoTime();
+        for (Map.Entry<ActorRef, Destination> e : destinations.entrySet()) {
+            final SentBatch oldest = e.getValue().unacked.peekFirst();
+            if (oldest == null || now - oldest.sentNanos < retransmitInterval.toNanos()) {
+                continue;
+            }
+
+            // The receiver discards batches received out of order, so all of them are sent again
+            LOG.debug("Retransmitting {} notification batches to {}", e.getValue().unacked.size(), e.getKey());
+            for (SentBatch sent : e.getValue().unacked) {
+                sent.sentNanos = now;
+                e.getKey().tell(sent.batch, getSelf());
+            }
+        }
+    }
+
+    /**
+     * Notifications published on this member, sent by the {@link ForwardingNotificationListener}.
+     */
+    static final class ForwardNotifications {
+        private final List<DOMNotification> notifications;
+
+        ForwardNotifications(final List<DOMNotification> notifications) {
+            this.notifications = ImmutableList.copyOf(notifications);
+        }
+
+        @Override
+        public String toString() {
+            return "ForwardNotifications{" +
+                    "notifications=" + notifications.size() +
+                    '}';
+        }
+    }
+
+    private static final class Destination {
+        final long epoch;
+        final Deque<SentBatch> unacked = new ArrayDeque<>();
+        long nextSequence = 1;
+
+        Destination(final long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    private static final class SentBatch {
+        final NotificationBatch batch;
+        long sentNanos;
+
+        SentBatch(final NotificationBatch batch, final long sentNanos) {
+            this.batch = batch;
+            this.sentNanos = sentNanos;
+        }
+    }
+
+    private static class NotificationForwarderCreator implements Creator<NotificationForwarder> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient SubscriptionIndex index;
+
+        NotificationForwarderCreator(final SubscriptionIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public NotificationForwarder create() throws Exception {
+            return new NotificationForwarder(index);
+        }
+    }
+}
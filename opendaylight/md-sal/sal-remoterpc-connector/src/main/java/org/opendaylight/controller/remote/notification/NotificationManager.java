@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification;
+
+import akka.actor.ActorRef;
+import akka.actor.OneForOneStrategy;
+import akka.actor.Props;
+import akka.actor.SupervisorStrategy;
+import akka.japi.Creator;
+import akka.japi.Function;
+import com.google.common.base.Preconditions;
+import java.util.Set;
+import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActor;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationPublishService;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationService;
+import org.opendaylight.controller.md.sal.dom.spi.DOMNotificationSubscriptionListener;
+import org.opendaylight.controller.md.sal.dom.spi.DOMNotificationSubscriptionListenerRegistry;
+import org.opendaylight.controller.remote.notification.registry.NotificationRegistry;
+import org.opendaylight.controller.remote.notification.registry.SubscriptionIndex;
+import org.opendaylight.controller.remote.rpc.RemoteRpcProviderConfig;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import scala.concurrent.duration.Duration;
+
+/**
+ * Supervisor of the actors distributing notifications across the cluster, the notification counterpart
+ * of {@link org.opendaylight.controller.remote.rpc.RpcManager}.
+ * <p/>
+ * The local notification types with listeners are tracked through the notification service's
+ * {@link DOMNotificationSubscriptionListenerRegistry} and gossiped by the {@link NotificationRegistry}.
+ * Notifications published locally with types other members have listeners for are picked up by a
+ * {@link ForwardingNotificationListener} and sent by the {@link NotificationForwarder}; notifications
+ * from other members are published locally by the {@link NotificationReceiver}.
+ */
+public class NotificationManager extends AbstractUntypedActor {
+    public static final String NAME = "notification";
+
+    private static final String REGISTRY_NAME = "registry";
+    private static final String FORWARDER_NAME = "forwarder";
+    private static final String RECEIVER_NAME = "receiver";
+
+    private final DOMNotificationService notificationService;
+    private final DOMNotificationPublishService publishService;
+    private final RemoteRpcProviderConfig config;
+    private final SubscriptionIndex index = new SubscriptionIndex();
+    private ForwardingNotificationListener forwardingListener;
+    private ListenerRegistration<?> subscriptionListenerRegistration;
+
+    private NotificationManager(final DOMNotificationService notificationService,
+            final DOMNotificationPublishService publishService) {
+        this.notificationService = notificationService;
+        this.publishService = publishService;
+        config = new RemoteRpcProviderConfig(getContext().system().settings().config());
+    }
+
+    public static Props props(final DOMNotificationService notificationService,
+            final DOMNotificationPublishService publishService) {
+        Preconditions.checkNotNull(notificationService, "DOMNotificationService can not be null!");
+        Preconditions.checkNotNull(publishService, "DOMNotificationPublishService can not be null!");
+        return Props.create(new NotificationManagerCreator(notificationService, publishService));
+    }
+
+    @Override
+    public void preStart() {
+        LOG.debug("Create notification registry, forwarder and receiver actors with {} delivery",
+                config.getNotificationDeliveryMode().getConfigName());
+
+        final ActorRef forwarder = getContext().actorOf(NotificationForwarder.props(index)
+                .withMailbox(config.getMailBoxName()), FORWARDER_NAME);
+        final ActorRef receiver = getContext().actorOf(NotificationReceiver.props(publishService)
+                .withMailbox(config.getMailBoxName()), RECEIVER_NAME);
+
+        forwardingListener = new ForwardingNotificationListener(notificationService, forwarder);
+        final ActorRef registry = getContext().actorOf(NotificationRegistry.props(index, forwardingListener)
+                .withMailbox(config.getMailBoxName()), REGISTRY_NAME);
+        registry.tell(new NotificationRegistry.Messages.SetLocalReceiver(receiver), getSelf());
+
+        if (notificationService instanceof DOMNotificationSubscriptionListenerRegistry) {
+            subscriptionListenerRegistration = ((DOMNotificationSubscriptionListenerRegistry) notificationService)
+                    .registerSubscriptionListener(new DOMNotificationSubscriptionListener() {
+                        @Override
+                        public void onSubscriptionChanged(final Set<SchemaPath> currentTypes) {
+                            registry.tell(new NotificationRegistry.Messages.UpdateSubscriptions(currentTypes),
+                                    ActorRef.noSender());
+                        }
+                    });
+        } else {
+            LOG.warn("Notification service {} does not report subscriptions, notifications from other members "
+                    + "will not be received", notificationService);
+        }
+    }
+
+    @Override
+    public void postStop() {
+        if (subscriptionListenerRegistration != null) {
+            subscriptionListenerRegistration.close();
+        }
+        if (forwardingListener != null) {
+            forwardingListener.close();
+        }
+    }
+
+    @Override
+    protected void handleReceive(final Object message) throws Exception {
+        unhandled(message);
+    }
+
+    @Override
+    public SupervisorStrategy supervisorStrategy() {
+        return new OneForOneStrategy(10, Duration.create("1 minute"),
+            new Function<Throwable, SupervisorStrategy.Directive>() {
+                @Override
+                public SupervisorStrategy.Directive apply(final Throwable t) {
+                    LOG.error("An exception happened actor will be resumed", t);
+
+                    return SupervisorStrategy.resume();
+                }
+            }
+        );
+    }
+
+    private static class NotificationManagerCreator implements Creator<NotificationManager> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient DOMNotificationService notificationService;
+        private final transient DOMNotificationPublishService publishService;
+
+        NotificationManagerCreator(final DOMNotificationService notificationService,
+                final DOMNotificationPublishService publishService) {
+            this.notificationService = notificationService;
+            this.publishService = publishService;
+        }
+
+        @Override
+        public NotificationManager create() throws Exception {
+            return new NotificationManager(notificationService, publishService);
+        }
+    }
+}
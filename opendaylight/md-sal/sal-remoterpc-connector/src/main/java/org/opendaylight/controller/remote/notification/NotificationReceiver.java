@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Terminated;
+import akka.japi.Creator;
+import com.google.common.base.Preconditions;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActor;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationPublishService;
+import org.opendaylight.controller.remote.notification.messages.NotificationBatch;
+import org.opendaylight.controller.remote.notification.messages.NotificationBatchAck;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Publishes the notifications forwarded by other cluster members to the local notification service.
+ * <p/>
+ * All notifications are published with {@link DOMNotificationPublishService#offerNotification(DOMNotification)},
+ * so the actor never blocks. Notifications of unordered batches which the service does not accept right away
+ * are dropped. Ordered batches are published strictly in sequence per forwarder: duplicates are acknowledged
+ * again and batches following a missing one are discarded until the forwarder retransmits the missing batch.
+ * When the service does not accept a notification of an ordered batch, the receiver remembers how much of the
+ * batch it published, withholds the acknowledgement and retries the rest of the batch shortly.
+ */
+public class NotificationReceiver extends AbstractUntypedActor {
+    private static final FiniteDuration RETRY_DELAY = FiniteDuration.create(10, TimeUnit.MILLISECONDS);
+
+    private final DOMNotificationPublishService publishService;
+    private final Map<ActorRef, Sequence> sequences = new HashMap<>();
+    private long droppedNotifications;
+
+    private NotificationReceiver(final DOMNotificationPublishService publishService) {
+        this.publishService = Preconditions.checkNotNull(publishService);
+    }
+
+    public static Props props(final DOMNotificationPublishService publishService) {
+        Preconditions.checkNotNull(publishService, "DOMNotificationPublishService can not be null");
+        return Props.create(new NotificationReceiverCreator(publishService));
+    }
+
+    @Override
+    protected void handleReceive(final Object message) throws Exception {
+        if (message instanceof NotificationBatch) {
+            final NotificationBatch batch = (NotificationBatch) message;
+            if (batch.isOrdered()) {
+                receiveOrdered(batch);
+            } else {
+                receiveUnordered(batch);
+            }
+        } else if (message instanceof Terminated) {
+            sequences.remove(((Terminated) message).getActor());
+        } else {
+            unhandled(message);
+        }
+    }
+
+    private void receiveUnordered(final NotificationBatch batch) {
+        for (DOMNotification notification : batch.getNotifications()) {
+            if (DOMNotificationPublishService.REJECTED.equals(publishService.offerNotification(notification))) {
+                droppedNotifications++;
+                LOG.debug("Dropped notification {} from {}, {} dropped so far", notification.getType(),
+                        getSender(), droppedNotifications);
+            }
+        }
+    }
+
+    private void receiveOrdered(final NotificationBatch batch) {
+        final ActorRef forwarder = getSender();
+        Sequence sequence = sequences.get(forwarder);
+        if (sequence == null || batch.getEpoch() > sequence.epoch) {
+            if (batch.getSequence() != 1) {
+                // The beginning of the epoch was lost, it will be retransmitted
+                return;
+            }
+
+            if (sequence == null) {
+                getContext().watch(forwarder);
+            } else {
+                LOG.warn("Forwarder {} started a new epoch, notifications may have been lost", forwarder);
+            }
+
+            sequence = new Sequence(batch.getEpoch());
+            sequences.put(forwarder, sequence);
+        } else if (batch.getEpoch() < sequence.epoch) {
+            return;
+        }
+
+        if (batch.getSequence() == sequence.delivered + 1) {
+            sequence.retryScheduled = false;
+
+            final List<DOMNotification> notifications = batch.getNotifications();
+            while (sequence.published < notifications.size()) {
+                if (DOMNotificationPublishService.REJECTED.equals(
+                        publishService.offerNotification(notifications.get(sequence.published)))) {
+                    scheduleRetry(forwarder, batch, sequence);
+                    return;
+                }
+
+                sequence.published++;
+            }
+
+            sequence.delivered = batch.getSequence();
+            sequence.published = 0;
+        } else if (batch.getSequence() > sequence.delivered) {
+            // A preceding batch is missing
+            return;
+        }
+
+        forwarder.tell(new NotificationBatchAck(sequence.epoch, sequence.delivered), getSelf());
+    }
+
+    private void scheduleRetry(final ActorRef forwarder, final NotificationBatch batch, final Sequence sequence) {
+        if (!sequence.retryScheduled) {
+            LOG.debug("Notification service is busy, retrying batch {} from {}", batch.getSequence(), forwarder);
+
+            // Sent on behalf of the forwarder, so the retry is processed like a retransmission
+            getContext().system().scheduler().scheduleOnce(RETRY_DELAY, getSelf(), batch,
+                    getContext().dispatcher(), forwarder);
+            sequence.retryScheduled = true;
+        }
+    }
+
+    private static final class Sequence {
+        final long epoch;
+        long delivered;
+
+        /**
+         * The number of notifications of the batch following {@link #delivered} which are already published.
+         */
+        int published;
+        boolean retryScheduled;
+
+        Sequence(final long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    private static class NotificationReceiverCreator implements Creator<NotificationReceiver> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient DOMNotificationPublishService publishService;
+
+        NotificationReceiverCreator(final DOMNotificationPublishService publishService) {
+            this.publishService = publishService;
+        }
+
+        @Override
+        public NotificationReceiver create() throws Exception {
+            return new NotificationReceiver(publishService);
+        }
+    }
+}
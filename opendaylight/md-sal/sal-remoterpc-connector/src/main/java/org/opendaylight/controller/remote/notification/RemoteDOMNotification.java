@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * A notification received from another cluster member. {@link ForwardingNotificationListener} recognizes
+ * these when they are published to the local notification service and does not forward them again.
+ */
+public final class RemoteDOMNotification implements DOMNotification {
+    private final SchemaPath type;
+    private final ContainerNode body;
+
+    public RemoteDOMNotification(final SchemaPath type, final ContainerNode body) {
+        this.type = Preconditions.checkNotNull(type);
+        this.body = Preconditions.checkNotNull(body);
+    }
+
+    @Nonnull
+    @Override
+    public SchemaPath getType() {
+        return type;
+    }
+
+    @Nonnull
+    @Override
+    public ContainerNode getBody() {
+        return body;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("type", type).add("body", body).toString();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification.messages;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeInputStreamReader;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeOutputStreamWriter;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.remote.notification.RemoteDOMNotification;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * Notifications published on one cluster member, sent to another member in a single message.
+ * <p/>
+ * The notification bodies are written with a single {@link NormalizedNodeOutputStreamWriter}, so the
+ * strings shared by the notifications, such as namespaces and node names, are written only once per batch.
+ * The notification types are written as QNames, which the object stream writes only once as well.
+ */
+public class NotificationBatch implements Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Sequence number of batches which are not delivered in order.
+     */
+    public static final long UNORDERED = 0;
+
+    private long epoch;
+    private long sequence;
+    private List<DOMNotification> notifications;
+
+    public NotificationBatch() {
+        // For Externalizable
+    }
+
+    /**
+     * @param epoch identifies the sequence the batch belongs to, ignored for unordered batches
+     * @param sequence number of the batch within its epoch, starting from 1, or {@link #UNORDERED}
+     * @param notifications the notifications in the order in which they were published
+     */
+    public NotificationBatch(final long epoch, final long sequence, final List<? extends DOMNotification> notifications) {
+        Preconditions.checkArgument(sequence >= 0, "Invalid sequence %s", sequence);
+        this.epoch = epoch;
+        this.sequence = sequence;
+        this.notifications = ImmutableList.copyOf(notifications);
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public boolean isOrdered() {
+        return sequence != UNORDERED;
+    }
+
+    public List<DOMNotification> getNotifications() {
+        return notifications;
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeLong(epoch);
+        out.writeLong(sequence);
+        out.writeInt(notifications.size());
+
+        final NormalizedNodeOutputStreamWriter writer = new NormalizedNodeOutputStreamWriter(out);
+        for(DOMNotification notification : notifications) {
+            final SchemaPath type = notification.getType();
+            out.writeBoolean(type.isAbsolute());
+            out.writeInt(Iterables.size(type.getPathFromRoot()));
+            for(QName qname : type.getPathFromRoot()) {
+                out.writeObject(qname);
+            }
+
+            writer.writeNormalizedNode(notification.getBody());
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        epoch = in.readLong();
+        sequence = in.readLong();
+
+        final int size = in.readInt();
+        final List<DOMNotification> read = new ArrayList<>(size);
+        final NormalizedNodeInputStreamReader reader = new NormalizedNodeInputStreamReader(in);
+        for(int i = 0; i < size; ++i) {
+            final boolean absolute = in.readBoolean();
+            final int pathLength = in.readInt();
+            final List<QName> path = new ArrayList<>(pathLength);
+            for(int j = 0; j < pathLength; ++j) {
+                path.add((QName) in.readObject());
+            }
+
+            final ContainerNode body = (ContainerNode) reader.readNormalizedNode();
+            read.add(new RemoteDOMNotification(SchemaPath.create(path, absolute), body));
+        }
+
+        notifications = read;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("epoch", epoch)
+                .add("sequence", sequence)
+                .add("notifications", notifications.size())
+                .toString();
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification.messages;
+
+import java.io.Serializable;
+
+/**
+ * Acknowledges the delivery of all ordered {@link NotificationBatch}es of an epoch up to and including a
+ * sequence number.
+ */
+public class NotificationBatchAck implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final long epoch;
+    private final long sequence;
+
+    public NotificationBatchAck(final long epoch, final long sequence) {
+        this.epoch = epoch;
+        this.sequence = sequence;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationBatchAck{" +
+                "epoch=" + epoch +
+                ", sequence=" + sequence +
+                '}';
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification.registry;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.Creator;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.opendaylight.controller.remote.notification.ForwardingNotificationListener;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Bucket;
+import org.opendaylight.controller.remote.rpc.registry.gossip.BucketStore;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * Registry of the notification types each cluster member has listeners for, so that notifications are
+ * forwarded only to the members which have listeners for them.
+ * <p/>
+ * Like {@link org.opendaylight.controller.remote.rpc.registry.RpcRegistry}, it uses a
+ * {@link BucketStore} to maintain this information cluster wide. The subscriptions of the other members
+ * are published to a {@link SubscriptionIndex} and the local {@link ForwardingNotificationListener} is
+ * re-registered whenever the set of types subscribed by other members changes.
+ */
+public class NotificationRegistry extends BucketStore<NotificationSubscriptions> {
+
+    private final SubscriptionIndex index;
+    private final ForwardingNotificationListener forwardingListener;
+    private Set<SchemaPath> remoteTypes = ImmutableSet.of();
+
+    public NotificationRegistry(SubscriptionIndex index, ForwardingNotificationListener forwardingListener) {
+        this.index = Preconditions.checkNotNull(index);
+        this.forwardingListener = Preconditions.checkNotNull(forwardingListener);
+        getLocalBucket().setData(new NotificationSubscriptions(null, ImmutableSet.<SchemaPath>of()));
+    }
+
+    public static Props props(SubscriptionIndex index, ForwardingNotificationListener forwardingListener) {
+        return Props.create(new NotificationRegistryCreator(index, forwardingListener));
+    }
+
+    @Override
+    protected void handleReceive(Object message) throws Exception {
+        if (message instanceof Messages.SetLocalReceiver) {
+            ActorRef receiver = ((Messages.SetLocalReceiver) message).getReceiver();
+            updateLocalBucket(new NotificationSubscriptions(receiver, getLocalBucket().getData().getTypes()));
+        } else if (message instanceof Messages.UpdateSubscriptions) {
+            Set<SchemaPath> types = ((Messages.UpdateSubscriptions) message).getTypes();
+            log.debug("Local notification subscriptions changed to {}", types);
+            updateLocalBucket(new NotificationSubscriptions(getLocalBucket().getData().getReceiver(), types));
+        } else {
+            super.handleReceive(message);
+        }
+    }
+
+    @Override
+    protected void onBucketsUpdated() {
+        List<NotificationSubscriptions> remote = new ArrayList<>(getRemoteBuckets().size());
+        for(Bucket<NotificationSubscriptions> bucket : getRemoteBuckets().values()) {
+            if(bucket.getData() != null) {
+                remote.add(bucket.getData());
+            }
+        }
+
+        index.update(remote);
+
+        Set<SchemaPath> newRemoteTypes = index.getTypes();
+        if(!newRemoteTypes.equals(remoteTypes)) {
+            log.debug("Notification types subscribed by other members changed to {}", newRemoteTypes);
+            remoteTypes = newRemoteTypes;
+            forwardingListener.updateRegistration(newRemoteTypes);
+        }
+    }
+
+    /**
+     * All messages used by the NotificationRegistry
+     */
+    public static class Messages {
+
+        public static class SetLocalReceiver {
+            private final ActorRef receiver;
+
+            public SetLocalReceiver(ActorRef receiver) {
+                this.receiver = Preconditions.checkNotNull(receiver, "Receiver must not be null");
+            }
+
+            public ActorRef getReceiver() {
+                return receiver;
+            }
+
+            @Override
+            public String toString() {
+                return "SetLocalReceiver{" +
+                        "receiver=" + receiver +
+                        '}';
+            }
+        }
+
+        public static class UpdateSubscriptions {
+            private final Set<SchemaPath> types;
+
+            public UpdateSubscriptions(Set<SchemaPath> types) {
+                this.types = ImmutableSet.copyOf(types);
+            }
+
+            public Set<SchemaPath> getTypes() {
+                return types;
+            }
+
+            @Override
+            public String toString() {
+                return "UpdateSubscriptions{" +
+                        "types=" + types +
+                        '}';
+            }
+        }
+    }
+
+    private static class NotificationRegistryCreator implements Creator<NotificationRegistry> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient SubscriptionIndex index;
+        private final transient ForwardingNotificationListener forwardingListener;
+
+        NotificationRegistryCreator(SubscriptionIndex index, ForwardingNotificationListener forwardingListener) {
+            this.index = index;
+            this.forwardingListener = forwardingListener;
+        }
+
+        @Override
+        public NotificationRegistry create() throws Exception {
+            return new NotificationRegistry(index, forwardingListener);
+        }
+    }
+}
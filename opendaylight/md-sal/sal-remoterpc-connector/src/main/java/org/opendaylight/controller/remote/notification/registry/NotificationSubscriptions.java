@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification.registry;
+
+import akka.actor.ActorRef;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Copier;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * The notification types a cluster member has listeners for and the actor receiving notifications
+ * forwarded to that member. Instances are immutable once published to the bucket.
+ */
+public class NotificationSubscriptions implements Copier<NotificationSubscriptions>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final ActorRef receiver;
+    private transient Set<SchemaPath> types;
+
+    public NotificationSubscriptions(ActorRef receiver, Set<SchemaPath> types) {
+        this.receiver = receiver;
+        this.types = ImmutableSet.copyOf(types);
+    }
+
+    @Override
+    public NotificationSubscriptions copy() {
+        return new NotificationSubscriptions(receiver, types);
+    }
+
+    /**
+     * @return the actor receiving notifications forwarded to the member, null if not known yet
+     */
+    public ActorRef getReceiver() {
+        return receiver;
+    }
+
+    public Set<SchemaPath> getTypes() {
+        return types;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(types.size());
+        for(SchemaPath type : types) {
+            out.writeBoolean(type.isAbsolute());
+            out.writeInt(Iterables.size(type.getPathFromRoot()));
+            for(QName qname : type.getPathFromRoot()) {
+                out.writeObject(qname);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+
+        int size = in.readInt();
+        ImmutableSet.Builder<SchemaPath> builder = ImmutableSet.builder();
+        for(int i = 0; i < size; ++i) {
+            boolean absolute = in.readBoolean();
+            int pathLength = in.readInt();
+            List<QName> path = new ArrayList<>(pathLength);
+            for(int j = 0; j < pathLength; ++j) {
+                path.add((QName) in.readObject());
+            }
+
+            builder.add(SchemaPath.create(path, absolute));
+        }
+
+        types = builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationSubscriptions{" +
+                "receiver=" + receiver +
+                ", types=" + types +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification.registry;
+
+import akka.actor.ActorRef;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * A read-only view of the notification subscriptions of the other cluster members, as known to a
+ * {@link NotificationRegistry}, which may be queried from any thread.
+ */
+public class SubscriptionIndex {
+    private volatile ImmutableListMultimap<SchemaPath, ActorRef> receiversByType = ImmutableListMultimap.of();
+    private volatile Set<ActorRef> receivers = ImmutableSet.of();
+
+    /**
+     * @return the receivers of the members which have listeners for the given type, empty if there are none
+     */
+    public List<ActorRef> getReceivers(SchemaPath type) {
+        return receiversByType.get(type);
+    }
+
+    /**
+     * @return the receivers of all members with at least one subscription
+     */
+    public Set<ActorRef> getReceivers() {
+        return receivers;
+    }
+
+    /**
+     * @return the types other members have listeners for
+     */
+    public Set<SchemaPath> getTypes() {
+        return receiversByType.keySet();
+    }
+
+    /**
+     * Publishes a new snapshot. Must only be called by the owning {@link NotificationRegistry}.
+     *
+     * @param subscriptions the subscriptions of the other members
+     */
+    void update(Collection<NotificationSubscriptions> subscriptions) {
+        ImmutableListMultimap.Builder<SchemaPath, ActorRef> builder = ImmutableListMultimap.builder();
+        for(NotificationSubscriptions s : subscriptions) {
+            if(s.getReceiver() != null) {
+                for(SchemaPath type : s.getTypes()) {
+                    builder.put(type, s.getReceiver());
+                }
+            }
+        }
+
+        ImmutableListMultimap<SchemaPath, ActorRef> newReceiversByType = builder.build();
+        receivers = ImmutableSet.copyOf(newReceiversByType.values());
+        receiversByType = newReceiversByType;
+    }
+}
@@ -15,7 +15,6 @@ import com.google.common.util.concurrent.CheckedFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import org.opendaylight.controller.cluster.datastore.node.utils.serialization.NormalizedNodeSerializer;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.spi.DefaultDOMRpcResult;
@@ -97,7 +96,7 @@ class RemoteDOMRpcFuture extends AbstractFuture<DOMRpcResult> implements Checked
                     result = null;
                     LOG.debug("Received response for rpc {}: result is null", rpcName);
                 } else {
-                    result = NormalizedNodeSerializer.deSerialize(rpcReply.getResultNormalizedNode());
+                    result = rpcReply.getResultNormalizedNode();
                     LOG.debug("Received response for rpc {}: result is {}", rpcName, result);
                 }
                 RemoteDOMRpcFuture.this.set(new DefaultDOMRpcResult(result));
@@ -5,6 +5,7 @@ import static akka.pattern.Patterns.ask;
 import akka.actor.ActorRef;
 import akka.dispatch.OnComplete;
 import akka.japi.Pair;
+import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
 import java.util.List;
@@ -14,9 +15,13 @@ import org.opendaylight.controller.md.sal.dom.api.DOMRpcImplementation;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcImplementationNotAvailableException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.remote.rpc.messages.ExecuteRpc;
+import org.opendaylight.controller.remote.rpc.registry.RouteIndex;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.FindRoutersReply;
-import org.opendaylight.controller.remote.rpc.utils.LatestEntryRoutingLogic;
+import org.opendaylight.controller.remote.rpc.utils.RouterLoadTracker;
+import org.opendaylight.controller.remote.rpc.utils.RouterLoadTracker.RouterLoad;
+import org.opendaylight.controller.remote.rpc.utils.RouterSelector;
+import org.opendaylight.controller.remote.rpc.utils.RoutingPolicy;
 import org.opendaylight.controller.sal.connector.api.RpcRouter;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
@@ -29,10 +34,28 @@ public class RemoteRpcImplementation implements DOMRpcImplementation {
 
     private final ActorRef rpcRegistry;
     private final RemoteRpcProviderConfig config;
+    private final RouteIndex routeIndex;
+    private final RouterLoadTracker loadTracker;
+    private final RoutingPolicy routingPolicy;
+    private final RouterSelector routerSelector;
 
     public RemoteRpcImplementation(final ActorRef rpcRegistry, final RemoteRpcProviderConfig config) {
+        this(rpcRegistry, config, null, new RouterLoadTracker());
+    }
+
+    /**
+     * @param routeIndex the registry's route index used to look up routers on the calling thread. If null,
+     *        routers are looked up by asking the registry actor.
+     * @param loadTracker the tracker recording the requests sent to each router
+     */
+    public RemoteRpcImplementation(final ActorRef rpcRegistry, final RemoteRpcProviderConfig config,
+            final RouteIndex routeIndex, final RouterLoadTracker loadTracker) {
         this.config = config;
         this.rpcRegistry = rpcRegistry;
+        this.routeIndex = routeIndex;
+        this.loadTracker = Preconditions.checkNotNull(loadTracker);
+        this.routingPolicy = config.getRoutingPolicy();
+        this.routerSelector = routingPolicy.createSelector(loadTracker);
     }
 
     @Override
@@ -45,6 +68,12 @@ public class RemoteRpcImplementation implements DOMRpcImplementation {
                             "Rpc implementation for {} was removed during processing.", rpc));
         }
         final RemoteDOMRpcFuture frontEndFuture = RemoteDOMRpcFuture.create(rpc.getType().getLastComponent());
+        if (routeIndex != null) {
+            // Look up the routers directly, saving a round trip to the registry actor
+            invokeRemoteRpc(rpc, input, routeIndex.findRouters(routeIdentifier(rpc)), frontEndFuture);
+            return frontEndFuture;
+        }
+
         findRouteAsync(rpc).onComplete(new OnComplete<FindRoutersReply>() {
 
             @Override
@@ -52,28 +81,53 @@ public class RemoteRpcImplementation implements DOMRpcImplementation {
                 if (error != null) {
                     frontEndFuture.failNow(error);
                 } else {
-                    final List<Pair<ActorRef, Long>> routePairs = routes.getRouterWithUpdateTime();
-                    if (routePairs == null || routePairs.isEmpty()) {
-                        frontEndFuture.failNow(new DOMRpcImplementationNotAvailableException(
-                                "No local or remote implementation available for rpc %s", rpc.getType(), error));
-                    } else {
-                        final ActorRef remoteImplRef = new LatestEntryRoutingLogic(routePairs).select();
-                        final Object executeRpcMessage = ExecuteRpc.from(rpc, input);
-                        LOG.debug("Found remote actor {} for rpc {} - sending {}", remoteImplRef, rpc.getType(), executeRpcMessage);
-                        frontEndFuture.completeWith(ask(remoteImplRef, executeRpcMessage, config.getAskDuration()));
-                    }
+                    invokeRemoteRpc(rpc, input, routes.getRouterWithUpdateTime(), frontEndFuture);
                 }
             }
         }, ExecutionContext.Implicits$.MODULE$.global());
         return frontEndFuture;
     }
 
+    private void invokeRemoteRpc(final DOMRpcIdentifier rpc, final NormalizedNode<?, ?> input,
+            final List<Pair<ActorRef, Long>> routePairs, final RemoteDOMRpcFuture frontEndFuture) {
+        if (routePairs == null || routePairs.isEmpty()) {
+            frontEndFuture.failNow(new DOMRpcImplementationNotAvailableException(
+                    "No local or remote implementation available for rpc %s", rpc.getType()));
+        } else {
+            final ActorRef remoteImplRef = routePairs.size() == 1 ? routePairs.get(0).first()
+                    : routerSelector.select(routePairs);
+            final Object executeRpcMessage = ExecuteRpc.from(rpc, input);
+            LOG.debug("Found remote actor {} for rpc {} - sending {}", remoteImplRef, rpc.getType(), executeRpcMessage);
+
+            if (!routingPolicy.isLoadAware()) {
+                // Nobody reads the load, do not pay for tracking it on every request
+                frontEndFuture.completeWith(ask(remoteImplRef, executeRpcMessage, config.getAskDuration()));
+                return;
+            }
+
+            final RouterLoad load = loadTracker.getLoad(remoteImplRef);
+            load.requestStarted();
+            final long startTime = System.nanoTime();
+            final Future<Object> response = ask(remoteImplRef, executeRpcMessage, config.getAskDuration());
+            response.onComplete(new OnComplete<Object>() {
+                @Override
+                public void onComplete(final Throwable error, final Object reply) {
+                    load.requestCompleted(System.nanoTime() - startTime);
+                }
+            }, ExecutionContext.Implicits$.MODULE$.global());
+
+            frontEndFuture.completeWith(response);
+        }
+    }
+
+    private static RpcRouter.RouteIdentifier<?, ?, ?> routeIdentifier(final DOMRpcIdentifier rpc) {
+        // FIXME: Refactor routeId and message to use DOMRpcIdentifier directly.
+        return new RouteIdentifierImpl(null, rpc.getType().getLastComponent(), rpc.getContextReference());
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private Future<FindRoutersReply> findRouteAsync(final DOMRpcIdentifier rpc) {
-        // FIXME: Refactor routeId and message to use DOMRpcIdentifier directly.
-        final RpcRouter.RouteIdentifier<?, ?, ?> routeId =
-                new RouteIdentifierImpl(null, rpc.getType().getLastComponent(), rpc.getContextReference());
-        final RpcRegistry.Messages.FindRouters findMsg = new RpcRegistry.Messages.FindRouters(routeId);
+        final RpcRegistry.Messages.FindRouters findMsg = new RpcRegistry.Messages.FindRouters(routeIdentifier(rpc));
         return (Future) ask(rpcRegistry, findMsg, config.getAskDuration());
     }
 }
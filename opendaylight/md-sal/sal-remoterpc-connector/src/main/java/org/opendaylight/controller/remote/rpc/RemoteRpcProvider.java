@@ -12,8 +12,11 @@ package org.opendaylight.controller.remote.rpc;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import java.util.Collection;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationPublishService;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationService;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcProviderService;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
+import org.opendaylight.controller.remote.notification.NotificationManager;
 import org.opendaylight.controller.remote.rpc.messages.UpdateSchemaContext;
 import org.opendaylight.controller.sal.core.api.Broker;
 import org.opendaylight.controller.sal.core.api.Provider;
@@ -81,6 +84,14 @@ public class RemoteRpcProvider implements AutoCloseable, Provider, SchemaContext
             rpcProvisionRegistry, rpcService), config.getRpcManagerName());
     schemaListenerRegistration = schemaService.registerSchemaContextListener(this);
     LOG.debug("rpc manager started");
+
+    if (config.isNotificationDistributionEnabled()) {
+      final DOMNotificationService notificationService = brokerSession.getService(DOMNotificationService.class);
+      final DOMNotificationPublishService publishService =
+              brokerSession.getService(DOMNotificationPublishService.class);
+      actorSystem.actorOf(NotificationManager.props(notificationService, publishService), NotificationManager.NAME);
+      LOG.debug("notification manager started");
+    }
   }
 
   @Override
@@ -10,6 +10,8 @@ package org.opendaylight.controller.remote.rpc;
 import akka.util.Timeout;
 import com.typesafe.config.Config;
 import org.opendaylight.controller.cluster.common.actor.CommonConfig;
+import org.opendaylight.controller.remote.notification.NotificationDeliveryMode;
+import org.opendaylight.controller.remote.rpc.utils.RoutingPolicy;
 import scala.concurrent.duration.FiniteDuration;
 
 import java.util.concurrent.TimeUnit;
@@ -26,10 +28,18 @@ public class RemoteRpcProviderConfig extends CommonConfig {
     protected static final String TAG_RPC_MGR_PATH = "rpc-manager-path";
     protected static final String TAG_ASK_DURATION = "ask-duration";
     private static final String TAG_GOSSIP_TICK_INTERVAL = "gossip-tick-interval";
+    private static final String TAG_ROUTING_POLICY = "routing-policy";
+    private static final String TAG_NOTIFICATION_DISTRIBUTION = "notification-distribution";
+    private static final String TAG_NOTIFICATION_DELIVERY_MODE = "notification-delivery-mode";
+    private static final String TAG_NOTIFICATION_MAX_BATCH_SIZE = "notification-max-batch-size";
+    private static final String TAG_NOTIFICATION_RETRANSMIT_INTERVAL = "notification-retransmit-interval";
 
     //locally cached values
     private Timeout cachedAskDuration;
     private FiniteDuration cachedGossipTickInterval;
+    private RoutingPolicy cachedRoutingPolicy;
+    private NotificationDeliveryMode cachedNotificationDeliveryMode;
+    private FiniteDuration cachedNotificationRetransmitInterval;
 
     public RemoteRpcProviderConfig(Config config){
         super(config);
@@ -83,6 +93,63 @@ public class RemoteRpcProviderConfig extends CommonConfig {
         return cachedGossipTickInterval;
     }
 
+    /**
+     * @return the policy used to choose among multiple nodes providing the same rpc
+     */
+    public RoutingPolicy getRoutingPolicy(){
+        if (cachedRoutingPolicy != null) {
+            return cachedRoutingPolicy;
+        }
+
+        cachedRoutingPolicy = get().hasPath(TAG_ROUTING_POLICY)
+                ? RoutingPolicy.forConfigName(get().getString(TAG_ROUTING_POLICY))
+                : RoutingPolicy.LATEST_ENTRY;
+
+        return cachedRoutingPolicy;
+    }
+
+    /**
+     * @return whether notifications published on this node are delivered to listeners on other nodes
+     */
+    public boolean isNotificationDistributionEnabled(){
+        return get().hasPath(TAG_NOTIFICATION_DISTRIBUTION) && get().getBoolean(TAG_NOTIFICATION_DISTRIBUTION);
+    }
+
+    public NotificationDeliveryMode getNotificationDeliveryMode(){
+        if (cachedNotificationDeliveryMode != null) {
+            return cachedNotificationDeliveryMode;
+        }
+
+        cachedNotificationDeliveryMode = get().hasPath(TAG_NOTIFICATION_DELIVERY_MODE)
+                ? NotificationDeliveryMode.forConfigName(get().getString(TAG_NOTIFICATION_DELIVERY_MODE))
+                : NotificationDeliveryMode.AT_MOST_ONCE;
+
+        return cachedNotificationDeliveryMode;
+    }
+
+    /**
+     * @return the maximum number of notifications sent to another node in a single message
+     */
+    public int getNotificationMaxBatchSize(){
+        return get().hasPath(TAG_NOTIFICATION_MAX_BATCH_SIZE) ? get().getInt(TAG_NOTIFICATION_MAX_BATCH_SIZE) : 256;
+    }
+
+    /**
+     * @return the time after which unacknowledged notification batches are sent again in
+     *         {@link NotificationDeliveryMode#ORDERED} mode
+     */
+    public FiniteDuration getNotificationRetransmitInterval(){
+        if (cachedNotificationRetransmitInterval != null) {
+            return cachedNotificationRetransmitInterval;
+        }
+
+        cachedNotificationRetransmitInterval = new FiniteDuration(get().hasPath(TAG_NOTIFICATION_RETRANSMIT_INTERVAL)
+                ? get().getDuration(TAG_NOTIFICATION_RETRANSMIT_INTERVAL, TimeUnit.NANOSECONDS)
+                : TimeUnit.SECONDS.toNanos(1), TimeUnit.NANOSECONDS);
+
+        return cachedNotificationRetransmitInterval;
+    }
+
     public static class Builder extends CommonConfig.Builder<Builder>{
 
         public Builder(String actorSystemName){
@@ -104,6 +171,21 @@ public class RemoteRpcProviderConfig extends CommonConfig {
 
         }
 
+        public Builder routingPolicy(RoutingPolicy routingPolicy){
+            configHolder.put(TAG_ROUTING_POLICY, routingPolicy.getConfigName());
+            return this;
+        }
+
+        public Builder notificationDistribution(boolean enabled){
+            configHolder.put(TAG_NOTIFICATION_DISTRIBUTION, String.valueOf(enabled));
+            return this;
+        }
+
+        public Builder notificationDeliveryMode(NotificationDeliveryMode mode){
+            configHolder.put(TAG_NOTIFICATION_DELIVERY_MODE, mode.getConfigName());
+            return this;
+        }
+
         public RemoteRpcProviderConfig build(){
             return new RemoteRpcProviderConfig(merge());
         }
@@ -18,11 +18,9 @@ import com.google.common.util.concurrent.Futures;
 import java.util.Arrays;
 import java.util.Collection;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActor;
-import org.opendaylight.controller.cluster.datastore.node.utils.serialization.NormalizedNodeSerializer;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
-import org.opendaylight.controller.protobuff.messages.common.NormalizedNodeMessages.Node;
 import org.opendaylight.controller.remote.rpc.messages.ExecuteRpc;
 import org.opendaylight.controller.remote.rpc.messages.RpcResponse;
 import org.opendaylight.yangtools.yang.common.RpcError;
@@ -80,16 +78,9 @@ public class RpcBroker extends AbstractUntypedActor {
 
                         sender.tell(new akka.actor.Status.Failure(new RpcErrorsException(message, errors)), self);
                     } else {
-                        final Node serializedResultNode;
-                        if (result.getResult() == null) {
-                            serializedResultNode = null;
-                        } else {
-                            serializedResultNode = NormalizedNodeSerializer.serialize(result.getResult());
-                        }
-
                         LOG.debug("Sending response for execute rpc : {}", msg.getRpc());
 
-                        sender.tell(new RpcResponse(serializedResultNode), self);
+                        sender.tell(RpcResponse.forRequest(msg, result.getResult()), self);
                     }
                 }
 
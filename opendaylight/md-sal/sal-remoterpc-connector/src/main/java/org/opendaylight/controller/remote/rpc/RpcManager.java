@@ -25,7 +25,9 @@ import org.opendaylight.controller.md.sal.dom.api.DOMRpcProviderService;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
 import org.opendaylight.controller.md.sal.dom.broker.spi.rpc.RpcRoutingStrategy;
 import org.opendaylight.controller.remote.rpc.messages.UpdateSchemaContext;
+import org.opendaylight.controller.remote.rpc.registry.RouteIndex;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry;
+import org.opendaylight.controller.remote.rpc.utils.RouterLoadTracker;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
@@ -50,6 +52,8 @@ public class RpcManager extends AbstractUntypedActor {
     private final RemoteRpcProviderConfig config;
     private RpcListener rpcListener;
     private RemoteRpcImplementation rpcImplementation;
+    private final RouteIndex routeIndex = new RouteIndex();
+    private final RouterLoadTracker loadTracker = new RouterLoadTracker();
     private final DOMRpcProviderService rpcProvisionRegistry;
     private final DOMRpcService rpcServices;
 
@@ -78,7 +82,7 @@ public class RpcManager extends AbstractUntypedActor {
         LOG.debug("Create rpc registry and broker actors");
 
         rpcRegistry =
-                getContext().actorOf(RpcRegistry.props().
+                getContext().actorOf(RpcRegistry.props(routeIndex, loadTracker).
                     withMailbox(config.getMailBoxName()), config.getRpcRegistryName());
 
         rpcBroker =
@@ -93,7 +97,7 @@ public class RpcManager extends AbstractUntypedActor {
         LOG.debug("Registers rpc listeners");
 
         rpcListener = new RpcListener(rpcRegistry);
-        rpcImplementation = new RemoteRpcImplementation(rpcRegistry, config);
+        rpcImplementation = new RemoteRpcImplementation(rpcRegistry, config, routeIndex, loadTracker);
 
         rpcServices.registerRpcListener(rpcListener);
 
@@ -10,32 +10,54 @@ package org.opendaylight.controller.remote.rpc.messages;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import org.opendaylight.controller.cluster.datastore.node.utils.serialization.NormalizedNodeSerializer;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeInputStreamReader;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeOutputStreamWriter;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcIdentifier;
 import org.opendaylight.controller.protobuff.messages.common.NormalizedNodeMessages;
-import org.opendaylight.controller.protobuff.messages.common.NormalizedNodeMessages.Node;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 /**
- * @author tony
+ * The serialized form keeps the fields of the original protobuf based message, so messages from nodes running
+ * the previous release can still be read. Such nodes leave the {@code version} field out and carry the input
+ * in {@code inputNormalizedNode}. Current nodes set {@code version} to {@link #STREAMED_VERSION} and stream the
+ * rpc and its input after the fields, leaving the old fields null so that previous releases fail the request
+ * instead of invoking the rpc without its input.
  *
+ * @author tony
  */
 public class ExecuteRpc implements Serializable {
     private static final long serialVersionUID = 1128904894827335676L;
 
-    private final NormalizedNodeMessages.Node inputNormalizedNode;
-    private final QName rpc;
+    static final int LEGACY_VERSION = 0;
+    static final int STREAMED_VERSION = 1;
+
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("inputNormalizedNode", NormalizedNodeMessages.Node.class),
+        new ObjectStreamField("rpc", QName.class),
+        new ObjectStreamField("version", int.class)
+    };
 
-    private ExecuteRpc(final NormalizedNodeMessages.Node inputNormalizedNode, final QName rpc) {
+    private transient NormalizedNode<?, ?> inputNormalizedNode;
+    private transient QName rpc;
+    private transient int version;
+
+    ExecuteRpc(final NormalizedNode<?, ?> inputNormalizedNode, final QName rpc, final int version) {
         Preconditions.checkNotNull(rpc, "rpc Qname should not be null");
 
         this.inputNormalizedNode = inputNormalizedNode;
         this.rpc = rpc;
+        this.version = version;
     }
 
-    public NormalizedNodeMessages.Node getInputNormalizedNode() {
+    public NormalizedNode<?, ?> getInputNormalizedNode() {
         return inputNormalizedNode;
     }
 
@@ -44,13 +66,61 @@ public class ExecuteRpc implements Serializable {
     }
 
     public static ExecuteRpc from(final DOMRpcIdentifier rpc, final NormalizedNode<?, ?> input) {
-        final Node serializedInput;
-        if(input != null) {
-            serializedInput = NormalizedNodeSerializer.serialize(input);
+        return new ExecuteRpc(input, rpc.getType().getLastComponent(), STREAMED_VERSION);
+    }
+
+    /**
+     * @return the version of the serialized form this message was read from, or will be written in
+     */
+    int getVersion() {
+        return version;
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        if(version == LEGACY_VERSION) {
+            fields.put("rpc", rpc);
+            if(inputNormalizedNode != null) {
+                fields.put("inputNormalizedNode", NormalizedNodeSerializer.serialize(inputNormalizedNode));
+            }
+            out.writeFields();
+            return;
+        }
+
+        fields.put("version", version);
+        out.writeFields();
+
+        // The input is streamed straight into the serializer's buffer
+        out.writeObject(rpc);
+        out.writeBoolean(inputNormalizedNode != null);
+        if(inputNormalizedNode != null) {
+            new NormalizedNodeOutputStreamWriter(out).writeNormalizedNode(inputNormalizedNode);
+        }
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        version = fields.get("version", LEGACY_VERSION);
+
+        if(version == LEGACY_VERSION) {
+            rpc = (QName) fields.get("rpc", null);
+            final NormalizedNodeMessages.Node node = (NormalizedNodeMessages.Node) fields.get("inputNormalizedNode",
+                    null);
+            if(node != null) {
+                inputNormalizedNode = NormalizedNodeSerializer.deSerialize(node);
+            }
+        } else if(version == STREAMED_VERSION) {
+            rpc = (QName) in.readObject();
+            if(in.readBoolean()) {
+                inputNormalizedNode = new NormalizedNodeInputStreamReader(in).readNormalizedNode();
+            }
         } else {
-            serializedInput = null;
+            throw new InvalidObjectException("Unsupported ExecuteRpc version " + version);
+        }
+
+        if(rpc == null) {
+            throw new InvalidObjectException("ExecuteRpc without rpc");
         }
-        return new ExecuteRpc(serializedInput, rpc.getType().getLastComponent());
     }
 
     @Override
@@ -7,19 +7,88 @@
  */
 package org.opendaylight.controller.remote.rpc.messages;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import org.opendaylight.controller.cluster.datastore.node.utils.serialization.NormalizedNodeSerializer;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeInputStreamReader;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.NormalizedNodeOutputStreamWriter;
 import org.opendaylight.controller.protobuff.messages.common.NormalizedNodeMessages;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
+/**
+ * The serialized form is versioned like {@link ExecuteRpc}. A response to a request from a previous release
+ * is written in the protobuf based form that release expects.
+ */
 public class RpcResponse implements Serializable {
     private static final long serialVersionUID = -4211279498688989245L;
 
-    private final NormalizedNodeMessages.Node resultNormalizedNode;
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("resultNormalizedNode", NormalizedNodeMessages.Node.class),
+        new ObjectStreamField("version", int.class)
+    };
+
+    private transient NormalizedNode<?, ?> resultNormalizedNode;
+    private transient int version;
+
+    public RpcResponse(final NormalizedNode<?, ?> inputNormalizedNode) {
+        this(inputNormalizedNode, ExecuteRpc.STREAMED_VERSION);
+    }
 
-    public RpcResponse(final NormalizedNodeMessages.Node inputNormalizedNode) {
+    RpcResponse(final NormalizedNode<?, ?> inputNormalizedNode, final int version) {
         resultNormalizedNode = inputNormalizedNode;
+        this.version = version;
     }
 
-    public NormalizedNodeMessages.Node getResultNormalizedNode() {
+    /**
+     * Creates the response to the given request, in the serialized form the requester can read.
+     */
+    public static RpcResponse forRequest(final ExecuteRpc request, final NormalizedNode<?, ?> result) {
+        return new RpcResponse(result, request.getVersion());
+    }
+
+    public NormalizedNode<?, ?> getResultNormalizedNode() {
         return resultNormalizedNode;
     }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        if(version == ExecuteRpc.LEGACY_VERSION) {
+            if(resultNormalizedNode != null) {
+                fields.put("resultNormalizedNode", NormalizedNodeSerializer.serialize(resultNormalizedNode));
+            }
+            out.writeFields();
+            return;
+        }
+
+        fields.put("version", version);
+        out.writeFields();
+
+        out.writeBoolean(resultNormalizedNode != null);
+        if(resultNormalizedNode != null) {
+            new NormalizedNodeOutputStreamWriter(out).writeNormalizedNode(resultNormalizedNode);
+        }
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        version = fields.get("version", ExecuteRpc.LEGACY_VERSION);
+
+        if(version == ExecuteRpc.LEGACY_VERSION) {
+            final NormalizedNodeMessages.Node node = (NormalizedNodeMessages.Node) fields.get("resultNormalizedNode",
+                    null);
+            if(node != null) {
+                resultNormalizedNode = NormalizedNodeSerializer.deSerialize(node);
+            }
+        } else if(version == ExecuteRpc.STREAMED_VERSION) {
+            if(in.readBoolean()) {
+                resultNormalizedNode = new NormalizedNodeInputStreamReader(in).readNormalizedNode();
+            }
+        } else {
+            throw new InvalidObjectException("Unsupported RpcResponse version " + version);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry;
+
+import akka.actor.ActorRef;
+import akka.japi.Option;
+import akka.japi.Pair;
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.opendaylight.controller.sal.connector.api.RpcRouter;
+
+/**
+ * A read-only view of the routing tables known to an {@link RpcRegistry}, which may be queried from any
+ * thread without sending a {@link RpcRegistry.Messages.FindRouters} message to the registry actor.
+ * <p/>
+ * The registry publishes a new immutable snapshot of the per-member routing tables whenever a bucket
+ * changes. As the routing tables held by the buckets are never modified once published, only the
+ * list of tables is rebuilt and a lookup costs one hash lookup per cluster member, same as
+ * {@link RpcRegistry.Messages.FindRouters} processing in the registry.
+ */
+public class RouteIndex {
+    private volatile List<RoutingTable> tables = ImmutableList.of();
+
+    /**
+     * Finds the routers for the given route, in the same form as
+     * {@link RpcRegistry.Messages.FindRoutersReply#getRouterWithUpdateTime()}.
+     *
+     * @param routeId the route to look up
+     * @return the routers with the route's registration time, empty if no member provides the route
+     */
+    public List<Pair<ActorRef, Long>> findRouters(RpcRouter.RouteIdentifier<?, ?, ?> routeId) {
+        List<RoutingTable> current = tables;
+        List<Pair<ActorRef, Long>> routers = new ArrayList<>(current.size());
+        for(RoutingTable table : current) {
+            Option<Pair<ActorRef, Long>> routerWithUpdateTime = table.getRouterFor(routeId);
+            if(!routerWithUpdateTime.isEmpty()) {
+                routers.add(routerWithUpdateTime.get());
+            }
+        }
+
+        return routers;
+    }
+
+    /**
+     * Publishes a new snapshot. Must only be called by the owning {@link RpcRegistry}.
+     *
+     * @param newTables the routing table of each member, which must not be modified afterwards
+     */
+    void update(Collection<RoutingTable> newTables) {
+        tables = ImmutableList.copyOf(newTables);
+    }
+}
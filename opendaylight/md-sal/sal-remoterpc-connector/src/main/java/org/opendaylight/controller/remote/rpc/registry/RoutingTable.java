@@ -51,6 +51,14 @@ public class RoutingTable implements Copier<RoutingTable>, Serializable {
         table.put(routeId, System.currentTimeMillis());
     }
 
+    void addRoute(RpcRouter.RouteIdentifier<?,?,?> routeId, Long updateTime){
+        table.put(routeId, updateTime);
+    }
+
+    Long getUpdateTime(RpcRouter.RouteIdentifier<?,?,?> routeId){
+        return table.get(routeId);
+    }
+
     public void removeRoute(RpcRouter.RouteIdentifier<?, ?, ?> routeId){
         table.remove(routeId);
     }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry;
+
+import akka.actor.ActorRef;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Delta;
+import org.opendaylight.controller.sal.connector.api.RpcRouter;
+
+/**
+ * The routes added to and removed from a {@link RoutingTable} by a single update.
+ */
+class RoutingTableDelta implements Delta<RoutingTable> {
+    private static final long serialVersionUID = 1L;
+
+    private final ActorRef router;
+    private final Map<RpcRouter.RouteIdentifier<?, ?, ?>, Long> addedRoutes = new HashMap<>();
+    private final Set<RpcRouter.RouteIdentifier<?, ?, ?>> removedRoutes = new HashSet<>();
+
+    RoutingTableDelta(ActorRef router) {
+        this.router = router;
+    }
+
+    void addRoute(RpcRouter.RouteIdentifier<?, ?, ?> routeId, Long updateTime) {
+        removedRoutes.remove(routeId);
+        addedRoutes.put(routeId, updateTime);
+    }
+
+    void removeRoute(RpcRouter.RouteIdentifier<?, ?, ?> routeId) {
+        addedRoutes.remove(routeId);
+        removedRoutes.add(routeId);
+    }
+
+    @Override
+    public void applyTo(RoutingTable table) {
+        // The owner's router may have been set after the base version was gossiped
+        table.setRouter(router);
+        for(RpcRouter.RouteIdentifier<?, ?, ?> routeId : removedRoutes) {
+            table.removeRoute(routeId);
+        }
+
+        for(Map.Entry<RpcRouter.RouteIdentifier<?, ?, ?>, Long> e : addedRoutes.entrySet()) {
+            table.addRoute(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public int size() {
+        return addedRoutes.size() + removedRoutes.size();
+    }
+
+    @Override
+    public String toString() {
+        return "RoutingTableDelta{" +
+                "addedRoutes=" + addedRoutes.keySet() +
+                ", removedRoutes=" + removedRoutes +
+                '}';
+    }
+}
@@ -14,7 +14,10 @@ import akka.japi.Option;
 import akka.japi.Pair;
 import com.google.common.base.Preconditions;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.AddOrUpdateRoutes;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.FindRouters;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry.Messages.RemoveRoutes;
@@ -23,6 +26,7 @@ import org.opendaylight.controller.remote.rpc.registry.gossip.Bucket;
 import org.opendaylight.controller.remote.rpc.registry.gossip.BucketStore;
 import org.opendaylight.controller.remote.rpc.registry.mbeans.RemoteRpcRegistryMXBean;
 import org.opendaylight.controller.remote.rpc.registry.mbeans.RemoteRpcRegistryMXBeanImpl;
+import org.opendaylight.controller.remote.rpc.utils.RouterLoadTracker;
 import org.opendaylight.controller.sal.connector.api.RpcRouter;
 import org.opendaylight.controller.sal.connector.api.RpcRouter.RouteIdentifier;
 
@@ -34,12 +38,48 @@ import org.opendaylight.controller.sal.connector.api.RpcRouter.RouteIdentifier;
  */
 public class RpcRegistry extends BucketStore<RoutingTable> {
 
+    /**
+     * Index to which the routing tables are published. Tables are never modified once they are in a bucket,
+     * changes always replace the table, so they can be published without copying.
+     */
+    private final RouteIndex routeIndex;
+
+    /**
+     * Tracker of the requests sent to the routers, pruned of the routers which are no longer in any bucket.
+     */
+    private final RouterLoadTracker loadTracker;
+
     public RpcRegistry() {
+        this(new RouteIndex());
+    }
+
+    public RpcRegistry(@Nonnull RouteIndex routeIndex) {
+        this(routeIndex, new RouterLoadTracker());
+    }
+
+    public RpcRegistry(@Nonnull RouteIndex routeIndex, @Nonnull RouterLoadTracker loadTracker) {
+        this.routeIndex = Preconditions.checkNotNull(routeIndex);
+        this.loadTracker = Preconditions.checkNotNull(loadTracker);
         getLocalBucket().setData(new RoutingTable());
     }
 
     public static Props props() {
-        return Props.create(new RpcRegistryCreator());
+        return props(new RouteIndex());
+    }
+
+    /**
+     * @param routeIndex the index to which the registry publishes its routing tables
+     */
+    public static Props props(RouteIndex routeIndex) {
+        return props(routeIndex, new RouterLoadTracker());
+    }
+
+    /**
+     * @param routeIndex the index to which the registry publishes its routing tables
+     * @param loadTracker the tracker of requests sent to remote routers, exposed through JMX
+     */
+    public static Props props(RouteIndex routeIndex, RouterLoadTracker loadTracker) {
+        return Props.create(new RpcRegistryCreator(routeIndex, loadTracker));
     }
 
     @Override
@@ -65,7 +105,9 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
      * @param message contains {@link akka.actor.ActorRef} for rpc broker
      */
     private void receiveSetLocalRouter(SetLocalRouter message) {
-        getLocalBucket().getData().setRouter(message.getRouter());
+        RoutingTable table = getLocalBucket().getData().copy();
+        table.setRouter(message.getRouter());
+        updateLocalBucket(table);
     }
 
     /**
@@ -76,11 +118,13 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
         log.debug("AddOrUpdateRoutes: {}", msg.getRouteIdentifiers());
 
         RoutingTable table = getLocalBucket().getData().copy();
+        RoutingTableDelta delta = new RoutingTableDelta(table.getRouter());
         for(RpcRouter.RouteIdentifier<?, ?, ?> routeId : msg.getRouteIdentifiers()) {
             table.addRoute(routeId);
+            delta.addRoute(routeId, table.getUpdateTime(routeId));
         }
 
-        updateLocalBucket(table);
+        updateLocalBucket(table, delta);
     }
 
     /**
@@ -89,11 +133,13 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
     private void receiveRemoveRoutes(RemoveRoutes msg) {
 
         RoutingTable table = getLocalBucket().getData().copy();
+        RoutingTableDelta delta = new RoutingTableDelta(table.getRouter());
         for (RpcRouter.RouteIdentifier<?, ?, ?> routeId : msg.getRouteIdentifiers()) {
             table.removeRoute(routeId);
+            delta.removeRoute(routeId);
         }
 
-        updateLocalBucket(table);
+        updateLocalBucket(table, delta);
     }
 
     /**
@@ -114,6 +160,31 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
         getSender().tell(new Messages.FindRoutersReply(routers), getSelf());
     }
 
+    /**
+     * Publishes the current routing tables to the {@link RouteIndex}.
+     */
+    @Override
+    protected void onBucketsUpdated() {
+        List<RoutingTable> tables = new ArrayList<>(getRemoteBuckets().size() + 1);
+        tables.add(getLocalBucket().getData());
+        for(Bucket<RoutingTable> bucket : getRemoteBuckets().values()) {
+            if(bucket.getData() != null) {
+                tables.add(bucket.getData());
+            }
+        }
+
+        routeIndex.update(tables);
+
+        Set<ActorRef> routers = new HashSet<>(tables.size());
+        for(RoutingTable table : tables) {
+            if(table.getRouter() != null) {
+                routers.add(table.getRouter());
+            }
+        }
+
+        loadTracker.retainRouters(routers);
+    }
+
     private void findRoutes(RoutingTable table, RpcRouter.RouteIdentifier<?, ?, ?> routeId,
             List<Pair<ActorRef, Long>> routers) {
         if (table == null) {
@@ -232,10 +303,18 @@ public class RpcRegistry extends BucketStore<RoutingTable> {
     private static class RpcRegistryCreator implements Creator<RpcRegistry> {
         private static final long serialVersionUID = 1L;
 
+        private final transient RouteIndex routeIndex;
+        private final transient RouterLoadTracker loadTracker;
+
+        RpcRegistryCreator(RouteIndex routeIndex, RouterLoadTracker loadTracker) {
+            this.routeIndex = routeIndex;
+            this.loadTracker = loadTracker;
+        }
+
         @Override
         public RpcRegistry create() throws Exception {
-            RpcRegistry registry =  new RpcRegistry();
-            RemoteRpcRegistryMXBean mxBean = new RemoteRpcRegistryMXBeanImpl(registry);
+            RpcRegistry registry =  new RpcRegistry(routeIndex, loadTracker);
+            RemoteRpcRegistryMXBean mxBean = new RemoteRpcRegistryMXBeanImpl(registry, loadTracker);
             return registry;
         }
     }
@@ -28,9 +28,15 @@ public class BucketImpl<T extends Copier<T>> implements Bucket<T>, Serializable
         this.data = other.getData();
     }
 
+    BucketImpl(Long version, T data) {
+        this.version = version;
+        this.data = data;
+    }
+
     public void setData(T data) {
         this.data = data;
-        this.version = System.currentTimeMillis()+1;
+        // Versions must be unique as delta gossip relies on them to identify the base of a change
+        this.version = Math.max(System.currentTimeMillis(), version) + 1;
     }
 
     @Override
@@ -13,7 +13,13 @@ import akka.actor.ActorRefProvider;
 import akka.actor.Address;
 import akka.actor.Props;
 import akka.cluster.ClusterActorRefProvider;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.opendaylight.controller.cluster.common.actor.AbstractUntypedActorWithMetering;
@@ -36,12 +42,20 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Buckets are sync'ed across nodes using Gossip protocol (http://en.wikipedia.org/wiki/Gossip_protocol)<p>
  * This store uses a {@link org.opendaylight.controller.remote.rpc.registry.gossip.Gossiper}.
- *
+ * <p>
+ * Subclasses which describe the changes to the local bucket via {@link #updateLocalBucket(Copier, Delta)} let
+ * the store gossip only the changes since the version a remote node already has, as long as the changes are
+ * still retained. Otherwise the whole bucket is gossiped.
  */
 public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMetering {
 
     private static final Long NO_VERSION = -1L;
 
+    /**
+     * Maximum number of local bucket changes retained for delta gossip
+     */
+    private static final int MAX_LOCAL_CHANGES = 128;
+
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
     /**
@@ -59,6 +73,14 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
      */
     private final Map<Address, Long> versions = new HashMap<>();
 
+    /**
+     * Most recent changes to the local bucket, oldest first. The version of each change is the base version
+     * of the next one.
+     */
+    private final Deque<LocalChange<T>> localChanges = new ArrayDeque<>();
+
+    private final GossipStats gossipStats = new GossipStats();
+
     /**
      * Cluster address for this node
      */
@@ -97,7 +119,8 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
         } else if (message instanceof GetAllBuckets) {
             receiveGetAllBuckets();
         } else if (message instanceof GetBucketsByMembers) {
-            receiveGetBucketsByMembers(((GetBucketsByMembers) message).getMembers());
+            GetBucketsByMembers getBuckets = (GetBucketsByMembers) message;
+            receiveGetBucketsByMembers(getBuckets.getMembers(), getBuckets.getKnownVersions());
         } else if (message instanceof GetBucketVersions) {
             receiveGetBucketVersions();
         } else if (message instanceof UpdateRemoteBuckets) {
@@ -143,8 +166,20 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
      */
     @SuppressWarnings("rawtypes")
     void receiveGetBucketsByMembers(Set<Address> members){
+        receiveGetBucketsByMembers(members, Collections.<Address, Long>emptyMap());
+    }
+
+    /**
+     * Returns buckets for requested members that this node knows about. The local bucket is returned
+     * as a {@link DeltaBucket} if the requester's known version of it is recent enough.
+     *
+     * @param members requested members
+     * @param knownVersions bucket versions the requester already has
+     */
+    @SuppressWarnings("rawtypes")
+    void receiveGetBucketsByMembers(Set<Address> members, Map<Address, Long> knownVersions){
         final ActorRef sender = getSender();
-        Map<Address, Bucket> buckets = getBucketsByMembers(members);
+        Map<Address, Bucket> buckets = getBucketsByMembers(members, knownVersions);
         sender.tell(new GetBucketsByMembersReply(buckets), getSelf());
     }
 
@@ -156,11 +191,23 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
      */
     @SuppressWarnings("rawtypes")
     Map<Address, Bucket> getBucketsByMembers(Set<Address> members) {
+        return getBucketsByMembers(members, Collections.<Address, Long>emptyMap());
+    }
+
+    @SuppressWarnings("rawtypes")
+    Map<Address, Bucket> getBucketsByMembers(Set<Address> members, Map<Address, Long> knownVersions) {
         Map<Address, Bucket> buckets = new HashMap<>();
 
-        //first add the local bucket if asked
+        //first add the local bucket if asked, sending only the changes if possible
         if (members.contains(selfAddress)) {
-            buckets.put(selfAddress, new BucketImpl<>(localBucket));
+            DeltaBucket<T> delta = getLocalChangesSince(knownVersions.get(selfAddress));
+            if (delta != null) {
+                gossipStats.deltaBucketSent(delta.size());
+                buckets.put(selfAddress, delta);
+            } else {
+                gossipStats.fullBucketSent();
+                buckets.put(selfAddress, new BucketImpl<>(localBucket));
+            }
         }
 
         //then get buckets for requested remote nodes
@@ -199,6 +246,8 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
         //Remote cant update self's bucket
         receivedBuckets.remove(selfAddress);
 
+        boolean updated = false;
+
         for (Map.Entry<Address, Bucket> entry : receivedBuckets.entrySet()){
 
             Long localVersion = versions.get(entry.getKey());
@@ -212,6 +261,13 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
                 continue;
             }
 
+            if (receivedBucket instanceof DeltaBucket) {
+                receivedBucket = applyDelta(entry.getKey(), (DeltaBucket<T>) receivedBucket, localVersion);
+                if (receivedBucket == null) {
+                    continue;
+                }
+            }
+
             Long remoteVersion = receivedBucket.getVersion();
             if (remoteVersion == null) {
                 remoteVersion = NO_VERSION;
@@ -221,21 +277,102 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
             if ( remoteVersion.longValue() > localVersion.longValue() ) {
                 remoteBuckets.put(entry.getKey(), receivedBucket);
                 versions.put(entry.getKey(), remoteVersion);
+                gossipStats.remoteBucketUpdated(remoteVersion);
+                updated = true;
             }
         }
 
+        if (updated) {
+            onBucketsUpdated();
+        }
+
         if(log.isDebugEnabled()) {
             log.debug("State after update - Local Bucket [{}], Remote Buckets [{}]", localBucket, remoteBuckets);
         }
     }
 
+    /**
+     * Applies a received delta to the local copy of the remote bucket.
+     *
+     * @return the updated bucket or null if the local copy is not at the delta's base version
+     */
+    private Bucket<T> applyDelta(Address address, DeltaBucket<T> delta, Long localVersion) {
+        Bucket<T> current = remoteBuckets.get(address);
+        if (current == null || current.getData() == null || !delta.getBaseVersion().equals(localVersion)) {
+            // The next gossip status exchange will report our actual version to the owner
+            log.debug("{}: Discarding delta bucket from {} with base version {}, local version is {}",
+                    selfAddress, address, delta.getBaseVersion(), localVersion);
+            gossipStats.deltaBucketDiscarded();
+            return null;
+        }
+
+        return new BucketImpl<>(delta.getVersion(), delta.applyTo(current.getData()));
+    }
+
+    /**
+     * @return the changes made to the local bucket after the given version or null if they are not
+     *         all retained
+     */
+    private DeltaBucket<T> getLocalChangesSince(Long version) {
+        if (version == null || version.equals(localBucket.getVersion())) {
+            return null;
+        }
+
+        Iterator<LocalChange<T>> it = localChanges.iterator();
+        while (it.hasNext()) {
+            LocalChange<T> change = it.next();
+            if (change.baseVersion.equals(version)) {
+                List<Delta<T>> deltas = new ArrayList<>();
+                deltas.add(change.delta);
+                while (it.hasNext()) {
+                    deltas.add(it.next().delta);
+                }
+
+                return new DeltaBucket<>(version, localBucket.getVersion(), deltas);
+            }
+        }
+
+        return null;
+    }
+
     public BucketImpl<T> getLocalBucket() {
         return localBucket;
     }
 
     protected void updateLocalBucket(T data) {
+        updateLocalBucket(data, null);
+    }
+
+    /**
+     * Replaces the data of the local bucket.
+     *
+     * @param data the new data
+     * @param delta the change from the previous data to the new data, null if unknown in which case
+     *              the whole bucket is gossiped to all nodes
+     */
+    protected void updateLocalBucket(T data, Delta<T> delta) {
+        Long baseVersion = localBucket.getVersion();
         localBucket.setData(data);
         versions.put(selfAddress, localBucket.getVersion());
+
+        if (delta == null) {
+            localChanges.clear();
+        } else {
+            if (localChanges.size() == MAX_LOCAL_CHANGES) {
+                localChanges.removeFirst();
+            }
+
+            localChanges.addLast(new LocalChange<>(baseVersion, delta));
+        }
+
+        onBucketsUpdated();
+    }
+
+    /**
+     * Invoked after the local bucket or any of the remote buckets has been replaced. Subclasses may override
+     * this to maintain derived state.
+     */
+    protected void onBucketsUpdated() {
     }
 
     public Map<Address, Bucket<T>> getRemoteBuckets() {
@@ -245,4 +382,18 @@ public class BucketStore<T extends Copier<T>> extends AbstractUntypedActorWithMe
     public Map<Address, Long> getVersions() {
         return versions;
     }
+
+    public GossipStats getGossipStats() {
+        return gossipStats;
+    }
+
+    private static final class LocalChange<T> {
+        final Long baseVersion;
+        final Delta<T> delta;
+
+        LocalChange(Long baseVersion, Delta<T> delta) {
+            this.baseVersion = baseVersion;
+            this.delta = delta;
+        }
+    }
 }
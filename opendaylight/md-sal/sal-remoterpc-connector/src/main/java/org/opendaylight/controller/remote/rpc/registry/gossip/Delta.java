@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+import java.io.Serializable;
+
+/**
+ * A change to the data of a {@link org.opendaylight.controller.remote.rpc.registry.gossip.Bucket}, which is
+ * gossiped instead of the whole data when the remote member already has the version the change applies to.
+ */
+public interface Delta<T> extends Serializable {
+    /**
+     * Applies this change in place. The given data is a private copy of the data this change was made to,
+     * so a chain of changes can be applied with a single copy.
+     *
+     * @param data the data to modify
+     */
+    void applyTo(T data);
+
+    /**
+     * @return the number of entries in this change
+     */
+    int size();
+}
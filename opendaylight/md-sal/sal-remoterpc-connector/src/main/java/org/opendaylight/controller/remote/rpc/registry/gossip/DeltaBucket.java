@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+import com.google.common.base.Preconditions;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bucket that carries the changes made to a bucket since a base version instead of its data. It is
+ * only used for gossiping - the receiving {@link BucketStore} applies the changes to its copy of the bucket,
+ * provided that copy is at the base version, and stores the result.
+ */
+public class DeltaBucket<T extends Copier<T>> implements Bucket<T>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Long baseVersion;
+    private final Long version;
+    private final List<Delta<T>> deltas;
+
+    public DeltaBucket(Long baseVersion, Long version, List<Delta<T>> deltas) {
+        this.baseVersion = Preconditions.checkNotNull(baseVersion);
+        this.version = Preconditions.checkNotNull(version);
+        this.deltas = new ArrayList<>(deltas);
+    }
+
+    public Long getBaseVersion() {
+        return baseVersion;
+    }
+
+    @Override
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * A delta bucket carries no data, use {@link #applyTo(Copier)} instead.
+     */
+    @Override
+    public T getData() {
+        return null;
+    }
+
+    /**
+     * Applies the changes to a copy of the data of the bucket at the base version.
+     *
+     * @param base the data at the base version, which is not modified
+     * @return the data at this bucket's version
+     */
+    public T applyTo(T base) {
+        T data = base.copy();
+        for(Delta<T> delta : deltas) {
+            delta.applyTo(data);
+        }
+
+        return data;
+    }
+
+    /**
+     * @return the total number of entries in the changes
+     */
+    public int size() {
+        int size = 0;
+        for(Delta<T> delta : deltas) {
+            size += delta.size();
+        }
+
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "DeltaBucket{" +
+                "baseVersion=" + baseVersion +
+                ", version=" + version +
+                ", deltas=" + deltas +
+                '}';
+    }
+}
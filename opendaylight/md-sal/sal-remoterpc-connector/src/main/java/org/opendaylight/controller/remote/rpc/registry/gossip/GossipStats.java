@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry.gossip;
+
+/**
+ * Gossip statistics of a {@link BucketStore}. Updated by the store actor only and read via JMX.
+ */
+public class GossipStats {
+    private volatile long fullBucketsSent;
+    private volatile long deltaBucketsSent;
+    private volatile long deltaEntriesSent;
+    private volatile long deltaBucketsDiscarded;
+    private volatile long remoteBucketUpdates;
+    private volatile long lastRemoteBucketUpdateDelayInMillis;
+
+    void fullBucketSent() {
+        fullBucketsSent++;
+    }
+
+    void deltaBucketSent(int entries) {
+        deltaBucketsSent++;
+        deltaEntriesSent += entries;
+    }
+
+    void deltaBucketDiscarded() {
+        deltaBucketsDiscarded++;
+    }
+
+    void remoteBucketUpdated(long version) {
+        remoteBucketUpdates++;
+
+        // Bucket versions are based on the owner's clock so this is only accurate with synchronized clocks
+        lastRemoteBucketUpdateDelayInMillis = Math.max(0, System.currentTimeMillis() - version);
+    }
+
+    public long getFullBucketsSent() {
+        return fullBucketsSent;
+    }
+
+    public long getDeltaBucketsSent() {
+        return deltaBucketsSent;
+    }
+
+    public long getDeltaEntriesSent() {
+        return deltaEntriesSent;
+    }
+
+    public long getDeltaBucketsDiscarded() {
+        return deltaBucketsDiscarded;
+    }
+
+    public long getRemoteBucketUpdates() {
+        return remoteBucketUpdates;
+    }
+
+    /**
+     * @return the time between the last change to a remote bucket by its owner and its arrival here
+     */
+    public long getLastRemoteBucketUpdateDelayInMillis() {
+        return lastRemoteBucketUpdateDelayInMillis;
+    }
+}
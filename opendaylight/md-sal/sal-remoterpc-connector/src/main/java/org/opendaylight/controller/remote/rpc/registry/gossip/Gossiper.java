@@ -19,6 +19,7 @@ import akka.cluster.Member;
 import akka.dispatch.Mapper;
 import akka.pattern.Patterns;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -279,9 +280,20 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
      * @param addresses  node addresses whose buckets needs to be sent
      */
     void sendGossipTo(final ActorRef remote, final Set<Address> addresses){
+        sendGossipTo(remote, addresses, Collections.<Address, Long>emptyMap());
+    }
 
-        Future<Object> futureReply =
-                Patterns.ask(getContext().parent(), new GetBucketsByMembers(addresses), config.getAskDuration());
+    /**
+     * Gets the buckets from bucket store for the given node addresses and sends them to remote gossiper
+     *
+     * @param remote        remote node to send Buckets to
+     * @param addresses     node addresses whose buckets needs to be sent
+     * @param remoteVersions bucket versions known to the remote node
+     */
+    void sendGossipTo(final ActorRef remote, final Set<Address> addresses, final Map<Address, Long> remoteVersions){
+
+        Future<Object> futureReply = Patterns.ask(getContext().parent(),
+                new GetBucketsByMembers(addresses, remoteVersions), config.getAskDuration());
         futureReply.map(getMapperToSendGossip(remote), getContext().dispatcher());
     }
 
@@ -366,50 +378,65 @@ public class Gossiper extends AbstractUntypedActorWithMetering {
      */
     private Mapper<Object, Void> getMapperToProcessRemoteStatus(final ActorRef sender, final GossipStatus status){
 
-        final Map<Address, Long> remoteVersions = status.getVersions();
-
         return new Mapper<Object, Void>() {
             @Override
             public Void apply(Object replyMessage) {
                 if (replyMessage instanceof GetBucketVersionsReply) {
                     GetBucketVersionsReply reply = (GetBucketVersionsReply) replyMessage;
-                    Map<Address, Long> localVersions = reply.getVersions();
+                    processRemoteStatus(sender, status, reply.getVersions());
+                }
+                return null;
+            }
+        };
+    }
 
-                    //diff between remote list and local
-                    Set<Address> localIsOlder = new HashSet<>();
-                    localIsOlder.addAll(remoteVersions.keySet());
-                    localIsOlder.removeAll(localVersions.keySet());
+    /**
+     * Compares remote bucket versions with local bucket versions and sends the newer buckets or the local
+     * status to the remote member. Buckets are sent as deltas only to members whose status reports that they
+     * accept them, others receive whole buckets.
+     *
+     * @param sender the remote member
+     * @param status bucket versions from a remote member
+     * @param localVersions bucket versions of the local store
+     */
+    void processRemoteStatus(final ActorRef sender, final GossipStatus status, final Map<Address, Long> localVersions){
+        final Map<Address, Long> remoteVersions = status.getVersions();
 
-                    //diff between local list and remote
-                    Set<Address> localIsNewer = new HashSet<>();
-                    localIsNewer.addAll(localVersions.keySet());
-                    localIsNewer.removeAll(remoteVersions.keySet());
+        //diff between remote list and local
+        Set<Address> localIsOlder = new HashSet<>();
+        localIsOlder.addAll(remoteVersions.keySet());
+        localIsOlder.removeAll(localVersions.keySet());
 
+        //diff between local list and remote
+        Set<Address> localIsNewer = new HashSet<>();
+        localIsNewer.addAll(localVersions.keySet());
+        localIsNewer.removeAll(remoteVersions.keySet());
 
-                    for (Address address : remoteVersions.keySet()){
 
-                        if (localVersions.get(address) == null || remoteVersions.get(address) == null) {
-                            continue; //this condition is taken care of by above diffs
-                        }
-                        if (localVersions.get(address) <  remoteVersions.get(address)) {
-                            localIsOlder.add(address);
-                        } else if (localVersions.get(address) > remoteVersions.get(address)) {
-                            localIsNewer.add(address);
-                        }
-                    }
+        for (Address address : remoteVersions.keySet()){
 
-                    if (!localIsOlder.isEmpty()) {
-                        sendGossipStatusTo(sender, localVersions );
-                    }
+            if (localVersions.get(address) == null || remoteVersions.get(address) == null) {
+                continue; //this condition is taken care of by above diffs
+            }
+            if (localVersions.get(address) <  remoteVersions.get(address)) {
+                localIsOlder.add(address);
+            } else if (localVersions.get(address) > remoteVersions.get(address)) {
+                localIsNewer.add(address);
+            }
+        }
 
-                    if (!localIsNewer.isEmpty()) {
-                        sendGossipTo(sender, localIsNewer);//send newer buckets to remote
-                    }
+        if (!localIsOlder.isEmpty()) {
+            sendGossipStatusTo(sender, localVersions );
+        }
 
-                }
-                return null;
+        if (!localIsNewer.isEmpty()) {
+            //send newer buckets to remote, only the changes where the remote accepts them
+            if (status.isDeltaBucketSupported()) {
+                sendGossipTo(sender, localIsNewer, remoteVersions);
+            } else {
+                sendGossipTo(sender, localIsNewer);
             }
-        };
+        }
     }
 
     /**
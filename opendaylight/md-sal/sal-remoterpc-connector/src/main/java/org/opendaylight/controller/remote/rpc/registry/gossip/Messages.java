@@ -34,15 +34,31 @@ public class Messages {
         public static class GetBucketsByMembers implements Serializable{
             private static final long serialVersionUID = 1L;
             private final Set<Address> members;
+            private final Map<Address, Long> knownVersions;
 
             public GetBucketsByMembers(Set<Address> members){
+                this(members, Collections.<Address, Long>emptyMap());
+            }
+
+            /**
+             * @param members the members whose buckets are requested
+             * @param knownVersions the bucket versions the recipient of the buckets already has, used
+             *                      to send only the changes since that version where possible
+             */
+            public GetBucketsByMembers(Set<Address> members, Map<Address, Long> knownVersions){
                 Preconditions.checkArgument(members != null, "members can not be null");
+                Preconditions.checkArgument(knownVersions != null, "knownVersions can not be null");
                 this.members = members;
+                this.knownVersions = knownVersions;
             }
 
             public Set<Address> getMembers() {
                 return new HashSet<>(members);
             }
+
+            public Map<Address, Long> getKnownVersions() {
+                return Collections.unmodifiableMap(knownVersions);
+            }
         }
 
         public static class ContainsBuckets implements Serializable{
@@ -131,16 +147,47 @@ public class Messages {
         public static final class GossipStatus extends ContainsBucketVersions implements Serializable{
             private static final long serialVersionUID = -593037395143883265L;
 
+            /**
+             * Gossip version of members which do not report one, they only accept whole buckets.
+             */
+            public static final int BASE_VERSION = 0;
+
+            /**
+             * First gossip version which accepts {@link org.opendaylight.controller.remote.rpc.registry.gossip.DeltaBucket}s.
+             */
+            public static final int DELTA_BUCKET_VERSION = 1;
+
+            public static final int CURRENT_VERSION = DELTA_BUCKET_VERSION;
+
             private final Address from;
 
+            /*
+             * Not present in the status of members at BASE_VERSION, the serialVersionUID is unchanged so that
+             * it deserializes to zero.
+             */
+            private final int version;
+
             public GossipStatus(Address from, Map<Address, Long> versions) {
+                this(from, versions, CURRENT_VERSION);
+            }
+
+            public GossipStatus(Address from, Map<Address, Long> versions, int version) {
                 super(versions);
                 this.from = from;
+                this.version = version;
             }
 
             public Address from() {
                 return from;
             }
+
+            public int getVersion() {
+                return version;
+            }
+
+            public boolean isDeltaBucketSupported() {
+                return version >= DELTA_BUCKET_VERSION;
+            }
         }
 
         public static final class GossipEnvelope extends ContainsBuckets implements Serializable {
@@ -19,4 +19,46 @@ public interface RemoteRpcRegistryMXBean {
     Map<String,String> findRpcByName(String name);
 
     Map<String,String> findRpcByRoute(String route);
+
+    /**
+     * @return the number of whole local buckets gossiped to other nodes
+     */
+    long getFullBucketsSent();
+
+    /**
+     * @return the number of local bucket deltas gossiped to other nodes
+     */
+    long getDeltaBucketsSent();
+
+    /**
+     * @return the total number of route additions and removals in the gossiped deltas
+     */
+    long getDeltaRoutesSent();
+
+    /**
+     * @return the number of received deltas which did not apply to the local copy of the bucket
+     */
+    long getDeltaBucketsDiscarded();
+
+    /**
+     * @return the number of remote bucket updates received
+     */
+    long getRemoteBucketUpdates();
+
+    /**
+     * @return the delay between the last remote bucket update and its owner making the change
+     */
+    long getLastRemoteBucketUpdateDelayInMillis();
+
+    /**
+     * @return the one-minute average number of requests per second sent to each remote rpc router. Requests
+     *         are only tracked with a load-aware routing policy, so this is empty with latest-entry routing.
+     */
+    Map<String, Double> getRequestRatePerRouter();
+
+    /**
+     * @return the number of requests awaiting a response from each remote rpc router, empty with latest-entry
+     *         routing
+     */
+    Map<String, Integer> getInFlightRequestsPerRouter();
 }
@@ -1,10 +1,12 @@
 package org.opendaylight.controller.remote.rpc.registry.mbeans;
 
+import akka.actor.ActorRef;
 import akka.actor.Address;
 import org.opendaylight.controller.md.sal.common.util.jmx.AbstractMXBean;
 import org.opendaylight.controller.remote.rpc.registry.RoutingTable;
 import org.opendaylight.controller.remote.rpc.registry.RpcRegistry;
 import org.opendaylight.controller.remote.rpc.registry.gossip.Bucket;
+import org.opendaylight.controller.remote.rpc.utils.RouterLoadTracker;
 import org.opendaylight.controller.sal.connector.api.RpcRouter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,9 +31,12 @@ public class RemoteRpcRegistryMXBeanImpl extends AbstractMXBean implements Remot
 
     private final RpcRegistry rpcRegistry;
 
-    public RemoteRpcRegistryMXBeanImpl(final RpcRegistry rpcRegistry) {
+    private final RouterLoadTracker loadTracker;
+
+    public RemoteRpcRegistryMXBeanImpl(final RpcRegistry rpcRegistry, final RouterLoadTracker loadTracker) {
         super("RemoteRpcRegistry", "RemoteRpcBroker", null);
         this.rpcRegistry = rpcRegistry;
+        this.loadTracker = loadTracker;
         registerMBean();
     }
 
@@ -153,4 +158,53 @@ public class RemoteRpcRegistryMXBeanImpl extends AbstractMXBean implements Remot
         return rpcRegistry.getVersions().toString();
     }
 
-}
\ No newline at end of file
+    @Override
+    public long getFullBucketsSent() {
+        return rpcRegistry.getGossipStats().getFullBucketsSent();
+    }
+
+    @Override
+    public long getDeltaBucketsSent() {
+        return rpcRegistry.getGossipStats().getDeltaBucketsSent();
+    }
+
+    @Override
+    public long getDeltaRoutesSent() {
+        return rpcRegistry.getGossipStats().getDeltaEntriesSent();
+    }
+
+    @Override
+    public long getDeltaBucketsDiscarded() {
+        return rpcRegistry.getGossipStats().getDeltaBucketsDiscarded();
+    }
+
+    @Override
+    public long getRemoteBucketUpdates() {
+        return rpcRegistry.getGossipStats().getRemoteBucketUpdates();
+    }
+
+    @Override
+    public long getLastRemoteBucketUpdateDelayInMillis() {
+        return rpcRegistry.getGossipStats().getLastRemoteBucketUpdateDelayInMillis();
+    }
+
+    @Override
+    public Map<String, Double> getRequestRatePerRouter() {
+        Map<ActorRef, RouterLoadTracker.RouterLoad> loads = loadTracker.getLoads();
+        Map<String, Double> rates = new HashMap<>(loads.size());
+        for(Map.Entry<ActorRef, RouterLoadTracker.RouterLoad> entry : loads.entrySet()) {
+            rates.put(entry.getKey().path().toString(), entry.getValue().getRequestRate());
+        }
+        return rates;
+    }
+
+    @Override
+    public Map<String, Integer> getInFlightRequestsPerRouter() {
+        Map<ActorRef, RouterLoadTracker.RouterLoad> loads = loadTracker.getLoads();
+        Map<String, Integer> inFlight = new HashMap<>(loads.size());
+        for(Map.Entry<ActorRef, RouterLoadTracker.RouterLoad> entry : loads.entrySet()) {
+            inFlight.put(entry.getKey().path().toString(), entry.getValue().getInFlight());
+        }
+        return inFlight;
+    }
+}
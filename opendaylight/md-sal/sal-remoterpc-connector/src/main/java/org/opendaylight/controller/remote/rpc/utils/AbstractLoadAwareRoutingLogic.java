@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.remote.rpc.utils;
+
+import akka.actor.ActorRef;
+import akka.japi.Pair;
+import com.google.common.base.Preconditions;
+import java.util.List;
+import org.opendaylight.controller.remote.rpc.utils.RouterLoadTracker.RouterLoad;
+
+/**
+ * Base class for routing logics which pick the least loaded router according to a {@link RouterLoadTracker}.
+ * Routers with the same load are ordered like {@link LatestEntryRoutingLogic} does.
+ */
+abstract class AbstractLoadAwareRoutingLogic implements RouterSelector {
+
+  private final RouterLoadTracker tracker;
+
+  AbstractLoadAwareRoutingLogic(RouterLoadTracker tracker) {
+    this.tracker = Preconditions.checkNotNull(tracker, "Tracker should not be null");
+  }
+
+  @Override
+  public ActorRef select(List<Pair<ActorRef, Long>> entries) {
+    Preconditions.checkArgument(!entries.isEmpty(), "Entries collection should not be empty");
+
+    Pair<ActorRef, Long> best = entries.get(0);
+    for(int i = 1; i < entries.size(); i++) {
+      best = lessLoaded(best, entries.get(i));
+    }
+
+    return best.first();
+  }
+
+  protected final Pair<ActorRef, Long> lessLoaded(Pair<ActorRef, Long> e1, Pair<ActorRef, Long> e2) {
+    int result = compare(tracker.getLoad(e1.first()), tracker.getLoad(e2.first()));
+    if(result == 0) {
+      result = e2.second().compareTo(e1.second());
+    }
+
+    return result <= 0 ? e1 : e2;
+  }
+
+  /**
+   * Compares the load of two routers.
+   *
+   * @return a negative integer, zero, or a positive integer as the first router is less, equally or more
+   *         loaded than the second
+   */
+  protected abstract int compare(RouterLoad l1, RouterLoad l2);
+}
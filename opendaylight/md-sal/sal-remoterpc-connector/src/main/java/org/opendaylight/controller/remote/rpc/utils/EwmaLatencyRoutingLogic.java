@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.remote.rpc.utils;
+
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.controller.remote.rpc.utils.RouterLoadTracker.RouterLoad;
+
+/**
+ * This class will return the router with the lowest expected latency, estimated as its moving average
+ * latency multiplied by the number of its requests in flight plus the one to be sent. Routers which have not
+ * responded yet are considered the fastest, so that they get sampled, and are ordered by the number of
+ * their requests in flight.
+ */
+public class EwmaLatencyRoutingLogic extends AbstractLoadAwareRoutingLogic {
+
+  public EwmaLatencyRoutingLogic(RouterLoadTracker tracker) {
+    super(tracker);
+  }
+
+  @Override
+  protected int compare(RouterLoad l1, RouterLoad l2) {
+    int result = Double.compare(expectedLatency(l1), expectedLatency(l2));
+    return result != 0 ? result : Integer.compare(l1.getInFlight(), l2.getInFlight());
+  }
+
+  private static double expectedLatency(RouterLoad load) {
+    return load.getLatencyEwma(TimeUnit.NANOSECONDS) * (load.getInFlight() + 1);
+  }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.remote.rpc.utils;
+
+import org.opendaylight.controller.remote.rpc.utils.RouterLoadTracker.RouterLoad;
+
+/**
+ * This class will return the router with the fewest requests in flight.
+ */
+public class LeastOutstandingRequestsRoutingLogic extends AbstractLoadAwareRoutingLogic {
+
+  public LeastOutstandingRequestsRoutingLogic(RouterLoadTracker tracker) {
+    super(tracker);
+  }
+
+  @Override
+  protected int compare(RouterLoad l1, RouterLoad l2) {
+    return Integer.compare(l1.getInFlight(), l2.getInFlight());
+  }
+}
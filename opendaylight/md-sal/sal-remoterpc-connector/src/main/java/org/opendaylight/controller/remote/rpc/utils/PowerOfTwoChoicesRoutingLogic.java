@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.remote.rpc.utils;
+
+import akka.actor.ActorRef;
+import akka.japi.Pair;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.opendaylight.controller.remote.rpc.utils.RouterLoadTracker.RouterLoad;
+
+/**
+ * This class will pick two routers at random and return the one with fewer requests in flight. Unlike
+ * {@link LeastOutstandingRequestsRoutingLogic}, it does not send all the requests issued at the same time
+ * to the same router.
+ */
+public class PowerOfTwoChoicesRoutingLogic extends AbstractLoadAwareRoutingLogic {
+
+  public PowerOfTwoChoicesRoutingLogic(RouterLoadTracker tracker) {
+    super(tracker);
+  }
+
+  @Override
+  public ActorRef select(List<Pair<ActorRef, Long>> entries) {
+    if(entries.size() <= 2) {
+      return super.select(entries);
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(entries.size());
+    int second = random.nextInt(entries.size() - 1);
+    if(second >= first) {
+      second++;
+    }
+
+    return lessLoaded(entries.get(first), entries.get(second)).first();
+  }
+
+  @Override
+  protected int compare(RouterLoad l1, RouterLoad l2) {
+    return Integer.compare(l1.getInFlight(), l2.getInFlight());
+  }
+}
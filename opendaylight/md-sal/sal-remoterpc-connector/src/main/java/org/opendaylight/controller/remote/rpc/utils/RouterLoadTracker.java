@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.utils;
+
+import akka.actor.ActorRef;
+import com.codahale.metrics.Meter;
+import com.google.common.base.Preconditions;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the load of each remote rpc router this node sends requests to, as seen by the invoking side:
+ * the number of requests in flight, an exponentially weighted moving average of the response latency
+ * and the request rate. The load-aware {@link RoutingLogic}s use it to pick among multiple routers
+ * providing the same rpc.
+ * <p/>
+ * All methods may be called concurrently from any thread.
+ */
+public class RouterLoadTracker {
+    /**
+     * Weight of the latest sample in the latency average.
+     */
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final ConcurrentMap<ActorRef, RouterLoad> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the load of the given router, creating an empty one if no request was sent to it yet.
+     */
+    public RouterLoad getLoad(ActorRef router) {
+        RouterLoad load = loads.get(Preconditions.checkNotNull(router));
+        if(load == null) {
+            load = new RouterLoad();
+            RouterLoad existing = loads.putIfAbsent(router, load);
+            if(existing != null) {
+                load = existing;
+            }
+        }
+
+        return load;
+    }
+
+    /**
+     * Drops the loads of all routers except the given ones, called when routers leave the routing tables.
+     * A request still in flight to a dropped router completes on its detached load.
+     *
+     * @param routers the routers which are still known
+     */
+    public void retainRouters(Set<ActorRef> routers) {
+        loads.keySet().retainAll(routers);
+    }
+
+    /**
+     * @return the loads of all the routers requests were sent to
+     */
+    public Map<ActorRef, RouterLoad> getLoads() {
+        return Collections.unmodifiableMap(loads);
+    }
+
+    public static class RouterLoad {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Meter requests = new Meter();
+        private volatile double latencyEwmaNanos;
+        private volatile boolean latencySampled;
+
+        RouterLoad() {
+        }
+
+        /**
+         * Records a request being sent to the router.
+         */
+        public void requestStarted() {
+            inFlight.incrementAndGet();
+            requests.mark();
+        }
+
+        /**
+         * Records the router's response, or failure to respond, to a request.
+         *
+         * @param elapsedNanos the time elapsed since the request was sent
+         */
+        public void requestCompleted(long elapsedNanos) {
+            inFlight.decrementAndGet();
+
+            synchronized(this) {
+                if(latencySampled) {
+                    latencyEwmaNanos += EWMA_ALPHA * (elapsedNanos - latencyEwmaNanos);
+                } else {
+                    latencyEwmaNanos = elapsedNanos;
+                    latencySampled = true;
+                }
+            }
+        }
+
+        /**
+         * @return the number of requests sent to the router which did not complete yet
+         */
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        /**
+         * @return the moving average of the response latency, 0 if no request completed yet
+         */
+        public double getLatencyEwma(TimeUnit unit) {
+            return latencyEwmaNanos / unit.toNanos(1);
+        }
+
+        /**
+         * @return the one-minute moving average of the number of requests sent per second
+         */
+        public double getRequestRate() {
+            return requests.getOneMinuteRate();
+        }
+
+        /**
+         * @return the total number of requests sent to the router
+         */
+        public long getRequestCount() {
+            return requests.getCount();
+        }
+
+        @Override
+        public String toString() {
+            return "RouterLoad [inFlight=" + getInFlight() + ", latencyEwmaNanos=" + latencyEwmaNanos
+                    + ", requestRate=" + getRequestRate() + "]";
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.remote.rpc.utils;
+
+import akka.actor.ActorRef;
+import akka.japi.Pair;
+import java.util.List;
+
+/**
+ * Chooses among multiple routers providing the same rpc. Unlike a {@link RoutingLogic}, which is bound to
+ * the routers of a single request, a selector is created once by a {@link RoutingPolicy} and is invoked
+ * concurrently for every request.
+ */
+public interface RouterSelector {
+
+  /**
+   * @param routers the routers providing the rpc with their registration time, must not be empty
+   * @return the router to send the request to
+   */
+  ActorRef select(List<Pair<ActorRef, Long>> routers);
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.remote.rpc.utils;
+
+import akka.actor.ActorRef;
+import akka.japi.Pair;
+import com.google.common.base.Preconditions;
+import java.util.List;
+
+/**
+ * The policies for choosing among multiple routers providing the same rpc, as configured by the
+ * {@code routing-policy} setting.
+ */
+public enum RoutingPolicy {
+  /**
+   * Picks the router which registered the rpc last, like {@link LatestEntryRoutingLogic} does.
+   */
+  LATEST_ENTRY("latest-entry") {
+    @Override
+    public RouterSelector createSelector(RouterLoadTracker tracker) {
+      return LatestEntrySelector.INSTANCE;
+    }
+
+    @Override
+    public boolean isLoadAware() {
+      return false;
+    }
+  },
+  /**
+   * See {@link LeastOutstandingRequestsRoutingLogic}.
+   */
+  LEAST_OUTSTANDING_REQUESTS("least-outstanding-requests") {
+    @Override
+    public RouterSelector createSelector(RouterLoadTracker tracker) {
+      return new LeastOutstandingRequestsRoutingLogic(tracker);
+    }
+  },
+  /**
+   * See {@link EwmaLatencyRoutingLogic}.
+   */
+  EWMA_LATENCY("ewma-latency") {
+    @Override
+    public RouterSelector createSelector(RouterLoadTracker tracker) {
+      return new EwmaLatencyRoutingLogic(tracker);
+    }
+  },
+  /**
+   * See {@link PowerOfTwoChoicesRoutingLogic}.
+   */
+  POWER_OF_TWO_CHOICES("power-of-two-choices") {
+    @Override
+    public RouterSelector createSelector(RouterLoadTracker tracker) {
+      return new PowerOfTwoChoicesRoutingLogic(tracker);
+    }
+  };
+
+  /**
+   * Picks the entry with the highest registration time, the first one of those registered at the same time.
+   */
+  private static final class LatestEntrySelector implements RouterSelector {
+    static final LatestEntrySelector INSTANCE = new LatestEntrySelector();
+
+    @Override
+    public ActorRef select(List<Pair<ActorRef, Long>> routers) {
+      Preconditions.checkArgument(!routers.isEmpty(), "Entries collection should not be empty");
+
+      Pair<ActorRef, Long> latest = routers.get(0);
+      for(int i = 1; i < routers.size(); i++) {
+        Pair<ActorRef, Long> entry = routers.get(i);
+        if(entry.second() > latest.second()) {
+          latest = entry;
+        }
+      }
+
+      return latest.first();
+    }
+  }
+
+  private final String configName;
+
+  private RoutingPolicy(String configName) {
+    this.configName = configName;
+  }
+
+  public String getConfigName() {
+    return configName;
+  }
+
+  /**
+   * Creates the selector used for all requests. Load aware selectors consult the given tracker.
+   */
+  public abstract RouterSelector createSelector(RouterLoadTracker tracker);
+
+  /**
+   * @return true if the routing logic uses the {@link RouterLoadTracker}, in which case the requests sent to
+   *         each router must be tracked
+   */
+  public boolean isLoadAware() {
+    return true;
+  }
+
+  /**
+   * @throws IllegalArgumentException if no policy has the given name
+   */
+  public static RoutingPolicy forConfigName(String configName) {
+    for(RoutingPolicy policy : values()) {
+      if(policy.configName.equals(configName)) {
+        return policy;
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown rpc routing policy " + configName);
+  }
+}
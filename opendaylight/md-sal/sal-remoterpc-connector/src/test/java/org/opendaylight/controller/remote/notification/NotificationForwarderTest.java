@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.JavaTestKit;
+import com.google.common.collect.ImmutableList;
+import com.typesafe.config.ConfigFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.remote.notification.NotificationForwarder.ForwardNotifications;
+import org.opendaylight.controller.remote.notification.messages.NotificationBatch;
+import org.opendaylight.controller.remote.notification.messages.NotificationBatchAck;
+import org.opendaylight.controller.remote.notification.registry.SubscriptionIndex;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class NotificationForwarderTest {
+    private static final QName TEST_NOTIFICATION = QName.create("urn:test", "2015-06-12", "test-notification");
+    private static final QName OTHER_NOTIFICATION = QName.create(TEST_NOTIFICATION, "other-notification");
+    private static final SchemaPath TEST_TYPE = SchemaPath.create(true, TEST_NOTIFICATION);
+    private static final SchemaPath OTHER_TYPE = SchemaPath.create(true, OTHER_NOTIFICATION);
+    private static final int MAX_BATCH_SIZE = 3;
+
+    private static ActorSystem orderedSystem;
+    private static ActorSystem atMostOnceSystem;
+
+    private SubscriptionIndex index;
+
+    @BeforeClass
+    public static void setup() {
+        atMostOnceSystem = ActorSystem.create("opendaylight-rpc", ConfigFactory.parseString(
+                "notification-max-batch-size = " + MAX_BATCH_SIZE)
+                .withFallback(ConfigFactory.load().getConfig("unit-test")));
+        orderedSystem = ActorSystem.create("opendaylight-rpc-ordered", ConfigFactory.parseString(
+                "notification-delivery-mode = ordered\n"
+                + "notification-max-batch-size = " + MAX_BATCH_SIZE + "\n"
+                + "notification-retransmit-interval = 200ms")
+                .withFallback(ConfigFactory.load().getConfig("unit-test")));
+    }
+
+    @AfterClass
+    public static void teardown() {
+        JavaTestKit.shutdownActorSystem(atMostOnceSystem);
+        JavaTestKit.shutdownActorSystem(orderedSystem);
+    }
+
+    @Before
+    public void setUp() {
+        index = mock(SubscriptionIndex.class);
+        doReturn(Collections.<ActorRef>emptyList()).when(index).getReceivers(OTHER_TYPE);
+    }
+
+    private static DOMNotification notification(final QName type) {
+        return new RemoteDOMNotification(SchemaPath.create(true, type),
+                Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(type)).build());
+    }
+
+    private static NotificationBatch expectBatch(final JavaTestKit receiver, final long sequence,
+            final DOMNotification... notifications) {
+        final NotificationBatch batch = receiver.expectMsgClass(NotificationBatch.class);
+        assertEquals(sequence, batch.getSequence());
+        assertEquals(Arrays.asList(notifications), batch.getNotifications());
+        return batch;
+    }
+
+    @Test
+    public void testBatching() {
+        final JavaTestKit receiver1 = new JavaTestKit(atMostOnceSystem);
+        final JavaTestKit receiver2 = new JavaTestKit(atMostOnceSystem);
+        doReturn(ImmutableList.of(receiver1.getRef(), receiver2.getRef())).when(index).getReceivers(TEST_TYPE);
+        final ActorRef forwarder = atMostOnceSystem.actorOf(NotificationForwarder.props(index));
+
+        final DOMNotification n1 = notification(TEST_NOTIFICATION);
+        final DOMNotification n2 = notification(TEST_NOTIFICATION);
+        final DOMNotification n3 = notification(TEST_NOTIFICATION);
+        final DOMNotification n4 = notification(TEST_NOTIFICATION);
+        final DOMNotification other = notification(OTHER_NOTIFICATION);
+
+        // A full batch is sent right away, the rest once the forwarder's mailbox is drained
+        forwarder.tell(new ForwardNotifications(Arrays.asList(n1, other, n2, n3, n4)), ActorRef.noSender());
+
+        for (JavaTestKit receiver : Arrays.asList(receiver1, receiver2)) {
+            NotificationBatch batch = expectBatch(receiver, NotificationBatch.UNORDERED, n1, n2, n3);
+            assertFalse(batch.isOrdered());
+            expectBatch(receiver, NotificationBatch.UNORDERED, n4);
+        }
+
+        // Nothing is retained or retransmitted
+        receiver1.expectNoMsg(JavaTestKit.duration("300 milliseconds"));
+    }
+
+    @Test
+    public void testRetransmit() {
+        final JavaTestKit receiver = new JavaTestKit(orderedSystem);
+        doReturn(ImmutableList.of(receiver.getRef())).when(index).getReceivers(TEST_TYPE);
+        final ActorRef forwarder = orderedSystem.actorOf(NotificationForwarder.props(index));
+
+        final DOMNotification n1 = notification(TEST_NOTIFICATION);
+        final DOMNotification n2 = notification(TEST_NOTIFICATION);
+
+        forwarder.tell(new ForwardNotifications(Collections.singletonList(n1)), ActorRef.noSender());
+        final NotificationBatch first = expectBatch(receiver, 1, n1);
+        assertTrue(first.isOrdered());
+
+        forwarder.tell(new ForwardNotifications(Collections.singletonList(n2)), ActorRef.noSender());
+        expectBatch(receiver, 2, n2);
+
+        // Unacknowledged batches are sent again in order
+        expectBatch(receiver, 1, n1);
+        expectBatch(receiver, 2, n2);
+
+        // Acknowledged batches are released, the remaining one is still retransmitted
+        forwarder.tell(new NotificationBatchAck(first.getEpoch(), 1), receiver.getRef());
+        final NotificationBatch retransmitted = expectBatch(receiver, 2, n2);
+        assertEquals(first.getEpoch(), retransmitted.getEpoch());
+
+        // Acknowledgements of another epoch are ignored
+        forwarder.tell(new NotificationBatchAck(first.getEpoch() + 1, 2), receiver.getRef());
+        expectBatch(receiver, 2, n2);
+
+        forwarder.tell(new NotificationBatchAck(first.getEpoch(), 2), receiver.getRef());
+        receiver.expectNoMsg(JavaTestKit.duration("500 milliseconds"));
+    }
+
+    @Test
+    public void testEpochReset() {
+        final JavaTestKit receiver = new JavaTestKit(orderedSystem);
+        doReturn(ImmutableList.of(receiver.getRef())).when(index).getReceivers(TEST_TYPE);
+        final ActorRef forwarder = orderedSystem.actorOf(NotificationForwarder.props(index));
+
+        // One more batch than the forwarder retains for a receiver which does not acknowledge
+        final DOMNotification n = notification(TEST_NOTIFICATION);
+        final List<DOMNotification> notifications = Collections.nCopies(1025 * MAX_BATCH_SIZE, n);
+        forwarder.tell(new ForwardNotifications(notifications), ActorRef.noSender());
+
+        final NotificationBatch first = receiver.expectMsgClass(NotificationBatch.class);
+        assertEquals(1, first.getSequence());
+        for (int i = 2; i <= 1024; ++i) {
+            final NotificationBatch batch = receiver.expectMsgClass(NotificationBatch.class);
+            assertEquals(first.getEpoch(), batch.getEpoch());
+            assertEquals(i, batch.getSequence());
+        }
+
+        // The retained batches are dropped and numbering restarts in a new epoch
+        final NotificationBatch reset = receiver.expectMsgClass(NotificationBatch.class);
+        assertTrue(reset.getEpoch() > first.getEpoch());
+        assertEquals(1, reset.getSequence());
+
+        // Only the batch of the new epoch is retransmitted
+        final NotificationBatch retransmitted = receiver.expectMsgClass(NotificationBatch.class);
+        assertEquals(reset.getEpoch(), retransmitted.getEpoch());
+        assertEquals(1, retransmitted.getSequence());
+    }
+}
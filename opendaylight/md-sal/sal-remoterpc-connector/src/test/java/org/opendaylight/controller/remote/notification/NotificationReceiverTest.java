@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.JavaTestKit;
+import akka.testkit.TestActorRef;
+import com.typesafe.config.ConfigFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotificationPublishService;
+import org.opendaylight.controller.remote.notification.messages.NotificationBatch;
+import org.opendaylight.controller.remote.notification.messages.NotificationBatchAck;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class NotificationReceiverTest {
+    private static final QName TEST_NOTIFICATION = QName.create("urn:test", "2015-06-12", "test-notification");
+
+    private static ActorSystem system;
+
+    private DOMNotificationPublishService publishService;
+    private ActorRef receiver;
+    private JavaTestKit forwarder;
+
+    @BeforeClass
+    public static void setup() {
+        system = ActorSystem.create("opendaylight-rpc", ConfigFactory.load().getConfig("unit-test"));
+    }
+
+    @AfterClass
+    public static void teardown() {
+        JavaTestKit.shutdownActorSystem(system);
+    }
+
+    @Before
+    public void setUp() {
+        publishService = mock(DOMNotificationPublishService.class);
+        receiver = TestActorRef.create(system, NotificationReceiver.props(publishService));
+        forwarder = new JavaTestKit(system);
+    }
+
+    private static DOMNotification notification() {
+        return new RemoteDOMNotification(SchemaPath.create(true, TEST_NOTIFICATION),
+                Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TEST_NOTIFICATION)).build());
+    }
+
+    private void send(final long epoch, final long sequence, final DOMNotification... notifications) {
+        receiver.tell(new NotificationBatch(epoch, sequence, Arrays.asList(notifications)), forwarder.getRef());
+    }
+
+    private void expectAck(final long epoch, final long sequence) {
+        NotificationBatchAck ack = forwarder.expectMsgClass(NotificationBatchAck.class);
+        assertEquals(epoch, ack.getEpoch());
+        assertEquals(sequence, ack.getSequence());
+    }
+
+    @Test
+    public void testOrderedDelivery() throws Exception {
+        DOMNotification n1 = notification();
+        DOMNotification n2 = notification();
+        DOMNotification n3 = notification();
+        DOMNotification n4 = notification();
+
+        send(1, 1, n1, n2);
+        expectAck(1, 1);
+
+        // Batch 2 is missing, so batch 3 is discarded
+        send(1, 3, n4);
+        forwarder.expectNoMsg(JavaTestKit.duration("100 milliseconds"));
+        verify(publishService, never()).offerNotification(n4);
+
+        // The forwarder retransmits both batches, the first one is delivered
+        send(1, 2, n3);
+        expectAck(1, 2);
+        send(1, 3, n4);
+        expectAck(1, 3);
+
+        // Duplicates are acknowledged again, but not delivered
+        send(1, 2, n3);
+        expectAck(1, 3);
+
+        InOrder inOrder = inOrder(publishService);
+        inOrder.verify(publishService).offerNotification(n1);
+        inOrder.verify(publishService).offerNotification(n2);
+        inOrder.verify(publishService).offerNotification(n3);
+        inOrder.verify(publishService).offerNotification(n4);
+        verify(publishService, times(1)).offerNotification(n3);
+        verify(publishService, never()).putNotification(any(DOMNotification.class));
+    }
+
+    @Test
+    public void testNewEpoch() throws Exception {
+        DOMNotification n1 = notification();
+        DOMNotification n2 = notification();
+
+        send(1, 1, n1);
+        expectAck(1, 1);
+
+        // A new epoch must start with its first batch
+        send(2, 2, n2);
+        forwarder.expectNoMsg(JavaTestKit.duration("100 milliseconds"));
+        send(2, 1, n2);
+        expectAck(2, 1);
+
+        // Batches of the old epoch are ignored
+        send(1, 2, n1);
+        forwarder.expectNoMsg(JavaTestKit.duration("100 milliseconds"));
+
+        verify(publishService, times(1)).offerNotification(n1);
+        verify(publishService, times(1)).offerNotification(n2);
+    }
+
+    @Test
+    public void testOrderedRetryWhenBusy() throws Exception {
+        DOMNotification n1 = notification();
+        DOMNotification n2 = notification();
+        DOMNotification n3 = notification();
+        doReturn(DOMNotificationPublishService.REJECTED).doReturn(null).when(publishService).offerNotification(n2);
+
+        // n2 is rejected, the receiver retries it without publishing n1 again and acknowledges once done
+        send(1, 1, n1, n2);
+        expectAck(1, 1);
+
+        // A retransmitted duplicate is acknowledged without publishing anything again
+        send(1, 1, n1, n2);
+        expectAck(1, 1);
+        send(1, 2, n3);
+        expectAck(1, 2);
+
+        InOrder inOrder = inOrder(publishService);
+        inOrder.verify(publishService).offerNotification(n1);
+        inOrder.verify(publishService, times(2)).offerNotification(n2);
+        inOrder.verify(publishService).offerNotification(n3);
+        verify(publishService, times(1)).offerNotification(n1);
+        verify(publishService, never()).putNotification(any(DOMNotification.class));
+    }
+
+    @Test
+    public void testUnorderedDelivery() throws Exception {
+        DOMNotification n1 = notification();
+        DOMNotification n2 = notification();
+        doReturn(DOMNotificationPublishService.REJECTED).when(publishService).offerNotification(any(DOMNotification.class));
+
+        receiver.tell(new NotificationBatch(0, NotificationBatch.UNORDERED, Arrays.asList(n1, n2)), forwarder.getRef());
+        receiver.tell(new NotificationBatch(0, NotificationBatch.UNORDERED, Collections.singletonList(n1)),
+                forwarder.getRef());
+
+        forwarder.expectNoMsg(JavaTestKit.duration("100 milliseconds"));
+        verify(publishService, times(2)).offerNotification(n1);
+        verify(publishService).offerNotification(n2);
+        verify(publishService, never()).putNotification(any(DOMNotification.class));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification.messages;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
+import org.opendaylight.controller.remote.notification.RemoteDOMNotification;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class NotificationBatchTest {
+    static final QName TEST_NOTIFICATION = QName.create("urn:test", "2015-06-12", "test-notification");
+    static final QName OTHER_NOTIFICATION = QName.create(TEST_NOTIFICATION, "other-notification");
+    static final QName TEST_DATA = QName.create(TEST_NOTIFICATION, "data");
+
+    static DOMNotification makeNotification(final QName type, final String data) {
+        ContainerNode body = Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(type))
+                .withChild(ImmutableNodes.leafNode(TEST_DATA, data)).build();
+        return new RemoteDOMNotification(SchemaPath.create(true, type), body);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T roundTrip(final T message) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(message);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        List<DOMNotification> notifications = Arrays.asList(makeNotification(TEST_NOTIFICATION, "foo"),
+                makeNotification(OTHER_NOTIFICATION, "bar"), makeNotification(TEST_NOTIFICATION, "baz"));
+        NotificationBatch actual = roundTrip(new NotificationBatch(3, 7, notifications));
+
+        assertEquals(3, actual.getEpoch());
+        assertEquals(7, actual.getSequence());
+        assertTrue(actual.isOrdered());
+        assertEquals(notifications.size(), actual.getNotifications().size());
+        for(int i = 0; i < notifications.size(); ++i) {
+            DOMNotification expected = notifications.get(i);
+            assertEquals(expected.getType(), actual.getNotifications().get(i).getType());
+            assertEquals(expected.getBody(), actual.getNotifications().get(i).getBody());
+            assertTrue(actual.getNotifications().get(i) instanceof RemoteDOMNotification);
+        }
+    }
+
+    @Test
+    public void testUnordered() throws Exception {
+        NotificationBatch actual = roundTrip(new NotificationBatch(0, NotificationBatch.UNORDERED,
+                Arrays.asList(makeNotification(TEST_NOTIFICATION, "foo"))));
+
+        assertFalse(actual.isOrdered());
+        assertEquals(1, actual.getNotifications().size());
+    }
+}
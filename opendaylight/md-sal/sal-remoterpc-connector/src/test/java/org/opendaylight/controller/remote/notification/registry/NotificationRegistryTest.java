@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.opendaylight.controller.remote.notification.registry.SubscriptionIndexTest.TYPE1;
+import static org.opendaylight.controller.remote.notification.registry.SubscriptionIndexTest.TYPE2;
+import static org.opendaylight.controller.remote.notification.registry.SubscriptionIndexTest.TYPE3;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.testkit.JavaTestKit;
+import akka.testkit.TestActorRef;
+import com.google.common.collect.ImmutableSet;
+import com.typesafe.config.ConfigFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.remote.notification.ForwardingNotificationListener;
+import org.opendaylight.controller.remote.notification.registry.NotificationRegistry.Messages.SetLocalReceiver;
+import org.opendaylight.controller.remote.notification.registry.NotificationRegistry.Messages.UpdateSubscriptions;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Bucket;
+import org.opendaylight.controller.remote.rpc.registry.gossip.BucketImpl;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Messages.BucketStoreMessages.UpdateRemoteBuckets;
+
+public class NotificationRegistryTest {
+    private static final Address MEMBER2 = new Address("akka.tcp", "opendaylight-rpc", "127.0.0.2", 2550);
+    private static final Address MEMBER3 = new Address("akka.tcp", "opendaylight-rpc", "127.0.0.3", 2550);
+
+    private static ActorSystem system;
+
+    private SubscriptionIndex index;
+    private ForwardingNotificationListener forwardingListener;
+    private TestActorRef<NotificationRegistry> registry;
+
+    @BeforeClass
+    public static void setup() {
+        system = ActorSystem.create("opendaylight-rpc", ConfigFactory.load().getConfig("unit-test"));
+    }
+
+    @AfterClass
+    public static void teardown() {
+        JavaTestKit.shutdownActorSystem(system);
+    }
+
+    @Before
+    public void setUp() {
+        index = new SubscriptionIndex();
+        forwardingListener = mock(ForwardingNotificationListener.class);
+        registry = TestActorRef.create(system, NotificationRegistry.props(index, forwardingListener));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void updateRemoteBucket(final Address member, final BucketImpl<NotificationSubscriptions> bucket) {
+        final Map<Address, Bucket> buckets = new HashMap<>();
+        buckets.put(member, new BucketImpl<>(bucket));
+        registry.tell(new UpdateRemoteBuckets(buckets), ActorRef.noSender());
+    }
+
+    @Test
+    public void testRemoteSubscriptions() {
+        final ActorRef receiver2 = new JavaTestKit(system).getRef();
+        final ActorRef receiver3 = new JavaTestKit(system).getRef();
+
+        final BucketImpl<NotificationSubscriptions> bucket2 = new BucketImpl<>(
+                new NotificationSubscriptions(receiver2, ImmutableSet.of(TYPE1)));
+        updateRemoteBucket(MEMBER2, bucket2);
+
+        assertEquals(Collections.singletonList(receiver2), index.getReceivers(TYPE1));
+        verify(forwardingListener).updateRegistration(ImmutableSet.of(TYPE1));
+
+        // Another member subscribing to the same type does not change the local registration
+        updateRemoteBucket(MEMBER3, new BucketImpl<>(new NotificationSubscriptions(receiver3, ImmutableSet.of(TYPE1))));
+
+        assertEquals(ImmutableSet.of(receiver2, receiver3), index.getReceivers());
+        verify(forwardingListener, times(1)).updateRegistration(ImmutableSet.of(TYPE1));
+
+        // A newer bucket replaces the member's subscriptions
+        bucket2.setData(new NotificationSubscriptions(receiver2, ImmutableSet.of(TYPE2)));
+        updateRemoteBucket(MEMBER2, bucket2);
+
+        assertEquals(Collections.singletonList(receiver2), index.getReceivers(TYPE2));
+        assertEquals(Collections.singletonList(receiver3), index.getReceivers(TYPE1));
+        verify(forwardingListener).updateRegistration(ImmutableSet.of(TYPE1, TYPE2));
+        verifyNoMoreInteractions(forwardingListener);
+    }
+
+    @Test
+    public void testLocalSubscriptions() {
+        final ActorRef receiver = new JavaTestKit(system).getRef();
+
+        registry.tell(new UpdateSubscriptions(ImmutableSet.of(TYPE3)), ActorRef.noSender());
+        registry.tell(new SetLocalReceiver(receiver), ActorRef.noSender());
+
+        final NotificationSubscriptions local = registry.underlyingActor().getLocalBucket().getData();
+        assertSame(receiver, local.getReceiver());
+        assertEquals(ImmutableSet.of(TYPE3), local.getTypes());
+
+        // Local subscriptions are published to other members, they are not forwarded locally
+        assertEquals(ImmutableSet.of(), index.getTypes());
+        verifyNoMoreInteractions(forwardingListener);
+    }
+}
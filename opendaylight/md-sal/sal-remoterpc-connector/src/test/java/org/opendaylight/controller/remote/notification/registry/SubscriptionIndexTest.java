@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.notification.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.JavaTestKit;
+import com.google.common.collect.ImmutableSet;
+import com.typesafe.config.ConfigFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class SubscriptionIndexTest {
+    static final QName TEST_NOTIFICATION = QName.create("urn:test", "2015-06-12", "test-notification");
+    static final SchemaPath TYPE1 = SchemaPath.create(true, QName.create(TEST_NOTIFICATION, "type1"));
+    static final SchemaPath TYPE2 = SchemaPath.create(true, QName.create(TEST_NOTIFICATION, "type2"));
+    static final SchemaPath TYPE3 = SchemaPath.create(true, QName.create(TEST_NOTIFICATION, "type3"));
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void setup() {
+        system = ActorSystem.create("opendaylight-rpc", ConfigFactory.load().getConfig("unit-test"));
+    }
+
+    @AfterClass
+    public static void teardown() {
+        JavaTestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void testUpdate() {
+        ActorRef receiver1 = new JavaTestKit(system).getRef();
+        ActorRef receiver2 = new JavaTestKit(system).getRef();
+
+        SubscriptionIndex index = new SubscriptionIndex();
+        assertTrue(index.getReceivers(TYPE1).isEmpty());
+        assertTrue(index.getTypes().isEmpty());
+
+        index.update(Arrays.asList(
+                new NotificationSubscriptions(receiver1, ImmutableSet.of(TYPE1, TYPE2)),
+                new NotificationSubscriptions(receiver2, ImmutableSet.of(TYPE2)),
+                // The member's receiver is not known yet
+                new NotificationSubscriptions(null, ImmutableSet.of(TYPE3))));
+
+        assertEquals(Collections.singletonList(receiver1), index.getReceivers(TYPE1));
+        assertEquals(Arrays.asList(receiver1, receiver2), index.getReceivers(TYPE2));
+        assertTrue(index.getReceivers(TYPE3).isEmpty());
+        assertEquals(ImmutableSet.of(TYPE1, TYPE2), index.getTypes());
+        assertEquals(ImmutableSet.of(receiver1, receiver2), index.getReceivers());
+
+        // Each update replaces the previous snapshot
+        index.update(Collections.singletonList(new NotificationSubscriptions(receiver2, ImmutableSet.of(TYPE3))));
+
+        assertTrue(index.getReceivers(TYPE1).isEmpty());
+        assertEquals(Collections.singletonList(receiver2), index.getReceivers(TYPE3));
+        assertEquals(ImmutableSet.of(TYPE3), index.getTypes());
+        assertEquals(ImmutableSet.of(receiver2), index.getReceivers());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.messages;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcIdentifier;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class ExecuteRpcTest {
+    static final QName TEST_RPC = QName.create("urn:test", "2015-06-12", "test-rpc");
+    static final QName TEST_INPUT = QName.create(TEST_RPC, "input");
+    static final QName TEST_DATA = QName.create(TEST_RPC, "data");
+    static final DOMRpcIdentifier TEST_RPC_ID = DOMRpcIdentifier.create(SchemaPath.create(true, TEST_RPC),
+            YangInstanceIdentifier.create(new NodeIdentifier(TEST_RPC)));
+
+    static ContainerNode makeContainer(final String data) {
+        return Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TEST_INPUT))
+                .withChild(ImmutableNodes.leafNode(TEST_DATA, data)).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T roundTrip(final T message) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(message);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ContainerNode input = makeContainer("foo");
+        ExecuteRpc actual = roundTrip(ExecuteRpc.from(TEST_RPC_ID, input));
+
+        assertEquals(ExecuteRpc.STREAMED_VERSION, actual.getVersion());
+        assertEquals(TEST_RPC, actual.getRpc());
+        assertEquals(input, actual.getInputNormalizedNode());
+    }
+
+    @Test
+    public void testSerializationWithNullInput() throws Exception {
+        ExecuteRpc actual = roundTrip(ExecuteRpc.from(TEST_RPC_ID, null));
+
+        assertEquals(TEST_RPC, actual.getRpc());
+        assertNull(actual.getInputNormalizedNode());
+    }
+
+    @Test
+    public void testLegacySerialization() throws Exception {
+        ContainerNode input = makeContainer("foo");
+        ExecuteRpc actual = roundTrip(new ExecuteRpc(input, TEST_RPC, ExecuteRpc.LEGACY_VERSION));
+
+        assertEquals(ExecuteRpc.LEGACY_VERSION, actual.getVersion());
+        assertEquals(TEST_RPC, actual.getRpc());
+        assertEquals(input, actual.getInputNormalizedNode());
+    }
+}
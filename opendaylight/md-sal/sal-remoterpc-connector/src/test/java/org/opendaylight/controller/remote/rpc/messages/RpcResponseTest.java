@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.messages;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+
+public class RpcResponseTest {
+
+    @Test
+    public void testSerialization() throws Exception {
+        ContainerNode output = ExecuteRpcTest.makeContainer("bar");
+        RpcResponse actual = ExecuteRpcTest.roundTrip(new RpcResponse(output));
+
+        assertEquals(output, actual.getResultNormalizedNode());
+    }
+
+    @Test
+    public void testSerializationWithNullOutput() throws Exception {
+        RpcResponse actual = ExecuteRpcTest.roundTrip(new RpcResponse(null));
+
+        assertNull(actual.getResultNormalizedNode());
+    }
+
+    @Test
+    public void testResponseToLegacyRequest() throws Exception {
+        ExecuteRpc request = new ExecuteRpc(null, ExecuteRpcTest.TEST_RPC, ExecuteRpc.LEGACY_VERSION);
+        ContainerNode output = ExecuteRpcTest.makeContainer("bar");
+        RpcResponse actual = ExecuteRpcTest.roundTrip(RpcResponse.forRequest(request, output));
+
+        assertEquals(output, actual.getResultNormalizedNode());
+
+        actual = ExecuteRpcTest.roundTrip(RpcResponse.forRequest(request, null));
+        assertNull(actual.getResultNormalizedNode());
+    }
+}
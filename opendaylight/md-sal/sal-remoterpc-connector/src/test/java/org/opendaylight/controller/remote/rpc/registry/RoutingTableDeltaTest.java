@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.remote.rpc.registry;
+
+import akka.actor.ActorRef;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashSet;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.controller.remote.rpc.RouteIdentifierImpl;
+import org.opendaylight.controller.remote.rpc.registry.gossip.Delta;
+import org.opendaylight.controller.remote.rpc.registry.gossip.DeltaBucket;
+import org.opendaylight.controller.sal.connector.api.RpcRouter;
+import org.opendaylight.yangtools.yang.common.QName;
+
+public class RoutingTableDeltaTest {
+
+    private static final RpcRouter.RouteIdentifier<?, ?, ?> ROUTE1 = routeId("rpc1");
+    private static final RpcRouter.RouteIdentifier<?, ?, ?> ROUTE2 = routeId("rpc2");
+    private static final RpcRouter.RouteIdentifier<?, ?, ?> ROUTE3 = routeId("rpc3");
+
+    @Test
+    public void testApplyTo() {
+        ActorRef router = Mockito.mock(ActorRef.class);
+
+        RoutingTable table = new RoutingTable();
+        table.addRoute(ROUTE1, 1L);
+        table.addRoute(ROUTE2, 2L);
+
+        RoutingTableDelta delta = new RoutingTableDelta(router);
+        delta.removeRoute(ROUTE1);
+        delta.addRoute(ROUTE3, 3L);
+        Assert.assertEquals(2, delta.size());
+
+        delta.applyTo(table);
+
+        Assert.assertSame(router, table.getRouter());
+        Assert.assertEquals(new HashSet<>(Arrays.asList(ROUTE2, ROUTE3)), table.getRoutes());
+        Assert.assertEquals(Long.valueOf(3L), table.getUpdateTime(ROUTE3));
+    }
+
+    @Test
+    public void testLastChangeToRouteWins() {
+        RoutingTableDelta delta = new RoutingTableDelta(null);
+        delta.addRoute(ROUTE1, 1L);
+        delta.removeRoute(ROUTE1);
+        delta.removeRoute(ROUTE2);
+        delta.addRoute(ROUTE2, 2L);
+        Assert.assertEquals(2, delta.size());
+
+        RoutingTable table = new RoutingTable();
+        table.addRoute(ROUTE1, 0L);
+        delta.applyTo(table);
+
+        Assert.assertFalse(table.contains(ROUTE1));
+        Assert.assertEquals(Long.valueOf(2L), table.getUpdateTime(ROUTE2));
+    }
+
+    @Test
+    public void testDeltaBucketAppliesChangesToCopy() {
+        ActorRef router = Mockito.mock(ActorRef.class);
+
+        RoutingTable base = new RoutingTable();
+        base.setRouter(router);
+        base.addRoute(ROUTE1, 1L);
+
+        RoutingTableDelta first = new RoutingTableDelta(router);
+        first.addRoute(ROUTE2, 2L);
+        RoutingTableDelta second = new RoutingTableDelta(router);
+        second.removeRoute(ROUTE1);
+        second.addRoute(ROUTE3, 3L);
+
+        DeltaBucket<RoutingTable> bucket = new DeltaBucket<>(1L, 3L,
+                Arrays.<Delta<RoutingTable>>asList(first, second));
+        Assert.assertEquals(3, bucket.size());
+
+        RoutingTable table = bucket.applyTo(base);
+
+        Assert.assertNotSame(base, table);
+        Assert.assertEquals(new HashSet<>(Arrays.asList(ROUTE2, ROUTE3)), table.getRoutes());
+        Assert.assertEquals(new HashSet<>(Arrays.asList(ROUTE1)), base.getRoutes());
+    }
+
+    private static RpcRouter.RouteIdentifier<?, ?, ?> routeId(String name) {
+        return new RouteIdentifierImpl(null, new QName(URI.create("/mockrpc"), name), null);
+    }
+}
@@ -131,6 +131,34 @@ public class RpcRegistryTest {
 
     }
 
+    @Test
+    public void testRouteIndexUpdatedOnSameNode() throws Exception {
+        final JavaTestKit mockBroker = new JavaTestKit(node1);
+
+        RouteIndex routeIndex = new RouteIndex();
+        ActorRef registry = node1.actorOf(RpcRegistry.props(routeIndex));
+        try {
+            registry.tell(new SetLocalRouter(mockBroker.getRef()), mockBroker.getRef());
+
+            List<RpcRouter.RouteIdentifier<?, ?, ?>> addedRouteIds = createRouteIds();
+            registry.tell(new AddOrUpdateRoutes(addedRouteIds), mockBroker.getRef());
+
+            // Wait for the registry to process the previous messages
+            retrieveVersions(registry, mockBroker);
+
+            List<Pair<ActorRef, Long>> routers = routeIndex.findRouters(addedRouteIds.get(0));
+            Assert.assertEquals("findRouters size", 1, routers.size());
+            Assert.assertEquals("Router", mockBroker.getRef(), routers.get(0).first());
+
+            registry.tell(new RemoveRoutes(addedRouteIds), mockBroker.getRef());
+            retrieveVersions(registry, mockBroker);
+
+            Assert.assertEquals("findRouters size", 0, routeIndex.findRouters(addedRouteIds.get(0)).size());
+        } finally {
+            node1.stop(registry);
+        }
+    }
+
     /**
      * Three node cluster. 1. Register rpc on 1 node, ensure 2nd node gets updated 2. Remove rpc on
      * 1 node, ensure 2nd node gets updated
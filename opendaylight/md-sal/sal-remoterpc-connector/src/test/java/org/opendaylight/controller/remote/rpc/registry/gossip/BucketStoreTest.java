@@ -12,8 +12,12 @@ import akka.actor.Address;
 import akka.actor.Props;
 import akka.testkit.TestActorRef;
 import com.typesafe.config.ConfigFactory;
+import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -22,6 +26,8 @@ import org.opendaylight.controller.remote.rpc.TerminationMonitor;
 
 public class BucketStoreTest {
 
+    private static final Address OWNER = new Address("tcp", "owner");
+
     private static ActorSystem system;
 
     @BeforeClass
@@ -125,6 +131,195 @@ public class BucketStoreTest {
 
     }
 
+    /**
+     * Given a remote node whose copy of the local bucket is at a retained version
+     * Should send only the changes since that version, which the remote node applies to its copy
+     */
+    @Test
+    public void testDeltaBucketApplied() {
+        BucketStore<TestData> owner = createStore();
+        BucketStore<TestData> receiver = createStore();
+
+        owner.updateLocalBucket(new TestData());
+        Long baseVersion = owner.getLocalBucket().getVersion();
+        receiver.receiveUpdateRemoteBuckets(gossip(owner, null));
+        TestData baseData = receiver.getRemoteBuckets().get(OWNER).getData();
+
+        addEntry(owner, "a");
+        addEntry(owner, "b");
+
+        Map<Address, Bucket> buckets = gossip(owner, baseVersion);
+        Bucket<?> bucket = buckets.get(OWNER);
+        Assert.assertTrue("Expected a delta bucket", bucket instanceof DeltaBucket);
+        Assert.assertEquals(baseVersion, ((DeltaBucket<?>) bucket).getBaseVersion());
+        Assert.assertEquals(owner.getLocalBucket().getVersion(), bucket.getVersion());
+        Assert.assertEquals(2, ((DeltaBucket<?>) bucket).size());
+        Assert.assertEquals(1, owner.getGossipStats().getDeltaBucketsSent());
+        Assert.assertEquals(2, owner.getGossipStats().getDeltaEntriesSent());
+
+        receiver.receiveUpdateRemoteBuckets(buckets);
+
+        Bucket<TestData> updated = receiver.getRemoteBuckets().get(OWNER);
+        Assert.assertEquals(owner.getLocalBucket().getVersion(), updated.getVersion());
+        Assert.assertEquals(owner.getLocalBucket().getVersion(), receiver.getVersions().get(OWNER));
+        Assert.assertEquals(owner.getLocalBucket().getData().entries, updated.getData().entries);
+
+        // The previous copy is not modified
+        Assert.assertTrue(baseData.entries.isEmpty());
+        Assert.assertNotSame(owner.getLocalBucket().getData(), updated.getData());
+    }
+
+    /**
+     * Given a delta bucket whose base version is not the version of the local copy
+     * Should discard it and keep the local copy
+     */
+    @Test
+    public void testStaleAndOutOfOrderDeltaBucketsDiscarded() {
+        BucketStore<TestData> owner = createStore();
+        BucketStore<TestData> receiver = createStore();
+
+        owner.updateLocalBucket(new TestData());
+        Long v0 = owner.getLocalBucket().getVersion();
+        receiver.receiveUpdateRemoteBuckets(gossip(owner, null));
+
+        addEntry(owner, "a");
+        Long v1 = owner.getLocalBucket().getVersion();
+        Map<Address, Bucket> deltaSinceV0 = gossip(owner, v0);
+
+        addEntry(owner, "b");
+        Map<Address, Bucket> deltaSinceV1 = gossip(owner, v1);
+
+        // Out of order - the receiver is still at v0
+        receiver.receiveUpdateRemoteBuckets(deltaSinceV1);
+        Assert.assertEquals(v0, receiver.getVersions().get(OWNER));
+        Assert.assertEquals(1, receiver.getGossipStats().getDeltaBucketsDiscarded());
+
+        receiver.receiveUpdateRemoteBuckets(deltaSinceV0);
+        Assert.assertEquals(v1, receiver.getVersions().get(OWNER));
+
+        // Stale - the receiver is already at v1
+        receiver.receiveUpdateRemoteBuckets(gossip(owner, v0));
+        Assert.assertEquals(v1, receiver.getVersions().get(OWNER));
+        Assert.assertEquals(2, receiver.getGossipStats().getDeltaBucketsDiscarded());
+        Assert.assertEquals(Collections.singleton("a"), receiver.getRemoteBuckets().get(OWNER).getData().entries);
+
+        receiver.receiveUpdateRemoteBuckets(deltaSinceV1);
+        Assert.assertEquals(owner.getLocalBucket().getVersion(), receiver.getVersions().get(OWNER));
+        Assert.assertEquals(owner.getLocalBucket().getData().entries,
+                receiver.getRemoteBuckets().get(OWNER).getData().entries);
+    }
+
+    /**
+     * Given a delta bucket for a node the receiver has no copy of
+     * Should discard it
+     */
+    @Test
+    public void testDeltaBucketForUnknownBucketDiscarded() {
+        BucketStore<TestData> owner = createStore();
+        BucketStore<TestData> receiver = createStore();
+
+        owner.updateLocalBucket(new TestData());
+        Long v0 = owner.getLocalBucket().getVersion();
+        addEntry(owner, "a");
+
+        receiver.receiveUpdateRemoteBuckets(gossip(owner, v0));
+        Assert.assertFalse(receiver.getRemoteBuckets().containsKey(OWNER));
+        Assert.assertEquals(1, receiver.getGossipStats().getDeltaBucketsDiscarded());
+    }
+
+    /**
+     * Given the versions a remote node reports
+     * Should send the whole bucket unless all changes since the reported version are retained
+     */
+    @Test
+    public void testKnownVersionsInGetBucketsByMembers() {
+        BucketStore<TestData> owner = createStore();
+        owner.updateLocalBucket(new TestData());
+        Long v0 = owner.getLocalBucket().getVersion();
+        addEntry(owner, "a");
+
+        // Unknown version
+        Assert.assertTrue(gossip(owner, null).get(OWNER) instanceof BucketImpl);
+
+        // Version the owner never had
+        Assert.assertTrue(gossip(owner, v0 - 1).get(OWNER) instanceof BucketImpl);
+
+        // Already up to date
+        Assert.assertTrue(gossip(owner, owner.getLocalBucket().getVersion()).get(OWNER) instanceof BucketImpl);
+
+        Assert.assertTrue(gossip(owner, v0).get(OWNER) instanceof DeltaBucket);
+
+        // Remote buckets are returned as they are, only the local bucket is sent as delta
+        Address remote = new Address("tcp", "system1");
+        Map<Address, Bucket> remoteBuckets = new HashMap<>();
+        remoteBuckets.put(remote, new BucketImpl<>(new TestData()));
+        owner.receiveUpdateRemoteBuckets(remoteBuckets);
+
+        Set<Address> members = new HashSet<>();
+        members.add(remote);
+        Map<Address, Long> knownVersions = new HashMap<>();
+        knownVersions.put(remote, 0L);
+        Map<Address, Bucket> buckets = owner.getBucketsByMembers(members, knownVersions);
+        Assert.assertTrue(buckets.get(remote) instanceof BucketImpl);
+        Assert.assertFalse(buckets.containsKey(system.provider().getDefaultAddress()));
+
+        // A change without a delta drops the retained changes
+        owner.updateLocalBucket(owner.getLocalBucket().getData().copy());
+        Assert.assertTrue(gossip(owner, v0).get(OWNER) instanceof BucketImpl);
+    }
+
+    /**
+     * Given more local changes than are retained
+     * Should send the whole bucket to nodes at a version that is no longer retained
+     */
+    @Test
+    public void testLocalChangesOverflow() {
+        BucketStore<TestData> owner = createStore();
+        owner.updateLocalBucket(new TestData());
+        Long v0 = owner.getLocalBucket().getVersion();
+
+        addEntry(owner, "first");
+        Long v1 = owner.getLocalBucket().getVersion();
+        for (int i = 0; i < 127; i++) {
+            addEntry(owner, "entry" + i);
+        }
+
+        // All 128 changes are retained
+        Assert.assertTrue(gossip(owner, v0).get(OWNER) instanceof DeltaBucket);
+
+        addEntry(owner, "last");
+
+        // The first change has been dropped
+        Assert.assertTrue(gossip(owner, v0).get(OWNER) instanceof BucketImpl);
+        Bucket<?> bucket = gossip(owner, v1).get(OWNER);
+        Assert.assertTrue(bucket instanceof DeltaBucket);
+        Assert.assertEquals(128, ((DeltaBucket<?>) bucket).size());
+    }
+
+    private static void addEntry(BucketStore<TestData> store, String entry) {
+        TestData data = store.getLocalBucket().getData().copy();
+        data.entries.add(entry);
+        store.updateLocalBucket(data, new AddEntry(entry));
+    }
+
+    /**
+     * Collects the store's local bucket as it would be gossiped to a node which has the given version of it.
+     * The bucket is keyed by {@link #OWNER}, as all test stores share the same self address.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Map<Address, Bucket> gossip(BucketStore<TestData> store, Long knownVersion) {
+        Map<Address, Long> knownVersions = new HashMap<>();
+        if (knownVersion != null) {
+            knownVersions.put(system.provider().getDefaultAddress(), knownVersion);
+        }
+
+        Address self = system.provider().getDefaultAddress();
+        Map<Address, Bucket> buckets = store.getBucketsByMembers(Collections.singleton(self), knownVersions);
+        Map<Address, Bucket> gossiped = new HashMap<>();
+        gossiped.put(OWNER, buckets.get(self));
+        return gossiped;
+    }
+
     /**
      * Create BucketStore actor and returns the underlying instance of BucketStore class.
      *
@@ -132,7 +327,40 @@ public class BucketStoreTest {
      */
     private static BucketStore createStore(){
         final Props props = Props.create(BucketStore.class);
-        final TestActorRef<BucketStore> testRef = TestActorRef.create(system, props, "testStore");
+        final TestActorRef<BucketStore> testRef = TestActorRef.create(system, props);
         return testRef.underlyingActor();
     }
+
+    private static final class TestData implements Copier<TestData>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final Set<String> entries = new HashSet<>();
+
+        @Override
+        public TestData copy() {
+            TestData copy = new TestData();
+            copy.entries.addAll(entries);
+            return copy;
+        }
+    }
+
+    private static final class AddEntry implements Delta<TestData> {
+        private static final long serialVersionUID = 1L;
+
+        private final String entry;
+
+        AddEntry(String entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public void applyTo(TestData data) {
+            data.entries.add(entry);
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+    }
 }
\ No newline at end of file
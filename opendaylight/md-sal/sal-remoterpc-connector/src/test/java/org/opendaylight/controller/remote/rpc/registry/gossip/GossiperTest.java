@@ -7,12 +7,15 @@
  */
 package org.opendaylight.controller.remote.rpc.registry.gossip;
 
+import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Address;
 import akka.actor.Props;
 import akka.testkit.TestActorRef;
 import com.typesafe.config.ConfigFactory;
+import org.apache.commons.lang.SerializationUtils;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -21,13 +24,17 @@ import org.opendaylight.controller.remote.rpc.TerminationMonitor;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.anySetOf;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -114,6 +121,59 @@ public class GossiperTest {
         verify(mockGossiper, times(0)).updateRemoteBuckets(anyMap());
     }
 
+    @Test
+    public void testProcessRemoteStatus_WhenRemoteSupportsDeltasShouldSendKnownVersions(){
+        Address remote = new Address("tcp", "member");
+        Map<Address, Long> remoteVersions = new HashMap<>();
+        remoteVersions.put(remote, 1L);
+        Map<Address, Long> localVersions = new HashMap<>(remoteVersions);
+        Address self = new Address("tcp", "self");
+        localVersions.put(self, 2L);
+        remoteVersions.put(self, 1L);
+
+        ActorRef sender = mock(ActorRef.class);
+        doNothing().when(mockGossiper).sendGossipTo(any(ActorRef.class), anySetOf(Address.class), anyMap());
+        mockGossiper.processRemoteStatus(sender, new GossipStatus(remote, remoteVersions), localVersions);
+        verify(mockGossiper).sendGossipTo(sender, Collections.singleton(self), remoteVersions);
+    }
+
+    @Test
+    public void testProcessRemoteStatus_WhenRemoteDoesNotSupportDeltasShouldSendWholeBuckets(){
+        Address remote = new Address("tcp", "member");
+        Address self = new Address("tcp", "self");
+        Map<Address, Long> remoteVersions = new HashMap<>();
+        remoteVersions.put(self, 1L);
+        Map<Address, Long> localVersions = new HashMap<>();
+        localVersions.put(self, 2L);
+
+        // A member without delta support does not report a gossip version
+        GossipStatus status = new GossipStatus(remote, remoteVersions, GossipStatus.BASE_VERSION);
+        Assert.assertFalse(status.isDeltaBucketSupported());
+
+        ActorRef sender = mock(ActorRef.class);
+        doNothing().when(mockGossiper).sendGossipTo(any(ActorRef.class), anySetOf(Address.class), anyMap());
+        mockGossiper.processRemoteStatus(sender, status, localVersions);
+        verify(mockGossiper).sendGossipTo(sender, Collections.singleton(self),
+                Collections.<Address, Long>emptyMap());
+        verify(mockGossiper, never()).sendGossipTo(sender, Collections.singleton(self), remoteVersions);
+    }
+
+    @Test
+    public void testGossipStatusVersionSerialization(){
+        Map<Address, Long> versions = new HashMap<>();
+        versions.put(new Address("tcp", "member"), 1L);
+
+        GossipStatus current = (GossipStatus) SerializationUtils.clone(
+                new GossipStatus(new Address("tcp", "member"), versions));
+        Assert.assertEquals(GossipStatus.CURRENT_VERSION, current.getVersion());
+        Assert.assertTrue(current.isDeltaBucketSupported());
+
+        GossipStatus base = (GossipStatus) SerializationUtils.clone(
+                new GossipStatus(new Address("tcp", "member"), versions, GossipStatus.BASE_VERSION));
+        Assert.assertEquals(GossipStatus.BASE_VERSION, base.getVersion());
+        Assert.assertEquals(versions, base.getVersions());
+    }
+
     /**
      * Create Gossiper actor and return the underlying instance of Gossiper class.
      *
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2015 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.controller.remote.rpc.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.japi.Pair;
+import akka.testkit.JavaTestKit;
+import akka.testkit.TestProbe;
+import com.typesafe.config.ConfigFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opendaylight.controller.remote.rpc.utils.RouterLoadTracker.RouterLoad;
+
+public class LoadAwareRoutingLogicTest {
+
+  static ActorSystem system;
+
+  private ActorRef actor1;
+  private ActorRef actor2;
+  private ActorRef actor3;
+  private List<Pair<ActorRef, Long>> pairList;
+  private RouterLoadTracker tracker;
+
+  @BeforeClass
+  public static void setup() throws InterruptedException {
+    system = ActorSystem.create("opendaylight-rpc", ConfigFactory.load().getConfig("odl-cluster-rpc"));
+  }
+
+  @AfterClass
+  public static void teardown() {
+    JavaTestKit.shutdownActorSystem(system);
+    system = null;
+  }
+
+  @Before
+  public void setUp() {
+    actor1 = new TestProbe(system).ref();
+    actor2 = new TestProbe(system).ref();
+    actor3 = new TestProbe(system).ref();
+    pairList = new ArrayList<>();
+    pairList.add(new Pair<ActorRef, Long>(actor1, 1000L));
+    pairList.add(new Pair<ActorRef, Long>(actor2, 3000L));
+    pairList.add(new Pair<ActorRef, Long>(actor3, 2000L));
+    tracker = new RouterLoadTracker();
+  }
+
+  @Test
+  public void testLeastOutstandingRequests() {
+    RouterSelector selector = new LeastOutstandingRequestsRoutingLogic(tracker);
+
+    // No load, latest entry wins
+    assertEquals(actor2, selector.select(pairList));
+
+    tracker.getLoad(actor2).requestStarted();
+    assertEquals(actor3, selector.select(pairList));
+
+    tracker.getLoad(actor3).requestStarted();
+    tracker.getLoad(actor3).requestStarted();
+    assertEquals(actor1, selector.select(pairList));
+
+    tracker.getLoad(actor2).requestCompleted(TimeUnit.MILLISECONDS.toNanos(1));
+    assertEquals(actor2, selector.select(pairList));
+  }
+
+  @Test
+  public void testEwmaLatency() {
+    RouterSelector selector = new EwmaLatencyRoutingLogic(tracker);
+
+    sample(actor1, 10);
+    sample(actor2, 50);
+    sample(actor3, 20);
+    assertEquals(actor1, selector.select(pairList));
+
+    // 10ms * 3 outstanding is slower than 20ms * 1
+    tracker.getLoad(actor1).requestStarted();
+    tracker.getLoad(actor1).requestStarted();
+    assertEquals(actor3, selector.select(pairList));
+  }
+
+  @Test
+  public void testPowerOfTwoChoices() {
+    RouterSelector selector = new PowerOfTwoChoicesRoutingLogic(tracker);
+
+    tracker.getLoad(actor1).requestStarted();
+    tracker.getLoad(actor2).requestStarted();
+    tracker.getLoad(actor2).requestStarted();
+
+    // The most loaded router loses whichever pair is picked
+    for(int i = 0; i < 100; i++) {
+      assertFalse(actor2.equals(selector.select(pairList)));
+    }
+  }
+
+  @Test
+  public void testRoutingPolicy() {
+    assertEquals(RoutingPolicy.EWMA_LATENCY, RoutingPolicy.forConfigName("ewma-latency"));
+    assertEquals(PowerOfTwoChoicesRoutingLogic.class,
+        RoutingPolicy.POWER_OF_TWO_CHOICES.createSelector(tracker).getClass());
+    assertFalse(RoutingPolicy.LATEST_ENTRY.isLoadAware());
+    assertTrue(RoutingPolicy.LEAST_OUTSTANDING_REQUESTS.isLoadAware());
+  }
+
+  @Test
+  public void testRetainRouters() {
+    sample(actor1, 10);
+    sample(actor2, 10);
+    RouterLoad inFlight = tracker.getLoad(actor2);
+    inFlight.requestStarted();
+
+    tracker.retainRouters(Collections.singleton(actor1));
+    assertEquals(Collections.singleton(actor1), tracker.getLoads().keySet());
+
+    // A request to a dropped router completes on its detached load
+    inFlight.requestCompleted(TimeUnit.MILLISECONDS.toNanos(10));
+    assertEquals(0, tracker.getLoad(actor2).getRequestCount());
+  }
+
+  @Test
+  public void testLatestEntrySelector() {
+    RouterSelector selector = RoutingPolicy.LATEST_ENTRY.createSelector(tracker);
+    assertEquals(new LatestEntryRoutingLogic(pairList).select(), selector.select(pairList));
+
+    // Registered at the same time, the first one wins like in LatestEntryRoutingLogic
+    pairList.add(new Pair<ActorRef, Long>(actor1, 3000L));
+    assertEquals(new LatestEntryRoutingLogic(pairList).select(), selector.select(pairList));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownRoutingPolicy() {
+    RoutingPolicy.forConfigName("round-robin");
+  }
+
+  private void sample(ActorRef router, long latencyMillis) {
+    tracker.getLoad(router).requestStarted();
+    tracker.getLoad(router).requestCompleted(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+  }
+}